@@ -38,6 +38,7 @@ import ortus.boxlang.compiler.ast.statement.BoxReturnType;
 import ortus.boxlang.compiler.ast.statement.BoxType;
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.RequestBoxContext;
 import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
 import ortus.boxlang.runtime.dynamic.Referencer;
 import ortus.boxlang.runtime.interop.DynamicObject;
@@ -192,6 +193,34 @@ public class AsmHelper {
 		return nodes;
 	}
 
+	/**
+	 * Emit a cooperative request timeout check. It has no effect on the stack, so it can be placed at any loop back-edge
+	 * or at the entry of a function body.
+	 *
+	 * @param nodes The nodes to add the check to
+	 */
+	public static void addRequestTimeoutCheck( List<AbstractInsnNode> nodes ) {
+		nodes.add( new MethodInsnNode( Opcodes.INVOKESTATIC,
+		    Type.getInternalName( RequestBoxContext.class ),
+		    "checkCurrentRequestTimeout",
+		    Type.getMethodDescriptor( Type.VOID_TYPE ),
+		    false ) );
+	}
+
+	/**
+	 * Prepend a cooperative request timeout check to a function body
+	 *
+	 * @param body The nodes of the function body
+	 *
+	 * @return A new list with the check followed by the body
+	 */
+	public static List<AbstractInsnNode> withRequestTimeoutCheck( List<AbstractInsnNode> body ) {
+		List<AbstractInsnNode> nodes = new ArrayList<>( body.size() + 1 );
+		addRequestTimeoutCheck( nodes );
+		nodes.addAll( body );
+		return nodes;
+	}
+
 	public static void addDebugLabel( List<AbstractInsnNode> nodes, String label ) {
 		if ( !ASMBoxpiler.DEBUG ) {
 			return;
@@ -126,9 +126,9 @@ public class BoxLambdaTransformer extends AbstractTransformer {
 			    if ( boxLambda.getBody().getChildren().size() == 0 ) {
 				    return List.of( new InsnNode( Opcodes.ACONST_NULL ) );
 			    }
-			    return boxLambda.getBody().getChildren().stream()
+			    return AsmHelper.withRequestTimeoutCheck( boxLambda.getBody().getChildren().stream()
 			        .flatMap( statement -> transpiler.transform( statement, TransformerContext.NONE, ReturnValueContext.VALUE_OR_NULL ).stream() )
-			        .toList();
+			        .toList() );
 		    } );
 		transpiler.decrementfunctionBodyCounter();
 		transpiler.setComponentCounter( componentCounter );
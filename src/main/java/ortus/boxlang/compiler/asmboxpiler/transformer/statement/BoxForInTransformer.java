@@ -148,6 +148,8 @@ public class BoxForInTransformer extends AbstractTransformer {
 			nodes.add( new InsnNode( Opcodes.POP ) );
 		}
 
+		AsmHelper.addRequestTimeoutCheck( nodes );
+
 		nodes.add( new VarInsnNode( Opcodes.ALOAD, iteratorVar.index() ) );
 		nodes.add( new MethodInsnNode( Opcodes.INVOKEINTERFACE,
 		    Type.getInternalName( Iterator.class ),
@@ -85,6 +85,8 @@ public class BoxForIndexTransformer extends AbstractTransformer {
 		AsmHelper.addDebugLabel( nodes, "BoxForIndex - loopStart" );
 		nodes.add( loopStart );
 
+		AsmHelper.addRequestTimeoutCheck( nodes );
+
 		if ( forIn.getStep() != null ) {
 			AsmHelper.addDebugLabel( nodes, "BoxForIndex - step" );
 			nodes.addAll( transpiler.transform( forIn.getStep(), context, ReturnValueContext.EMPTY ) );
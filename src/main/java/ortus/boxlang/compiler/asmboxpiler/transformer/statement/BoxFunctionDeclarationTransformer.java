@@ -153,10 +153,10 @@ public class BoxFunctionDeclarationTransformer extends AbstractTransformer {
 				    return new ArrayList<AbstractInsnNode>();
 			    }
 
-			    return function.getBody()
+			    return AsmHelper.withRequestTimeoutCheck( function.getBody()
 			        .stream()
 			        .flatMap( statement -> transpiler.transform( statement, safe, ReturnValueContext.EMPTY ).stream() )
-			        .toList();
+			        .toList() );
 		    } );
 		transpiler.decrementfunctionBodyCounter();
 
@@ -28,11 +28,13 @@ import com.github.javaparser.JavaParser;
 import com.github.javaparser.ParseResult;
 import com.github.javaparser.ParserConfiguration;
 import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
 import com.github.javaparser.ast.expr.BooleanLiteralExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.MethodCallExpr;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
 import com.github.javaparser.ast.stmt.Statement;
 
 import ortus.boxlang.compiler.ast.BoxExpression;
@@ -130,6 +132,27 @@ public abstract class AbstractTransformer implements Transformer {
 		return result.getResult().get();
 	}
 
+	/**
+	 * Returns a cooperative request timeout check, to place at the top of loop bodies and function bodies.
+	 * The class is fully qualified as not every generated class imports the context package.
+	 *
+	 * @return the Java Parser AST representation of the check
+	 */
+	protected Statement requestTimeoutCheck() {
+		return parseStatement( "ortus.boxlang.runtime.context.RequestBoxContext.checkCurrentRequestTimeout();", new HashMap<>() );
+	}
+
+	/**
+	 * Wraps a loop body in a block that starts with a request timeout check
+	 *
+	 * @param body the loop body
+	 *
+	 * @return the block statement
+	 */
+	protected BlockStmt withRequestTimeoutCheck( Statement body ) {
+		return new BlockStmt( new NodeList<>( requestTimeoutCheck(), body ) );
+	}
+
 	/**
 	 * Create a Key instance out of any expression. May optimize requests for the same key more than once in a template
 	 *
@@ -219,6 +219,7 @@ public class BoxClosureTransformer extends AbstractTransformer {
 		int componentCounter = transpiler.getComponentCounter();
 		transpiler.setComponentCounter( 0 );
 
+		body.addStatement( requestTimeoutCheck() );
 		// If the body statement is an expression, then return it
 		if ( boxClosure.getBody() instanceof BoxExpressionStatement boxExpr ) {
 			body.addStatement( new ReturnStmt( new EnclosedExpr( ( Expression ) transpiler.transform( boxExpr.getExpression() ) ) ) );
@@ -228,6 +228,7 @@ public class BoxLambdaTransformer extends AbstractTransformer {
 		int componentCounter = transpiler.getComponentCounter();
 		transpiler.setComponentCounter( 0 );
 
+		body.addStatement( requestTimeoutCheck() );
 		// If the body statement is an expression, then return it
 		if ( boxLambda.getBody() instanceof BoxExpressionStatement boxExpr ) {
 			body.addStatement( new ReturnStmt( new EnclosedExpr( ( Expression ) transpiler.transform( boxExpr.getExpression() ) ) ) );
@@ -61,7 +61,7 @@ public class BoxDoTransformer extends AbstractTransformer {
 		DoStmt				javaDo	= ( DoStmt ) parseStatement( template, values );
 
 		// May be a single statement or a block statement, which is still a single statement :)
-		javaDo.setBody( ( Statement ) transpiler.transform( boxDo.getBody() ) );
+		javaDo.setBody( withRequestTimeoutCheck( ( Statement ) transpiler.transform( boxDo.getBody() ) ) );
 
 		if ( !doWhileLabel.isEmpty() ) {
 			LabeledStmt labeledWhile = new LabeledStmt( doWhileLabel, javaDo );
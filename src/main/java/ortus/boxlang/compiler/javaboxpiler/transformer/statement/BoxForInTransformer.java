@@ -147,6 +147,7 @@ public class BoxForInTransformer extends AbstractTransformer {
 		// May be a single statement or a block statement, which is still a single statement :)
 		whileStmt.getBody().asBlockStmt().addStatement( ( Statement ) transpiler.transform( boxFor.getBody() ) );
 		whileStmt.getBody().asBlockStmt().addStatement( incrementQueryStmt );
+		whileStmt.getBody().asBlockStmt().addStatement( 0, requestTimeoutCheck() );
 
 		if ( boxFor.getLabel() != null ) {
 			LabeledStmt labeledWhile = new LabeledStmt( boxFor.getLabel().toLowerCase(), whileStmt );
@@ -88,6 +88,7 @@ public class BoxForIndexTransformer extends AbstractTransformer {
 		WhileStmt	whileStmt	= ( WhileStmt ) parseStatement( template2, values );
 		BlockStmt	body		= new BlockStmt();
 
+		body.addStatement( requestTimeoutCheck() );
 		// May be a single statement or a block statement, which is still a single statement :)
 		body.asBlockStmt().addStatement( ( Statement ) transpiler.transform( boxFor.getBody() ) );
 		// for body is in the try body
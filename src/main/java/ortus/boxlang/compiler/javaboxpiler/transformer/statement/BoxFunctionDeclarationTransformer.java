@@ -219,6 +219,7 @@ public class BoxFunctionDeclarationTransformer extends AbstractTransformer {
 		transpiler.pushfunctionBodyCounter();
 		int componentCounter = transpiler.getComponentCounter();
 		transpiler.setComponentCounter( 0 );
+		invokeMethod.getBody().get().addStatement( requestTimeoutCheck() );
 		for ( BoxStatement statement : function.getBody() ) {
 			Node javaStmt = transpiler.transform( statement );
 			if ( javaStmt instanceof BlockStmt stmt ) {
@@ -63,6 +63,7 @@ import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.loader.ClassLocator;
 import ortus.boxlang.runtime.loader.DynamicClassLoader;
 import ortus.boxlang.runtime.logging.LoggingConfigurator;
+import ortus.boxlang.runtime.net.HttpManager;
 import ortus.boxlang.runtime.runnables.BoxScript;
 import ortus.boxlang.runtime.runnables.BoxTemplate;
 import ortus.boxlang.runtime.runnables.IBoxRunnable;
@@ -77,6 +78,7 @@ import ortus.boxlang.runtime.services.DatasourceService;
 import ortus.boxlang.runtime.services.FunctionService;
 import ortus.boxlang.runtime.services.IService;
 import ortus.boxlang.runtime.services.InterceptorService;
+import ortus.boxlang.runtime.services.LockService;
 import ortus.boxlang.runtime.services.ModuleService;
 import ortus.boxlang.runtime.services.SchedulerService;
 import ortus.boxlang.runtime.types.Array;
@@ -219,6 +221,11 @@ public class BoxRuntime implements java.io.Closeable {
 	 */
 	private CacheService						cacheService;
 
+	/**
+	 * The Lock service in charge of all the named locks
+	 */
+	private LockService							lockService;
+
 	/**
 	 * The Module service in charge of all modules
 	 */
@@ -443,6 +450,7 @@ public class BoxRuntime implements java.io.Closeable {
 		this.interceptorService	= new InterceptorService( this );
 		this.asyncService		= new AsyncService( this );
 		this.cacheService		= new CacheService( this );
+		this.lockService		= new LockService( this );
 		this.functionService	= new FunctionService( this );
 		this.componentService	= new ComponentService( this );
 		this.applicationService	= new ApplicationService( this );
@@ -474,6 +482,7 @@ public class BoxRuntime implements java.io.Closeable {
 
 		// Announce Startup to Services only
 		this.asyncService.onStartup();
+		this.lockService.onStartup();
 		this.interceptorService.onStartup();
 		this.functionService.onStartup();
 		this.componentService.onStartup();
@@ -666,6 +675,15 @@ public class BoxRuntime implements java.io.Closeable {
 		return cacheService;
 	}
 
+	/**
+	 * Get the lock service
+	 *
+	 * @return {@link LockService} or null if the runtime has not started
+	 */
+	public LockService getLockService() {
+		return lockService;
+	}
+
 	/**
 	 * Get the scheduler service
 	 *
@@ -905,7 +923,9 @@ public class BoxRuntime implements java.io.Closeable {
 		instance.applicationService.onShutdown( force );
 		instance.moduleService.onShutdown( force );
 		instance.cacheService.onShutdown( force );
+		instance.lockService.onShutdown( force );
 		instance.asyncService.onShutdown( force );
+		HttpManager.shutdown();
 		instance.functionService.onShutdown( force );
 		instance.componentService.onShutdown( force );
 		instance.interceptorService.onShutdown( force );
@@ -1196,24 +1216,31 @@ public class BoxRuntime implements java.io.Closeable {
 			} catch ( Exception e ) {
 				errorToHandle = e;
 			} finally {
+				// The request end and error handlers must run even if the request timed out
+				RequestBoxContext requestContext = scriptingContext.getParentOfType( RequestBoxContext.class );
+				requestContext.setTimeoutExempt( true );
 				try {
-					listener.onRequestEnd( scriptingContext, new Object[] { templatePath } );
-				} catch ( Throwable e ) {
-					// Opps, an error while handling onRequestEnd
-					errorToHandle = e;
-				}
-				scriptingContext.flushBuffer( false );
-
-				if ( errorToHandle != null ) {
 					try {
-						if ( !listener.onError( scriptingContext, new Object[] { errorToHandle, "" } ) ) {
-							throw errorToHandle;
+						listener.onRequestEnd( scriptingContext, new Object[] { templatePath } );
+					} catch ( Throwable e ) {
+						// Opps, an error while handling onRequestEnd
+						errorToHandle = e;
+					}
+					scriptingContext.flushBuffer( false );
+
+					if ( errorToHandle != null ) {
+						try {
+							if ( !listener.onError( scriptingContext, new Object[] { errorToHandle, "" } ) ) {
+								throw errorToHandle;
+							}
+							// This is a failsafe in case the onError blows up.
+						} catch ( Throwable t ) {
+							errorToHandle.printStackTrace();
+							ExceptionUtil.throwException( t );
 						}
-						// This is a failsafe in case the onError blows up.
-					} catch ( Throwable t ) {
-						errorToHandle.printStackTrace();
-						ExceptionUtil.throwException( t );
 					}
+				} finally {
+					requestContext.setTimeoutExempt( false );
 				}
 				scriptingContext.flushBuffer( false );
 				RequestBoxContext.removeCurrent();
@@ -1271,24 +1298,31 @@ public class BoxRuntime implements java.io.Closeable {
 		} catch ( Exception e ) {
 			errorToHandle = e;
 		} finally {
+			// The request end and error handlers must run even if the request timed out
+			RequestBoxContext requestContext = scriptingContext.getParentOfType( RequestBoxContext.class );
+			requestContext.setTimeoutExempt( true );
 			try {
-				listener.onRequestEnd( scriptingContext, new Object[] { templatePath } );
-			} catch ( Throwable e ) {
-				// Opps, an error while handling onRequestEnd
-				errorToHandle = e;
-			}
-			scriptingContext.flushBuffer( false );
-
-			if ( errorToHandle != null ) {
 				try {
-					if ( !listener.onError( scriptingContext, new Object[] { errorToHandle, "" } ) ) {
-						throw errorToHandle;
+					listener.onRequestEnd( scriptingContext, new Object[] { templatePath } );
+				} catch ( Throwable e ) {
+					// Opps, an error while handling onRequestEnd
+					errorToHandle = e;
+				}
+				scriptingContext.flushBuffer( false );
+
+				if ( errorToHandle != null ) {
+					try {
+						if ( !listener.onError( scriptingContext, new Object[] { errorToHandle, "" } ) ) {
+							throw errorToHandle;
+						}
+						// This is a failsafe in case the onError blows up.
+					} catch ( Throwable t ) {
+						errorToHandle.printStackTrace();
+						ExceptionUtil.throwException( t );
 					}
-					// This is a failsafe in case the onError blows up.
-				} catch ( Throwable t ) {
-					errorToHandle.printStackTrace();
-					ExceptionUtil.throwException( t );
 				}
+			} finally {
+				requestContext.setTimeoutExempt( false );
 			}
 			scriptingContext.flushBuffer( false );
 			RequestBoxContext.removeCurrent();
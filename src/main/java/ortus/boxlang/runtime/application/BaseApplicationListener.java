@@ -129,6 +129,7 @@ public abstract class BaseApplicationListener {
 	    ),
 	    "locale", BoxRuntime.getInstance().getConfiguration().locale.toString(),
 	    "mappings", Struct.of(),
+	    "requestTimeout", BoxRuntime.getInstance().getConfiguration().requestTimeout,
 	    "sessionManagement", BoxRuntime.getInstance().getConfiguration().sessionManagement,
 	    "sessionStorage", BoxRuntime.getInstance().getConfiguration().sessionStorage,
 	    "sessionTimeout", BoxRuntime.getInstance().getConfiguration().sessionTimeout,
@@ -140,6 +141,7 @@ public abstract class BaseApplicationListener {
 	    "source", "",
 	    // end auto-calculated
 	    "timezone", BoxRuntime.getInstance().getConfiguration().timezone.getId(),
+	    "virtualThreads", BoxRuntime.getInstance().getConfiguration().virtualThreads,
 	    // Stil Considering if they will be core or a module
 	    "secureJson", false,
 	    "secureJsonPrefix", "",
@@ -102,6 +102,20 @@ public class Session implements Serializable {
 		    ) );
 	}
 
+	/**
+	 * Constructor for a restored session, it is not announced again
+	 *
+	 * @param ID              The ID of this session
+	 * @param applicationName The application name linked to
+	 * @param isNew           Whether the session has not been started yet
+	 */
+	private Session( Key ID, Key applicationName, boolean isNew ) {
+		this.ID					= ID;
+		this.applicationName	= applicationName;
+		this.sessionScope		= new SessionScope();
+		this.isNew.set( isNew );
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Static Helper Methods
@@ -120,6 +134,20 @@ public class Session implements Serializable {
 		return applicationName + ID_CONCATENATOR + id;
 	}
 
+	/**
+	 * Rebuild a persisted session, with an empty session scope for the caller to fill.
+	 * The creation of the session is not announced again.
+	 *
+	 * @param id              The ID of the session
+	 * @param applicationName The application name
+	 * @param isNew           Whether the session has not been started yet
+	 *
+	 * @return The restored session
+	 */
+	public static Session restore( Key id, Key applicationName, boolean isNew ) {
+		return new Session( id, applicationName, isNew );
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Session Methods
@@ -164,6 +192,15 @@ public class Session implements Serializable {
 		return this.ID;
 	}
 
+	/**
+	 * Whether the session has not been started yet
+	 *
+	 * @return True if the session is new
+	 */
+	public boolean isNew() {
+		return this.isNew.get();
+	}
+
 	/**
 	 * Get the scope for this session
 	 *
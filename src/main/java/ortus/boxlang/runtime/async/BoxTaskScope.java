@@ -0,0 +1,584 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.RequestBoxContext;
+import ortus.boxlang.runtime.context.ThreadBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.Function;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+import ortus.boxlang.runtime.util.RequestThreadManager;
+
+/**
+ * A structured concurrency scope for BoxLang, the companion of {@link BoxFuture}.
+ * <p>
+ * Every task forked in the scope runs in its own virtual thread with its own {@link ThreadBoxContext},
+ * registered in the request thread manager like any other BoxLang thread. The scope owner then joins
+ * the scope, and the scope is shut down as soon as its {@link Policy} is met or its deadline expires:
+ * <ul>
+ * <li>{@link Policy#SHUTDOWN_ON_FAILURE}: the first failure cancels all the siblings still running</li>
+ * <li>{@link Policy#SHUTDOWN_ON_SUCCESS}: the first success cancels all the siblings still running</li>
+ * </ul>
+ * Cancelled tasks are interrupted, so they stop at their next blocking call instead of holding on to
+ * connections and downstream work. Closing the scope waits for all its threads to finish and releases
+ * the resources of their contexts.
+ * <p>
+ * This follows the shape of the JDK's {@code StructuredTaskScope}, which is still a preview API in Java 21.
+ *
+ * <pre>
+ * try ( BoxTaskScope scope = new BoxTaskScope( context, Policy.SHUTDOWN_ON_FAILURE, 5000 ) ) {
+ * 	scope.fork( taskA );
+ * 	scope.fork( taskB );
+ * 	Array results = scope.join().results();
+ * }
+ * </pre>
+ */
+public class BoxTaskScope implements AutoCloseable {
+
+	/**
+	 * When the scope shuts down on its own
+	 */
+	public enum Policy {
+
+		SHUTDOWN_ON_FAILURE,
+		SHUTDOWN_ON_SUCCESS;
+
+		/**
+		 * Get a policy from its name or its short name: {@code failure} or {@code success}
+		 *
+		 * @param policy The policy name
+		 *
+		 * @return The policy
+		 *
+		 * @throws BoxRuntimeException If the policy is not valid
+		 */
+		public static Policy fromString( String policy ) {
+			return switch ( policy.trim().toLowerCase() ) {
+				case "failure", "shutdown_on_failure" -> SHUTDOWN_ON_FAILURE;
+				case "success", "shutdown_on_success" -> SHUTDOWN_ON_SUCCESS;
+				default -> throw new BoxRuntimeException( "Invalid task scope policy [" + policy + "]. Valid policies are [failure, success]" );
+			};
+		}
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Private Properties
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Logger
+	 */
+	private static final Logger			logger			= LoggerFactory.getLogger( BoxTaskScope.class );
+
+	/**
+	 * Used to give every scope a unique thread name prefix
+	 */
+	private static final AtomicLong		scopeCounter	= new AtomicLong();
+
+	/**
+	 * The context that owns the scope
+	 */
+	private final IBoxContext			context;
+
+	/**
+	 * The request thread manager the child threads are registered in
+	 */
+	private final RequestThreadManager	threadManager;
+
+	/**
+	 * The shutdown policy
+	 */
+	private final Policy				policy;
+
+	/**
+	 * The scope timeout in milliseconds, 0 means no deadline
+	 */
+	private final long					timeout;
+
+	/**
+	 * The deadline in {@link System#nanoTime()} units, only used if there is a timeout
+	 */
+	private final long					deadline;
+
+	/**
+	 * The prefix of the child thread names
+	 */
+	private final String				name;
+
+	/**
+	 * Guards the scope state. A lock instead of the object monitor, so an owner joining on a virtual thread doesn't pin
+	 * its carrier thread while it waits.
+	 */
+	private final ReentrantLock			lock			= new ReentrantLock();
+
+	/**
+	 * Signalled when a subtask completes or the scope shuts down
+	 */
+	private final Condition				changed			= this.lock.newCondition();
+
+	/**
+	 * The forked subtasks in fork order. Guarded by the lock.
+	 */
+	private final List<Subtask>			subtasks		= new ArrayList<>();
+
+	/**
+	 * How many subtasks are still running. Guarded by the lock.
+	 */
+	private int							pending			= 0;
+
+	/**
+	 * Whether the scope has been shut down. Guarded by the lock.
+	 */
+	private boolean						shutdown		= false;
+
+	/**
+	 * Whether the deadline expired before the scope was done. Guarded by the lock.
+	 */
+	private boolean						timedOut		= false;
+
+	/**
+	 * The first exception thrown by a subtask. Guarded by the lock.
+	 */
+	private Throwable					firstFailure;
+
+	/**
+	 * The first subtask that completed successfully. Guarded by the lock.
+	 */
+	private Subtask						firstSuccess;
+
+	/**
+	 * A forked task
+	 */
+	private record Subtask( Key name, ThreadBoxContext context, BoxFuture<Object> future ) {
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Constructor(s)
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Create a new scope
+	 *
+	 * @param context The context that owns the scope, it must be inside a request
+	 * @param policy  The shutdown policy
+	 * @param timeout The timeout of the whole scope in milliseconds, 0 or less means no deadline
+	 *
+	 * @throws BoxRuntimeException If the context is not inside a request
+	 */
+	public BoxTaskScope( IBoxContext context, Policy policy, long timeout ) {
+		RequestBoxContext requestContext = context.getParentOfType( RequestBoxContext.class );
+		if ( requestContext == null ) {
+			throw new BoxRuntimeException( "A task scope can only be used inside of a request" );
+		}
+		this.context		= context;
+		this.threadManager	= requestContext.getThreadManager();
+		this.policy			= policy;
+		this.timeout		= Math.max( timeout, 0 );
+		this.deadline		= System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( this.timeout );
+		this.name			= "TaskScope-" + scopeCounter.incrementAndGet();
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Fork a task into the scope. It starts right away in a new virtual thread.
+	 *
+	 * @param task The BoxLang function to run
+	 *
+	 * @return A future of the task result. It is cancelled if the scope shuts down before the task completes.
+	 *
+	 * @throws BoxRuntimeException If the scope is already shut down
+	 */
+	public BoxFuture<Object> fork( Function task ) {
+		this.lock.lock();
+		try {
+			if ( this.shutdown ) {
+				throw new BoxRuntimeException( "The task scope [" + this.name + "] is already shut down" );
+			}
+
+			Key					threadName	= Key.of( this.name + "-" + ( this.subtasks.size() + 1 ) );
+			ThreadBoxContext	tContext	= this.threadManager.createThreadContext( this.context, threadName );
+			Subtask				subtask		= new Subtask( threadName, tContext, new BoxFuture<>() );
+
+			this.subtasks.add( subtask );
+			this.pending++;
+			this.threadManager.startThread( tContext, threadName, "normal", () -> runSubtask( subtask, task ), new Struct(), true );
+
+			return subtask.future();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Wait until all the tasks are done, the scope is shut down by its policy or the deadline expires.
+	 * When the deadline expires the scope is shut down.
+	 *
+	 * @return This scope
+	 *
+	 * @throws BoxRuntimeException If the owner thread is interrupted while waiting. The scope is shut down.
+	 */
+	public BoxTaskScope join() {
+		this.lock.lock();
+		try {
+			while ( this.pending > 0 && !this.shutdown ) {
+				if ( this.timeout == 0 ) {
+					this.changed.await();
+					continue;
+				}
+				long remaining = this.deadline - System.nanoTime();
+				if ( remaining <= 0 ) {
+					this.timedOut = true;
+					shutdownSubtasks();
+					break;
+				}
+				this.changed.awaitNanos( remaining );
+			}
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			shutdownSubtasks();
+			throw new BoxRuntimeException( "Interrupted while joining the task scope [" + this.name + "]", e );
+		} finally {
+			this.lock.unlock();
+		}
+		return this;
+	}
+
+	/**
+	 * Get the results of all the tasks in fork order. Meant for the {@link Policy#SHUTDOWN_ON_FAILURE} policy
+	 * once the scope is joined.
+	 *
+	 * @return The results
+	 *
+	 * @throws BoxRuntimeException If the deadline expired, or the first exception thrown by a task
+	 */
+	public Array results() {
+		this.lock.lock();
+		try {
+			throwIfTimedOut();
+			if ( this.firstFailure != null ) {
+				throw toRuntimeException( this.firstFailure );
+			}
+			Array results = new Array();
+			for ( Subtask subtask : this.subtasks ) {
+				results.add( subtask.future().getNow( null ) );
+			}
+			return results;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Get the result of the first task that completed successfully. Meant for the {@link Policy#SHUTDOWN_ON_SUCCESS}
+	 * policy once the scope is joined.
+	 *
+	 * @return The first result
+	 *
+	 * @throws BoxRuntimeException If the deadline expired or no task succeeded
+	 */
+	public Object result() {
+		this.lock.lock();
+		try {
+			if ( this.firstSuccess != null ) {
+				return this.firstSuccess.future().getNow( null );
+			}
+			throwIfTimedOut();
+			throw new BoxRuntimeException( "No task in the task scope [" + this.name + "] completed successfully", this.firstFailure );
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Shut down the scope: no more tasks can be forked and the ones still running are cancelled and interrupted.
+	 */
+	public void shutdown() {
+		this.lock.lock();
+		try {
+			shutdownSubtasks();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Is the scope shut down
+	 *
+	 * @return True if the scope is shut down
+	 */
+	public boolean isShutdown() {
+		this.lock.lock();
+		try {
+			return this.shutdown;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Shut down the scope and wait for all its threads to finish, for up to
+	 * {@link RequestThreadManager#DEFAULT_THREAD_WAIT_TIME} milliseconds per thread.
+	 */
+	@Override
+	public void close() {
+		List<Subtask> snapshot;
+		this.lock.lock();
+		try {
+			shutdownSubtasks();
+			snapshot = List.copyOf( this.subtasks );
+		} finally {
+			this.lock.unlock();
+		}
+		for ( Subtask subtask : snapshot ) {
+			Thread thread = subtask.context().getThread();
+			try {
+				thread.join( RequestThreadManager.DEFAULT_THREAD_WAIT_TIME );
+				if ( thread.isAlive() ) {
+					logger.warn( "Task [{}] did not stop after being cancelled", subtask.name().getName() );
+				}
+			} catch ( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Static Helpers
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Run all the tasks in a {@link Policy#SHUTDOWN_ON_FAILURE} scope and return all their results.
+	 * The first failure cancels the rest of the tasks and is rethrown.
+	 *
+	 * @param context The context of the current execution
+	 * @param tasks   An array of functions or a struct of functions
+	 * @param timeout The timeout of the whole scope in milliseconds, 0 means no deadline
+	 *
+	 * @return An array of results in the order of the tasks, or a struct of results with the same keys as the tasks
+	 */
+	public static Object all( IBoxContext context, Object tasks, long timeout ) {
+		try ( BoxTaskScope scope = new BoxTaskScope( context, Policy.SHUTDOWN_ON_FAILURE, timeout ) ) {
+			if ( tasks instanceof IStruct structTasks ) {
+				List<Key> keys = new ArrayList<>();
+				for ( Map.Entry<Key, Object> entry : structTasks.entrySet() ) {
+					if ( scope.isShutdown() ) {
+						break;
+					}
+					keys.add( entry.getKey() );
+					scope.fork( toFunction( entry.getValue() ) );
+				}
+				Array	values	= scope.join().results();
+				IStruct	results	= new Struct( IStruct.TYPES.LINKED );
+				for ( int i = 0; i < keys.size(); i++ ) {
+					results.put( keys.get( i ), values.get( i ) );
+				}
+				return results;
+			}
+			for ( Object task : toArray( tasks ) ) {
+				if ( scope.isShutdown() ) {
+					break;
+				}
+				scope.fork( toFunction( task ) );
+			}
+			return scope.join().results();
+		}
+	}
+
+	/**
+	 * Run all the tasks in a {@link Policy#SHUTDOWN_ON_SUCCESS} scope and return the first successful result.
+	 * The first success cancels the rest of the tasks.
+	 *
+	 * @param context The context of the current execution
+	 * @param tasks   An array of functions or a struct of functions
+	 * @param timeout The timeout of the whole scope in milliseconds, 0 means no deadline
+	 *
+	 * @return The first successful result
+	 */
+	public static Object any( IBoxContext context, Object tasks, long timeout ) {
+		try ( BoxTaskScope scope = new BoxTaskScope( context, Policy.SHUTDOWN_ON_SUCCESS, timeout ) ) {
+			Iterable<Object> targets = tasks instanceof IStruct structTasks ? structTasks.values() : toArray( tasks );
+			for ( Object task : targets ) {
+				// An early success shuts the scope down, no need to fork the rest
+				if ( scope.isShutdown() ) {
+					break;
+				}
+				scope.fork( toFunction( task ) );
+			}
+			return scope.join().result();
+		}
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Private Helpers
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Run a subtask in its thread and report back to the scope
+	 *
+	 * @param subtask The subtask
+	 * @param task    The function to run
+	 */
+	private void runSubtask( Subtask subtask, Function task ) {
+		Object		result	= null;
+		Throwable	error	= null;
+		try {
+			result = subtask.context().invokeFunction( task );
+		} catch ( Throwable e ) {
+			error = e;
+		} finally {
+			subtask.context().shutdownConnections();
+			this.threadManager.completeThread( subtask.name(), "", error, Thread.currentThread().isInterrupted() );
+			onSubtaskComplete( subtask, result, error );
+		}
+	}
+
+	/**
+	 * Record the outcome of a subtask and apply the shutdown policy
+	 *
+	 * @param subtask The subtask
+	 * @param result  The result, if any
+	 * @param error   The exception, if any
+	 */
+	private void onSubtaskComplete( Subtask subtask, Object result, Throwable error ) {
+		this.lock.lock();
+		try {
+			this.pending--;
+			if ( error == null ) {
+				subtask.future().complete( result );
+			} else {
+				subtask.future().completeExceptionally( error );
+			}
+
+			// Outcomes of tasks cancelled by a shutdown don't count
+			if ( !this.shutdown ) {
+				if ( error != null ) {
+					if ( this.firstFailure == null ) {
+						this.firstFailure = error;
+					}
+					if ( this.policy == Policy.SHUTDOWN_ON_FAILURE ) {
+						shutdownSubtasks();
+					}
+				} else if ( this.policy == Policy.SHUTDOWN_ON_SUCCESS ) {
+					this.firstSuccess = subtask;
+					shutdownSubtasks();
+				}
+			}
+			this.changed.signalAll();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Cancel and interrupt all the running subtasks. Must hold the lock.
+	 */
+	private void shutdownSubtasks() {
+		if ( this.shutdown ) {
+			return;
+		}
+		this.shutdown = true;
+		for ( Subtask subtask : this.subtasks ) {
+			if ( !subtask.future().isDone() ) {
+				subtask.future().cancel( false );
+				subtask.context().getThread().interrupt();
+			}
+		}
+		this.changed.signalAll();
+	}
+
+	/**
+	 * Throw if the deadline expired
+	 */
+	private void throwIfTimedOut() {
+		if ( this.timedOut ) {
+			throw new BoxRuntimeException( "The task scope [" + this.name + "] did not complete within " + this.timeout + " milliseconds" );
+		}
+	}
+
+	/**
+	 * Rethrow a task exception as is if it's a runtime exception, wrap it otherwise
+	 *
+	 * @param e The exception
+	 *
+	 * @return The exception to throw
+	 */
+	private static RuntimeException toRuntimeException( Throwable e ) {
+		if ( e instanceof RuntimeException runtimeException ) {
+			return runtimeException;
+		}
+		return new BoxRuntimeException( e.getMessage(), e );
+	}
+
+	/**
+	 * Validate the tasks are an array
+	 *
+	 * @param tasks The tasks
+	 *
+	 * @return The tasks as an array
+	 */
+	private static Array toArray( Object tasks ) {
+		if ( tasks instanceof Array arrayTasks ) {
+			return arrayTasks;
+		}
+		throw new BoxRuntimeException( "The tasks must be an array or a struct of functions" );
+	}
+
+	/**
+	 * Validate a task is a function
+	 *
+	 * @param task The task
+	 *
+	 * @return The task as a function
+	 */
+	private static Function toFunction( Object task ) {
+		if ( task instanceof Function function ) {
+			return function;
+		}
+		throw new BoxRuntimeException( "The tasks must be functions, but received [" + ( task == null ? "null" : task.getClass().getName() ) + "]" );
+	}
+
+}
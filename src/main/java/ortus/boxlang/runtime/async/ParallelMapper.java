@@ -0,0 +1,442 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.async;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.BaseStream;
+
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * A streaming parallel map with bounded concurrency.
+ * <p>
+ * Items are pulled lazily from the input and at most {@code maxConcurrency} of them are in flight at any time:
+ * the calling thread only pulls and submits the next item once a slot is free. In ordered mode a slot is freed when
+ * the item is emitted, so the reorder buffer is bounded by the same window and a slow item stalls the intake
+ * instead of letting completed results pile up.
+ * <p>
+ * Each item can have a timeout, after which its task is cancelled and interrupted, and failures are handled
+ * according to the {@link ErrorPolicy}.
+ * <p>
+ * The tasks run on the given executor, or on a virtual thread per item if none is given.
+ */
+public class ParallelMapper {
+
+	/**
+	 * What to do when the mapping of an item fails or times out
+	 */
+	public enum ErrorPolicy {
+
+		/**
+		 * Cancel everything in flight and rethrow the first failure
+		 */
+		FAIL_FAST,
+		/**
+		 * Keep going, emit a null for the item and record the failure
+		 */
+		COLLECT,
+		/**
+		 * Keep going and drop the item
+		 */
+		SKIP;
+
+		/**
+		 * Get a policy from its name: {@code failFast}, {@code collect} or {@code skip}
+		 *
+		 * @param policy The policy name
+		 *
+		 * @return The policy
+		 *
+		 * @throws BoxRuntimeException If the policy is not valid
+		 */
+		public static ErrorPolicy fromString( String policy ) {
+			return switch ( policy.trim().toLowerCase().replace( "_", "" ) ) {
+				case "failfast" -> FAIL_FAST;
+				case "collect" -> COLLECT;
+				case "skip" -> SKIP;
+				default -> throw new BoxRuntimeException( "Invalid error policy [" + policy + "]. Valid policies are [failFast, collect, skip]" );
+			};
+		}
+	}
+
+	/**
+	 * The outcome of a parallel map
+	 *
+	 * @param results The emitted results, null if they were sent to a sink
+	 * @param errors  The failures recorded with the {@link ErrorPolicy#COLLECT} policy: structs of {@code index}, {@code item} and {@code error}
+	 */
+	public record Result( Array results, Array errors ) {
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Private Properties
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * The default max concurrency
+	 */
+	public static final int		DEFAULT_MAX_CONCURRENCY	= Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Fires the per item timeouts. Cancelled timeouts are removed right away, so finished items are not kept alive
+	 * until their timeout would have fired.
+	 */
+	private static final ScheduledThreadPoolExecutor	TIMEOUTS	= createTimeoutScheduler();
+
+	/**
+	 * The executor to run on, null for a virtual thread per item
+	 */
+	private final Executor		executor;
+
+	/**
+	 * The max number of items in flight
+	 */
+	private final int			maxConcurrency;
+
+	/**
+	 * Emit results in the input order or in completion order
+	 */
+	private final boolean		ordered;
+
+	/**
+	 * The per item timeout in milliseconds, 0 means none
+	 */
+	private final long			timeout;
+
+	/**
+	 * The error policy
+	 */
+	private final ErrorPolicy	errorPolicy;
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Constructor(s)
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Create a new parallel mapper
+	 *
+	 * @param executor       The executor to run on, null to run each item on a virtual thread
+	 * @param maxConcurrency The max number of items in flight, {@link #DEFAULT_MAX_CONCURRENCY} if null or less than 1
+	 * @param ordered        Emit results in the input order (true) or in completion order (false)
+	 * @param timeout        The per item timeout in milliseconds, 0 or less means none
+	 * @param errorPolicy    The error policy
+	 */
+	public ParallelMapper( Executor executor, Integer maxConcurrency, boolean ordered, long timeout, ErrorPolicy errorPolicy ) {
+		this.executor		= executor;
+		this.maxConcurrency	= maxConcurrency == null || maxConcurrency < 1 ? DEFAULT_MAX_CONCURRENCY : maxConcurrency;
+		this.ordered		= ordered;
+		this.timeout		= Math.max( timeout, 0 );
+		this.errorPolicy	= errorPolicy;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Map all the items and collect the results into an array
+	 *
+	 * @param items  The items: an Array, a Query, any Iterable, a Java Stream or an Iterator
+	 * @param mapper The mapper, it receives the item and its 1-based position in the input
+	 *
+	 * @return The results and the collected errors
+	 */
+	public Result map( Object items, ItemMapper mapper ) {
+		Array	results	= new Array();
+		Array	errors	= run( toIterator( items ), mapper, results::add );
+		return new Result( results, errors );
+	}
+
+	/**
+	 * Map all the items and push every result to a sink as it is emitted, on the calling thread.
+	 *
+	 * @param items  The items: an Array, a Query, any Iterable, a Java Stream or an Iterator
+	 * @param mapper The mapper, it receives the item and its 1-based position in the input
+	 * @param sink   The consumer of the results
+	 *
+	 * @return The results (always null) and the collected errors
+	 */
+	public Result map( Object items, ItemMapper mapper, Consumer<Object> sink ) {
+		return new Result( null, run( toIterator( items ), mapper, sink ) );
+	}
+
+	/**
+	 * A mapper of an item and its 1-based position
+	 */
+	@FunctionalInterface
+	public interface ItemMapper {
+
+		Object apply( Object item, int position );
+	}
+
+	/**
+	 * Adapt a single argument function
+	 *
+	 * @param function The function
+	 *
+	 * @return The mapper
+	 */
+	public static ItemMapper of( Function<Object, Object> function ) {
+		return ( item, position ) -> function.apply( item );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Private Helpers
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Run the map on the calling thread, which does the intake and the emission
+	 *
+	 * @param items  The items
+	 * @param mapper The mapper
+	 * @param sink   The consumer of the results
+	 *
+	 * @return The collected errors
+	 */
+	private Array run( Iterator<?> items, ItemMapper mapper, Consumer<Object> sink ) {
+		ExecutorService				virtualExecutor	= this.executor == null ? Executors.newVirtualThreadPerTaskExecutor() : null;
+		Executor					target			= this.executor == null ? virtualExecutor : this.executor;
+		BlockingQueue<ItemTask>		completions		= new LinkedBlockingQueue<>();
+		Set<ItemTask>				active			= new LinkedHashSet<>();
+		Map<Integer, ItemTask>		reorderBuffer	= new HashMap<>();
+		Array						errors			= new Array();
+		int							submitted		= 0;
+		int							emitted			= 0;
+
+		try {
+			while ( true ) {
+				// Intake: fill the window
+				while ( submitted - emitted < this.maxConcurrency && items.hasNext() ) {
+					ItemTask task = new ItemTask( submitted, items.next(), mapper, completions );
+					active.add( task );
+					submitted++;
+					target.execute( task );
+				}
+				if ( emitted == submitted ) {
+					break;
+				}
+
+				// Wait for the next completion
+				ItemTask task = completions.take();
+				active.remove( task );
+				Throwable error = task.error();
+				if ( error != null && this.errorPolicy == ErrorPolicy.FAIL_FAST ) {
+					throw error instanceof RuntimeException runtimeException
+					    ? runtimeException
+					    : new BoxRuntimeException( error.getMessage(), error );
+				}
+
+				if ( !this.ordered ) {
+					emit( task, sink, errors );
+					emitted++;
+					continue;
+				}
+
+				// Emit everything that is now in order
+				reorderBuffer.put( task.index, task );
+				ItemTask next;
+				while ( ( next = reorderBuffer.remove( emitted ) ) != null ) {
+					emit( next, sink, errors );
+					emitted++;
+				}
+			}
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			throw new BoxRuntimeException( "Interrupted while waiting for the parallel map", e );
+		} finally {
+			// Only left over on failure or interruption
+			for ( ItemTask task : active ) {
+				task.cancel( true );
+			}
+			if ( virtualExecutor != null ) {
+				virtualExecutor.shutdown();
+			}
+		}
+
+		return errors;
+	}
+
+	/**
+	 * Emit the outcome of an item according to the error policy
+	 *
+	 * @param task   The completed item task
+	 * @param sink   The consumer of the results
+	 * @param errors The collected errors
+	 */
+	private void emit( ItemTask task, Consumer<Object> sink, Array errors ) {
+		Throwable error = task.error();
+		if ( error == null ) {
+			sink.accept( task.value() );
+			return;
+		}
+		if ( this.errorPolicy == ErrorPolicy.COLLECT ) {
+			errors.add( Struct.of(
+			    Key.index, task.index + 1,
+			    Key.item, task.item,
+			    Key.error, error
+			) );
+			sink.accept( null );
+		}
+	}
+
+	/**
+	 * Create the scheduler of the per item timeouts
+	 *
+	 * @return The scheduler
+	 */
+	private static ScheduledThreadPoolExecutor createTimeoutScheduler() {
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor( 1, runnable -> {
+			Thread thread = new Thread( runnable, "BoxLang-ParallelMapper-Timeouts" );
+			thread.setDaemon( true );
+			return thread;
+		} );
+		scheduler.setRemoveOnCancelPolicy( true );
+		return scheduler;
+	}
+
+	/**
+	 * Get an iterator over the supported inputs
+	 *
+	 * @param items The items
+	 *
+	 * @return The iterator
+	 */
+	private static Iterator<?> toIterator( Object items ) {
+		if ( items instanceof Iterable<?> iterable ) {
+			return iterable.iterator();
+		}
+		if ( items instanceof BaseStream<?, ?> stream ) {
+			return stream.iterator();
+		}
+		if ( items instanceof Iterator<?> iterator ) {
+			return iterator;
+		}
+		throw new BoxRuntimeException(
+		    "Cannot map over [" + ( items == null ? "null" : items.getClass().getName() ) + "]. Supported inputs are arrays, queries, iterables and streams" );
+	}
+
+	/**
+	 * The task of a single item, it queues itself as completed when done, cancelled or expired.
+	 * Its timeout starts when it starts running and is cancelled when it is done.
+	 */
+	private final class ItemTask extends FutureTask<Object> {
+
+		private final int						index;
+		private final Object					item;
+		private final BlockingQueue<ItemTask>	completions;
+		private volatile boolean				expired	= false;
+		private volatile ScheduledFuture<?>		expiry;
+
+		ItemTask( int index, Object item, ItemMapper mapper, BlockingQueue<ItemTask> completions ) {
+			super( () -> mapper.apply( item, index + 1 ) );
+			this.index			= index;
+			this.item			= item;
+			this.completions	= completions;
+		}
+
+		/**
+		 * Cancel the item because its timeout expired
+		 */
+		void expire() {
+			if ( !isDone() ) {
+				this.expired = true;
+				cancel( true );
+			}
+		}
+
+		@Override
+		public void run() {
+			if ( timeout > 0 && !isDone() ) {
+				this.expiry = TIMEOUTS.schedule( this::expire, timeout, TimeUnit.MILLISECONDS );
+				// Cancelled before we could arm it
+				if ( isDone() ) {
+					this.expiry.cancel( false );
+				}
+			}
+			super.run();
+		}
+
+		@Override
+		protected void done() {
+			ScheduledFuture<?> pendingExpiry = this.expiry;
+			if ( pendingExpiry != null ) {
+				pendingExpiry.cancel( false );
+			}
+			this.completions.add( this );
+		}
+
+		/**
+		 * The result of a completed task
+		 */
+		Object value() {
+			try {
+				return get();
+			} catch ( InterruptedException | ExecutionException e ) {
+				return null;
+			}
+		}
+
+		/**
+		 * The failure of a completed task, null if it succeeded
+		 */
+		Throwable error() {
+			try {
+				get();
+				return null;
+			} catch ( CancellationException e ) {
+				return this.expired
+				    ? new BoxRuntimeException( "The item at position [" + ( this.index + 1 ) + "] did not complete within " + timeout + " milliseconds" )
+				    : e;
+			} catch ( ExecutionException e ) {
+				return e.getCause();
+			} catch ( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+				return e;
+			}
+		}
+	}
+
+}
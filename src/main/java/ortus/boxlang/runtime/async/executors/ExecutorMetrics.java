@@ -0,0 +1,391 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.async.executors;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.util.JMXUtil;
+import ortus.boxlang.runtime.util.LatencyHistogram;
+
+/**
+ * The live metrics of an executor, fed by {@link InstrumentedExecutorService}:
+ * <ul>
+ * <li>Submit to start (queue wait) and run duration histograms. For scheduled tasks the queue wait is how late the task started.</li>
+ * <li>Queue depth and active task gauges</li>
+ * <li>Submitted, completed, failed and rejected counters</li>
+ * </ul>
+ * <p>
+ * The executor is saturated when a rejection happens, the queue depth reaches its threshold or a task waited longer
+ * than the queue wait threshold. The saturation listener is called once when the executor becomes saturated, and again
+ * only after it recovered: a task started under both thresholds.
+ */
+public class ExecutorMetrics implements IExecutorMetricsMXBean {
+
+	/**
+	 * The default queue depth threshold
+	 */
+	public static final int				DEFAULT_QUEUE_DEPTH_THRESHOLD	= 1000;
+
+	/**
+	 * The default queue wait threshold in milliseconds
+	 */
+	public static final long			DEFAULT_QUEUE_WAIT_THRESHOLD	= 1000;
+
+	/**
+	 * Logger
+	 */
+	private static final Logger			logger							= LoggerFactory.getLogger( ExecutorMetrics.class );
+
+	/**
+	 * The name of the executor
+	 */
+	private final String				name;
+
+	/**
+	 * Called with the saturation data when the executor becomes saturated
+	 */
+	private final Consumer<IStruct>		saturationListener;
+
+	/**
+	 * Submit to start in nanoseconds
+	 */
+	private final LatencyHistogram		queueWait						= new LatencyHistogram();
+
+	/**
+	 * Run duration in nanoseconds
+	 */
+	private final LatencyHistogram		runTime							= new LatencyHistogram();
+
+	/**
+	 * Counters
+	 */
+	private final LongAdder				submitted						= new LongAdder();
+	private final LongAdder				completed						= new LongAdder();
+	private final LongAdder				failed							= new LongAdder();
+	private final LongAdder				rejected						= new LongAdder();
+	private final LongAdder				saturations						= new LongAdder();
+
+	/**
+	 * Gauges
+	 */
+	private final AtomicInteger			queued							= new AtomicInteger();
+	private final AtomicInteger			active							= new AtomicInteger();
+	private final AtomicBoolean			saturated						= new AtomicBoolean( false );
+
+	/**
+	 * The queue depth threshold, 0 disables it
+	 */
+	private volatile int				queueDepthThreshold				= DEFAULT_QUEUE_DEPTH_THRESHOLD;
+
+	/**
+	 * The queue wait threshold in nanoseconds, 0 disables it
+	 */
+	private volatile long				queueWaitThresholdNanos			= TimeUnit.MILLISECONDS.toNanos( DEFAULT_QUEUE_WAIT_THRESHOLD );
+
+	/**
+	 * Constructor
+	 *
+	 * @param name               The name of the executor
+	 * @param saturationListener Called with the saturation data when the executor becomes saturated, can be null
+	 */
+	public ExecutorMetrics( String name, Consumer<IStruct> saturationListener ) {
+		this.name				= name;
+		this.saturationListener	= saturationListener;
+	}
+
+	/**
+	 * Get the JMX object name for an executor
+	 *
+	 * @param name The name of the executor
+	 *
+	 * @return The object name
+	 */
+	public static String objectName( String name ) {
+		return JMXUtil.objectName( "Executor", name );
+	}
+
+	/**
+	 * Set the saturation thresholds
+	 *
+	 * @param queueDepthThreshold The queue depth threshold, 0 disables it
+	 * @param queueWaitThreshold  The queue wait threshold in milliseconds, 0 disables it
+	 *
+	 * @return The metrics
+	 */
+	public ExecutorMetrics setThresholds( int queueDepthThreshold, long queueWaitThreshold ) {
+		this.queueDepthThreshold		= Math.max( queueDepthThreshold, 0 );
+		this.queueWaitThresholdNanos	= TimeUnit.MILLISECONDS.toNanos( Math.max( queueWaitThreshold, 0 ) );
+		return this;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Recording
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * A task was submitted and is waiting to start
+	 *
+	 * @return The submit time from {@link System#nanoTime()}
+	 */
+	public long onSubmit() {
+		this.submitted.increment();
+		int depth = this.queued.incrementAndGet();
+		if ( this.queueDepthThreshold > 0 && depth >= this.queueDepthThreshold ) {
+			saturate( "queueDepth" );
+		}
+		return System.nanoTime();
+	}
+
+	/**
+	 * A task submitted with {@link #onSubmit()} was rejected
+	 */
+	public void onSubmitRejected() {
+		this.queued.decrementAndGet();
+		onRejected();
+	}
+
+	/**
+	 * A task was rejected
+	 */
+	public void onRejected() {
+		this.rejected.increment();
+		saturate( "rejected" );
+	}
+
+	/**
+	 * A task submitted with {@link #onSubmit()} started
+	 *
+	 * @param submitNanos The submit time
+	 *
+	 * @return The start time from {@link System#nanoTime()}
+	 */
+	public long onStart( long submitNanos ) {
+		this.queued.decrementAndGet();
+		return started( submitNanos );
+	}
+
+	/**
+	 * A scheduled task started
+	 *
+	 * @param expectedNanos When the task was expected to start, from {@link System#nanoTime()}
+	 *
+	 * @return The start time from {@link System#nanoTime()}
+	 */
+	public long onScheduledStart( long expectedNanos ) {
+		return started( expectedNanos );
+	}
+
+	/**
+	 * A task ended
+	 *
+	 * @param startNanos The start time
+	 * @param error      The exception the task threw, if any
+	 */
+	public void onEnd( long startNanos, Throwable error ) {
+		this.runTime.recordSince( startNanos );
+		this.active.decrementAndGet();
+		if ( error == null ) {
+			this.completed.increment();
+		} else {
+			this.failed.increment();
+		}
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Reporting
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Get a snapshot of the metrics. Latencies are in milliseconds.
+	 *
+	 * @return The metrics struct
+	 */
+	public IStruct toStruct() {
+		return Struct.of(
+		    "submitted", this.submitted.sum(),
+		    "completed", this.completed.sum(),
+		    "failed", this.failed.sum(),
+		    "rejected", this.rejected.sum(),
+		    "queueDepth", this.queued.get(),
+		    "active", this.active.get(),
+		    "saturated", this.saturated.get(),
+		    "saturations", this.saturations.sum(),
+		    "queueDepthThreshold", this.queueDepthThreshold,
+		    "queueWaitThreshold", TimeUnit.NANOSECONDS.toMillis( this.queueWaitThresholdNanos ),
+		    "queueWait", this.queueWait.toStruct(),
+		    "runTime", this.runTime.toStruct()
+		);
+	}
+
+	/**
+	 * The submit to start histogram in nanoseconds
+	 */
+	public LatencyHistogram queueWait() {
+		return this.queueWait;
+	}
+
+	/**
+	 * The run duration histogram in nanoseconds
+	 */
+	public LatencyHistogram runTime() {
+		return this.runTime;
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public long getSubmittedCount() {
+		return this.submitted.sum();
+	}
+
+	@Override
+	public long getCompletedCount() {
+		return this.completed.sum();
+	}
+
+	@Override
+	public long getFailedCount() {
+		return this.failed.sum();
+	}
+
+	@Override
+	public long getRejectedCount() {
+		return this.rejected.sum();
+	}
+
+	@Override
+	public int getQueueDepth() {
+		return this.queued.get();
+	}
+
+	@Override
+	public int getActiveCount() {
+		return this.active.get();
+	}
+
+	@Override
+	public boolean isSaturated() {
+		return this.saturated.get();
+	}
+
+	@Override
+	public long getSaturationCount() {
+		return this.saturations.sum();
+	}
+
+	@Override
+	public double getQueueWaitP50() {
+		return this.queueWait.toMillis( this.queueWait.percentile( 50 ) );
+	}
+
+	@Override
+	public double getQueueWaitP99() {
+		return this.queueWait.toMillis( this.queueWait.percentile( 99 ) );
+	}
+
+	@Override
+	public double getQueueWaitMax() {
+		return this.queueWait.toMillis( this.queueWait.max() );
+	}
+
+	@Override
+	public double getRunTimeP50() {
+		return this.runTime.toMillis( this.runTime.percentile( 50 ) );
+	}
+
+	@Override
+	public double getRunTimeP99() {
+		return this.runTime.toMillis( this.runTime.percentile( 99 ) );
+	}
+
+	@Override
+	public double getRunTimeMax() {
+		return this.runTime.toMillis( this.runTime.max() );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Private Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Record a task start and check the thresholds
+	 *
+	 * @param sinceNanos When the task was submitted or expected to start
+	 *
+	 * @return The start time
+	 */
+	private long started( long sinceNanos ) {
+		long	now		= System.nanoTime();
+		long	wait	= now - sinceNanos;
+		this.active.incrementAndGet();
+		this.queueWait.record( wait );
+
+		long waitThreshold = this.queueWaitThresholdNanos;
+		if ( waitThreshold > 0 && wait >= waitThreshold ) {
+			saturate( "queueWait" );
+		} else if ( this.saturated.get() && ( this.queueDepthThreshold == 0 || this.queued.get() < this.queueDepthThreshold ) ) {
+			this.saturated.set( false );
+			logger.info( "Executor [{}] recovered from saturation", this.name );
+		}
+		return now;
+	}
+
+	/**
+	 * Flag the executor as saturated and tell the listener, once per saturation
+	 *
+	 * @param reason The reason: queueDepth, queueWait or rejected
+	 */
+	private void saturate( String reason ) {
+		if ( !this.saturated.compareAndSet( false, true ) ) {
+			return;
+		}
+		this.saturations.increment();
+		logger.warn( "Executor [{}] is saturated: {}", this.name, reason );
+		if ( this.saturationListener == null ) {
+			return;
+		}
+		try {
+			this.saturationListener.accept( Struct.of(
+			    "executor", this.name,
+			    "reason", reason,
+			    "metrics", toStruct()
+			) );
+		} catch ( RuntimeException e ) {
+			logger.error( "Error notifying the saturation of executor [{}]", this.name, e );
+		}
+	}
+
+}
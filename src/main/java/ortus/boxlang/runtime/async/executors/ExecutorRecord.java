@@ -24,6 +24,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -53,12 +54,36 @@ public record ExecutorRecord( ExecutorService executor, String name, ExecutorTyp
 	private static final Logger logger = LoggerFactory.getLogger( ExecutorRecord.class );
 
 	/**
-	 * Get the executor service casted as a {@link BoxScheduledExecutor}
+	 * Get the executor service casted as a {@link ScheduledExecutorService}
 	 *
 	 * @return The executor service
 	 */
-	public BoxScheduledExecutor scheduledExecutor() {
-		return ( BoxScheduledExecutor ) this.executor;
+	public ScheduledExecutorService scheduledExecutor() {
+		return ( ScheduledExecutorService ) this.executor;
+	}
+
+	/**
+	 * Get the underlying thread pool, unwrapping the instrumentation if any
+	 *
+	 * @return The thread pool
+	 */
+	public ExecutorService pool() {
+		if ( this.executor instanceof InstrumentedExecutorService instrumented ) {
+			return instrumented.getDelegate();
+		}
+		return this.executor;
+	}
+
+	/**
+	 * Get the metrics of the executor, if it's instrumented
+	 *
+	 * @return The metrics or null
+	 */
+	public ExecutorMetrics metrics() {
+		if ( this.executor instanceof InstrumentedExecutorService instrumented ) {
+			return instrumented.getMetrics();
+		}
+		return null;
 	}
 
 	/**
@@ -150,11 +175,27 @@ public record ExecutorRecord( ExecutorService executor, String name, ExecutorTyp
 	}
 
 	/**
-	 * Our very own stats struct map to give you a holistic view of the executor
+	 * Our very own stats struct map to give you a holistic view of the executor.
+	 * Instrumented executors also report their {@code metrics}: queue wait and run time histograms,
+	 * queue depth, counters and saturation state.
 	 *
 	 * @return The stats struct
 	 */
 	public IStruct getStats() {
+		IStruct			stats	= getPoolStats();
+		ExecutorMetrics	metrics	= metrics();
+		if ( metrics != null ) {
+			stats.put( "metrics", metrics.toStruct() );
+		}
+		return stats;
+	}
+
+	/**
+	 * The stats of the underlying thread pool
+	 *
+	 * @return The stats struct
+	 */
+	private IStruct getPoolStats() {
 		switch ( this.type ) {
 			case SINGLE :
 			case VIRTUAL : {
@@ -177,7 +218,7 @@ public record ExecutorRecord( ExecutorService executor, String name, ExecutorTyp
 			case CACHED :
 			case FIXED :
 			case SCHEDULED :
-				ThreadPoolExecutor thisExecutor = ( ThreadPoolExecutor ) this.executor;
+				ThreadPoolExecutor thisExecutor = ( ThreadPoolExecutor ) pool();
 				return Struct.of(
 				    "activeCount", thisExecutor.getActiveCount(),
 				    "completedTaskCount", thisExecutor.getCompletedTaskCount(),
@@ -195,7 +236,7 @@ public record ExecutorRecord( ExecutorService executor, String name, ExecutorTyp
 				);
 			case WORK_STEALING :
 			case FORK_JOIN :
-				ForkJoinPool pool = ( ForkJoinPool ) this.executor;
+				ForkJoinPool pool = ( ForkJoinPool ) pool();
 				return Struct.of(
 				    "activeCount", 0,
 				    "completedTaskCount", 0,
@@ -275,7 +316,7 @@ public record ExecutorRecord( ExecutorService executor, String name, ExecutorTyp
 	 */
 	public Object submitAndGet( ForkJoinTask<? extends Object> fn ) {
 		try {
-			ForkJoinPool exec = ( ForkJoinPool ) this.executor;
+			ForkJoinPool exec = ( ForkJoinPool ) pool();
 			return exec.submit( fn ).get();
 		} catch ( InterruptedException e ) {
 			throw new BoxRuntimeException(
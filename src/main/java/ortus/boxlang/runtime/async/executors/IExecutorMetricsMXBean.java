@@ -0,0 +1,103 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.async.executors;
+
+/**
+ * The JMX view of an executor's metrics, registered per executor as
+ * {@code ortus.boxlang:type=Executor,name={executorName}}.
+ *
+ * Latencies are reported in milliseconds.
+ */
+public interface IExecutorMetricsMXBean {
+
+	/**
+	 * The name of the executor
+	 */
+	public String getName();
+
+	/**
+	 * The total tasks submitted
+	 */
+	public long getSubmittedCount();
+
+	/**
+	 * The total tasks that ran to completion
+	 */
+	public long getCompletedCount();
+
+	/**
+	 * The total tasks that threw out of the executor
+	 */
+	public long getFailedCount();
+
+	/**
+	 * The total tasks rejected by the executor
+	 */
+	public long getRejectedCount();
+
+	/**
+	 * How many submitted tasks are waiting to start
+	 */
+	public int getQueueDepth();
+
+	/**
+	 * How many tasks are running
+	 */
+	public int getActiveCount();
+
+	/**
+	 * Whether the executor is currently saturated
+	 */
+	public boolean isSaturated();
+
+	/**
+	 * How many times the executor became saturated
+	 */
+	public long getSaturationCount();
+
+	/**
+	 * The median time from submit to start in milliseconds
+	 */
+	public double getQueueWaitP50();
+
+	/**
+	 * The 99th percentile time from submit to start in milliseconds
+	 */
+	public double getQueueWaitP99();
+
+	/**
+	 * The max time from submit to start in milliseconds
+	 */
+	public double getQueueWaitMax();
+
+	/**
+	 * The median run duration in milliseconds
+	 */
+	public double getRunTimeP50();
+
+	/**
+	 * The 99th percentile run duration in milliseconds
+	 */
+	public double getRunTimeP99();
+
+	/**
+	 * The max run duration in milliseconds
+	 */
+	public double getRunTimeMax();
+
+}
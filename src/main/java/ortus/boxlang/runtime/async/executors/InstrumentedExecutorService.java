@@ -0,0 +1,250 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.async.executors;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * An executor service that wraps the executors built by the {@link ortus.boxlang.runtime.services.AsyncService}
+ * and feeds their {@link ExecutorMetrics}. Every task goes through {@link #execute(Runnable)} or one of the
+ * schedule methods, and is timed from submit (or its expected start, when scheduled) to start, and from start to end.
+ * <p>
+ * The schedule methods are only available if the wrapped executor is a {@link ScheduledExecutorService}.
+ */
+public class InstrumentedExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+
+	/**
+	 * The wrapped executor
+	 */
+	private final ExecutorService	delegate;
+
+	/**
+	 * The metrics we feed
+	 */
+	private final ExecutorMetrics	metrics;
+
+	/**
+	 * Constructor
+	 *
+	 * @param delegate The executor to wrap
+	 * @param metrics  The metrics to feed
+	 */
+	public InstrumentedExecutorService( ExecutorService delegate, ExecutorMetrics metrics ) {
+		this.delegate	= delegate;
+		this.metrics	= metrics;
+	}
+
+	/**
+	 * Get the wrapped executor
+	 *
+	 * @return The wrapped executor
+	 */
+	public ExecutorService getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * Get the metrics
+	 *
+	 * @return The metrics
+	 */
+	public ExecutorMetrics getMetrics() {
+		return this.metrics;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Executor Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	@Override
+	public void execute( Runnable command ) {
+		long submitNanos = this.metrics.onSubmit();
+		try {
+			this.delegate.execute( () -> {
+				long		startNanos	= this.metrics.onStart( submitNanos );
+				Throwable	error		= null;
+				try {
+					command.run();
+				} catch ( RuntimeException | Error e ) {
+					error = e;
+					throw e;
+				} finally {
+					this.metrics.onEnd( startNanos, error );
+				}
+			} );
+		} catch ( RejectedExecutionException e ) {
+			this.metrics.onSubmitRejected();
+			throw e;
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		this.delegate.shutdown();
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		return this.delegate.shutdownNow();
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return this.delegate.isShutdown();
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return this.delegate.isTerminated();
+	}
+
+	@Override
+	public boolean awaitTermination( long timeout, TimeUnit unit ) throws InterruptedException {
+		return this.delegate.awaitTermination( timeout, unit );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Scheduled Executor Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	@Override
+	public ScheduledFuture<?> schedule( Runnable command, long delay, TimeUnit unit ) {
+		TimedRunnable task = new TimedRunnable( command, System.nanoTime() + unit.toNanos( delay ), 0 );
+		try {
+			return scheduled().schedule( task, delay, unit );
+		} catch ( RejectedExecutionException e ) {
+			this.metrics.onRejected();
+			throw e;
+		}
+	}
+
+	@Override
+	public <V> ScheduledFuture<V> schedule( Callable<V> callable, long delay, TimeUnit unit ) {
+		long expectedNanos = System.nanoTime() + unit.toNanos( delay );
+		try {
+			return scheduled().schedule( () -> {
+				long		startNanos	= this.metrics.onScheduledStart( expectedNanos );
+				Throwable	error		= null;
+				try {
+					return callable.call();
+				} catch ( Exception | Error e ) {
+					error = e;
+					throw e;
+				} finally {
+					this.metrics.onEnd( startNanos, error );
+				}
+			}, delay, unit );
+		} catch ( RejectedExecutionException e ) {
+			this.metrics.onRejected();
+			throw e;
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate( Runnable command, long initialDelay, long period, TimeUnit unit ) {
+		TimedRunnable task = new TimedRunnable( command, System.nanoTime() + unit.toNanos( initialDelay ), unit.toNanos( period ) );
+		try {
+			return scheduled().scheduleAtFixedRate( task, initialDelay, period, unit );
+		} catch ( RejectedExecutionException e ) {
+			this.metrics.onRejected();
+			throw e;
+		}
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay( Runnable command, long initialDelay, long delay, TimeUnit unit ) {
+		TimedRunnable task = new TimedRunnable( command, System.nanoTime() + unit.toNanos( initialDelay ), -unit.toNanos( delay ) );
+		try {
+			return scheduled().scheduleWithFixedDelay( task, initialDelay, delay, unit );
+		} catch ( RejectedExecutionException e ) {
+			this.metrics.onRejected();
+			throw e;
+		}
+	}
+
+	/**
+	 * Get the wrapped executor as a scheduled executor
+	 *
+	 * @return The scheduled executor
+	 *
+	 * @throws BoxRuntimeException If the wrapped executor can't schedule
+	 */
+	private ScheduledExecutorService scheduled() {
+		if ( this.delegate instanceof ScheduledExecutorService scheduledExecutor ) {
+			return scheduledExecutor;
+		}
+		throw new BoxRuntimeException( "The executor [" + this.metrics.getName() + "] is not a scheduled executor" );
+	}
+
+	/**
+	 * A scheduled runnable that knows when each of its runs is expected to start
+	 */
+	private final class TimedRunnable implements Runnable {
+
+		private final Runnable	command;
+
+		/**
+		 * Positive for a fixed rate, negative for a fixed delay, 0 for a one shot
+		 */
+		private final long		periodNanos;
+
+		/**
+		 * Only touched by the run in progress, runs of the same task never overlap
+		 */
+		private long			expectedNanos;
+
+		TimedRunnable( Runnable command, long expectedNanos, long periodNanos ) {
+			this.command		= command;
+			this.expectedNanos	= expectedNanos;
+			this.periodNanos	= periodNanos;
+		}
+
+		@Override
+		public void run() {
+			long		startNanos	= metrics.onScheduledStart( this.expectedNanos );
+			Throwable	error		= null;
+			try {
+				this.command.run();
+			} catch ( RuntimeException | Error e ) {
+				error = e;
+				throw e;
+			} finally {
+				metrics.onEnd( startNanos, error );
+				if ( this.periodNanos > 0 ) {
+					this.expectedNanos += this.periodNanos;
+				} else if ( this.periodNanos < 0 ) {
+					this.expectedNanos = System.nanoTime() - this.periodNanos;
+				}
+			}
+		}
+	}
+
+}
@@ -18,6 +18,7 @@
 package ortus.boxlang.runtime.async.tasks;
 
 import java.time.ZoneId;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -186,4 +187,11 @@ public interface IScheduler {
 	 */
 	public BaseScheduler setTimezone( ZoneId timezone );
 
+	/**
+	 * Get the registered tasks in this scheduler
+	 *
+	 * @return the tasks by name
+	 */
+	public Map<String, TaskRecord> getTasks();
+
 }
@@ -24,10 +24,11 @@ import java.time.temporal.ChronoField;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -47,9 +48,9 @@ import ortus.boxlang.runtime.services.InterceptorService;
 import ortus.boxlang.runtime.types.Function;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.util.DateTimeHelper;
 import ortus.boxlang.runtime.types.util.StringUtil;
-import ortus.boxlang.runtime.util.Timer;
 
 /**
  * The ScheduledTask class is a {@link Runnable} that is used by the schedulers to execute tasks
@@ -61,6 +62,41 @@ import ortus.boxlang.runtime.util.Timer;
  */
 public class ScheduledTask implements Runnable {
 
+	/**
+	 * What a task does when it's due while a previous run is still executing
+	 */
+	public enum OverlapPolicy {
+
+		/**
+		 * Start another run concurrently
+		 */
+		ALLOW,
+		/**
+		 * Drop the run
+		 */
+		SKIP,
+		/**
+		 * Queue a single run to execute right after the current one, any further runs are dropped
+		 */
+		QUEUE_ONE;
+
+		/**
+		 * Get a policy from its name: allow, skip or queueOne
+		 *
+		 * @param policy The policy name
+		 *
+		 * @return The policy
+		 */
+		public static OverlapPolicy fromString( String policy ) {
+			return switch ( policy.toLowerCase().replaceAll( "[-_]", "" ) ) {
+				case "allow" -> ALLOW;
+				case "skip" -> SKIP;
+				case "queueone" -> QUEUE_ONE;
+				default -> throw new BoxRuntimeException( "Invalid overlap policy [" + policy + "], valid policies are: allow, skip, queueOne" );
+			};
+		}
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Private Properties
@@ -173,6 +209,43 @@ public class ScheduledTask implements Runnable {
 	 */
 	private Boolean									noOverlaps			= false;
 
+	/**
+	 * What to do when the task is due while a previous run is still executing.
+	 * When set, or when running on virtual threads, the runs are dispatched off the scheduler thread.
+	 * When null, the task runs on the scheduler thread, so late runs fire back to back once it's done.
+	 */
+	private OverlapPolicy							overlapPolicy		= null;
+
+	/**
+	 * Run the task body on a virtual thread instead of the scheduler thread
+	 */
+	private Boolean									virtualThreads		= false;
+
+	/**
+	 * The maximum random delay added to the first run, so tasks with the same period don't all fire at the same instant
+	 */
+	private long									jitter				= 0L;
+
+	/**
+	 * The time unit of the jitter
+	 */
+	private TimeUnit								jitterTimeUnit		= TimeUnit.MILLISECONDS;
+
+	/**
+	 * Guards the dispatched runs bookkeeping
+	 */
+	private final ReentrantLock						dispatchLock		= new ReentrantLock();
+
+	/**
+	 * How many dispatched runs are in flight
+	 */
+	private int										inFlight			= 0;
+
+	/**
+	 * Whether a run is queued behind the current one
+	 */
+	private boolean									runQueued			= false;
+
 	/**
 	 * Used by first and last business day constraints to
 	 * log the time of day for use in setNextRunTime()
@@ -215,10 +288,9 @@ public class ScheduledTask implements Runnable {
 	private IStruct									meta				= new Struct();
 
 	/**
-	 * The collection of stats for the task: { name, created, lastRun, nextRun, totalRuns, totalFailures, totalSuccess, lastResult, neverRun,
-	 * lastExecutionTime }
+	 * The stats of the task
 	 */
-	private IStruct									stats;
+	private TaskStats								stats;
 
 	/**
 	 * The timezone this task runs under, by default we use the timezone defined in the schedulers
@@ -250,11 +322,6 @@ public class ScheduledTask implements Runnable {
 	 */
 	private static final Logger						logger				= LoggerFactory.getLogger( ScheduledTask.class );
 
-	/**
-	 * BoxLang Timer utility
-	 */
-	private final Timer								timer				= new Timer();
-
 	/**
 	 * Interceptor Service
 	 */
@@ -282,34 +349,7 @@ public class ScheduledTask implements Runnable {
 		this.scheduler	= scheduler;
 
 		// Init the stats
-		this.stats		= Struct.of(
-		    // Save name just in case
-		    "name", name,
-		    // Save group just in case
-		    "group", group,
-		    // When task got created
-		    "created", LocalDateTime.now(),
-		    // The last execution run timestamp
-		    "lastRun", null,
-		    // The next execution run timestamp
-		    "nextRun", null,
-		    // Total runs
-		    "totalRuns", new AtomicInteger( 0 ),
-		    // Total failures
-		    "totalFailures", new AtomicInteger( 0 ),
-		    // Total successful task executions
-		    "totalSuccess", new AtomicInteger( 0 ),
-		    // How long the last execution took
-		    "lastExecutionTime", new AtomicLong( 0 ),
-		    // The latest result if any
-		    "lastResult", Optional.empty(),
-		    // If the task has never ran or not
-		    "neverRun", true
-		// Server Host
-		// "inetHost", util.discoverInetHost(),
-		// Server IP
-		// "localIp", variables.util.getServerIp()
-		);
+		this.stats		= new TaskStats( name, group, LocalDateTime.now() );
 
 		debugLog( "constructor", Struct.of( "name", name, "group", group ) );
 	}
@@ -373,8 +413,6 @@ public class ScheduledTask implements Runnable {
 	 */
 	public void run( Boolean force ) {
 		debugLog( String.format( "run( force: %b )", force ) );
-		String timerLabel = "task-" + System.currentTimeMillis();
-		timer.start( timerLabel );
 
 		// If disabled or paused
 		if ( !force && isDisabled() ) {
@@ -388,8 +426,9 @@ public class ScheduledTask implements Runnable {
 			return;
 		}
 
-		// Mark the task as it will run now for the first time
-		this.stats.put( "neverRun", false );
+		// Mark the task as running
+		long startNanos = System.nanoTime();
+		this.stats.recordStart();
 		try {
 			// Before Interceptors : From global to local
 			this.interceptorService.announce(
@@ -406,14 +445,14 @@ public class ScheduledTask implements Runnable {
 			// Execution by type
 			switch ( task ) {
 				case DynamicObject castedTask -> {
-					this.stats.put( "lastResult", Optional.ofNullable( castedTask.invoke( BoxRuntime.getInstance().getRuntimeContext(), method ) ) );
+					this.stats.setLastResult( Optional.ofNullable( castedTask.invoke( BoxRuntime.getInstance().getRuntimeContext(), method ) ) );
 				}
 				case Callable<?> castedTask -> {
-					this.stats.put( "lastResult", Optional.ofNullable( castedTask.call() ) );
+					this.stats.setLastResult( Optional.ofNullable( castedTask.call() ) );
 				}
 				case Runnable castedTask -> {
 					castedTask.run();
-					this.stats.put( "lastResult", Optional.empty() );
+					this.stats.setLastResult( Optional.empty() );
 				}
 				case Function castedTask -> {
 					castedTask.invoke(
@@ -433,7 +472,7 @@ public class ScheduledTask implements Runnable {
 			}
 
 			// Get the last result
-			var result = ( Optional<?> ) this.stats.get( "lastResult" );
+			var result = this.stats.getLastResult();
 
 			// After Interceptors : From local to global
 			if ( afterTask != null ) {
@@ -448,7 +487,7 @@ public class ScheduledTask implements Runnable {
 			);
 
 			// Store successes and call success interceptor : From global to local
-			( ( AtomicInteger ) this.stats.get( "totalSuccess" ) ).incrementAndGet();
+			this.stats.recordSuccess();
 			if ( onTaskSuccess != null ) {
 				onTaskSuccess.accept( this, result );
 			}
@@ -462,7 +501,7 @@ public class ScheduledTask implements Runnable {
 
 		} catch ( Exception e ) {
 			// store failures
-			( ( AtomicInteger ) this.stats.get( "totalFailures" ) ).incrementAndGet();
+			this.stats.recordFailure();
 			logger.error( "Error running task ({}) failed: {}", name, e.getMessage() );
 			logger.error( "Stacktrace for ({}) : {}", name, e.getStackTrace() );
 
@@ -507,9 +546,7 @@ public class ScheduledTask implements Runnable {
 			}
 		} finally {
 			// Store finalization stats
-			this.stats.put( "lastRun", getNow() );
-			( ( AtomicLong ) this.stats.get( "lastExecutionTime" ) ).set( timer.stopAndGetMillis( timerLabel ) );
-			( ( AtomicInteger ) this.stats.get( "totalRuns" ) ).incrementAndGet();
+			this.stats.recordEnd( getNow(), startNanos );
 			// Call internal cleanups event
 			cleanupTaskRun();
 			// set next run time based on timeUnit and period
@@ -517,13 +554,102 @@ public class ScheduledTask implements Runnable {
 		}
 	}
 
+	/**
+	 * This is what the scheduler executes every time the task is due. With no overlap policy and no virtual threads the
+	 * task runs right here on the scheduler thread. Otherwise the run is dispatched according to the overlap policy,
+	 * which defaults to {@link OverlapPolicy#QUEUE_ONE}.
+	 */
+	private void fire() {
+		if ( !isDispatched() ) {
+			run();
+			return;
+		}
+
+		OverlapPolicy	policy		= getEffectiveOverlapPolicy();
+		boolean			dispatch	= false;
+		this.dispatchLock.lock();
+		try {
+			if ( policy == OverlapPolicy.ALLOW || this.inFlight == 0 ) {
+				this.inFlight++;
+				dispatch = true;
+			} else if ( policy == OverlapPolicy.QUEUE_ONE && !this.runQueued ) {
+				this.runQueued = true;
+				this.stats.recordQueued();
+			} else {
+				this.stats.recordSkipped();
+			}
+		} finally {
+			this.dispatchLock.unlock();
+		}
+
+		if ( !dispatch ) {
+			debugLog( "fire-overlap", Struct.of( "policy", policy ) );
+			setNextRunTime();
+			return;
+		}
+
+		try {
+			if ( this.virtualThreads ) {
+				Thread.ofVirtual().name( "bx-task-" + this.name ).start( this::runDispatched );
+			} else {
+				getExecutor().executor().execute( this::runDispatched );
+			}
+		} catch ( RejectedExecutionException e ) {
+			this.dispatchLock.lock();
+			try {
+				this.inFlight--;
+			} finally {
+				this.dispatchLock.unlock();
+			}
+			logger.error( "Task ({}) could not be dispatched: {}", this.name, e.getMessage() );
+		}
+	}
+
+	/**
+	 * Executes a dispatched run, and the run queued behind it if any
+	 */
+	private void runDispatched() {
+		boolean runAgain;
+		do {
+			run();
+			this.dispatchLock.lock();
+			try {
+				runAgain		= this.runQueued;
+				this.runQueued	= false;
+				if ( !runAgain ) {
+					this.inFlight--;
+				}
+			} finally {
+				this.dispatchLock.unlock();
+			}
+		} while ( runAgain );
+	}
+
+	/**
+	 * Are the runs dispatched off the scheduler thread
+	 *
+	 * @return True if there is an overlap policy or the task runs on virtual threads
+	 */
+	public boolean isDispatched() {
+		return this.overlapPolicy != null || this.virtualThreads;
+	}
+
+	/**
+	 * Get the overlap policy that applies to dispatched runs
+	 *
+	 * @return The overlap policy, {@link OverlapPolicy#QUEUE_ONE} if none was set
+	 */
+	public OverlapPolicy getEffectiveOverlapPolicy() {
+		return this.overlapPolicy != null ? this.overlapPolicy : OverlapPolicy.QUEUE_ONE;
+	}
+
 	/**
 	 * Get the last result of the task
 	 *
 	 * @return The last result of the task as an Optional
 	 */
 	public Optional<?> getLastResult() {
-		return ( Optional<?> ) this.stats.get( "lastResult" );
+		return this.stats.getLastResult();
 	}
 
 	/**
@@ -549,7 +675,7 @@ public class ScheduledTask implements Runnable {
 			if ( this.timeUnit != TimeUnit.SECONDS ) {
 				this.initialDelay = 0;
 				// reset the initial nextRunTime
-				this.stats.put( "nextRun", null );
+				this.stats.setNextRun( null );
 			} else {
 				this.initialDelay = DateTimeHelper.timeUnitToSeconds( this.initialDelay, this.initialDelayTimeUnit );
 			}
@@ -568,32 +694,47 @@ public class ScheduledTask implements Runnable {
 		    )
 		);
 
+		// Spread the first run with a random jitter, which the periodic runs then keep as their phase.
+		// We schedule in nanoseconds so the jitter is not lost to the rounding of coarse time units.
+		TimeUnit	scheduleTimeUnit	= this.timeUnit;
+		long		scheduleDelay		= this.initialDelay;
+		long		schedulePeriod		= this.spacedDelay > 0 ? this.spacedDelay : this.period;
+		if ( this.jitter > 0 ) {
+			long jitterNanos = ThreadLocalRandom.current().nextLong( this.jitterTimeUnit.toNanos( this.jitter ) + 1 );
+			scheduleTimeUnit	= TimeUnit.NANOSECONDS;
+			scheduleDelay		= this.timeUnit.toNanos( this.initialDelay ) + jitterNanos;
+			schedulePeriod		= this.timeUnit.toNanos( schedulePeriod );
+			if ( this.stats.getNextRun() != null ) {
+				this.stats.setNextRun( this.stats.getNextRun().plusNanos( jitterNanos ) );
+			}
+		}
+
 		try {
 			// Startup a spaced frequency task: no overlaps
 			if ( this.spacedDelay > 0 ) {
 				return getExecutor().scheduledExecutor().scheduleWithFixedDelay(
-				    this,
-				    this.initialDelay,
-				    this.spacedDelay,
-				    this.timeUnit
+				    this::fire,
+				    scheduleDelay,
+				    schedulePeriod,
+				    scheduleTimeUnit
 				);
 			}
 
 			// Startup a task with a frequency period
 			if ( period > 0 ) {
 				return getExecutor().scheduledExecutor().scheduleAtFixedRate(
-				    this,
-				    this.initialDelay,
-				    this.period,
-				    this.timeUnit
+				    this::fire,
+				    scheduleDelay,
+				    schedulePeriod,
+				    scheduleTimeUnit
 				);
 			}
 
 			// Start off a one-off task
 			return getExecutor().scheduledExecutor().schedule(
-			    this,
-			    this.initialDelay,
-			    this.timeUnit
+			    this::fire,
+			    scheduleDelay,
+			    scheduleTimeUnit
 			);
 		} finally {
 			this.scheduled = true;
@@ -1040,6 +1181,83 @@ public class ScheduledTask implements Runnable {
 		return this;
 	}
 
+	/**
+	 * Set what the task does when it's due while a previous run is still executing. Setting a policy dispatches the runs
+	 * off the scheduler thread, so a slow run never delays the schedule.
+	 *
+	 * @param policy The overlap policy
+	 *
+	 * @return The ScheduledTask instance
+	 */
+	public ScheduledTask withOverlapPolicy( OverlapPolicy policy ) {
+		debugLog( "withOverlapPolicy", Struct.of( "policy", policy ) );
+		this.overlapPolicy = policy;
+		return this;
+	}
+
+	/**
+	 * BoxLang proxy
+	 *
+	 * @param policy The overlap policy: allow, skip or queueOne
+	 *
+	 * @return The ScheduledTask instance
+	 */
+	public ScheduledTask withOverlapPolicy( String policy ) {
+		return withOverlapPolicy( OverlapPolicy.fromString( policy ) );
+	}
+
+	/**
+	 * Delay the first run by a random amount of time up to the jitter. The periodic runs keep that offset, so tasks with
+	 * the same period are spread out instead of all firing at the same instant.
+	 *
+	 * @param jitter   The maximum jitter
+	 * @param timeUnit The time unit of the jitter
+	 *
+	 * @return The ScheduledTask instance
+	 */
+	public ScheduledTask withJitter( long jitter, TimeUnit timeUnit ) {
+		debugLog( "withJitter", Struct.of( "jitter", jitter, "timeUnit", timeUnit ) );
+		this.jitter			= jitter;
+		this.jitterTimeUnit	= timeUnit;
+		return this;
+	}
+
+	/**
+	 * Delay the first run by a random amount of time up to the jitter in milliseconds
+	 *
+	 * @param jitter The maximum jitter in milliseconds
+	 *
+	 * @return The ScheduledTask instance
+	 */
+	public ScheduledTask withJitter( long jitter ) {
+		return withJitter( jitter, TimeUnit.MILLISECONDS );
+	}
+
+	/**
+	 * BoxLang proxy
+	 *
+	 * @param jitter   The maximum jitter
+	 * @param timeUnit The time unit to use, available units are: days, hours, microseconds, milliseconds, minutes, nanoseconds, and seconds.
+	 *
+	 * @return The ScheduledTask instance
+	 */
+	public ScheduledTask withJitter( Double jitter, String timeUnit ) {
+		timeUnit = StringUtil.pluralize( timeUnit ).toUpperCase();
+		return withJitter( jitter.longValue(), TimeUnit.valueOf( timeUnit ) );
+	}
+
+	/**
+	 * Run the task body on virtual threads instead of the scheduler threads. This is great for tasks that mostly wait on I/O.
+	 * The runs are dispatched according to the overlap policy.
+	 *
+	 * @return The ScheduledTask instance
+	 */
+	public ScheduledTask onVirtualThreads() {
+		debugLog( "onVirtualThreads" );
+		this.virtualThreads = true;
+		return this;
+	}
+
 	/**
 	 * BoxLang proxy
 	 *
@@ -1809,9 +2027,7 @@ public class ScheduledTask implements Runnable {
 		LocalDateTime	initialNextRun	= null;
 		LocalDateTime	nextRun			= getNow();
 
-		if ( this.stats.get( "nextRun" ) instanceof LocalDateTime castedNextRun ) {
-			initialNextRun = castedNextRun;
-		}
+		initialNextRun = this.stats.getNextRun();
 
 		// Debug
 		debugLog(
@@ -1854,7 +2070,7 @@ public class ScheduledTask implements Runnable {
 			// Which is what the task operates on, either one.
 			var amount = this.spacedDelay != 0 ? this.spacedDelay : this.period;
 			// if overlaps are allowed task is immediately scheduled
-			if ( this.spacedDelay == 0 && ( ( AtomicLong ) this.stats.get( "lastExecutionTime" ) ).get() / 1000 > this.period ) {
+			if ( this.spacedDelay == 0 && this.stats.getLastExecutionTime() / 1000 > this.period ) {
 				amount = 0;
 			}
 			nextRun = DateTimeHelper.dateTimeAdd( nextRun, amount, this.timeUnit );
@@ -1862,7 +2078,7 @@ public class ScheduledTask implements Runnable {
 
 		// Store it
 		debugLog( "setNextRunTime-end", Struct.of( "nextRun", nextRun ) );
-		this.stats.put( "nextRun", nextRun );
+		this.stats.setNextRun( nextRun );
 	}
 
 	/**
@@ -2048,11 +2264,20 @@ public class ScheduledTask implements Runnable {
 	}
 
 	/**
-	 * Get the task stats
+	 * Get the task stats as a struct
 	 *
 	 * @return the stats
 	 */
 	public IStruct getStats() {
+		return this.stats.toStruct();
+	}
+
+	/**
+	 * Get the typed task stats
+	 *
+	 * @return the stats
+	 */
+	public TaskStats getTaskStats() {
 		return this.stats;
 	}
 
@@ -2329,6 +2554,54 @@ public class ScheduledTask implements Runnable {
 		return this;
 	}
 
+	/**
+	 * Get the overlap policy
+	 *
+	 * @return the overlap policy, null if runs execute on the scheduler thread
+	 */
+	public OverlapPolicy getOverlapPolicy() {
+		return this.overlapPolicy;
+	}
+
+	/**
+	 * Set the overlap policy
+	 *
+	 * @param overlapPolicy the overlap policy, null to run on the scheduler thread
+	 */
+	public ScheduledTask setOverlapPolicy( OverlapPolicy overlapPolicy ) {
+		this.overlapPolicy = overlapPolicy;
+		return this;
+	}
+
+	/**
+	 * Does the task body run on virtual threads
+	 */
+	public Boolean isVirtualThreads() {
+		return this.virtualThreads;
+	}
+
+	/**
+	 * Set if the task body runs on virtual threads
+	 */
+	public ScheduledTask setVirtualThreads( Boolean virtualThreads ) {
+		this.virtualThreads = virtualThreads;
+		return this;
+	}
+
+	/**
+	 * Get the maximum jitter of the first run
+	 */
+	public long getJitter() {
+		return this.jitter;
+	}
+
+	/**
+	 * Get the time unit of the jitter
+	 */
+	public TimeUnit getJitterTimeUnit() {
+		return this.jitterTimeUnit;
+	}
+
 	/**
 	 * Get the time of day for use in setNextRunTime().
 	 */
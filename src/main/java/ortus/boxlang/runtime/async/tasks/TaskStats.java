@@ -0,0 +1,317 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.async.tasks;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.util.LatencyHistogram;
+
+/**
+ * The run stats of a {@link ScheduledTask}. They are updated lock free by the runs of the task and can be read
+ * at any time, either through the typed getters or as a struct via {@link #toStruct()}.
+ */
+public class TaskStats {
+
+	/**
+	 * The task name
+	 */
+	private final String			name;
+
+	/**
+	 * The task group
+	 */
+	private final String			group;
+
+	/**
+	 * When the task got created
+	 */
+	private final LocalDateTime		created;
+
+	/**
+	 * The last execution run timestamp
+	 */
+	private volatile LocalDateTime	lastRun				= null;
+
+	/**
+	 * The next execution run timestamp
+	 */
+	private volatile LocalDateTime	nextRun				= null;
+
+	/**
+	 * The latest result if any
+	 */
+	private volatile Optional<?>	lastResult			= Optional.empty();
+
+	/**
+	 * If the task has never ran or not
+	 */
+	private volatile boolean		neverRun			= true;
+
+	/**
+	 * How long the last execution took in milliseconds
+	 */
+	private volatile long			lastExecutionTime	= 0L;
+
+	/**
+	 * Counters
+	 */
+	private final LongAdder			totalRuns			= new LongAdder();
+	private final LongAdder			totalFailures		= new LongAdder();
+	private final LongAdder			totalSuccess		= new LongAdder();
+	private final LongAdder			totalSkipped		= new LongAdder();
+	private final LongAdder			totalQueued			= new LongAdder();
+
+	/**
+	 * How many runs are executing right now
+	 */
+	private final AtomicInteger		running				= new AtomicInteger();
+
+	/**
+	 * The duration of the runs
+	 */
+	private final LatencyHistogram	runTime				= new LatencyHistogram();
+
+	/**
+	 * Constructor
+	 *
+	 * @param name    The task name
+	 * @param group   The task group
+	 * @param created When the task got created
+	 */
+	public TaskStats( String name, String group, LocalDateTime created ) {
+		this.name		= name;
+		this.group		= group;
+		this.created	= created;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Recording
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Record that a run has started
+	 */
+	public void recordStart() {
+		this.neverRun = false;
+		this.running.incrementAndGet();
+	}
+
+	/**
+	 * Record that a run has ended
+	 *
+	 * @param lastRun    When the run ended
+	 * @param startNanos The {@link System#nanoTime()} when the run started
+	 */
+	public void recordEnd( LocalDateTime lastRun, long startNanos ) {
+		long duration = System.nanoTime() - startNanos;
+		this.runTime.record( duration );
+		this.lastExecutionTime	= duration / 1_000_000;
+		this.lastRun			= lastRun;
+		this.totalRuns.increment();
+		this.running.decrementAndGet();
+	}
+
+	/**
+	 * Record a successful run
+	 */
+	public void recordSuccess() {
+		this.totalSuccess.increment();
+	}
+
+	/**
+	 * Record a failed run
+	 */
+	public void recordFailure() {
+		this.totalFailures.increment();
+	}
+
+	/**
+	 * Record a run that was skipped because the previous one was still executing
+	 */
+	public void recordSkipped() {
+		this.totalSkipped.increment();
+	}
+
+	/**
+	 * Record a run that was queued because the previous one was still executing
+	 */
+	public void recordQueued() {
+		this.totalQueued.increment();
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Getters & Setters
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Get the name
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Get the group
+	 */
+	public String getGroup() {
+		return this.group;
+	}
+
+	/**
+	 * Get the created
+	 */
+	public LocalDateTime getCreated() {
+		return this.created;
+	}
+
+	/**
+	 * Get the last run
+	 */
+	public LocalDateTime getLastRun() {
+		return this.lastRun;
+	}
+
+	/**
+	 * Get the next run
+	 */
+	public LocalDateTime getNextRun() {
+		return this.nextRun;
+	}
+
+	/**
+	 * Set the next run
+	 */
+	public TaskStats setNextRun( LocalDateTime nextRun ) {
+		this.nextRun = nextRun;
+		return this;
+	}
+
+	/**
+	 * Get the last result
+	 */
+	public Optional<?> getLastResult() {
+		return this.lastResult;
+	}
+
+	/**
+	 * Set the last result
+	 */
+	public TaskStats setLastResult( Optional<?> lastResult ) {
+		this.lastResult = lastResult;
+		return this;
+	}
+
+	/**
+	 * Has the task never run
+	 */
+	public boolean isNeverRun() {
+		return this.neverRun;
+	}
+
+	/**
+	 * Get the last execution time
+	 */
+	public long getLastExecutionTime() {
+		return this.lastExecutionTime;
+	}
+
+	/**
+	 * Get the total runs
+	 */
+	public long getTotalRuns() {
+		return this.totalRuns.sum();
+	}
+
+	/**
+	 * Get the total failures
+	 */
+	public long getTotalFailures() {
+		return this.totalFailures.sum();
+	}
+
+	/**
+	 * Get the total success
+	 */
+	public long getTotalSuccess() {
+		return this.totalSuccess.sum();
+	}
+
+	/**
+	 * Get the total skipped
+	 */
+	public long getTotalSkipped() {
+		return this.totalSkipped.sum();
+	}
+
+	/**
+	 * Get the total queued
+	 */
+	public long getTotalQueued() {
+		return this.totalQueued.sum();
+	}
+
+	/**
+	 * Get the running
+	 */
+	public int getRunning() {
+		return this.running.get();
+	}
+
+	/**
+	 * Get the run time
+	 */
+	public LatencyHistogram getRunTime() {
+		return this.runTime;
+	}
+
+	/**
+	 * Get the stats as a struct
+	 *
+	 * @return The stats: { name, group, created, lastRun, nextRun, totalRuns, totalFailures, totalSuccess, totalSkipped, totalQueued,
+	 *         running, lastExecutionTime, runTime, lastResult, neverRun }
+	 */
+	public IStruct toStruct() {
+		return Struct.of(
+		    "name", this.name,
+		    "group", this.group,
+		    "created", this.created,
+		    "lastRun", this.lastRun,
+		    "nextRun", this.nextRun,
+		    "totalRuns", getTotalRuns(),
+		    "totalFailures", getTotalFailures(),
+		    "totalSuccess", getTotalSuccess(),
+		    "totalSkipped", getTotalSkipped(),
+		    "totalQueued", getTotalQueued(),
+		    "running", getRunning(),
+		    "lastExecutionTime", this.lastExecutionTime,
+		    "runTime", this.runTime.toStruct(),
+		    "lastResult", this.lastResult,
+		    "neverRun", this.neverRun
+		);
+	}
+
+}
@@ -99,7 +99,7 @@ public abstract class BIF {
 	public Object invoke( IBoxContext context, ArgumentsScope arguments ) {
 		interceptorService.announce(
 		    BoxEvent.ON_BIF_INVOCATION,
-		    Struct.of(
+		    () -> Struct.of(
 		        Key.context, context,
 		        Key.arguments, arguments
 		    )
@@ -0,0 +1,67 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.async;
+
+import ortus.boxlang.runtime.async.BoxTaskScope;
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+
+@BoxBIF
+public class AsyncAll extends BIF {
+
+	/**
+	 * Constructor
+	 */
+	public AsyncAll() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( true, Argument.ANY, Key.tasks ),
+		    new Argument( false, Argument.LONG, Key.timeout, 0L )
+		};
+	}
+
+	/**
+	 * Runs all the given functions in parallel, each one in its own virtual thread, and waits for all of them to complete.
+	 * <p>
+	 * The tasks run in a structured scope that shuts down on the first failure: the tasks still running are cancelled
+	 * and interrupted and the failure is rethrown. If the timeout expires first, the tasks still running are cancelled
+	 * as well and an exception is thrown.
+	 *
+	 * <pre>
+	 * results = asyncAll( [ () => getUser(), () => getOrders() ], 2000 );
+	 * results = asyncAll( { user : () => getUser(), orders : () => getOrders() } );
+	 * </pre>
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.tasks An array or a struct of closures/lambdas to run in parallel.
+	 *
+	 * @argument.timeout The maximum time in milliseconds to wait for all the tasks. 0 by default, which means no timeout.
+	 *
+	 * @return An array of results in the order of the tasks, or a struct of results with the same keys as the tasks.
+	 */
+	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		return BoxTaskScope.all( context, arguments.get( Key.tasks ), arguments.getAsLong( Key.timeout ) );
+	}
+
+}
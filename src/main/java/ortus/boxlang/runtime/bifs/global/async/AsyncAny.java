@@ -0,0 +1,66 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.async;
+
+import ortus.boxlang.runtime.async.BoxTaskScope;
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+
+@BoxBIF
+public class AsyncAny extends BIF {
+
+	/**
+	 * Constructor
+	 */
+	public AsyncAny() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( true, Argument.ANY, Key.tasks ),
+		    new Argument( false, Argument.LONG, Key.timeout, 0L )
+		};
+	}
+
+	/**
+	 * Runs all the given functions in parallel, each one in its own virtual thread, and returns the result of the first
+	 * one that completes successfully.
+	 * <p>
+	 * The tasks run in a structured scope that shuts down on the first success: the tasks still running are cancelled
+	 * and interrupted. If all the tasks fail or the timeout expires first, an exception is thrown.
+	 *
+	 * <pre>
+	 * result = asyncAny( [ () => fetchFromMirrorA(), () => fetchFromMirrorB() ], 1000 );
+	 * </pre>
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.tasks An array or a struct of closures/lambdas to run in parallel.
+	 *
+	 * @argument.timeout The maximum time in milliseconds to wait for a successful task. 0 by default, which means no timeout.
+	 *
+	 * @return The result of the first task that completed successfully.
+	 */
+	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		return BoxTaskScope.any( context, arguments.get( Key.tasks ), arguments.getAsLong( Key.timeout ) );
+	}
+
+}
@@ -0,0 +1,133 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.async;
+
+import java.util.concurrent.Executor;
+
+import ortus.boxlang.runtime.async.ParallelMapper;
+import ortus.boxlang.runtime.async.executors.ExecutorRecord;
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+import ortus.boxlang.runtime.types.Function;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+@BoxBIF
+public class AsyncMap extends BIF {
+
+	/**
+	 * Constructor
+	 */
+	public AsyncMap() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( true, Argument.ANY, Key.items ),
+		    new Argument( true, "function:Function", Key.mapper ),
+		    new Argument( false, Argument.INTEGER, Key.maxConcurrency ),
+		    new Argument( false, Argument.BOOLEAN, Key.ordered, true ),
+		    new Argument( false, Argument.LONG, Key.timeout, 0L ),
+		    new Argument( false, Argument.STRING, Key.errorPolicy, "failFast" ),
+		    new Argument( false, Argument.ANY, Key.executor )
+		};
+	}
+
+	/**
+	 * Maps over the items in parallel with bounded concurrency. Items are pulled from the input as slots free up, so
+	 * large inputs and streams never flood the executor.
+	 *
+	 * <pre>
+	 * results = asyncMap( ids, ( id ) => getUser( id ), maxConcurrency = 20, timeout = 2000 );
+	 * results = asyncMap( qUsers, ( row ) => enrich( row ), errorPolicy = "collect" );
+	 * </pre>
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.items The items to map: an array, a query (each row as a struct), or a Java stream or iterable.
+	 *
+	 * @argument.mapper The function to invoke for each item. It receives the item and its 1-based position in the input.
+	 *
+	 * @argument.maxConcurrency The max number of items mapped at the same time. Defaults to the number of processors.
+	 *
+	 * @argument.ordered Return the results in the input order (default) or in completion order.
+	 *
+	 * @argument.timeout The timeout of each item in milliseconds, after which it is cancelled and treated as a failure. 0 by default, which means no
+	 *                   timeout.
+	 *
+	 * @argument.errorPolicy What to do when an item fails: {@code failFast} (default) cancels everything and rethrows, {@code collect} keeps going,
+	 *                       and {@code skip} drops the failed items.
+	 *
+	 * @argument.executor The name of a registered executor, or an executor object. By default every item runs on a virtual thread.
+	 *
+	 * @return An array of results. With the {@code collect} policy, a struct with the {@code results} array, where failed items are null, and an
+	 *         {@code errors} array of structs with the {@code index}, {@code item} and {@code error} of each failure.
+	 */
+	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		Function						callback	= arguments.getAsFunction( Key.mapper );
+		ParallelMapper.ErrorPolicy		errorPolicy	= ParallelMapper.ErrorPolicy.fromString( arguments.getAsString( Key.errorPolicy ) );
+		ParallelMapper					mapper		= new ParallelMapper(
+		    getExecutor( arguments.get( Key.executor ) ),
+		    arguments.getAsInteger( Key.maxConcurrency ),
+		    arguments.getAsBoolean( Key.ordered ),
+		    arguments.getAsLong( Key.timeout ),
+		    errorPolicy
+		);
+		boolean							strict		= callback.requiresStrictArguments();
+
+		ParallelMapper.Result			result		= mapper.map(
+		    arguments.get( Key.items ),
+		    ( item, position ) -> context.invokeFunction( callback, strict ? new Object[] { item } : new Object[] { item, position } )
+		);
+
+		if ( errorPolicy == ParallelMapper.ErrorPolicy.COLLECT ) {
+			return Struct.of(
+			    Key.results, result.results(),
+			    Key.errors, result.errors()
+			);
+		}
+		return result.results();
+	}
+
+	/**
+	 * Resolve the executor argument
+	 *
+	 * @param executor The executor name, record or object, or null
+	 *
+	 * @return The executor or null to use virtual threads
+	 */
+	private Executor getExecutor( Object executor ) {
+		if ( executor == null ) {
+			return null;
+		}
+		if ( executor instanceof String executorName ) {
+			return asyncService.getExecutor( executorName ).executor();
+		}
+		if ( executor instanceof ExecutorRecord executorRecord ) {
+			return executorRecord.executor();
+		}
+		if ( executor instanceof Executor castedExecutor ) {
+			return castedExecutor;
+		}
+		throw new BoxRuntimeException( "Invalid executor type " + executor.getClass().getName() );
+	}
+
+}
@@ -24,6 +24,7 @@ import ortus.boxlang.runtime.bifs.BoxBIF;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.RequestBoxContext;
 import ortus.boxlang.runtime.context.ThreadBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Argument;
@@ -46,7 +47,8 @@ public class ThreadNew extends BIF {
 		    new Argument( true, Argument.FUNCTION, Key.runnable ),
 		    new Argument( false, Argument.STRUCT, Key.attributes, new Struct() ),
 		    new Argument( false, Argument.STRING, Key._NAME, "" ),
-		    new Argument( false, Argument.STRING, Key.priority, "normal", Set.of( Validator.valueOneOf( "high", "low", "normal" ) ) )
+		    new Argument( false, Argument.STRING, Key.priority, "normal", Set.of( Validator.valueOneOf( "high", "low", "normal" ) ) ),
+		    new Argument( false, Argument.BOOLEAN, Key.virtual )
 		};
 	}
 
@@ -62,7 +64,10 @@ public class ThreadNew extends BIF {
 	 *
 	 * @argument.threadName The name of the thread to track it, if not provided a default name will be generated.
 	 *
-	 * @argument.priority The priority of the thread. Possible values are "high", "low", and "normal". Default is "normal".
+	 * @argument.priority The priority of the thread. Possible values are "high", "low", and "normal". Default is "normal". Ignored by virtual threads.
+	 *
+	 * @argument.virtual Run the thread as a virtual thread, ideal for I/O bound work. If not passed, the <code>virtualThreads</code> application or runtime
+	 *                   setting is used.
 	 *
 	 * @return The newly created thread object if you want to monitor it.
 	 */
@@ -72,6 +77,7 @@ public class ThreadNew extends BIF {
 		String					name			= arguments.getAsString( Key._NAME );
 		String					priority		= arguments.getAsString( Key.priority );
 		IStruct					attributes		= arguments.getAsStruct( Key.attributes );
+		Boolean					virtual			= arguments.get( Key.virtual ) == null ? null : BooleanCaster.cast( arguments.get( Key.virtual ) );
 		RequestThreadManager	threadManager	= context.getParentOfType( RequestBoxContext.class ).getThreadManager();
 		final Key				nameKey			= RequestThreadManager.ensureThreadName( name );
 		ThreadBoxContext		tContext		= threadManager.createThreadContext( context, nameKey );
@@ -109,7 +115,9 @@ public class ThreadNew extends BIF {
 			    }
 		    },
 		    // The Struct of data to bind into the thread's scope
-		    attributes
+		    attributes,
+		    // Virtual or platform thread
+		    virtual
 		);
 	}
 
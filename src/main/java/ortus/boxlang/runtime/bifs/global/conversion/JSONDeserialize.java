@@ -25,7 +25,7 @@ import ortus.boxlang.runtime.scopes.ArgumentsScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Argument;
 import ortus.boxlang.runtime.types.BoxLangType;
-import ortus.boxlang.runtime.types.util.JSONUtil;
+import ortus.boxlang.runtime.util.conversion.BoxJsonReader;
 
 @BoxBIF
 @BoxMember( type = BoxLangType.STRING )
@@ -60,8 +60,7 @@ public class JSONDeserialize extends BIF {
 	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
 		String	json			= arguments.getAsString( Key.json );
 		Boolean	strictMapping	= arguments.getAsBoolean( Key.strictMapping );
-		Object	result			= JSONUtil.fromJSON( json );
-		return JSONUtil.mapToBLTypes( result, strictMapping );
+		return BoxJsonReader.parse( json, strictMapping );
 	}
 
 }
@@ -0,0 +1,68 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.conversion;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+import ortus.boxlang.runtime.util.FileSystemUtil;
+import ortus.boxlang.runtime.util.conversion.BoxJsonReader;
+
+@BoxBIF
+public class JSONRead extends BIF {
+
+	/**
+	 * Constructor
+	 */
+	public JSONRead() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( true, Argument.STRING, Key.path ),
+		    new Argument( false, Argument.BOOLEAN, Key.strictMapping, true )
+		};
+	}
+
+	/**
+	 * Reads a JSON file into data, such as a structure or array. The file is parsed as it is read, straight into
+	 * BoxLang types, so it is never loaded as one string.
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.path The path of the JSON file, either root relative or absolute.
+	 *
+	 * @argument.strictMapping A Boolean value that specifies whether to convert the JSON strictly. If true, everything becomes structures.
+	 *
+	 * @return The data representation of the JSON file.
+	 */
+	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		Path path = FileSystemUtil.expandPath( context, arguments.getAsString( Key.path ) ).absolutePath();
+		if ( !Files.isRegularFile( path ) ) {
+			throw new BoxRuntimeException( "The JSON file [" + path + "] does not exist." );
+		}
+		return BoxJsonReader.parse( path, arguments.getAsBoolean( Key.strictMapping ) );
+	}
+
+}
@@ -0,0 +1,80 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.conversion;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
+import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+import ortus.boxlang.runtime.types.Function;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+import ortus.boxlang.runtime.util.FileSystemUtil;
+import ortus.boxlang.runtime.util.conversion.BoxJsonReader;
+
+@BoxBIF
+public class JSONReadLines extends BIF {
+
+	/**
+	 * Constructor
+	 */
+	public JSONReadLines() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( true, Argument.STRING, Key.path ),
+		    new Argument( true, Argument.FUNCTION, Key.callback ),
+		    new Argument( false, Argument.BOOLEAN, Key.strictMapping, true )
+		};
+	}
+
+	/**
+	 * Reads a JSON Lines file, one JSON value per line, and hands each record to a callback as soon as it is parsed.
+	 * Only one record is held in memory at a time, so files of any size can be processed.
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.path The path of the JSON Lines file, either root relative or absolute.
+	 *
+	 * @argument.callback The function to call with each record and its 1-based number. Return false to stop reading, any other value keeps reading.
+	 *
+	 * @argument.strictMapping A Boolean value that specifies whether to convert the JSON strictly. If true, everything becomes structures.
+	 *
+	 * @return The number of records read.
+	 */
+	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		Path		path		= FileSystemUtil.expandPath( context, arguments.getAsString( Key.path ) ).absolutePath();
+		Function	callback	= arguments.getAsFunction( Key.callback );
+		if ( !Files.isRegularFile( path ) ) {
+			throw new BoxRuntimeException( "The JSON Lines file [" + path + "] does not exist." );
+		}
+
+		long[] recordNumber = { 0 };
+		return BoxJsonReader.parseLines( path, arguments.getAsBoolean( Key.strictMapping ), record -> {
+			CastAttempt<Boolean> keepReading = BooleanCaster.attempt( context.invokeFunction( callback, new Object[] { record, ++recordNumber[ 0 ] } ) );
+			return !keepReading.wasSuccessful() || keepReading.get();
+		} );
+	}
+
+}
@@ -18,7 +18,6 @@
 package ortus.boxlang.runtime.bifs.global.conversion;
 
 import java.io.IOException;
-import java.util.Map;
 
 import ortus.boxlang.runtime.bifs.BIF;
 import ortus.boxlang.runtime.bifs.BoxBIF;
@@ -28,13 +27,11 @@ import ortus.boxlang.runtime.scopes.ArgumentsScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Argument;
 import ortus.boxlang.runtime.types.BoxLangType;
-import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Query;
-import ortus.boxlang.runtime.types.QueryColumn;
-import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.util.JSONUtil;
 import ortus.boxlang.runtime.types.util.ListUtil;
+import ortus.boxlang.runtime.util.conversion.serializers.BoxQuerySerializer;
 
 @BoxBIF
 @BoxMember( type = BoxLangType.CUSTOM, customType = java.lang.Boolean.class, name = "toJSON" )
@@ -79,44 +76,11 @@ public class JSONSerialize extends BIF {
 	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
 		// TODO useSecureJSONPrefix - Don't assume this is a boolean, Lucee accepts a charset here which ColdBox passes
 
-		Object	obj			= arguments.get( Key.var );
-		String	queryFormat	= arguments.getAsString( Key.queryFormat ).toLowerCase();
+		Object obj = arguments.get( Key.var );
 
-		// Normalize Params
-		if ( queryFormat.equals( "yes" ) ) {
-			queryFormat = "true";
-		}
-		if ( queryFormat.equals( "no" ) ) {
-			queryFormat = "false";
-		}
-
-		// Query serialization is manual, due to the different formats in the arguments
+		// Queries are written row by row in the requested format, no intermediate structs are built
 		if ( obj instanceof Query qry ) {
-			// "row" is the same as "false". Top level struct with columns (array of strings), data (array of arrays)
-			if ( queryFormat.equals( "row" ) || queryFormat.equals( "false" ) ) {
-				obj = Struct.linkedOf(
-				    "columns", qry.getColumns().keySet().stream().map( c -> c.getName() ).toArray( String[]::new ),
-				    "data", qry.getData()
-				);
-				// "column" is the same as "true". Top level struct with rowcount, columns (array of strings), data (struct with column name as key and array of
-				// values as value)
-			} else if ( queryFormat.equals( "column" ) || queryFormat.equals( "true" ) ) {
-				var						data	= new Struct( IStruct.TYPES.LINKED );
-				Map<Key, QueryColumn>	cols	= qry.getColumns();
-				for ( var col : cols.keySet() ) {
-					data.put( col, cols.get( col ).getColumnData() );
-				}
-				obj = Struct.linkedOf(
-				    "rowCount", qry.size(),
-				    "columns", qry.getColumns().keySet().stream().map( c -> c.getName() ).toArray( String[]::new ),
-				    "data", data
-				);
-				// "struct" is what we get by default (array of structs)
-			} else if ( queryFormat.equals( "struct" ) ) {
-				obj = qry;
-			} else {
-				throw new BoxRuntimeException( "Invalid queryFormat: " + queryFormat );
-			}
+			obj = new BoxQuerySerializer.Formatted( qry, BoxQuerySerializer.Format.of( arguments.getAsString( Key.queryFormat ) ) );
 		}
 
 		// If we called "foo,bar".listToJSON(), then we need to convert the string to a list
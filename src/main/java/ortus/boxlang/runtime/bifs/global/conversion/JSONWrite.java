@@ -0,0 +1,136 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.conversion;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.exceptions.BoxIOException;
+import ortus.boxlang.runtime.types.util.JSONUtil;
+import ortus.boxlang.runtime.util.FileSystemUtil;
+import ortus.boxlang.runtime.util.conversion.serializers.BoxQuerySerializer;
+
+@BoxBIF
+public class JSONWrite extends BIF {
+
+	/**
+	 * Constructor
+	 */
+	public JSONWrite() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( true, Argument.ANY, Key.var ),
+		    new Argument( false, Argument.STRING, Key.path ),
+		    new Argument( false, Argument.STRING, Key.queryFormat, "row" ),
+		    new Argument( false, Argument.STRING, Key.charset, "utf-8" ),
+		    new Argument( false, Argument.BOOLEAN, Key.createPath, false )
+		};
+	}
+
+	/**
+	 * Serializes a BoxLang variable as JSON straight to a file, or to the output buffer when no path is given. The
+	 * JSON is written as it is generated, so it never exists as one string in memory, which makes it the way to go for
+	 * large queries, arrays and structs. The output is the same as {@code jsonSerialize()}.
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.var The variable to serialize.
+	 *
+	 * @argument.path The file to write to, replaced if it exists. If not passed, the JSON is written to the output buffer.
+	 *
+	 * @argument.queryFormat If the variable is a query, specifies whether to serialize the query by rows, by columns or as an array of structs.
+	 *
+	 * @argument.charset The charset of the file.
+	 *
+	 * @argument.createPath When true, the directories of the file are created if they do not exist.
+	 */
+	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		Object	obj		= arguments.get( Key.var );
+		String	path	= arguments.getAsString( Key.path );
+
+		if ( obj instanceof Query qry ) {
+			obj = new BoxQuerySerializer.Formatted( qry, BoxQuerySerializer.Format.of( arguments.getAsString( Key.queryFormat ) ) );
+		}
+
+		try {
+			if ( path == null || path.isBlank() ) {
+				JSONUtil.writeJSON( obj, new BufferWriter( context ) );
+				return null;
+			}
+
+			Path target = FileSystemUtil.expandPath( context, path ).absolutePath();
+			if ( arguments.getAsBoolean( Key.createPath ) && target.getParent() != null ) {
+				Files.createDirectories( target.getParent() );
+			}
+			try ( Writer writer = Files.newBufferedWriter( target, Charset.forName( arguments.getAsString( Key.charset ) ) ) ) {
+				JSONUtil.writeJSON( obj, writer );
+			}
+		} catch ( IOException e ) {
+			throw new BoxIOException( e );
+		}
+		return null;
+	}
+
+	/**
+	 * Appends what the JSON generator flushes to the output buffer of a context
+	 */
+	private static class BufferWriter extends Writer {
+
+		private final IBoxContext context;
+
+		BufferWriter( IBoxContext context ) {
+			this.context = context;
+		}
+
+		@Override
+		public void write( char[] cbuf, int off, int len ) {
+			if ( len > 0 ) {
+				this.context.writeToBuffer( new String( cbuf, off, len ) );
+			}
+		}
+
+		@Override
+		public void write( String str, int off, int len ) {
+			if ( len > 0 ) {
+				this.context.writeToBuffer( str.substring( off, off + len ) );
+			}
+		}
+
+		@Override
+		public void flush() {
+			// The buffer is flushed by the context
+		}
+
+		@Override
+		public void close() {
+			// Nothing to close
+		}
+	}
+
+}
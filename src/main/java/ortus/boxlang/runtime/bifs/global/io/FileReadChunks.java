@@ -0,0 +1,90 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.io;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
+import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+import ortus.boxlang.runtime.types.Function;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+import ortus.boxlang.runtime.util.FileSystemUtil;
+
+@BoxBIF
+public class FileReadChunks extends BIF {
+
+	/**
+	 * Constructor
+	 */
+	public FileReadChunks() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( true, Argument.STRING, Key.filepath ),
+		    new Argument( false, Argument.INTEGER, Key.chunkSize, FileSystemUtil.DEFAULT_CHUNK_SIZE ),
+		    new Argument( true, Argument.FUNCTION, Key.callback ),
+		    new Argument( false, Argument.STRING, Key.charset )
+		};
+	}
+
+	/**
+	 * Reads a file in chunks and hands each chunk to a callback as soon as it is read. Only one chunk is held in memory
+	 * at a time, so files of any size can be processed. Large files are memory mapped.
+	 * <p>
+	 * Text files are read as strings, binary files as byte arrays, just like {@code fileRead()}.
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.filepath The path to the file to read.
+	 *
+	 * @argument.chunkSize The size of each chunk, in bytes. Defaults to 1MB.
+	 *
+	 * @argument.callback The function to call with each chunk and its 1-based number. Return false to stop reading, any other value keeps reading.
+	 *
+	 * @argument.charset The charset to decode text files with. Defaults to UTF-8. A character split between two chunks is returned with the later chunk.
+	 *
+	 * @return The number of chunks read.
+	 */
+	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		String		filePath	= FileSystemUtil.expandPath( context, arguments.getAsString( Key.filepath ) ).absolutePath().toString();
+		Path		path		= Path.of( filePath );
+		Function	callback	= arguments.getAsFunction( Key.callback );
+		String		charset		= arguments.getAsString( Key.charset );
+		if ( !Files.isRegularFile( path ) ) {
+			throw new BoxRuntimeException( "The file [" + filePath + "] does not exist." );
+		}
+
+		Charset	decoding		= FileSystemUtil.isBinaryFile( filePath )
+		    ? null
+		    : charset == null ? FileSystemUtil.DEFAULT_CHARSET : Charset.forName( charset );
+		long[]	chunkNumber		= { 0 };
+		return FileSystemUtil.readChunks( path, arguments.getAsInteger( Key.chunkSize ), decoding, chunk -> {
+			CastAttempt<Boolean> keepReading = BooleanCaster.attempt( context.invokeFunction( callback, new Object[] { chunk, ++chunkNumber[ 0 ] } ) );
+			return !keepReading.wasSuccessful() || keepReading.get();
+		} );
+	}
+
+}
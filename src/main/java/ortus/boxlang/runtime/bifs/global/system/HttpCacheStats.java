@@ -0,0 +1,69 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.system;
+
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.net.HttpManager;
+import ortus.boxlang.runtime.net.HttpResponseCache;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+@BoxBIF
+public class HttpCacheStats extends BIF {
+
+	/**
+	 * Constructor
+	 */
+	public HttpCacheStats() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( false, Argument.STRING, Key.cacheName )
+		};
+	}
+
+	/**
+	 * Get the metrics of the HTTP response caches used by the {@code http} component: fresh hits, misses,
+	 * revalidations and the ones answered with a {@code 304 Not Modified}, stored responses, requests that bypassed
+	 * the cache and the hit ratio.
+	 * If a cache name is passed, only the metrics of that cache are returned, or an empty struct if it never cached a
+	 * response.
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.cacheName The name of the cache. If not passed, the metrics of all the response caches are returned by cache name.
+	 *
+	 * @return The HTTP response cache metrics
+	 */
+	public IStruct _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		String cacheName = arguments.getAsString( Key.cacheName );
+
+		if ( cacheName == null ) {
+			return HttpManager.getResponseCacheMetrics();
+		}
+
+		HttpResponseCache responseCache = HttpManager.getResponseCacheIfPresent( cacheName );
+		return responseCache == null ? new Struct() : responseCache.toStruct();
+	}
+
+}
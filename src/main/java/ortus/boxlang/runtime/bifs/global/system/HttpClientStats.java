@@ -0,0 +1,67 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.system;
+
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.net.HttpClientMetrics;
+import ortus.boxlang.runtime.net.HttpManager;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+@BoxBIF
+public class HttpClientStats extends BIF {
+
+	/**
+	 * Constructor
+	 */
+	public HttpClientStats() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( false, Argument.STRING, Key._NAME )
+		};
+	}
+
+	/**
+	 * Get the metrics of the HTTP client profiles used by the {@code http} component: in-flight requests, requests,
+	 * failures and timeouts, bytes sent and received, and the latency histogram in milliseconds.
+	 * If a name is passed, only the metrics of that profile are returned, or an empty struct if it never sent a request.
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.name The name of the HTTP client profile. If not passed, the metrics of all the profiles are returned by name.
+	 *
+	 * @return The HTTP client metrics
+	 */
+	public IStruct _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		String name = arguments.getAsString( Key._NAME );
+
+		if ( name == null ) {
+			return HttpManager.getMetrics();
+		}
+
+		HttpClientMetrics metrics = HttpManager.getMetrics( name );
+		return metrics == null ? new Struct() : metrics.toStruct();
+	}
+
+}
@@ -0,0 +1,305 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.system;
+
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.StructCaster;
+import ortus.boxlang.runtime.net.HttpCall;
+import ortus.boxlang.runtime.net.HttpManager;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Argument;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+import ortus.boxlang.runtime.types.exceptions.BoxValidationException;
+
+@BoxBIF
+@BoxBIF( alias = "httpAll" )
+public class HttpMulti extends BIF {
+
+	/**
+	 * The default max number of requests in flight at the same time
+	 */
+	public static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+	/**
+	 * Constructor
+	 */
+	public HttpMulti() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( true, Argument.ARRAY, Key.requests ),
+		    new Argument( false, Argument.LONG, Key.timeout, 0L ),
+		    new Argument( false, Argument.INTEGER, Key.maxConcurrency, DEFAULT_MAX_CONCURRENCY ),
+		    new Argument( false, Argument.BOOLEAN, Key.failFast, false )
+		};
+	}
+
+	/**
+	 * Sends several HTTP requests concurrently and returns their results in the input order. Requests are dispatched
+	 * with the non-blocking HTTP client, no thread is used per request, and at most {@code maxConcurrency} are in flight
+	 * at the same time.
+	 *
+	 * <pre>
+	 * results = httpMulti( [
+	 *     { url : "https://api.example.com/users" },
+	 *     { url : "https://api.example.com/orders", method : "POST", body : serializeJSON( filter ), headers : { "Content-Type" : "application/json" } }
+	 * ], timeout = 2000 );
+	 * </pre>
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.requests An array of request specs. Each spec is a struct of {@code http} attributes (url, method, timeout, httpClient,
+	 *                    getAsBinary, charset, redirect, path and file...) plus optional {@code params}, an array of {@code httpparam}
+	 *                    structs, {@code headers}, a struct of header values, and {@code body}.
+	 *
+	 * @argument.timeout The global deadline in milliseconds. Requests still running when it elapses are cancelled and get a 408 result. 0 by
+	 *                   default, which means no deadline.
+	 *
+	 * @argument.maxConcurrency The max number of requests in flight at the same time. Defaults to 10.
+	 *
+	 * @argument.failFast If true, the first failure, an exception or a status of 400 or above, cancels the remaining requests and throws.
+	 *
+	 * @return An array of result structs in the input order, each with the same shape as the {@code http} component's result.
+	 */
+	public Array _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		Array	specs			= arguments.getAsArray( Key.requests );
+		long	timeout			= arguments.getAsLong( Key.timeout );
+		int		maxConcurrency	= arguments.getAsInteger( Key.maxConcurrency );
+		boolean	failFast		= arguments.getAsBoolean( Key.failFast );
+
+		if ( maxConcurrency < 1 ) {
+			throw new BoxRuntimeException( "The maxConcurrency must be greater than 0" );
+		}
+
+		// Prepare everything up front so invalid specs fail before anything is sent
+		List<HttpCall> calls = new ArrayList<>( specs.size() );
+		for ( int i = 0; i < specs.size(); i++ ) {
+			calls.add( prepare( context, specs.get( i ), i ) );
+		}
+
+		Dispatch dispatch = new Dispatch( calls, maxConcurrency, failFast );
+		dispatch.start();
+		try {
+			if ( timeout > 0 ) {
+				dispatch.done.get( timeout, TimeUnit.MILLISECONDS );
+			} else {
+				dispatch.done.get();
+			}
+		} catch ( TimeoutException e ) {
+			dispatch.cancelAll();
+		} catch ( InterruptedException e ) {
+			dispatch.cancelAll();
+			Thread.currentThread().interrupt();
+			throw new BoxRuntimeException( "httpMulti was interrupted", e );
+		} catch ( ExecutionException e ) {
+			dispatch.cancelAll();
+			throw new BoxRuntimeException( e.getCause().getMessage(), e.getCause() );
+		}
+
+		int failedIndex = dispatch.failedIndex.get();
+		if ( failedIndex >= 0 ) {
+			dispatch.cancelAll();
+			Object outcome = dispatch.outcomes.get( failedIndex );
+			if ( outcome instanceof Throwable error ) {
+				throw new BoxRuntimeException(
+				    "httpMulti request [" + ( failedIndex + 1 ) + "] failed: " + error.getMessage(), error );
+			}
+			throw new BoxRuntimeException(
+			    "httpMulti request [" + ( failedIndex + 1 ) + "] failed with status code " + ( ( HttpResponse<?> ) outcome ).statusCode() );
+		}
+
+		Array results = new Array();
+		for ( int i = 0; i < calls.size(); i++ ) {
+			results.add( toResult( calls.get( i ), dispatch.outcomes.get( i ), timeout ) );
+		}
+		return results;
+	}
+
+	/**
+	 * Turns a request spec into a prepared call
+	 *
+	 * @param context The context
+	 * @param spec    The request spec
+	 * @param index   The 0-based index of the spec
+	 *
+	 * @return The prepared call
+	 */
+	private HttpCall prepare( IBoxContext context, Object spec, int index ) {
+		// Copy the spec, it's used as the attributes of the call
+		IStruct attributes = new Struct( StructCaster.cast( spec ) );
+
+		String url = attributes.getAsString( Key.URL );
+		if ( url == null || !url.startsWith( "http" ) ) {
+			throw new BoxValidationException( "httpMulti request [" + ( index + 1 ) + "] must have a url starting with 'http://' or 'https://'" );
+		}
+		if ( attributes.get( Key.onChunk ) != null ) {
+			throw new BoxValidationException( "httpMulti request [" + ( index + 1 ) + "] cannot stream to an onChunk callback" );
+		}
+
+		Array params = new Array();
+		if ( attributes.get( Key.params ) instanceof Array specParams ) {
+			params.addAll( specParams );
+		}
+		if ( attributes.get( Key.headers ) instanceof IStruct headers ) {
+			headers.forEach( ( name, value ) -> params.add( Struct.of( Key.type, "header", Key._NAME, name.getName(), Key.value, value ) ) );
+		}
+		if ( attributes.get( Key.body ) != null ) {
+			params.add( Struct.of( Key.type, "body", Key.value, attributes.get( Key.body ) ) );
+		}
+		return HttpCall.prepare( context, attributes, params );
+	}
+
+	/**
+	 * Builds the result struct of a request from its outcome
+	 *
+	 * @param call    The call
+	 * @param outcome The response, the failure, or null if the request never completed
+	 * @param timeout The global deadline in milliseconds
+	 *
+	 * @return The result struct
+	 */
+	private IStruct toResult( HttpCall call, Object outcome, long timeout ) {
+		if ( outcome instanceof HttpResponse<?> response ) {
+			return call.toResult( response );
+		}
+		// Unfinished and cancelled requests were cut by the global deadline
+		Throwable	error	= outcome == null || outcome instanceof CancellationException
+		    ? new HttpTimeoutException( HttpManager.getTimeoutMessage( Duration.ofMillis( timeout ) ) )
+		    : ( Throwable ) outcome;
+		IStruct		result	= call.toErrorResult( error );
+		if ( result != null ) {
+			return result;
+		}
+		return Struct.of(
+		    Key.responseHeader, new Struct(),
+		    Key.header, "",
+		    Key.statusCode, 0,
+		    Key.status_code, 0,
+		    Key.statusText, "Request Failed",
+		    Key.status_text, "Request Failed",
+		    Key.fileContent, "Request Failed",
+		    Key.errorDetail, String.valueOf( error.getMessage() )
+		);
+	}
+
+	/**
+	 * Dispatches the calls with bounded concurrency. Every completion, which runs on the HTTP client's threads, sends the
+	 * next pending call, so the invoking thread only waits for {@link #done}.
+	 */
+	private static final class Dispatch {
+
+		private final List<HttpCall>								calls;
+		private final int											maxConcurrency;
+		private final boolean										failFast;
+		private final AtomicReferenceArray<CompletableFuture<?>>	inflight;
+		private final AtomicReferenceArray<Object>					outcomes;
+		private final AtomicInteger									next		= new AtomicInteger();
+		private final AtomicInteger									remaining;
+		private final AtomicInteger									failedIndex	= new AtomicInteger( -1 );
+		private final CompletableFuture<Void>						done		= new CompletableFuture<>();
+		private volatile boolean									stopped		= false;
+
+		private Dispatch( List<HttpCall> calls, int maxConcurrency, boolean failFast ) {
+			this.calls			= calls;
+			this.maxConcurrency	= maxConcurrency;
+			this.failFast		= failFast;
+			this.inflight		= new AtomicReferenceArray<>( calls.size() );
+			this.outcomes		= new AtomicReferenceArray<>( calls.size() );
+			this.remaining		= new AtomicInteger( calls.size() );
+		}
+
+		private void start() {
+			if ( this.calls.isEmpty() ) {
+				this.done.complete( null );
+				return;
+			}
+			for ( int i = 0; i < Math.min( this.maxConcurrency, this.calls.size() ); i++ ) {
+				sendNext();
+			}
+		}
+
+		private void sendNext() {
+			if ( this.stopped ) {
+				return;
+			}
+			int index = this.next.getAndIncrement();
+			if ( index >= this.calls.size() ) {
+				return;
+			}
+			try {
+				CompletableFuture<? extends HttpResponse<?>> future = this.calls.get( index ).sendAsync();
+				this.inflight.set( index, future );
+				future.whenComplete( ( response, error ) -> complete( index, response, error ) );
+			} catch ( RuntimeException e ) {
+				complete( index, null, e );
+			}
+		}
+
+		private void complete( int index, HttpResponse<?> response, Throwable error ) {
+			this.outcomes.set( index, error != null ? unwrap( error ) : response );
+			if ( this.failFast && ( error != null || response.statusCode() >= 400 ) && this.failedIndex.compareAndSet( -1, index ) ) {
+				this.stopped = true;
+				this.done.complete( null );
+				return;
+			}
+			if ( this.remaining.decrementAndGet() == 0 ) {
+				this.done.complete( null );
+				return;
+			}
+			sendNext();
+		}
+
+		private void cancelAll() {
+			this.stopped = true;
+			for ( int i = 0; i < this.inflight.length(); i++ ) {
+				CompletableFuture<?> future = this.inflight.get( i );
+				if ( future != null ) {
+					future.cancel( true );
+				}
+			}
+		}
+
+		private static Throwable unwrap( Throwable error ) {
+			while ( ( error instanceof ExecutionException || error instanceof CompletionException ) && error.getCause() != null ) {
+				error = error.getCause();
+			}
+			return error;
+		}
+	}
+
+}
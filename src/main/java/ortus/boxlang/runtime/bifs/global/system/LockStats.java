@@ -0,0 +1,71 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.system;
+
+import ortus.boxlang.runtime.bifs.BIF;
+import ortus.boxlang.runtime.bifs.BoxBIF;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.scopes.ArgumentsScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.services.LockService;
+import ortus.boxlang.runtime.types.Argument;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+@BoxBIF
+public class LockStats extends BIF {
+
+	/**
+	 * The service that holds the named locks
+	 */
+	private final LockService lockService = runtime.getLockService();
+
+	/**
+	 * Constructor
+	 */
+	public LockStats() {
+		super();
+		declaredArguments = new Argument[] {
+		    new Argument( false, Argument.STRING, Key._NAME )
+		};
+	}
+
+	/**
+	 * Get the contention stats of the named locks used by the {@code lock} component: acquisitions, contended acquisitions,
+	 * timeouts, current readers and waiters, and the wait and hold time histograms in milliseconds.
+	 * If a name is passed, only the stats of that lock are returned, or an empty struct if the lock does not exist.
+	 *
+	 * @param context   The context in which the BIF is being invoked.
+	 * @param arguments Argument scope for the BIF.
+	 *
+	 * @argument.name The name of the lock to get the stats for. If not passed, the stats of all the locks are returned by name.
+	 *
+	 * @return The lock stats
+	 */
+	public IStruct _invoke( IBoxContext context, ArgumentsScope arguments ) {
+		String name = arguments.getAsString( Key._NAME );
+
+		if ( name == null ) {
+			return this.lockService.getStats();
+		}
+
+		IStruct stats = this.lockService.getStats( Key.of( name ) );
+		return stats == null ? new Struct() : stats;
+	}
+
+}
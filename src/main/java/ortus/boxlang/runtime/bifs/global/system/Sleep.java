@@ -20,6 +20,7 @@ package ortus.boxlang.runtime.bifs.global.system;
 import ortus.boxlang.runtime.bifs.BIF;
 import ortus.boxlang.runtime.bifs.BoxBIF;
 import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.RequestBoxContext;
 import ortus.boxlang.runtime.scopes.ArgumentsScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Argument;
@@ -40,7 +41,8 @@ public class Sleep extends BIF {
 	}
 
 	/**
-	 * Sleeps the current thread for the specified duration in millisecons
+	 * Sleeps the current thread for the specified duration in millisecons.
+	 * If the request would time out before the duration elapses, it times out instead.
 	 *
 	 * @param context   The context in which the BIF is being invoked.
 	 * @param arguments Argument scope for the BIF.
@@ -48,9 +50,17 @@ public class Sleep extends BIF {
 	 * @argument.duration The amount of time, in milliseconds to sleep the thread
 	 */
 	public Object _invoke( IBoxContext context, ArgumentsScope arguments ) {
-		Long duration = arguments.getAsLong( Key.duration );
+		Long				duration		= arguments.getAsLong( Key.duration );
+		// Don't sleep past the timeout of the request running in this thread
+		RequestBoxContext	requestContext	= RequestBoxContext.getCurrent();
+		Long				remaining		= requestContext == null ? null : requestContext.getRequestTimeRemaining();
 		try {
-			Thread.sleep( duration );
+			if ( remaining != null && remaining < duration ) {
+				Thread.sleep( remaining );
+				requestContext.enforceRequestTimeout();
+			} else {
+				Thread.sleep( duration );
+			}
 		} catch ( InterruptedException e ) {
 			throw new BoxRuntimeException(
 			    "An unexpected error occurred while attempting to sleep the thread",
@@ -61,6 +61,7 @@ public class BoxCacheEntry implements ICacheEntry {
 	private Key						key;
 	private Object					value;
 	private IStruct					metadata			= new Struct();
+	private long					weight				= 0;
 	// Calculated hashcode
 	private int						hashCode;
 
@@ -98,6 +99,38 @@ public class BoxCacheEntry implements ICacheEntry {
 		this.hashCode	= prime * this.hashCode + Long.hashCode( lastAccessTimeout );
 	}
 
+	/**
+	 * Constructor that restores a stored entry with its statistics
+	 *
+	 * @param cacheName         The name of the cache associated with this entry
+	 * @param timeout           The timeout in seconds
+	 * @param lastAccessTimeout The last access timeout in seconds
+	 * @param key               The key
+	 * @param value             The value
+	 * @param metadata          The metadata
+	 * @param hits              The number of hits
+	 * @param created           When the entry was created
+	 * @param lastAccessed      When the entry was last accessed
+	 * @param weight            The weight of the entry
+	 */
+	public BoxCacheEntry(
+	    Key cacheName,
+	    long timeout,
+	    long lastAccessTimeout,
+	    Key key,
+	    Object value,
+	    IStruct metadata,
+	    long hits,
+	    Instant created,
+	    Instant lastAccessed,
+	    long weight ) {
+		this( cacheName, timeout, lastAccessTimeout, key, value, metadata );
+		this.hits.set( hits );
+		this.created		= created;
+		this.lastAccessed	= lastAccessed;
+		this.weight			= weight;
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Helper Methods
@@ -148,6 +181,14 @@ public class BoxCacheEntry implements ICacheEntry {
 		return this;
 	}
 
+	/**
+	 * Set the estimated weight of the cache entry in bytes
+	 */
+	public ICacheEntry setWeight( long weight ) {
+		this.weight = weight;
+		return this;
+	}
+
 	/**
 	 * Reset the last accessed date
 	 */
@@ -234,6 +275,11 @@ public class BoxCacheEntry implements ICacheEntry {
 		return this.metadata;
 	}
 
+	@Override
+	public long weight() {
+		return this.weight;
+	}
+
 	@Override
 	public IStruct toStruct() {
 		return Struct.of(
@@ -245,7 +291,8 @@ public class BoxCacheEntry implements ICacheEntry {
 		    "lastAccessed", this.lastAccessed,
 		    "key", this.key,
 		    "metadata", this.metadata,
-		    "isEternal", this.isEternal()
+		    "isEternal", this.isEternal(),
+		    "weight", this.weight
 		);
 	}
 
@@ -111,6 +111,20 @@ public interface ICacheEntry extends Serializable {
 	 */
 	public IStruct metadata();
 
+	/**
+	 * The estimated weight of this entry in bytes, if the cache weighs its entries
+	 *
+	 * @return The weight in bytes or 0 if not weighed
+	 */
+	public long weight();
+
+	/**
+	 * Set the estimated weight of this entry in bytes
+	 *
+	 * @param weight The weight in bytes
+	 */
+	public ICacheEntry setWeight( long weight );
+
 	/**
 	 * Set the value of the cache entry
 	 */
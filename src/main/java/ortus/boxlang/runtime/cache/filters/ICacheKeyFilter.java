@@ -35,4 +35,15 @@ import ortus.boxlang.runtime.scopes.Key;
 public interface ICacheKeyFilter extends Predicate<Key> {
 	// No methods to implement since it's a functional interface and only has one method
 	// test(T t);
+
+	/**
+	 * The literal prefix that every key matched by this filter starts with, if known.
+	 * Object stores that keep a prefix index can use it to only look at the candidate keys
+	 * instead of scanning every key. The filter is still applied to the candidates.
+	 *
+	 * @return The literal prefix or null if the filter has no known literal prefix
+	 */
+	default String getPrefix() {
+		return null;
+	}
 }
@@ -31,7 +31,22 @@ public class RegexFilter implements ICacheKeyFilter {
 	/**
 	 * The pattern to use
 	 */
-	protected final Pattern regexPattern;
+	protected final Pattern		regexPattern;
+
+	/**
+	 * The regex meta characters that end the literal prefix
+	 */
+	private static final String	META_CHARACTERS	= "\\^$.|?*+()[]{}";
+
+	/**
+	 * The regex quantifiers that make the previous character optional or repeated
+	 */
+	private static final String	QUANTIFIERS		= "?*{";
+
+	/**
+	 * The literal prefix of the regex or null if none
+	 */
+	protected final String		prefix;
 
 	/**
 	 * Create a new regex filter with a case-insensitive regex
@@ -49,6 +64,7 @@ public class RegexFilter implements ICacheKeyFilter {
 	 * @param ignoreCase Whether the regex should be case-insensitive. Default is case-insensitive.
 	 */
 	public RegexFilter( String regex, boolean ignoreCase ) {
+		this.prefix = extractPrefix( regex );
 		try {
 			regexPattern = Pattern.compile( regex, ignoreCase ? Pattern.CASE_INSENSITIVE : 0 );
 		} catch ( PatternSyntaxException e ) {
@@ -63,4 +79,40 @@ public class RegexFilter implements ICacheKeyFilter {
 	public boolean test( Key input ) {
 		return regexPattern.matcher( input.getName() ).matches();
 	}
+
+	/**
+	 * The literal characters the regex must start with
+	 *
+	 * @return The literal prefix or null if the regex has none
+	 */
+	@Override
+	public String getPrefix() {
+		return this.prefix;
+	}
+
+	/**
+	 * Extract the literal prefix of a regex. Alternations make every prefix optional, so they have none.
+	 *
+	 * @param regex The regex
+	 *
+	 * @return The literal prefix or null if there is none
+	 */
+	private static String extractPrefix( String regex ) {
+		if ( regex.indexOf( '|' ) != -1 ) {
+			return null;
+		}
+
+		int	start	= regex.startsWith( "^" ) ? 1 : 0;
+		int	end		= start;
+		while ( end < regex.length() && META_CHARACTERS.indexOf( regex.charAt( end ) ) == -1 ) {
+			end++;
+		}
+
+		// A quantifier after the literal makes its last character optional
+		if ( end < regex.length() && QUANTIFIERS.indexOf( regex.charAt( end ) ) != -1 ) {
+			end--;
+		}
+
+		return end <= start ? null : regex.substring( start, end );
+	}
 }
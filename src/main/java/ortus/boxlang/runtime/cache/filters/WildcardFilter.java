@@ -40,6 +40,16 @@ public class WildcardFilter implements ICacheKeyFilter {
 	 */
 	private static final String	SPECIALS	= "{}[]().+\\^$";
 
+	/**
+	 * The wildcard characters that end the literal prefix
+	 */
+	private static final String	WILDCARDS	= "*?[";
+
+	/**
+	 * The literal prefix of the wildcard or null if none
+	 */
+	protected final String		prefix;
+
 	/**
 	 * Create a new widlcard filter with a case-insensitive widlcard
 	 *
@@ -56,6 +66,7 @@ public class WildcardFilter implements ICacheKeyFilter {
 	 * @param ignoreCase Whether the wildcard should be case-sensitive
 	 */
 	public WildcardFilter( String wildcard, boolean ignoreCase ) {
+		this.prefix = extractPrefix( wildcard );
 		// Escape the special characters
 		String regex = wildcard;
 		for ( char c : SPECIALS.toCharArray() ) {
@@ -85,4 +96,29 @@ public class WildcardFilter implements ICacheKeyFilter {
 	public boolean test( Key input ) {
 		return regexPattern.matcher( input.toString() ).matches();
 	}
+
+	/**
+	 * The literal characters before the first wildcard character
+	 *
+	 * @return The literal prefix or null if the wildcard starts with a wildcard character
+	 */
+	@Override
+	public String getPrefix() {
+		return this.prefix;
+	}
+
+	/**
+	 * Extract the literal prefix of a wildcard
+	 *
+	 * @param wildcard The wildcard
+	 *
+	 * @return The literal prefix or null if there is none
+	 */
+	private static String extractPrefix( String wildcard ) {
+		int end = 0;
+		while ( end < wildcard.length() && WILDCARDS.indexOf( wildcard.charAt( end ) ) == -1 ) {
+			end++;
+		}
+		return end == 0 ? null : wildcard.substring( 0, end );
+	}
 }
@@ -26,7 +26,9 @@ import ortus.boxlang.runtime.async.executors.ExecutorRecord;
 import ortus.boxlang.runtime.cache.store.IObjectStore;
 import ortus.boxlang.runtime.cache.store.ObjectStoreType;
 import ortus.boxlang.runtime.cache.util.BoxCacheStats;
+import ortus.boxlang.runtime.cache.util.BoxCacheWeigher;
 import ortus.boxlang.runtime.cache.util.ICacheStats;
+import ortus.boxlang.runtime.cache.util.ICacheWeigher;
 import ortus.boxlang.runtime.config.segments.CacheConfig;
 import ortus.boxlang.runtime.dynamic.Attempt;
 import ortus.boxlang.runtime.dynamic.casters.LongCaster;
@@ -337,6 +339,31 @@ public abstract class AbstractCacheProvider implements ICacheProvider {
 		}
 	}
 
+	/**
+	 * Build out the weigher according to the configuration.
+	 * It can be an {@link ICacheWeigher} instance, the core {@code BoxCacheWeigher} alias or a custom class path.
+	 *
+	 * @param config The configuration
+	 *
+	 * @return The weigher
+	 */
+	protected static ICacheWeigher buildWeigher( CacheConfig config ) {
+		Object thisWeigher = config.properties.get( Key.weigher );
+
+		// Is this a weigher object already?
+		if ( thisWeigher instanceof ICacheWeigher castedWeigher ) {
+			return castedWeigher;
+		}
+
+		// Default or core alias
+		if ( thisWeigher == null || thisWeigher.toString().isBlank() || thisWeigher.toString().equalsIgnoreCase( "BoxCacheWeigher" ) ) {
+			return new BoxCacheWeigher();
+		}
+
+		// Custom class path
+		return buildInstanceByClass( thisWeigher.toString(), ICacheWeigher.class, "cache weigher" );
+	}
+
 	/**
 	 * Build the object store by class path
 	 *
@@ -348,23 +375,40 @@ public abstract class AbstractCacheProvider implements ICacheProvider {
 	 * @throws BoxRuntimeException If the object store does not implement IObjectStore
 	 * @throws BoxRuntimeException If the object store cannot be instantiated
 	 */
-	protected static IObjectStore buildObjectStoreByClass( String storeClasspath ) {
+	public static IObjectStore buildObjectStoreByClass( String storeClasspath ) {
+		return buildInstanceByClass( storeClasspath, IObjectStore.class, "object store" );
+	}
+
+	/**
+	 * Build an instance of a cache collaborator (object store, weigher, etc) by class path
+	 *
+	 * @param classpath   The class path of the implementation
+	 * @param type        The interface the implementation must implement
+	 * @param description A description of the collaborator for error messages
+	 *
+	 * @return The new instance
+	 *
+	 * @throws BoxRuntimeException If the class cannot be loaded
+	 * @throws BoxRuntimeException If the class does not implement the interface
+	 * @throws BoxRuntimeException If the class cannot be instantiated
+	 */
+	protected static <T> T buildInstanceByClass( String classpath, Class<T> type, String description ) {
 		try {
 			// Load the class: TODO Change to JavaResolver later
-			Class<?> clazz = Class.forName( storeClasspath );
-			if ( IObjectStore.class.isAssignableFrom( clazz ) ) {
+			Class<?> clazz = Class.forName( classpath );
+			if ( type.isAssignableFrom( clazz ) ) {
 				// Create an instance of the class
 				try {
-					return ( IObjectStore ) clazz.getDeclaredConstructor().newInstance();
+					return type.cast( clazz.getDeclaredConstructor().newInstance() );
 				} catch ( IllegalArgumentException | InvocationTargetException | NoSuchMethodException | SecurityException e ) {
-					throw new BoxRuntimeException( "Cannot call the constructor on the object store: " + storeClasspath, e );
+					throw new BoxRuntimeException( "Cannot call the constructor on the " + description + ": " + classpath, e );
 				}
 			} else {
-				throw new BoxRuntimeException( "The object does not implement IObjectStore: " + storeClasspath );
+				throw new BoxRuntimeException( "The object does not implement " + type.getSimpleName() + ": " + classpath );
 			}
 		} catch ( ClassNotFoundException | InstantiationException | IllegalAccessException e ) {
 			// Log the error
-			throw new BoxRuntimeException( "Unable to load the custom object store: " + storeClasspath, e );
+			throw new BoxRuntimeException( "Unable to load the custom " + description + ": " + classpath, e );
 		}
 	}
 
@@ -20,8 +20,13 @@ package ortus.boxlang.runtime.cache.providers;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -32,15 +37,21 @@ import ortus.boxlang.runtime.cache.BoxCacheEntry;
 import ortus.boxlang.runtime.cache.ICacheEntry;
 import ortus.boxlang.runtime.cache.filters.ICacheKeyFilter;
 import ortus.boxlang.runtime.cache.store.IObjectStore;
+import ortus.boxlang.runtime.cache.util.CacheStatsMXBean;
+import ortus.boxlang.runtime.cache.util.ICacheWeigher;
 import ortus.boxlang.runtime.config.segments.CacheConfig;
 import ortus.boxlang.runtime.dynamic.Attempt;
+import ortus.boxlang.runtime.dynamic.casters.DoubleCaster;
+import ortus.boxlang.runtime.dynamic.casters.LongCaster;
 import ortus.boxlang.runtime.events.BoxEvent;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.services.CacheService;
 import ortus.boxlang.runtime.types.Array;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.util.BLCollector;
+import ortus.boxlang.runtime.util.JMXUtil;
 
 /**
  * The BoxCacheProvider class is a cache provider for BoxLang that
@@ -92,6 +103,40 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 */
 	private int					maxObjects;
 
+	/**
+	 * Max estimated weight in bytes of all entries. 0 = disabled
+	 */
+	private long				maxWeightBytes;
+
+	/**
+	 * The weigher used to estimate entry weights when {@code maxWeightBytes} is enabled
+	 */
+	private ICacheWeigher		weigher;
+
+	/**
+	 * The running estimated weight of all the entries in the store
+	 */
+	private final AtomicLong	totalWeight	= new AtomicLong( 0 );
+
+	/**
+	 * The fraction of an entry's timeout after which a {@code getOrSet()} hit
+	 * triggers an async refresh of the value. 0 = disabled
+	 */
+	private double				refreshAheadFactor;
+
+	/**
+	 * The in-flight {@code getOrSet()} computations by key.
+	 * Concurrent misses on the same key wait on the same future instead of
+	 * calling the provider again (single-flight).
+	 */
+	private final ConcurrentHashMap<Key, InFlight> inFlight = new ConcurrentHashMap<>();
+
+	/**
+	 * The estimated weight of each entry by key, {@code totalWeight} is their sum.
+	 * A key's store write and weight update happen together under the key's lock, so concurrent writes never count twice.
+	 */
+	private final ConcurrentHashMap<Key, Long> weights = new ConcurrentHashMap<>();
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Constructor
@@ -135,6 +180,14 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 		// Store default timeouts
 		this.defaultTimeout				= Duration.ofSeconds( config.properties.getAsInteger( Key.defaultTimeout ).longValue() );
 		this.defaultLastAccessTimeout	= Duration.ofSeconds( config.properties.getAsInteger( Key.defaultLastAccessTimeout ).longValue() );
+		// Weight based eviction
+		this.maxWeightBytes				= LongCaster.cast( config.properties.getOrDefault( Key.maxWeightBytes, 0 ) );
+		this.weigher					= buildWeigher( config );
+		if ( isWeighing() ) {
+			weighStore();
+		}
+		// Refresh ahead
+		this.refreshAheadFactor			= DoubleCaster.cast( config.properties.getOrDefault( Key.refreshAheadFactor, 0 ) );
 		Long frequency = config.properties.getAsInteger( Key.reapFrequency ).longValue();
 
 		// Create the reaping scheduled task using the CacheService executor
@@ -150,6 +203,9 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 		    // Fire away!
 		    .start();
 
+		// Expose the stats via JMX
+		JMXUtil.register( CacheStatsMXBean.objectName( this ), new CacheStatsMXBean( this ) );
+
 		// We are ready to roll
 		this.enabled.set( true );
 
@@ -173,6 +229,7 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 * Shutdown the cache provider
 	 */
 	public void shutdown() {
+		JMXUtil.unregister( CacheStatsMXBean.objectName( this ) );
 		this.objectStore.shutdown();
 		logger.debug( "BoxCache [{}] has been shutdown", getName().getName() );
 	}
@@ -237,7 +294,8 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 		    "lastAccessed", "lastAccessed",
 		    "metadata", "metadata",
 		    "key", "key",
-		    "isEternal", "isEternal"
+		    "isEternal", "isEternal",
+		    "weight", "weight"
 		);
 	}
 
@@ -288,6 +346,11 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 
 		    } );
 
+		// Stores can lose entries on their own (e.g. soft references), release their weights
+		if ( isWeighing() ) {
+			this.weights.keySet().forEach( this::releaseWeight );
+		}
+
 		// Record it
 		getStats().recordReap();
 
@@ -318,6 +381,8 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 */
 	public void clearAll() {
 		this.objectStore.clearAll();
+		this.weights.clear();
+		this.totalWeight.set( 0 );
 		// Announce it
 		announce(
 		    BoxEvent.AFTER_CACHE_CLEAR_ALL,
@@ -333,6 +398,9 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 */
 	public boolean clearAll( ICacheKeyFilter filter ) {
 		var results = this.objectStore.clearAll( filter );
+		if ( isWeighing() ) {
+			this.weights.keySet().stream().filter( filter ).forEach( this::releaseWeight );
+		}
 		// Announce it
 		announce(
 		    BoxEvent.AFTER_CACHE_CLEAR_ALL,
@@ -349,7 +417,20 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 * @return True if the object was cleared, false otherwise (if the object was not found in the store)
 	 */
 	public boolean clearQuiet( String key ) {
-		return this.objectStore.clear( Key.of( key ) );
+		Key boxKey = Key.of( key );
+		if ( !isWeighing() ) {
+			return this.objectStore.clear( boxKey );
+		}
+
+		AtomicBoolean cleared = new AtomicBoolean( false );
+		this.weights.compute( boxKey, ( k, weight ) -> {
+			cleared.set( this.objectStore.clear( k ) );
+			if ( weight != null ) {
+				this.totalWeight.addAndGet( -weight );
+			}
+			return null;
+		} );
+		return cleared.get();
 	}
 
 	/**
@@ -414,8 +495,7 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 */
 	public Array getKeys( ICacheKeyFilter filter ) {
 		return this.objectStore
-		    .getKeysStream()
-		    .filter( filter )
+		    .getKeysStream( filter )
 		    .map( Key::getName )
 		    .collect( BLCollector.toArray() );
 	}
@@ -440,8 +520,7 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 */
 	public Stream<String> getKeysStream( ICacheKeyFilter filter ) {
 		return this.objectStore
-		    .getKeysStream()
-		    .filter( filter )
+		    .getKeysStream( filter )
 		    .map( Key::getName );
 	}
 
@@ -501,8 +580,7 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	public IStruct lookup( ICacheKeyFilter filter ) {
 		IStruct found = new Struct();
 		this.objectStore
-		    .getKeysStream()
-		    .filter( filter )
+		    .getKeysStream( filter )
 		    .forEach( key -> found.put( key.getName(), lookup( key.getName() ) ) );
 		return found;
 	}
@@ -528,7 +606,9 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 */
 	public Attempt<Object> get( String key ) {
 		// Get it like a ninja
-		var results = getQuiet( key );
+		long	start	= System.nanoTime();
+		var		results	= getQuiet( key );
+		this.stats.recordGetLatency( System.nanoTime() - start );
 
 		// Record the hit or miss
 		if ( results.isPresent() ) {
@@ -568,8 +648,7 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	public IStruct get( ICacheKeyFilter filter ) {
 		IStruct results = new Struct();
 		this.objectStore
-		    .getKeysStream()
-		    .filter( filter )
+		    .getKeysStream( filter )
 		    .forEach( key -> results.put( key.getName(), get( key.getName() ) ) );
 		return results;
 	}
@@ -581,7 +660,17 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 * @param value The value to store
 	 */
 	public void setQuiet( Key key, ICacheEntry value ) {
-		this.objectStore.set( key, value );
+		if ( !isWeighing() ) {
+			this.objectStore.set( key, value );
+			return;
+		}
+
+		// The previous weight comes from the ledger, the store is not read
+		this.weights.compute( key, ( k, previous ) -> {
+			this.objectStore.set( k, value );
+			this.totalWeight.addAndGet( value.weight() - ( previous != null ? previous : 0 ) );
+			return value.weight();
+		} );
 	}
 
 	/**
@@ -594,6 +683,7 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 * @param metadata          The metadata to store
 	 */
 	public void set( String key, Object value, Object timeout, Object lastAccessTimeout, IStruct metadata ) {
+		long		start				= System.nanoTime();
 		// Check if updating or not
 		var			oldEntry			= getQuiet( key );
 
@@ -612,11 +702,17 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 		    metadata
 		);
 
+		// Weigh it if we are doing weight based eviction
+		if ( isWeighing() ) {
+			newEntry.setWeight( this.weigher.weigh( value ) );
+		}
+
 		// Run eviction checks async using a CompletableFuture
 		getTaskScheduler().submit( this::evictChecks );
 
 		// set the new object
 		setQuiet( boxKey, newEntry );
+		this.stats.recordSetLatency( System.nanoTime() - start );
 
 		// Announce it
 		if ( oldEntry.isPresent() ) {
@@ -726,7 +822,13 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 * });
 	 * </code>
 	 * <p>
-	 * This method is thread safe and will only call the lambda once if the key is not found in the cache
+	 * This method is thread safe and will only call the lambda once if the key is not found in the cache.
+	 * Concurrent callers for the same key wait on the same in-flight computation (single-flight) instead of
+	 * locking, so no interned strings or monitors are used and virtual threads are not pinned.
+	 * </p>
+	 * <p>
+	 * If the {@code refreshAheadFactor} property is enabled and the entry found is within that fraction of its
+	 * timeout, the value is recomputed asynchronously while the current value is returned.
 	 * </p>
 	 *
 	 * @param key               The key to retrieve
@@ -737,30 +839,43 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 	 */
 	@Override
 	public Object getOrSet( String key, Supplier<Object> provider, Object timeout, Object lastAccessTimeout, IStruct metadata ) {
+		// Prep the timeouts
+		Duration		dTimeout			= toDuration( timeout );
+		Duration		dlastAccessTimeout	= toDuration( lastAccessTimeout );
+		Key				boxKey				= Key.of( key );
 
 		// Do we have it ?
-		Attempt<Object> results = this.get( key );
+		Attempt<Object>	results				= this.get( key );
 		if ( results.isPresent() ) {
+			refreshAheadCheck( boxKey, provider, dTimeout, dlastAccessTimeout, metadata );
 			return results.get();
 		}
 
-		// Prep the timeouts
-		Duration	dTimeout			= toDuration( timeout );
-		Duration	dlastAccessTimeout	= toDuration( lastAccessTimeout );
+		// Is someone already producing it? If so, wait for them
+		InFlight	ours		= new InFlight( Thread.currentThread() );
+		InFlight	existing	= this.inFlight.putIfAbsent( boxKey, ours );
+		if ( existing != null ) {
+			return awaitInFlight( boxKey, existing );
+		}
 
-		// Get the object
-		var			lockKey				= this.getName().getNameNoCase() + "-" + key;
-		// Double lock or produce
-		synchronized ( lockKey.intern() ) {
-			return this.get( key )
+		// We won the race, produce it
+		try {
+			// Double check, another producer could have finished before we registered
+			Object value = getQuiet( key )
 			    .orElseGet( () -> {
 				    // Get the value from the passed in lambda
-				    Object value = provider.get();
+				    Object newValue = timeProvider( provider );
 				    // Set it in the cache
-				    this.set( key, value, dTimeout, dlastAccessTimeout, metadata );
-				    // Return it
-				    return value;
+				    this.set( key, newValue, dTimeout, dlastAccessTimeout, metadata );
+				    return newValue;
 			    } );
+			ours.future.complete( value );
+			return value;
+		} catch ( Throwable e ) {
+			ours.future.completeExceptionally( e );
+			throw e;
+		} finally {
+			this.inFlight.remove( boxKey, ours );
 		}
 	}
 
@@ -825,12 +940,133 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 		return this.reapingFuture;
 	}
 
+	/**
+	 * Get the estimated weight in bytes of all the entries in the cache.
+	 * This is always 0 if {@code maxWeightBytes} is not enabled.
+	 */
+	public long getWeight() {
+		return this.totalWeight.get();
+	}
+
+	/**
+	 * Get the max weight in bytes this cache can hold, 0 if disabled
+	 */
+	public long getMaxWeightBytes() {
+		return this.maxWeightBytes;
+	}
+
+	/**
+	 * Records an eviction made by the store and releases the weight of the evicted entry
+	 *
+	 * @param key   The evicted key
+	 * @param entry The evicted entry, or null if the store did not read it
+	 */
+	@Override
+	public void recordEviction( Key key, ICacheEntry entry ) {
+		super.recordEviction( key, entry );
+		if ( isWeighing() ) {
+			releaseWeight( key );
+		}
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Private Methods
 	 * --------------------------------------------------------------------------
 	 */
 
+	/**
+	 * Wait for an in-flight computation to finish and return its value.
+	 * If the producer failed, the same exception is rethrown to the waiters.
+	 * A provider asking for its own key on the producing thread would wait on itself forever, so that throws instead.
+	 *
+	 * @param key      The key being produced
+	 * @param inFlight The in-flight computation
+	 *
+	 * @return The produced value
+	 */
+	private Object awaitInFlight( Key key, InFlight inFlight ) {
+		if ( inFlight.owner == Thread.currentThread() ) {
+			throw new BoxRuntimeException(
+			    "The getOrSet() provider for key [" + key.getName() + "] in cache [" + getName().getName() + "] requested the same key recursively" );
+		}
+		try {
+			return inFlight.future.join();
+		} catch ( CompletionException e ) {
+			if ( e.getCause() instanceof RuntimeException runtimeException ) {
+				throw runtimeException;
+			}
+			if ( e.getCause() instanceof Error error ) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Refresh-ahead: if enabled and the entry is within the configured fraction of its timeout,
+	 * recompute the value asynchronously. Only one refresh per key runs at a time and the
+	 * current value keeps being served until the new one is stored.
+	 *
+	 * @param key               The key to check
+	 * @param provider          The lambda that produces the value
+	 * @param timeout           The timeout to store the new value with
+	 * @param lastAccessTimeout The last access timeout to store the new value with
+	 * @param metadata          The metadata to store
+	 */
+	private void refreshAheadCheck( Key key, Supplier<Object> provider, Duration timeout, Duration lastAccessTimeout, IStruct metadata ) {
+		if ( this.refreshAheadFactor <= 0 ) {
+			return;
+		}
+
+		ICacheEntry entry = this.objectStore.getQuiet( key );
+		if ( entry == null || entry.isEternal() ) {
+			return;
+		}
+
+		long refreshAfter = ( long ) ( entry.timeout() * 1000 * this.refreshAheadFactor );
+		if ( Duration.between( entry.created(), Instant.now() ).toMillis() < refreshAfter ) {
+			return;
+		}
+
+		// Only one refresh per key
+		InFlight ours = new InFlight( null );
+		if ( this.inFlight.putIfAbsent( key, ours ) != null ) {
+			return;
+		}
+
+		logger.debug( "BoxCache [{}] refreshing ahead key [{}]", getName().getName(), key.getName() );
+		CompletableFuture.runAsync( () -> {
+			ours.owner = Thread.currentThread();
+			try {
+				Object value = timeProvider( provider );
+				this.set( key.getName(), value, timeout, lastAccessTimeout, metadata );
+				ours.future.complete( value );
+			} catch ( Throwable e ) {
+				logger.error( "BoxCache [{}] failed to refresh ahead key [{}]", getName().getName(), key.getName(), e );
+				ours.future.completeExceptionally( e );
+			} finally {
+				this.inFlight.remove( key, ours );
+			}
+		}, getTaskScheduler().executor() );
+	}
+
+	/**
+	 * Call a getOrSet() provider and record its latency
+	 *
+	 * @param provider The provider to call
+	 *
+	 * @return The provided value
+	 */
+	private Object timeProvider( Supplier<Object> provider ) {
+		long start = System.nanoTime();
+		try {
+			return provider.get();
+		} finally {
+			this.stats.recordProviderLatency( System.nanoTime() - start );
+		}
+	}
+
 	/**
 	 * Runs the eviction checks against the cache provider rules
 	 */
@@ -851,6 +1087,86 @@ public class BoxCacheProvider extends AbstractCacheProvider {
 		if ( runEvict ) {
 			this.objectStore.evict();
 		}
+
+		// Weight Check
+		if ( isWeighing() && this.totalWeight.get() > this.maxWeightBytes ) {
+			evictByWeight();
+		}
+	}
+
+	/**
+	 * Are we weighing entries for weight based eviction
+	 */
+	private boolean isWeighing() {
+		return this.maxWeightBytes > 0;
+	}
+
+	/**
+	 * Evict entries using the store's policy until the total weight is under the max weight.
+	 * The store reports each eviction through {@link #recordEviction(Key, ICacheEntry)}, which releases its weight.
+	 */
+	private synchronized void evictByWeight() {
+		int size = getSize();
+		while ( this.totalWeight.get() > this.maxWeightBytes && size > 0 ) {
+			this.objectStore.evict();
+
+			// Nothing could be evicted (e.g. all eternal), don't spin
+			int newSize = getSize();
+			if ( newSize >= size ) {
+				break;
+			}
+			size = newSize;
+		}
+	}
+
+	/**
+	 * Weigh the entries a persistent store already holds on startup, from then on the weights are kept on every write
+	 */
+	private void weighStore() {
+		this.objectStore
+		    .getKeysStream()
+		    .map( this.objectStore::getQuiet )
+		    .filter( Objects::nonNull )
+		    .forEach( entry -> {
+			    this.weights.put( entry.key(), entry.weight() );
+			    this.totalWeight.addAndGet( entry.weight() );
+		    } );
+	}
+
+	/**
+	 * Release the weight of a key if the store no longer has it
+	 *
+	 * @param key The key to check
+	 */
+	private void releaseWeight( Key key ) {
+		this.weights.computeIfPresent( key, ( k, weight ) -> {
+			if ( this.objectStore.lookup( k ) ) {
+				return weight;
+			}
+			this.totalWeight.addAndGet( -weight );
+			return null;
+		} );
+	}
+
+	/**
+	 * A value being produced by a {@code getOrSet()} or refresh-ahead call
+	 */
+	private static final class InFlight {
+
+		/**
+		 * Completed with the produced value
+		 */
+		final CompletableFuture<Object>	future	= new CompletableFuture<>();
+
+		/**
+		 * The thread running the provider, null until it starts
+		 */
+		volatile Thread					owner;
+
+		InFlight( Thread owner ) {
+			this.owner = owner;
+		}
+
 	}
 
 }
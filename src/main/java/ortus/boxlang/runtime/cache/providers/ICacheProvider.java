@@ -58,6 +58,20 @@ public interface ICacheProvider {
 	 */
 	public ICacheProvider clearStats();
 
+	/**
+	 * Called by the object store when it evicts an entry on its own, records it in the stats
+	 *
+	 * @param key   The evicted key
+	 * @param entry The evicted entry, or null if the store did not read it
+	 */
+	public default void recordEviction( Key key, ICacheEntry entry ) {
+		if ( entry != null ) {
+			getStats().recordEviction( entry );
+		} else {
+			getStats().recordEviction();
+		}
+	}
+
 	/**
 	 * Get the name of the cache provider
 	 */
@@ -162,7 +162,7 @@ public class ConcurrentSoftReferenceStore extends AbstractStore {
 			        entry.key()
 			    );
 			    getPool().remove( entry.key() );
-			    getProvider().getStats().recordEviction();
+			    getProvider().recordEviction( entry.key(), entry );
 		    } );
 
 		// Evict all garbage collected soft references
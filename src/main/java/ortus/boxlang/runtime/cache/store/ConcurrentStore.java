@@ -20,6 +20,7 @@ package ortus.boxlang.runtime.cache.store;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -28,6 +29,7 @@ import org.slf4j.LoggerFactory;
 import ortus.boxlang.runtime.cache.ICacheEntry;
 import ortus.boxlang.runtime.cache.filters.ICacheKeyFilter;
 import ortus.boxlang.runtime.cache.providers.ICacheProvider;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
@@ -48,6 +50,11 @@ public class ConcurrentStore extends AbstractStore {
 	 */
 	private ConcurrentHashMap<Key, ICacheEntry>	pool;
 
+	/**
+	 * The optional prefix index of the keys, enabled with the {@code prefixIndex} property
+	 */
+	private KeyPrefixIndex						prefixIndex;
+
 	/**
 	 * Constructor
 	 */
@@ -67,6 +74,9 @@ public class ConcurrentStore extends AbstractStore {
 		this.provider	= provider;
 		this.config		= config;
 		this.pool		= new ConcurrentHashMap<>( config.getAsInteger( Key.maxObjects ) / 4 );
+		if ( BooleanCaster.cast( config.getOrDefault( Key.prefixIndex, false ) ) ) {
+			this.prefixIndex = new KeyPrefixIndex();
+		}
 
 		logger.debug(
 		    "ConcurrentStore({}) initialized with a max size of {}",
@@ -86,6 +96,15 @@ public class ConcurrentStore extends AbstractStore {
 		return this.pool;
 	}
 
+	/**
+	 * Get the prefix index of the keys
+	 *
+	 * @return The prefix index or null if not enabled
+	 */
+	public KeyPrefixIndex getPrefixIndex() {
+		return this.prefixIndex;
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Interface Methods
@@ -97,7 +116,7 @@ public class ConcurrentStore extends AbstractStore {
 	 * object saving. This method is called when the cache provider is stopped.
 	 */
 	public void shutdown() {
-		getPool().clear();
+		clearAll();
 		logger.debug(
 		    "ConcurrentStore({}) was shutdown",
 		    provider.getName()
@@ -144,8 +163,8 @@ public class ConcurrentStore extends AbstractStore {
 			        provider.getName(),
 			        entry.getKey()
 			    );
-			    getPool().remove( entry.getKey() );
-			    getProvider().getStats().recordEviction();
+			    clear( entry.getKey() );
+			    getProvider().recordEviction( entry.getKey(), entry.getValue() );
 		    } );
 	}
 
@@ -160,7 +179,12 @@ public class ConcurrentStore extends AbstractStore {
 	 * Clear all the elements in the store
 	 */
 	public void clearAll() {
-		getPool().clear();
+		if ( this.prefixIndex == null ) {
+			getPool().clear();
+			return;
+		}
+		// Clear key by key so each removal stays atomic with its index entry
+		getPool().keySet().forEach( this::clear );
 	}
 
 	/**
@@ -170,7 +194,14 @@ public class ConcurrentStore extends AbstractStore {
 	 * @param filter The filter that determines which keys to clear
 	 */
 	public boolean clearAll( ICacheKeyFilter filter ) {
-		return getPool().keySet().removeIf( filter );
+		if ( this.prefixIndex == null ) {
+			return getPool().keySet().removeIf( filter );
+		}
+		return getKeysStream( filter )
+		    .toList()
+		    .stream()
+		    .map( this::clear )
+		    .reduce( false, Boolean::logicalOr );
 	}
 
 	/**
@@ -181,7 +212,17 @@ public class ConcurrentStore extends AbstractStore {
 	 * @return True if the object was cleared, false otherwise (if the object was not found in the store)
 	 */
 	public boolean clear( Key key ) {
-		return getPool().remove( key ) != null;
+		if ( this.prefixIndex == null ) {
+			return getPool().remove( key ) != null;
+		}
+		// Keep the index in sync atomically with the pool
+		AtomicBoolean cleared = new AtomicBoolean( false );
+		getPool().computeIfPresent( key, ( k, v ) -> {
+			this.prefixIndex.remove( k );
+			cleared.set( true );
+			return null;
+		} );
+		return cleared.get();
 	}
 
 	/**
@@ -216,7 +257,7 @@ public class ConcurrentStore extends AbstractStore {
 	 * @return An array of keys in the cache
 	 */
 	public Key[] getKeys( ICacheKeyFilter filter ) {
-		return getPool().keySet().parallelStream().filter( filter ).toArray( Key[]::new );
+		return getKeysStream( filter ).toArray( Key[]::new );
 	}
 
 	/**
@@ -236,6 +277,10 @@ public class ConcurrentStore extends AbstractStore {
 	 * @return A stream of keys in the cache
 	 */
 	public Stream<Key> getKeysStream( ICacheKeyFilter filter ) {
+		// Use the prefix index if we can, so we only look at the candidates
+		if ( this.prefixIndex != null && KeyPrefixIndex.supports( filter ) ) {
+			return this.prefixIndex.filter( filter ).filter( getPool()::containsKey );
+		}
 		return getPool().keySet().stream().filter( filter );
 	}
 
@@ -274,10 +319,7 @@ public class ConcurrentStore extends AbstractStore {
 	 */
 	public IStruct lookup( ICacheKeyFilter filter ) {
 		IStruct results = new Struct();
-		getPool()
-		    .keySet()
-		    .parallelStream()
-		    .filter( filter )
+		getKeysStream( filter )
 		    .forEach( key -> results.put( key, true ) );
 		return results;
 	}
@@ -330,10 +372,7 @@ public class ConcurrentStore extends AbstractStore {
 	 */
 	public IStruct get( ICacheKeyFilter filter ) {
 		IStruct results = new Struct();
-		getPool()
-		    .keySet()
-		    .parallelStream()
-		    .filter( filter )
+		getKeysStream( filter )
 		    .forEach( key -> results.put( key, get( key ) ) );
 		return results;
 	}
@@ -373,10 +412,7 @@ public class ConcurrentStore extends AbstractStore {
 	 */
 	public IStruct getQuiet( ICacheKeyFilter filter ) {
 		IStruct results = new Struct();
-		getPool()
-		    .keySet()
-		    .parallelStream()
-		    .filter( filter )
+		getKeysStream( filter )
 		    .forEach( key -> results.put( key, getQuiet( key ) ) );
 		return results;
 	}
@@ -388,7 +424,15 @@ public class ConcurrentStore extends AbstractStore {
 	 * @param entry The cache entry to store
 	 */
 	public void set( Key key, ICacheEntry entry ) {
-		getPool().put( key, entry );
+		if ( this.prefixIndex == null ) {
+			getPool().put( key, entry );
+			return;
+		}
+		// Keep the index in sync atomically with the pool
+		getPool().compute( key, ( k, v ) -> {
+			this.prefixIndex.add( k );
+			return entry;
+		} );
 	}
 
 	/**
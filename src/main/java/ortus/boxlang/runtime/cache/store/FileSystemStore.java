@@ -194,7 +194,7 @@ public class FileSystemStore extends AbstractStore {
 			    } catch ( IOException e ) {
 				    throw new BoxIOException( e );
 			    }
-			    getProvider().getStats().recordEviction();
+			    getProvider().recordEviction( entry.key(), entry );
 		    } );
 	}
 
@@ -318,7 +318,7 @@ public class FileSystemStore extends AbstractStore {
 	 * @return True if the object is in the store, false otherwise
 	 */
 	public boolean lookup( Key key ) {
-		return getEntryStream().anyMatch( path -> key.equals( pathToCacheKey( path ) ) );
+		return Files.exists( cacheKeyToPath( key ) );
 	}
 
 	/**
@@ -0,0 +1,110 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.store;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+import ortus.boxlang.runtime.cache.filters.ICacheKeyFilter;
+import ortus.boxlang.runtime.scopes.Key;
+
+/**
+ * A sorted index of cache keys that object stores can maintain to resolve filters with a literal prefix
+ * (see {@link ICacheKeyFilter#getPrefix()}) in O(matches) instead of scanning every key in the store.
+ *
+ * Keys are indexed by their case-insensitive name, so the index only narrows the candidates and the
+ * filter is still applied to them.
+ */
+public class KeyPrefixIndex {
+
+	/**
+	 * The index of case-insensitive key names to keys
+	 */
+	private final ConcurrentSkipListMap<String, Key> index = new ConcurrentSkipListMap<>();
+
+	/**
+	 * Add a key to the index
+	 *
+	 * @param key The key to add
+	 */
+	public void add( Key key ) {
+		this.index.put( key.getNameNoCase(), key );
+	}
+
+	/**
+	 * Remove a key from the index
+	 *
+	 * @param key The key to remove
+	 */
+	public void remove( Key key ) {
+		this.index.remove( key.getNameNoCase() );
+	}
+
+	/**
+	 * Clear the index
+	 */
+	public void clear() {
+		this.index.clear();
+	}
+
+	/**
+	 * How many keys are indexed
+	 */
+	public int size() {
+		return this.index.size();
+	}
+
+	/**
+	 * Can this index narrow down the keys for the filter
+	 *
+	 * @param filter The filter
+	 *
+	 * @return True if the filter has a literal prefix
+	 */
+	public static boolean supports( ICacheKeyFilter filter ) {
+		String prefix = filter.getPrefix();
+		return prefix != null && !prefix.isEmpty();
+	}
+
+	/**
+	 * Get the keys that start with a prefix, case-insensitive
+	 *
+	 * @param prefix The literal prefix
+	 *
+	 * @return A stream of the candidate keys
+	 */
+	public Stream<Key> withPrefix( String prefix ) {
+		String from = prefix.toUpperCase();
+		return this.index
+		    .subMap( from, true, from + Character.MAX_VALUE, false )
+		    .values()
+		    .stream();
+	}
+
+	/**
+	 * Get the keys that match a filter with a literal prefix
+	 *
+	 * @param filter The filter to apply, it must have a literal prefix
+	 *
+	 * @return A stream of the matching keys
+	 */
+	public Stream<Key> filter( ICacheKeyFilter filter ) {
+		return withPrefix( filter.getPrefix() ).filter( filter );
+	}
+
+}
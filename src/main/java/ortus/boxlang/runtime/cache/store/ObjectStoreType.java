@@ -31,7 +31,8 @@ public enum ObjectStoreType {
 	CONCURRENT( Key.of( "ConcurrentStore" ) ),
 	CONCURRENT_SOFT_REFERENCE( Key.of( "ConcurrentSoftReferenceStore" ) ),
 	DISK( Key.of( "FileSystemStore" ) ),
-	JDBC( Key.of( "JDBCStore" ) );
+	JDBC( Key.of( "JDBCStore" ) ),
+	TIERED( Key.of( "TieredStore" ) );
 
 	/**
 	 * This class is used to store the key of the enum.
@@ -88,6 +89,8 @@ public enum ObjectStoreType {
 				return new ConcurrentSoftReferenceStore();
 			case DISK :
 				return new FileSystemStore();
+			case TIERED :
+				return new TieredStore();
 			default :
 				throw new BoxRuntimeException( "No Object Store " + CoreProviderType.class.getCanonicalName() );
 		}
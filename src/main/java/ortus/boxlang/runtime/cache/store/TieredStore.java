@@ -0,0 +1,669 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.store;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ortus.boxlang.runtime.cache.ICacheEntry;
+import ortus.boxlang.runtime.cache.filters.ICacheKeyFilter;
+import ortus.boxlang.runtime.cache.providers.AbstractCacheProvider;
+import ortus.boxlang.runtime.cache.providers.ICacheProvider;
+import ortus.boxlang.runtime.cache.util.BoxCacheStats;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
+import ortus.boxlang.runtime.dynamic.casters.IntegerCaster;
+import ortus.boxlang.runtime.dynamic.casters.LongCaster;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * A two tier object store (near cache).
+ * A small and fast heap store ({@link ConcurrentStore}) is the L1 that sits in front of a larger and slower store (L2),
+ * which by default is the {@link FileSystemStore}.
+ *
+ * - Reads are served from the L1 and on a miss they go to the L2. L2 hits are promoted into the L1.
+ * - When the L1 goes over the {@code l1MaxObjects} property, entries are demoted to the L2 using the eviction policy.
+ * - Writes go to the L1 and are either written through to the L2 or written behind on a schedule
+ * if the {@code writeBehind} property is enabled.
+ * - Hits and misses are recorded per tier in the {@link BoxCacheStats}
+ * - The keys of both tiers are indexed in memory, so sizes and key lookups never walk the L2.
+ * - Eviction ranks entries with the L1 metadata: the L2 only entries were demoted as the lowest ranked of the L1,
+ * so the oldest demotions are evicted first and then the lowest ranked L1 entries. L2 entries are never read to rank them.
+ *
+ * Properties:
+ *
+ * <pre>
+ * {
+ *   "objectStore" : "TieredStore",
+ *   // The max number of objects in the heap L1, defaults to 10% of maxObjects
+ *   "l1MaxObjects" : 100,
+ *   // The L2 store: a core store alias or the class path of a custom store
+ *   "l2ObjectStore" : "FileSystemStore",
+ *   // Write to the L2 on a schedule instead of on every set
+ *   "writeBehind" : false,
+ *   // How often in seconds to write behind to the L2
+ *   "writeBehindFrequency" : 5
+ * }
+ * </pre>
+ */
+public class TieredStore extends AbstractStore {
+
+	/**
+	 * Logger
+	 */
+	private static final Logger		logger		= LoggerFactory.getLogger( TieredStore.class );
+
+	/**
+	 * The tier keys used for stats
+	 */
+	public static final Key			L1			= Key.of( "L1" );
+	public static final Key			L2			= Key.of( "L2" );
+
+	/**
+	 * The demotion order of the keys found in the L2 on startup, they go first and have to be checked for eternal entries
+	 */
+	private static final long		UNRANKED	= 0L;
+
+	/**
+	 * The heap store
+	 */
+	private ConcurrentStore			l1;
+
+	/**
+	 * The larger and slower store
+	 */
+	private IObjectStore			l2;
+
+	/**
+	 * Max objects in the L1
+	 */
+	private int						l1MaxObjects;
+
+	/**
+	 * Write behind mode
+	 */
+	private boolean					writeBehind;
+
+	/**
+	 * Keys written to the L1 which have not been written to the L2 yet (write behind only)
+	 */
+	private final Set<Key>			dirtyKeys	= ConcurrentHashMap.newKeySet();
+
+	/**
+	 * The keys in either tier
+	 */
+	private final Set<Key>			keys		= ConcurrentHashMap.newKeySet();
+
+	/**
+	 * The keys which are only in the L2 and can be evicted, with the order they were demoted in
+	 */
+	private final Map<Key, Long>	demoted		= new ConcurrentHashMap<>();
+
+	/**
+	 * The demotion counter
+	 */
+	private final AtomicLong		demotions	= new AtomicLong();
+
+	/**
+	 * The write behind scheduled task future
+	 */
+	private ScheduledFuture<?>		writeBehindFuture;
+
+	/**
+	 * Constructor
+	 */
+	public TieredStore() {
+		// Empty constructor
+	}
+
+	/**
+	 * Some storages require a method to initialize the storage or do
+	 * object loading. This method is called when the cache provider is started.
+	 *
+	 * @param provider The cache provider associated with this store
+	 * @param config   The configuration for the store
+	 */
+	@Override
+	public IObjectStore init( ICacheProvider provider, IStruct config ) {
+		this.provider		= provider;
+		this.config			= config;
+		this.l1MaxObjects	= IntegerCaster.cast( config.getOrDefault( Key.l1MaxObjects, Math.max( 1, config.getAsInteger( Key.maxObjects ) / 10 ) ) );
+		this.writeBehind	= BooleanCaster.cast( config.getOrDefault( Key.writeBehind, false ) );
+
+		// The L1 gets its own max objects, and it's small enough to not need a prefix index
+		IStruct l1Config = new Struct( config );
+		l1Config.put( Key.maxObjects, this.l1MaxObjects );
+		l1Config.put( Key.prefixIndex, false );
+		this.l1	= ( ConcurrentStore ) new ConcurrentStore().init( provider, l1Config );
+		this.l2	= buildL2Store( config.getOrDefault( Key.l2ObjectStore, ObjectStoreType.DISK.getKey().getName() ) ).init( provider, config );
+
+		// Index what a persistent L2 already holds, this is the only time the L2 keys are walked
+		this.l2.getKeysStream().forEach( key -> {
+			this.keys.add( key );
+			this.demoted.put( key, UNRANKED );
+		} );
+
+		// Write behind task
+		if ( this.writeBehind ) {
+			long frequency = LongCaster.cast( config.getOrDefault( Key.writeBehindFrequency, 5 ) );
+			this.writeBehindFuture = provider.getCacheService().getTaskScheduler()
+			    .newTask( "boxcache-writebehind-" + provider.getName().getName() )
+			    .delay( frequency, TimeUnit.SECONDS )
+			    .spacedDelay( frequency, TimeUnit.SECONDS )
+			    .call( this::flush )
+			    .start();
+		}
+
+		logger.debug(
+		    "TieredStore({}) initialized with an L1 max size of {} and an L2 of {}",
+		    provider.getName(),
+		    this.l1MaxObjects,
+		    this.l2.getName()
+		);
+		return this;
+	}
+
+	/**
+	 * Get the heap L1 store
+	 */
+	public ConcurrentStore getL1() {
+		return this.l1;
+	}
+
+	/**
+	 * Get the L2 store
+	 */
+	public IObjectStore getL2() {
+		return this.l2;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Interface Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Some storages require a shutdown method to close the storage or do
+	 * object saving. This method is called when the cache provider is stopped.
+	 * Pending write behind entries are flushed to the L2 first.
+	 */
+	public void shutdown() {
+		if ( this.writeBehindFuture != null ) {
+			this.writeBehindFuture.cancel( false );
+		}
+		flush();
+		this.l1.shutdown();
+		this.l2.shutdown();
+		logger.debug(
+		    "TieredStore({}) was shutdown",
+		    provider.getName()
+		);
+	}
+
+	/**
+	 * Flush the pending write behind entries from the L1 into the L2
+	 *
+	 * @return The number of objects flushed
+	 */
+	public int flush() {
+		AtomicInteger flushed = new AtomicInteger( 0 );
+		this.dirtyKeys.forEach( key -> {
+			if ( this.dirtyKeys.remove( key ) ) {
+				ICacheEntry entry = this.l1.getQuiet( key );
+				if ( entry != null ) {
+					this.l2.set( key, entry );
+					flushed.incrementAndGet();
+				}
+			}
+		} );
+		logger.debug(
+		    "TieredStore({}) flushed {} entries",
+		    provider.getName(),
+		    flushed.get()
+		);
+		return flushed.get();
+	}
+
+	/**
+	 * Runs the eviction algorithm to remove objects from both tiers based on the eviction policy
+	 * and eviction count.
+	 * The L2 only entries go first in the order they were demoted in, then the L1 entries in the policy order.
+	 */
+	public synchronized void evict() {
+		int	evictCount	= this.config.getAsInteger( Key.evictCount );
+		int	evicted		= 0;
+		if ( evictCount == 0 ) {
+			return;
+		}
+
+		List<Key> demotedKeys = this.demoted.entrySet()
+		    .stream()
+		    .sorted( Map.Entry.comparingByValue() )
+		    .map( Map.Entry::getKey )
+		    .toList();
+		for ( Key key : demotedKeys ) {
+			if ( evicted == evictCount ) {
+				return;
+			}
+			Long order = this.demoted.get( key );
+			// Promoted or set again since it was demoted
+			if ( order == null || this.l1.lookup( key ) ) {
+				this.demoted.remove( key );
+				continue;
+			}
+			ICacheEntry entry = null;
+			if ( order == UNRANKED ) {
+				entry = this.l2.getQuiet( key );
+				if ( entry == null || entry.isEternal() ) {
+					this.demoted.remove( key );
+					continue;
+				}
+			}
+			evictEntry( key, entry );
+			evicted++;
+		}
+
+		this.l1.getPool()
+		    .values()
+		    .stream()
+		    .filter( entry -> !entry.isEternal() )
+		    // Sort using the policy comparator
+		    .sorted( getPolicy().getComparator() )
+		    // Check how many are left to evict according to the config count
+		    .limit( evictCount - evicted )
+		    .toList()
+		    .forEach( entry -> evictEntry( entry.key(), entry ) );
+	}
+
+	/**
+	 * Get the size of the store, not the size in bytes but the number of objects in the store
+	 */
+	public int getSize() {
+		return this.keys.size();
+	}
+
+	/**
+	 * Clear all the elements in the store
+	 */
+	public void clearAll() {
+		this.dirtyKeys.clear();
+		this.l1.clearAll();
+		this.l2.clearAll();
+		this.keys.clear();
+		this.demoted.clear();
+	}
+
+	/**
+	 * Clear all the elements in the store with a ${@link ICacheKeyFilter}.
+	 * This can be a lambda or method reference since it's a functional interface.
+	 *
+	 * @param filter The filter that determines which keys to clear
+	 */
+	public boolean clearAll( ICacheKeyFilter filter ) {
+		this.dirtyKeys.removeIf( filter );
+		boolean	l1Cleared	= this.l1.clearAll( filter );
+		boolean	l2Cleared	= this.l2.clearAll( filter );
+		this.keys.removeIf( filter );
+		this.demoted.keySet().removeIf( filter );
+		return l1Cleared || l2Cleared;
+	}
+
+	/**
+	 * Clears an object from the storage
+	 *
+	 * @param key The object key to clear
+	 *
+	 * @return True if the object was cleared, false otherwise (if the object was not found in the store)
+	 */
+	public boolean clear( Key key ) {
+		this.dirtyKeys.remove( key );
+		boolean	l1Cleared	= this.l1.clear( key );
+		boolean	l2Cleared	= this.l2.clear( key );
+		this.keys.remove( key );
+		this.demoted.remove( key );
+		return l1Cleared || l2Cleared;
+	}
+
+	/**
+	 * Clears multiple objects from the storage
+	 *
+	 * @param keys The keys to clear
+	 *
+	 * @return A struct of keys and their clear status: true if the object was cleared, false otherwise (if the object was not found in the store)
+	 */
+	public IStruct clear( Key... keys ) {
+		IStruct results = new Struct();
+		for ( Key key : keys ) {
+			results.put( key, clear( key ) );
+		}
+		return results;
+	}
+
+	/**
+	 * Get all the keys in the store
+	 *
+	 * @return An array of keys in the cache
+	 */
+	public Key[] getKeys() {
+		return getKeysStream().toArray( Key[]::new );
+	}
+
+	/**
+	 * Get all the keys in the store using a filter
+	 *
+	 * @param filter The filter that determines which keys to return
+	 *
+	 * @return An array of keys in the cache
+	 */
+	public Key[] getKeys( ICacheKeyFilter filter ) {
+		return getKeysStream( filter ).toArray( Key[]::new );
+	}
+
+	/**
+	 * Get all the keys in the store as a stream
+	 *
+	 * @return A stream of keys in the cache
+	 */
+	public Stream<Key> getKeysStream() {
+		return this.keys.stream();
+	}
+
+	/**
+	 * Get all the keys in the store as a stream
+	 *
+	 * @param filter The filter that determines which keys to return
+	 *
+	 * @return A stream of keys in the cache
+	 */
+	public Stream<Key> getKeysStream( ICacheKeyFilter filter ) {
+		return this.keys.stream().filter( filter );
+	}
+
+	/**
+	 * Check if an object is in the store
+	 *
+	 * @param key The key to lookup in the store
+	 *
+	 * @return True if the object is in the store, false otherwise
+	 */
+	public boolean lookup( Key key ) {
+		return this.keys.contains( key );
+	}
+
+	/**
+	 * Check if multiple objects are in the store
+	 *
+	 * @param keys A varargs of keys to lookup in the store
+	 *
+	 * @return A struct of keys and their lookup status
+	 */
+	public IStruct lookup( Key... keys ) {
+		IStruct results = new Struct();
+		for ( Key key : keys ) {
+			results.put( key, lookup( key ) );
+		}
+		return results;
+	}
+
+	/**
+	 * Check if multiple objects are in the store using a filter
+	 *
+	 * @param filter The filter that determines which keys to return
+	 *
+	 * @return A struct of the keys found. True if the object is in the store, false otherwise
+	 */
+	public IStruct lookup( ICacheKeyFilter filter ) {
+		IStruct results = new Struct();
+		getKeysStream( filter ).forEach( key -> results.put( key, true ) );
+		return results;
+	}
+
+	/**
+	 * Get an object from the store with metadata tracking: hits, lastAccess, etc.
+	 * L1 misses are looked up in the L2 and promoted into the L1 if found.
+	 *
+	 * @param key The key to retrieve
+	 *
+	 * @return The cache entry retrieved or null if not found
+	 */
+	public ICacheEntry get( Key key ) {
+		ICacheEntry results = this.l1.get( key );
+		if ( results != null ) {
+			recordTier( L1, true );
+			return results;
+		}
+		recordTier( L1, false );
+
+		results = this.l2.get( key );
+		if ( results == null ) {
+			recordTier( L2, false );
+			return null;
+		}
+		recordTier( L2, true );
+
+		// Promote it
+		this.l1.set( key, results );
+		this.keys.add( key );
+		this.demoted.remove( key );
+		demoteOverflow();
+
+		return results;
+	}
+
+	/**
+	 * Get multiple objects from the store with metadata tracking
+	 *
+	 * @param keys The keys to retrieve
+	 *
+	 * @return A struct of keys and their cache entries
+	 */
+	public IStruct get( Key... keys ) {
+		IStruct results = new Struct();
+		for ( Key key : keys ) {
+			results.put( key, get( key ) );
+		}
+		return results;
+	}
+
+	/**
+	 * Get multiple objects from the store with metadata tracking using a filter
+	 *
+	 * @param filter The filter that determines which keys to return
+	 *
+	 * @return A struct of keys and their cache entries
+	 */
+	public IStruct get( ICacheKeyFilter filter ) {
+		IStruct results = new Struct();
+		getKeysStream( filter ).forEach( key -> results.put( key, get( key ) ) );
+		return results;
+	}
+
+	/**
+	 * Get an object from cache with no metadata tracking and no promotion
+	 *
+	 * @param key The key to retrieve
+	 *
+	 * @return The cache entry retrieved or null if not found
+	 */
+	public ICacheEntry getQuiet( Key key ) {
+		ICacheEntry results = this.l1.getQuiet( key );
+		return results != null ? results : this.l2.getQuiet( key );
+	}
+
+	/**
+	 * Get multiple objects from the store with no metadata tracking
+	 *
+	 * @param keys The keys to retrieve
+	 *
+	 * @return A struct of keys and their cache entries
+	 */
+	public IStruct getQuiet( Key... keys ) {
+		IStruct results = new Struct();
+		for ( Key key : keys ) {
+			results.put( key, getQuiet( key ) );
+		}
+		return results;
+	}
+
+	/**
+	 * Get multiple objects from the store with no metadata tracking using a filter
+	 *
+	 * @param filter The filter that determines which keys to return
+	 *
+	 * @return A struct of keys and their cache entries
+	 */
+	public IStruct getQuiet( ICacheKeyFilter filter ) {
+		IStruct results = new Struct();
+		getKeysStream( filter ).forEach( key -> results.put( key, getQuiet( key ) ) );
+		return results;
+	}
+
+	/**
+	 * Sets an object in the storage. It goes into the L1 and is written through or behind to the L2.
+	 *
+	 * @param key   The key to store the object under
+	 * @param entry The cache entry to store
+	 */
+	public void set( Key key, ICacheEntry entry ) {
+		this.l1.set( key, entry );
+		this.keys.add( key );
+		this.demoted.remove( key );
+		if ( this.writeBehind ) {
+			this.dirtyKeys.add( key );
+		} else {
+			this.l2.set( key, entry );
+		}
+		demoteOverflow();
+	}
+
+	/**
+	 * Set's multiple objects in the storage
+	 *
+	 * @param entries The keys and cache entries to store
+	 */
+	public void set( IStruct entries ) {
+		entries.forEach( ( key, value ) -> set( key, ( ICacheEntry ) value ) );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Private Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Demote the L1 entries over the {@code l1MaxObjects} into the L2 using the eviction policy.
+	 * Entries are written to the L2 before leaving the L1, so they are never missing from both tiers.
+	 */
+	private void demoteOverflow() {
+		if ( this.l1.getSize() <= this.l1MaxObjects ) {
+			return;
+		}
+
+		synchronized ( this.l1 ) {
+			int overflow = this.l1.getSize() - this.l1MaxObjects;
+			if ( overflow <= 0 ) {
+				return;
+			}
+
+			this.l1.getPool()
+			    .entrySet()
+			    .stream()
+			    .sorted( Map.Entry.comparingByValue( getPolicy().getComparator() ) )
+			    .limit( overflow )
+			    .toList()
+			    .forEach( entry -> {
+				    this.dirtyKeys.remove( entry.getKey() );
+				    this.l2.set( entry.getKey(), entry.getValue() );
+				    if ( this.l1.getPool().remove( entry.getKey(), entry.getValue() ) && !entry.getValue().isEternal() ) {
+					    this.demoted.put( entry.getKey(), this.demotions.incrementAndGet() );
+				    }
+			    } );
+		}
+	}
+
+	/**
+	 * Evict an entry from both tiers and record it
+	 *
+	 * @param key   The key to evict
+	 * @param entry The entry if it is at hand, L2 only entries are not read just to record their age
+	 */
+	private void evictEntry( Key key, ICacheEntry entry ) {
+		logger.debug(
+		    "TieredStore({}) evicted [{}]",
+		    provider.getName(),
+		    key
+		);
+		clear( key );
+		getProvider().recordEviction( key, entry );
+	}
+
+	/**
+	 * Record a tier hit or miss if the provider uses the BoxLang stats
+	 *
+	 * @param tier The tier key
+	 * @param hit  True if it was a hit, false if a miss
+	 */
+	private void recordTier( Key tier, boolean hit ) {
+		if ( getProvider().getStats() instanceof BoxCacheStats boxStats ) {
+			if ( hit ) {
+				boxStats.recordTierHit( tier );
+			} else {
+				boxStats.recordTierMiss( tier );
+			}
+		}
+	}
+
+	/**
+	 * Build the L2 store from a store object, a core alias or a custom class path
+	 *
+	 * @param l2Store The L2 store definition
+	 *
+	 * @return The L2 store, not initialized yet
+	 */
+	private static IObjectStore buildL2Store( Object l2Store ) {
+		if ( l2Store instanceof IObjectStore castedStore ) {
+			return castedStore;
+		}
+
+		String storeName = l2Store.toString();
+		if ( ObjectStoreType.isCore( Key.of( storeName ) ) ) {
+			ObjectStoreType type = ObjectStoreType.getValueByKey( Key.of( storeName ) );
+			if ( type == ObjectStoreType.TIERED ) {
+				throw new BoxRuntimeException( "The TieredStore cannot use another TieredStore as its L2 store" );
+			}
+			return type.buildStore();
+		}
+
+		return AbstractCacheProvider.buildObjectStoreByClass( storeName );
+	}
+
+}
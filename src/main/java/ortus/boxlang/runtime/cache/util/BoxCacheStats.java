@@ -17,12 +17,24 @@
  */
 package ortus.boxlang.runtime.cache.util;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
+import ortus.boxlang.runtime.cache.ICacheEntry;
+import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.util.LatencyHistogram;
 
+/**
+ * The default statistics for BoxLang cache providers.
+ *
+ * Counters are striped {@link LongAdder}s so hot caches don't contend on a single memory location,
+ * and operation latencies and eviction ages are tracked in {@link LatencyHistogram}s.
+ */
 public class BoxCacheStats implements ICacheStats {
 
 	/**
@@ -30,14 +42,31 @@ public class BoxCacheStats implements ICacheStats {
 	 * Private Properties
 	 * --------------------------------------------------------------------------
 	 */
-	private AtomicLong	garbageCollections;
-	private AtomicLong	evictionCount;
-	private AtomicLong	hits;
-	private AtomicLong	misses;
-	private Instant		lastReapDatetime;
-	private AtomicLong	reapCount;
-	private Instant		started;
-	private long		size;
+	private final LongAdder								garbageCollections	= new LongAdder();
+	private final LongAdder								evictionCount		= new LongAdder();
+	private final LongAdder								hits				= new LongAdder();
+	private final LongAdder								misses				= new LongAdder();
+	private volatile Instant							lastReapDatetime;
+	private final LongAdder								reapCount			= new LongAdder();
+	private volatile Instant							started;
+	private long										size;
+
+	/**
+	 * Latency histograms in nanoseconds for get(), set() and the getOrSet() providers
+	 */
+	private final LatencyHistogram						getLatency			= new LatencyHistogram( TimeUnit.NANOSECONDS );
+	private final LatencyHistogram						setLatency			= new LatencyHistogram( TimeUnit.NANOSECONDS );
+	private final LatencyHistogram						providerLatency		= new LatencyHistogram( TimeUnit.NANOSECONDS );
+
+	/**
+	 * The age in milliseconds of the entries when they got evicted
+	 */
+	private final LatencyHistogram						evictionAge			= new LatencyHistogram( TimeUnit.MILLISECONDS );
+
+	/**
+	 * Per tier hits and misses for multi-tier stores: { tier : [ hits, misses ] }
+	 */
+	private final ConcurrentHashMap<Key, LongAdder[]>	tiers				= new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor
@@ -56,7 +85,54 @@ public class BoxCacheStats implements ICacheStats {
 	 * Record an eviction hit
 	 */
 	public ICacheStats recordEviction() {
-		this.evictionCount.incrementAndGet();
+		this.evictionCount.increment();
+		return this;
+	}
+
+	/**
+	 * Record an eviction hit and the age of the evicted entry
+	 *
+	 * @param entry The evicted entry
+	 */
+	@Override
+	public ICacheStats recordEviction( ICacheEntry entry ) {
+		this.evictionCount.increment();
+		if ( entry != null && entry.created() != null ) {
+			this.evictionAge.record( Duration.between( entry.created(), Instant.now() ).toMillis() );
+		}
+		return this;
+	}
+
+	/**
+	 * Record the latency of a get operation
+	 *
+	 * @param nanos The latency in nanoseconds
+	 */
+	@Override
+	public ICacheStats recordGetLatency( long nanos ) {
+		this.getLatency.record( nanos );
+		return this;
+	}
+
+	/**
+	 * Record the latency of a set operation
+	 *
+	 * @param nanos The latency in nanoseconds
+	 */
+	@Override
+	public ICacheStats recordSetLatency( long nanos ) {
+		this.setLatency.record( nanos );
+		return this;
+	}
+
+	/**
+	 * Record the latency of a getOrSet() provider call
+	 *
+	 * @param nanos The latency in nanoseconds
+	 */
+	@Override
+	public ICacheStats recordProviderLatency( long nanos ) {
+		this.providerLatency.record( nanos );
 		return this;
 	}
 
@@ -64,7 +140,7 @@ public class BoxCacheStats implements ICacheStats {
 	 * Record a cache hit
 	 */
 	public ICacheStats recordHit() {
-		this.hits.incrementAndGet();
+		this.hits.increment();
 		return this;
 	}
 
@@ -72,7 +148,7 @@ public class BoxCacheStats implements ICacheStats {
 	 * Record a cache miss
 	 */
 	public ICacheStats recordMiss() {
-		this.misses.incrementAndGet();
+		this.misses.increment();
 		return this;
 	}
 
@@ -80,7 +156,7 @@ public class BoxCacheStats implements ICacheStats {
 	 * Record a cache garbage collection
 	 */
 	public ICacheStats recordGCHit() {
-		this.garbageCollections.incrementAndGet();
+		this.garbageCollections.increment();
 		return this;
 	}
 
@@ -88,11 +164,101 @@ public class BoxCacheStats implements ICacheStats {
 	 * Record a cache reap
 	 */
 	public ICacheStats recordReap() {
-		this.reapCount.incrementAndGet();
+		this.reapCount.increment();
 		this.lastReapDatetime = Instant.now();
 		return this;
 	}
 
+	/**
+	 * Record a cache hit on a specific tier of a multi-tier store
+	 *
+	 * @param tier The tier name, e.g. L1, L2
+	 */
+	public ICacheStats recordTierHit( Key tier ) {
+		getTierCounters( tier )[ 0 ].increment();
+		return this;
+	}
+
+	/**
+	 * Record a cache miss on a specific tier of a multi-tier store
+	 *
+	 * @param tier The tier name, e.g. L1, L2
+	 */
+	public ICacheStats recordTierMiss( Key tier ) {
+		getTierCounters( tier )[ 1 ].increment();
+		return this;
+	}
+
+	/**
+	 * Get the per tier hits and misses of multi-tier stores
+	 *
+	 * @return A struct of tiers with their hits and misses, empty if no tiers were recorded
+	 */
+	public IStruct tierStats() {
+		IStruct results = new Struct( Struct.TYPES.LINKED );
+		this.tiers.forEach( ( tier, counters ) -> results.put(
+		    tier,
+		    Struct.of(
+		        "hits", counters[ 0 ].sum(),
+		        "misses", counters[ 1 ].sum()
+		    )
+		) );
+		return results;
+	}
+
+	/**
+	 * Get or create the counters for a tier
+	 *
+	 * @param tier The tier name
+	 *
+	 * @return The hits and misses counters
+	 */
+	private LongAdder[] getTierCounters( Key tier ) {
+		return this.tiers.computeIfAbsent( tier, k -> new LongAdder[] { new LongAdder(), new LongAdder() } );
+	}
+
+	/**
+	 * Get the latency histogram of get operations in nanoseconds
+	 */
+	public LatencyHistogram getLatency() {
+		return this.getLatency;
+	}
+
+	/**
+	 * Get the latency histogram of set operations in nanoseconds
+	 */
+	public LatencyHistogram setLatency() {
+		return this.setLatency;
+	}
+
+	/**
+	 * Get the latency histogram of the getOrSet() providers in nanoseconds
+	 */
+	public LatencyHistogram providerLatency() {
+		return this.providerLatency;
+	}
+
+	/**
+	 * Get the histogram of the entry ages at eviction in milliseconds
+	 */
+	public LatencyHistogram evictionAge() {
+		return this.evictionAge;
+	}
+
+	/**
+	 * Get a snapshot of the latency histograms in milliseconds
+	 *
+	 * @return A struct of { get, set, provider, evictionAge } snapshots
+	 */
+	public IStruct latencyStats() {
+		return Struct.of(
+		    "get", this.getLatency.toStruct(),
+		    "set", this.setLatency.toStruct(),
+		    "provider", this.providerLatency.toStruct(),
+		    "evictionAge", this.evictionAge.toStruct()
+		);
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Interface Methods
@@ -105,14 +271,14 @@ public class BoxCacheStats implements ICacheStats {
 	 * @return The hit ratio in percentage or 0 if no hits or misses
 	 */
 	public int hitRate() {
-		long	_hits	= this.hits.get();
-		long	_misses	= this.misses.get();
+		long	_hits	= this.hits.sum();
+		long	_misses	= this.misses.sum();
 
 		if ( _hits == 0 && _misses == 0 ) {
 			return 0;
 		}
 
-		return ( int ) ( ( _hits / ( _hits + _misses ) ) * 100 );
+		return ( int ) ( ( _hits * 100d ) / ( _hits + _misses ) );
 	}
 
 	/**
@@ -141,14 +307,19 @@ public class BoxCacheStats implements ICacheStats {
 	 * @return The stats object
 	 */
 	public ICacheStats reset() {
-		this.garbageCollections	= new AtomicLong( 0 );
-		this.evictionCount		= new AtomicLong( 0 );
-		this.hits				= new AtomicLong( 0 );
-		this.misses				= new AtomicLong( 0 );
+		this.garbageCollections.reset();
+		this.evictionCount.reset();
+		this.hits.reset();
+		this.misses.reset();
 		this.lastReapDatetime	= Instant.now();
-		this.reapCount			= new AtomicLong( 0 );
+		this.reapCount.reset();
 		this.started			= Instant.now();
 		this.size				= 0;
+		this.getLatency.reset();
+		this.setLatency.reset();
+		this.providerLatency.reset();
+		this.evictionAge.reset();
+		this.tiers.clear();
 		return this;
 	}
 
@@ -158,7 +329,7 @@ public class BoxCacheStats implements ICacheStats {
 	 * @return The garbage collections
 	 */
 	public long garbageCollections() {
-		return this.garbageCollections.get();
+		return this.garbageCollections.sum();
 	}
 
 	/**
@@ -167,7 +338,7 @@ public class BoxCacheStats implements ICacheStats {
 	 * @return The eviction count
 	 */
 	public long evictionCount() {
-		return this.evictionCount.get();
+		return this.evictionCount.sum();
 	}
 
 	/**
@@ -176,7 +347,7 @@ public class BoxCacheStats implements ICacheStats {
 	 * @return The hits
 	 */
 	public long hits() {
-		return this.hits.get();
+		return this.hits.sum();
 	}
 
 	/**
@@ -185,7 +356,7 @@ public class BoxCacheStats implements ICacheStats {
 	 * @return The misses
 	 */
 	public long misses() {
-		return this.misses.get();
+		return this.misses.sum();
 	}
 
 	/**
@@ -203,7 +374,7 @@ public class BoxCacheStats implements ICacheStats {
 	 * @return The reap count
 	 */
 	public long reapCount() {
-		return this.reapCount.get();
+		return this.reapCount.sum();
 	}
 
 	/**
@@ -227,17 +398,19 @@ public class BoxCacheStats implements ICacheStats {
 	 */
 	public IStruct toStruct() {
 		return Struct.of(
-		    "garbageCollections", this.garbageCollections.get(),
-		    "evictionCount", this.evictionCount.get(),
-		    "hits", this.hits.get(),
-		    "misses", this.misses.get(),
+		    "garbageCollections", this.garbageCollections.sum(),
+		    "evictionCount", this.evictionCount.sum(),
+		    "hits", this.hits.sum(),
+		    "misses", this.misses.sum(),
 		    "lastReapDatetime", this.lastReapDatetime,
-		    "reapCount", this.reapCount.get(),
+		    "reapCount", this.reapCount.sum(),
 		    "started", this.started,
 		    // Dynamic stats
 		    "size", size(),
 		    "objectCount", objectCount(),
-		    "expiredCount", expiredCount()
+		    "expiredCount", expiredCount(),
+		    "tiers", tierStats(),
+		    "latency", latencyStats()
 		);
 	}
 }
@@ -0,0 +1,228 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.DateTime;
+import ortus.boxlang.runtime.types.Query;
+
+/**
+ * The default BoxLang cache weigher.
+ * It estimates the retained size of BoxLang types without walking the entire object graph:
+ *
+ * - Strings, byte arrays and char arrays are weighed by their length
+ * - Structs, Arrays, Maps and Collections are weighed recursively by sampling the first {@code SAMPLE_SIZE}
+ * items and extrapolating to the full size
+ * - Queries are weighed as rows x columns by sampling the first {@code SAMPLE_SIZE} rows
+ * - Anything else gets a fixed estimate
+ *
+ * These are estimates, not exact measurements, but they are cheap and good enough to keep a few large
+ * values from taking over the heap.
+ */
+public class BoxCacheWeigher implements ICacheWeigher {
+
+	/**
+	 * How many items of a container to weigh before extrapolating
+	 */
+	public static final int		SAMPLE_SIZE			= 32;
+
+	/**
+	 * How deep to recurse into nested containers
+	 */
+	public static final int		MAX_DEPTH			= 8;
+
+	/**
+	 * Object header + reference estimates for the JVM
+	 */
+	private static final long	OBJECT_OVERHEAD		= 16;
+	private static final long	REFERENCE_SIZE		= 8;
+	private static final long	ENTRY_OVERHEAD		= 32;
+	private static final long	DEFAULT_WEIGHT		= 64;
+	private static final long	STRING_OVERHEAD		= 40;
+	private static final long	NUMBER_WEIGHT		= 24;
+
+	/**
+	 * Estimate the retained size of a value in bytes
+	 *
+	 * @param value The value to weigh, can be null
+	 *
+	 * @return The estimated size in bytes
+	 */
+	public long weigh( Object value ) {
+		return weigh( value, 0 );
+	}
+
+	/**
+	 * Weigh a value at a specific depth
+	 *
+	 * @param value The value to weigh
+	 * @param depth The current depth
+	 *
+	 * @return The estimated size in bytes
+	 */
+	private long weigh( Object value, int depth ) {
+		if ( value == null ) {
+			return 0;
+		}
+
+		// Stop recursing, use a fixed estimate
+		if ( depth > MAX_DEPTH ) {
+			return DEFAULT_WEIGHT;
+		}
+
+		if ( value instanceof String castedString ) {
+			return STRING_OVERHEAD + castedString.length();
+		}
+		if ( value instanceof byte[] castedBytes ) {
+			return OBJECT_OVERHEAD + castedBytes.length;
+		}
+		if ( value instanceof char[] castedChars ) {
+			return OBJECT_OVERHEAD + ( castedChars.length * 2L );
+		}
+		if ( value instanceof Number || value instanceof Boolean || value instanceof Character ) {
+			return NUMBER_WEIGHT;
+		}
+		if ( value instanceof Key castedKey ) {
+			return OBJECT_OVERHEAD + ( STRING_OVERHEAD + castedKey.getName().length() ) * 2;
+		}
+		if ( value instanceof DateTime ) {
+			return DEFAULT_WEIGHT * 2;
+		}
+		// Queries must go before collections, since they are collections of row structs
+		if ( value instanceof Query castedQuery ) {
+			return weighQuery( castedQuery, depth );
+		}
+		if ( value instanceof Map<?, ?> castedMap ) {
+			return weighMap( castedMap, depth );
+		}
+		if ( value instanceof Collection<?> castedCollection ) {
+			return weighCollection( castedCollection, depth );
+		}
+		if ( value instanceof Object[] castedArray ) {
+			return weighCollection( Arrays.asList( castedArray ), depth );
+		}
+
+		return DEFAULT_WEIGHT;
+	}
+
+	/**
+	 * Weigh a map by sampling its entries
+	 *
+	 * @param map   The map to weigh
+	 * @param depth The current depth
+	 *
+	 * @return The estimated size in bytes
+	 */
+	private long weighMap( Map<?, ?> map, int depth ) {
+		int size = map.size();
+		if ( size == 0 ) {
+			return DEFAULT_WEIGHT;
+		}
+
+		long									sampled		= 0;
+		int										count		= 0;
+		Iterator<? extends Map.Entry<?, ?>>		iterator	= map.entrySet().iterator();
+		while ( iterator.hasNext() && count < SAMPLE_SIZE ) {
+			Map.Entry<?, ?> entry = iterator.next();
+			sampled += ENTRY_OVERHEAD + weigh( entry.getKey(), depth + 1 ) + weigh( entry.getValue(), depth + 1 );
+			count++;
+		}
+
+		return DEFAULT_WEIGHT + extrapolate( sampled, count, size );
+	}
+
+	/**
+	 * Weigh a collection by sampling its items
+	 *
+	 * @param collection The collection to weigh
+	 * @param depth      The current depth
+	 *
+	 * @return The estimated size in bytes
+	 */
+	private long weighCollection( Collection<?> collection, int depth ) {
+		int size = collection.size();
+		if ( size == 0 ) {
+			return DEFAULT_WEIGHT;
+		}
+
+		long		sampled		= 0;
+		int			count		= 0;
+		Iterator<?>	iterator	= collection.iterator();
+		while ( iterator.hasNext() && count < SAMPLE_SIZE ) {
+			sampled += REFERENCE_SIZE + weigh( iterator.next(), depth + 1 );
+			count++;
+		}
+
+		return DEFAULT_WEIGHT + extrapolate( sampled, count, size );
+	}
+
+	/**
+	 * Weigh a query as rows x columns by sampling the first rows.
+	 * Rows are weighed from the raw data, so no row structs are created.
+	 *
+	 * @param query The query to weigh
+	 * @param depth The current depth
+	 *
+	 * @return The estimated size in bytes
+	 */
+	private long weighQuery( Query query, int depth ) {
+		List<Object[]>	data	= query.getData();
+		int				rows	= data.size();
+		long			columns	= query.getColumns().size();
+		long			weight	= DEFAULT_WEIGHT + columns * ( DEFAULT_WEIGHT * 2 );
+
+		if ( rows == 0 ) {
+			return weight;
+		}
+
+		long	sampled	= 0;
+		int		count	= Math.min( rows, SAMPLE_SIZE );
+		for ( int i = 0; i < count; i++ ) {
+			Object[] row = data.get( i );
+			sampled += OBJECT_OVERHEAD + ( REFERENCE_SIZE * row.length );
+			for ( Object cell : row ) {
+				sampled += weigh( cell, depth + 1 );
+			}
+		}
+
+		return weight + extrapolate( sampled, count, rows );
+	}
+
+	/**
+	 * Extrapolate a sampled weight to the full size of a container
+	 *
+	 * @param sampled The weight of the sampled items
+	 * @param count   How many items were sampled
+	 * @param size    The full size of the container
+	 *
+	 * @return The extrapolated weight
+	 */
+	private static long extrapolate( long sampled, int count, int size ) {
+		if ( count == 0 || count >= size ) {
+			return sampled;
+		}
+		return ( sampled / count ) * size;
+	}
+
+}
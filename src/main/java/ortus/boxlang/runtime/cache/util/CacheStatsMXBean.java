@@ -0,0 +1,163 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.util;
+
+import java.util.function.Function;
+
+import ortus.boxlang.runtime.cache.providers.ICacheProvider;
+import ortus.boxlang.runtime.util.JMXUtil;
+import ortus.boxlang.runtime.util.LatencyHistogram;
+
+/**
+ * Exposes the live statistics of a cache provider via JMX.
+ * Latency attributes are only available when the provider uses {@link BoxCacheStats}, else they report 0.
+ */
+public class CacheStatsMXBean implements ICacheStatsMXBean {
+
+	/**
+	 * The cache provider we report on
+	 */
+	private final ICacheProvider provider;
+
+	/**
+	 * Constructor
+	 *
+	 * @param provider The cache provider
+	 */
+	public CacheStatsMXBean( ICacheProvider provider ) {
+		this.provider = provider;
+	}
+
+	/**
+	 * Get the JMX object name for a cache provider
+	 *
+	 * @param provider The cache provider
+	 *
+	 * @return The object name
+	 */
+	public static String objectName( ICacheProvider provider ) {
+		return JMXUtil.objectName( "Cache", provider.getName().getName() );
+	}
+
+	@Override
+	public String getName() {
+		return this.provider.getName().getName();
+	}
+
+	@Override
+	public String getType() {
+		return this.provider.getType();
+	}
+
+	@Override
+	public int getObjectCount() {
+		return this.provider.getSize();
+	}
+
+	@Override
+	public int getHitRate() {
+		return this.provider.getStats().hitRate();
+	}
+
+	@Override
+	public long getHits() {
+		return this.provider.getStats().hits();
+	}
+
+	@Override
+	public long getMisses() {
+		return this.provider.getStats().misses();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return this.provider.getStats().evictionCount();
+	}
+
+	@Override
+	public long getGarbageCollections() {
+		return this.provider.getStats().garbageCollections();
+	}
+
+	@Override
+	public long getReapCount() {
+		return this.provider.getStats().reapCount();
+	}
+
+	@Override
+	public double getGetLatencyP50() {
+		return percentile( BoxCacheStats::getLatency, 50 );
+	}
+
+	@Override
+	public double getGetLatencyP99() {
+		return percentile( BoxCacheStats::getLatency, 99 );
+	}
+
+	@Override
+	public double getSetLatencyP50() {
+		return percentile( BoxCacheStats::setLatency, 50 );
+	}
+
+	@Override
+	public double getSetLatencyP99() {
+		return percentile( BoxCacheStats::setLatency, 99 );
+	}
+
+	@Override
+	public double getProviderLatencyP50() {
+		return percentile( BoxCacheStats::providerLatency, 50 );
+	}
+
+	@Override
+	public double getProviderLatencyP99() {
+		return percentile( BoxCacheStats::providerLatency, 99 );
+	}
+
+	@Override
+	public double getEvictionAgeP50() {
+		return percentile( BoxCacheStats::evictionAge, 50 );
+	}
+
+	@Override
+	public double getEvictionAgeP99() {
+		return percentile( BoxCacheStats::evictionAge, 99 );
+	}
+
+	@Override
+	public void resetStats() {
+		this.provider.clearStats();
+	}
+
+	/**
+	 * Get a percentile in milliseconds from one of the histograms of the provider stats
+	 *
+	 * @param histogram  The histogram accessor
+	 * @param percentile The percentile
+	 *
+	 * @return The value in milliseconds or 0 if the stats have no histograms
+	 */
+	private double percentile( Function<BoxCacheStats, LatencyHistogram> histogram, double percentile ) {
+		if ( this.provider.getStats() instanceof BoxCacheStats boxStats ) {
+			LatencyHistogram target = histogram.apply( boxStats );
+			return target.toMillis( target.percentile( percentile ) );
+		}
+		return 0;
+	}
+
+}
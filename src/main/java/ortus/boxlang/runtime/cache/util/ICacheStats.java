@@ -19,6 +19,7 @@ package ortus.boxlang.runtime.cache.util;
 
 import java.time.Instant;
 
+import ortus.boxlang.runtime.cache.ICacheEntry;
 import ortus.boxlang.runtime.types.IStruct;
 
 /**
@@ -122,6 +123,43 @@ public interface ICacheStats {
 	 */
 	public ICacheStats recordEviction();
 
+	/**
+	 * Record an eviction hit of an entry, implementations can track the age of the evicted entry.
+	 * By default it just records the eviction.
+	 *
+	 * @param entry The evicted entry
+	 */
+	public default ICacheStats recordEviction( ICacheEntry entry ) {
+		return recordEviction();
+	}
+
+	/**
+	 * Record the latency of a get operation. No-op by default.
+	 *
+	 * @param nanos The latency in nanoseconds
+	 */
+	public default ICacheStats recordGetLatency( long nanos ) {
+		return this;
+	}
+
+	/**
+	 * Record the latency of a set operation. No-op by default.
+	 *
+	 * @param nanos The latency in nanoseconds
+	 */
+	public default ICacheStats recordSetLatency( long nanos ) {
+		return this;
+	}
+
+	/**
+	 * Record the latency of a getOrSet() provider call. No-op by default.
+	 *
+	 * @param nanos The latency in nanoseconds
+	 */
+	public default ICacheStats recordProviderLatency( long nanos ) {
+		return this;
+	}
+
 	/**
 	 * Record a cache hit
 	 */
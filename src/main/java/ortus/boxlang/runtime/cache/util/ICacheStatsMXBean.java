@@ -0,0 +1,118 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.util;
+
+/**
+ * The JMX view of a cache provider's statistics, registered per provider as
+ * {@code ortus.boxlang:type=Cache,name={cacheName}}.
+ *
+ * Latencies are reported in milliseconds.
+ */
+public interface ICacheStatsMXBean {
+
+	/**
+	 * The name of the cache
+	 */
+	public String getName();
+
+	/**
+	 * The type of the cache provider
+	 */
+	public String getType();
+
+	/**
+	 * How many objects are in the cache
+	 */
+	public int getObjectCount();
+
+	/**
+	 * The hit rate in percentage
+	 */
+	public int getHitRate();
+
+	/**
+	 * The total hits
+	 */
+	public long getHits();
+
+	/**
+	 * The total misses
+	 */
+	public long getMisses();
+
+	/**
+	 * The total evictions
+	 */
+	public long getEvictionCount();
+
+	/**
+	 * The total garbage collections of soft references
+	 */
+	public long getGarbageCollections();
+
+	/**
+	 * The total reaps
+	 */
+	public long getReapCount();
+
+	/**
+	 * The median get latency in milliseconds
+	 */
+	public double getGetLatencyP50();
+
+	/**
+	 * The 99th percentile get latency in milliseconds
+	 */
+	public double getGetLatencyP99();
+
+	/**
+	 * The median set latency in milliseconds
+	 */
+	public double getSetLatencyP50();
+
+	/**
+	 * The 99th percentile set latency in milliseconds
+	 */
+	public double getSetLatencyP99();
+
+	/**
+	 * The median getOrSet() provider latency in milliseconds
+	 */
+	public double getProviderLatencyP50();
+
+	/**
+	 * The 99th percentile getOrSet() provider latency in milliseconds
+	 */
+	public double getProviderLatencyP99();
+
+	/**
+	 * The median age of evicted entries in milliseconds
+	 */
+	public double getEvictionAgeP50();
+
+	/**
+	 * The 99th percentile age of evicted entries in milliseconds
+	 */
+	public double getEvictionAgeP99();
+
+	/**
+	 * Reset the statistics
+	 */
+	public void resetStats();
+
+}
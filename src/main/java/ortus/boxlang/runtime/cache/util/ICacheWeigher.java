@@ -0,0 +1,41 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.util;
+
+/**
+ * A weigher estimates the retained size in bytes of a value stored in a cache.
+ * It is used by cache providers that support weight based eviction via the
+ * {@code maxWeightBytes} property.
+ *
+ * It is functional and can be used as a lambda or method reference.
+ *
+ * BoxLang ships with the {@link BoxCacheWeigher} which knows how to weigh BoxLang types.
+ */
+@FunctionalInterface
+public interface ICacheWeigher {
+
+	/**
+	 * Estimate the retained size of a value in bytes
+	 *
+	 * @param value The value to weigh, can be null
+	 *
+	 * @return The estimated size in bytes
+	 */
+	public long weigh( Object value );
+
+}
@@ -28,6 +28,7 @@ import ortus.boxlang.runtime.components.Component;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.context.RequestBoxContext;
 import ortus.boxlang.runtime.context.ThreadBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Array;
 import ortus.boxlang.runtime.types.IStruct;
@@ -69,7 +70,8 @@ public class Thread extends Component {
 		    new Attribute( Key.priority, "string", "normal", Set.of(
 		        Validator.valueOneOf( "high", "low", "normal" )
 		    ) ),
-		    new Attribute( Key.timeout, "integer" )
+		    new Attribute( Key.timeout, "integer" ),
+		    new Attribute( Key.virtual, "boolean" )
 		};
 	}
 
@@ -91,9 +93,13 @@ public class Thread extends Component {
 	 * @attribute.duration The number of milliseconds to pause the thread. This attribute is required if the action attribute is set to "sleep".
 	 *
 	 * @attribute.priority The priority of the thread. The default value is "normal". The following are the possible values: "high", "low", "normal".
+	 *                     Priorities are ignored by virtual threads.
 	 *
 	 * @attribute.timeout The number of milliseconds to wait for the thread to finish. If the thread does not finish within the specified time, the thread
 	 *                    is terminated. If the timeout attribute is not specified, the thread runs until it finishes.
+	 *
+	 * @attribute.virtual Run the thread as a virtual thread, ideal for I/O bound work. If not specified, the <code>virtualThreads</code>
+	 *                    application or runtime setting is used.
 	 */
 	public BodyResult _invoke( IBoxContext context, IStruct attributes, ComponentBody body, IStruct executionState ) {
 		Key		action		= Key.of( attributes.getAsString( Key.action ) );
@@ -101,11 +107,12 @@ public class Thread extends Component {
 		Integer	duration	= attributes.getAsInteger( Key.duration );
 		String	priority	= attributes.getAsString( Key.priority );
 		Integer	timeout		= attributes.getAsInteger( Key.timeout );
+		Boolean	virtual		= attributes.get( Key.virtual ) == null ? null : BooleanCaster.cast( attributes.get( Key.virtual ) );
 
 		if ( action.equals( Key.join ) ) {
 			join( context, name, timeout );
 		} else if ( action.equals( Key.run ) ) {
-			run( context, name, priority, attributes, body );
+			run( context, name, priority, attributes, body, virtual );
 		} else if ( action.equals( Key.sleep ) ) {
 			sleep( context, duration );
 		} else if ( action.equals( Key.terminate ) ) {
@@ -125,8 +132,9 @@ public class Thread extends Component {
 	 * @param priority   The priority of the thread
 	 * @param attributes The attributes to the Component
 	 * @param body       The body of the Component
+	 * @param virtual    Run it as a virtual thread, if null the settings decide
 	 */
-	private void run( IBoxContext context, String name, String priority, IStruct attributes, ComponentBody body ) {
+	private void run( IBoxContext context, String name, String priority, IStruct attributes, ComponentBody body, Boolean virtual ) {
 		RequestThreadManager	threadManager	= context.getParentOfType( RequestBoxContext.class ).getThreadManager();
 		final Key				nameKey			= RequestThreadManager.ensureThreadName( name );
 		ThreadBoxContext		tContext		= threadManager.createThreadContext( context, nameKey );
@@ -163,7 +171,9 @@ public class Thread extends Component {
 			    }
 		    },
 		    // The Struct of data to bind into the thread's scope
-		    attributes
+		    attributes,
+		    // Virtual or platform thread
+		    virtual
 		);
 
 	}
@@ -17,53 +17,21 @@
  */
 package ortus.boxlang.runtime.components.net;
 
-import java.io.File;
-import java.io.IOException;
-import java.net.ConnectException;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.URLConnection;
-import java.net.URLEncoder;
-import java.net.http.HttpClient;
-import java.net.http.HttpHeaders;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.Collectors;
 
 import ortus.boxlang.runtime.components.Attribute;
 import ortus.boxlang.runtime.components.BoxComponent;
 import ortus.boxlang.runtime.components.Component;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.ExpressionInterpreter;
-import ortus.boxlang.runtime.dynamic.casters.ArrayCaster;
-import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
-import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
-import ortus.boxlang.runtime.dynamic.casters.DoubleCaster;
 import ortus.boxlang.runtime.dynamic.casters.StringCaster;
-import ortus.boxlang.runtime.dynamic.casters.StructCaster;
-import ortus.boxlang.runtime.net.HTTPStatusReasons;
-import ortus.boxlang.runtime.net.HttpManager;
-import ortus.boxlang.runtime.net.HttpRequestMultipartBody;
-import ortus.boxlang.runtime.net.URIBuilder;
+import ortus.boxlang.runtime.net.HttpCall;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Array;
 import ortus.boxlang.runtime.types.IStruct;
-import ortus.boxlang.runtime.types.Query;
-import ortus.boxlang.runtime.types.QueryColumnType;
-import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.exceptions.BoxValidationException;
-import ortus.boxlang.runtime.util.FileSystemUtil;
-import ortus.boxlang.runtime.util.ResolvedFilePath;
 import ortus.boxlang.runtime.validation.Validator;
 
 @BoxComponent( allowsBody = true )
@@ -135,6 +103,9 @@ public class HTTP extends Component {
 		    new Attribute( Key.workstation, "string" ),
 		    new Attribute( Key.cachedWithin, "string" ),
 		    new Attribute( Key.encodeUrl, "boolean", true, Set.of( Validator.TYPE ) ),
+		    new Attribute( Key.onChunk, "function" ),
+		    new Attribute( Key.httpClient, "string", "default", Set.of( Validator.NON_EMPTY ) ),
+		    new Attribute( Key.cache, "any" ),
 		};
 	}
 
@@ -156,291 +127,21 @@ public class HTTP extends Component {
 			return bodyResult;
 		}
 
-		String	variableName	= StringCaster.cast( attributes.getOrDefault( Key.result, "bxhttp" ) );
-		String	theURL			= attributes.getAsString( Key.URL );
-		String	method			= StringCaster.cast( attributes.getOrDefault( Key.method, "GET" ) ).toUpperCase();
-		Array	params			= executionState.getAsArray( Key.HTTPParams );
-		Struct	HTTPResult		= new Struct();
-
-		URI		uri				= null;
+		String		variableName	= StringCaster.cast( attributes.getOrDefault( Key.result, "bxhttp" ) );
+		HttpCall	call			= HttpCall.prepare( context, attributes, executionState.getAsArray( Key.HTTPParams ) );
+		IStruct		HTTPResult;
 		try {
-			HttpRequest.Builder			builder			= HttpRequest.newBuilder();
-			URIBuilder					uriBuilder		= new URIBuilder( theURL );
-			HttpRequest.BodyPublisher	bodyPublisher	= null;
-			List<IStruct>				formFields		= new ArrayList<>();
-			List<IStruct>				files			= new ArrayList<>();
-			builder.header( "User-Agent", "BoxLang" );
-			for ( Object p : params ) {
-				IStruct	param	= StructCaster.cast( p );
-				String	type	= param.getAsString( Key.type );
-				switch ( type.toLowerCase() ) {
-					case "header" -> builder.header( param.getAsString( Key._NAME ), param.getAsString( Key.value ) );
-					case "body" -> {
-						if ( bodyPublisher != null ) {
-							throw new BoxRuntimeException( "Cannot use a body httpparam with an existing http body: " + bodyPublisher.toString() );
-						}
-						bodyPublisher = HttpRequest.BodyPublishers.ofString( param.getAsString( Key.value ) );
-					}
-					case "xml" -> {
-						if ( bodyPublisher != null ) {
-							throw new BoxRuntimeException( "Cannot use a xml httpparam with an existing http body: " + bodyPublisher.toString() );
-						}
-						builder.header( "Content-Type", "text/xml" );
-						bodyPublisher = HttpRequest.BodyPublishers.ofString( param.getAsString( Key.value ) );
-					}
-					// @TODO move URLEncoder.encode usage a non-deprecated method
-					case "cgi" -> builder.header( param.getAsString( Key._NAME ),
-					    java.net.URLEncoder.encode( param.getAsString( Key.value ), StandardCharsets.UTF_8 ) );
-					case "file" -> files.add( param );
-					case "url" -> uriBuilder.addParameter(
-					    param.getAsString( Key._NAME ),
-					    BooleanCaster.cast( param.getOrDefault( Key.encoded, true ) )
-					        ? URLEncoder.encode( StringCaster.cast( param.get( Key.value ) ), StandardCharsets.UTF_8 )
-					        : StringCaster.cast( param.get( Key.value ) )
-					);
-					case "formfield" -> formFields.add( param );
-					case "cookie" -> builder.header( "Cookie",
-					    param.getAsString( Key._NAME ) + "=" + URLEncoder.encode( param.getAsString( Key.value ), StandardCharsets.UTF_8 ) );
-					default -> throw new BoxRuntimeException( "Unhandled HTTPParam type: " + type );
-				}
-			}
-
-			if ( !files.isEmpty() ) {
-				if ( bodyPublisher != null ) {
-					throw new BoxRuntimeException( "Cannot use a multipart body with an existing http body: " + bodyPublisher.toString() );
-				}
-				HttpRequestMultipartBody.Builder multipartBodyBuilder = new HttpRequestMultipartBody.Builder();
-				for ( IStruct param : files ) {
-					ResolvedFilePath	path		= FileSystemUtil.expandPath( context, param.getAsString( Key.file ) );
-					File				file		= path.absolutePath().toFile();
-					String				mimeType	= Optional.ofNullable( param.getAsString( Key.mimetype ) )
-					    .orElseGet( () -> URLConnection.getFileNameMap().getContentTypeFor( file.getName() ) );
-					multipartBodyBuilder.addPart( param.getAsString( Key._name ), file, mimeType, file.getName() );
-				}
-
-				for ( IStruct formField : formFields ) {
-					multipartBodyBuilder.addPart( formField.getAsString( Key._name ), formField.getAsString( Key.value ) );
-				}
-				HttpRequestMultipartBody multipartBody = multipartBodyBuilder.build();
-				builder.header( "Content-Type", multipartBody.getContentType() );
-				bodyPublisher = HttpRequest.BodyPublishers.ofByteArray( multipartBody.getBody() );
-			} else if ( !formFields.isEmpty() ) {
-				if ( bodyPublisher != null ) {
-					throw new BoxRuntimeException( "Cannot use a formfield httpparam with an existing http body: " + bodyPublisher.toString() );
-				}
-				bodyPublisher = HttpRequest.BodyPublishers.ofString(
-				    formFields.stream()
-				        .map( formField -> {
-					        String value = formField.getAsString( Key.value );
-					        if ( BooleanCaster.cast( formField.getOrDefault( Key.encoded, true ) ) ) {
-						        value = URLEncoder.encode( value, StandardCharsets.UTF_8 );
-					        }
-					        return formField.getAsString( Key._name ) + "=" + value;
-				        } )
-				        .collect( Collectors.joining( "&" ) )
-				);
-				builder.header( "Content-Type", "application/x-www-form-urlencoded" );
-			}
-
-			if ( bodyPublisher == null ) {
-				bodyPublisher = HttpRequest.BodyPublishers.noBody();
-			}
-
-			builder.method( method, bodyPublisher );
-			uri = uriBuilder.build();
-			builder.uri( uri );
-			HttpRequest								request			= builder.build();
-			HttpClient								client			= HttpManager.getClient();
-			CompletableFuture<HttpResponse<String>>	inflightRequest	= client.sendAsync( request, HttpResponse.BodyHandlers.ofString() );
-			CompletableFuture<HttpResponse<String>>	winner			= inflightRequest;
-			if ( attributes.containsKey( Key.timeout ) ) {
-				winner = inflightRequest.applyToEither( HttpManager.getTimeoutRequestAsync( attributes.getAsInteger( Key.timeout ) ), result -> result );
-			}
-			HttpResponse<String>	response			= winner.get();
-
-			HttpHeaders				httpHeaders			= Optional.ofNullable( response.headers() )
-			    .orElse( HttpHeaders.of( Map.of(), ( a, b ) -> true ) );
-			IStruct					headers				= transformToResponseHeaderStruct(
-			    httpHeaders.map() );
-			String					httpVersionString	= response.version() == HttpClient.Version.HTTP_1_1 ? "HTTP/1.1" : "HTTP/2";
-			String					statusCodeString	= String.valueOf( response.statusCode() );
-			String					statusText			= HTTPStatusReasons.getReasonForStatus( response.statusCode() );
-
-			headers.put( Key.HTTP_Version, httpVersionString );
-			headers.put( Key.status_code, statusCodeString );
-			headers.put( Key.explanation, statusText );
-
-			HTTPResult.put( Key.responseHeader, headers );
-			HTTPResult.put( Key.header, generateHeaderString( generateStatusLine( httpVersionString, statusCodeString, statusText ), headers ) );
-			HTTPResult.put( Key.HTTP_Version, httpVersionString );
-			HTTPResult.put( Key.statusCode, response.statusCode() );
-			HTTPResult.put( Key.status_code, response.statusCode() );
-			HTTPResult.put( Key.statusText, statusText );
-			HTTPResult.put( Key.status_text, statusText );
-			HTTPResult.put( Key.fileContent, response.statusCode() == 408 ? "Request Timeout" : response.body() );
-			HTTPResult.put( Key.errorDetail, response.statusCode() == 408 ? response.body() : "" );
-			Optional<String> contentTypeHeader = httpHeaders.firstValue( "Content-Type" );
-			contentTypeHeader.ifPresent( ( contentType ) -> {
-				String[] contentTypeParts = contentType.split( ";\s*" );
-				if ( contentTypeParts.length > 0 ) {
-					HTTPResult.put( Key.mimetype, contentTypeParts[ 0 ] );
-				}
-				if ( contentTypeParts.length > 1 ) {
-					String charset = contentTypeParts[ 1 ].replace( "charset=", "" );
-					HTTPResult.put( Key.charset, charset );
-				}
-			} );
-			HTTPResult.put( Key.cookies, generateCookiesQuery( headers ) );
-
-			// Set the result back into the page
-			ExpressionInterpreter.setVariable( context, variableName, HTTPResult );
-
-			return DEFAULT_RETURN;
+			HTTPResult = call.toResult( call.send() );
 		} catch ( ExecutionException e ) {
-			Throwable innerException = e.getCause();
-			if ( innerException instanceof ConnectException ) {
-				HTTPResult.put( Key.responseHeader, Struct.EMPTY );
-				HTTPResult.put( Key.header, "" );
-				HTTPResult.put( Key.statusCode, 502 );
-				HTTPResult.put( Key.status_code, 502 );
-				HTTPResult.put( Key.statusText, "Bad Gateway" );
-				HTTPResult.put( Key.status_text, "Bad Gateway" );
-				HTTPResult.put( Key.fileContent, "Connection Failure" );
-				if ( uri != null ) {
-					HTTPResult.put( Key.errorDetail, String.format( "Unknown host: %s: Name or service not known.", uri.getHost() ) );
-				} else {
-					HTTPResult.put( Key.errorDetail, String.format( "Unknown host: %s: Name or service not known.", theURL ) );
-				}
-				ExpressionInterpreter.setVariable( context, variableName, HTTPResult );
-			} else {
-				throw new BoxRuntimeException( innerException.getMessage() );
-			}
-			return DEFAULT_RETURN;
-		} catch ( URISyntaxException | InterruptedException | IOException e ) {
-			throw new BoxRuntimeException( e.getMessage(), e );
-		}
-	}
-
-	private Query generateCookiesQuery( IStruct headers ) {
-		Query cookies = new Query();
-		cookies.addColumn( Key._NAME, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.value, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.path, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.domain, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.expires, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.secure, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.httpOnly, QueryColumnType.VARCHAR );
-		cookies.addColumn( Key.samesite, QueryColumnType.VARCHAR );
-
-		Object				cookieValue		= headers.getOrDefault( Key.of( "Set-Cookie" ), new Array() );
-		CastAttempt<Array>	isValuesArray	= ArrayCaster.attempt( cookieValue );
-		if ( isValuesArray.wasSuccessful() ) {
-			Array values = isValuesArray.getOrFail();
-			for ( Object value : values ) {
-				parseCookieStringIntoQuery( StringCaster.cast( value ), cookies );
-			}
-		} else {
-			parseCookieStringIntoQuery( StringCaster.cast( cookieValue ), cookies );
-		}
-
-		return cookies;
-	}
-
-	private void parseCookieStringIntoQuery( String cookieString, Query cookies ) {
-		IStruct		cookieStruct;
-		String[]	parts	= cookieString.split( ";" );
-		if ( parts.length == 0 ) {
-			return;
-		}
-
-		String[] nameAndValue = parts[ 0 ].split( "=" );
-		if ( nameAndValue.length != 2 ) {
-			return;
-		}
-
-		cookieStruct = new Struct();
-		cookieStruct.put( Key._NAME, nameAndValue[ 0 ] );
-		cookieStruct.put( Key.value, nameAndValue[ 1 ] );
-
-		if ( parts.length > 1 ) {
-			Arrays.stream( parts, 1, parts.length )
-			    .forEach( metadata -> {
-				    String[] metadataParts = metadata.split( "=" );
-				    if ( metadataParts.length == 0 ) {
-					    return;
-				    }
-				    Key	metadataType	= Key.of( metadataParts[ 0 ] );
-				    Object metadataValue = true;
-				    if ( metadataParts.length == 2 ) {
-					    metadataValue = metadataParts[ 1 ];
-				    }
-
-				    if ( metadataType.equals( Key.of( "max-age" ) ) ) {
-					    metadataType = Key.expires;
-					    metadataValue = StringCaster.cast( DoubleCaster.cast( metadataValue ) / 60 / 60 / 24 );
-				    }
-
-				    cookieStruct.put( metadataType, metadataValue );
-			    } );
-		}
-
-		cookies.add( cookieStruct );
-	}
-
-	private String generateStatusLine( String httpVersionString, String statusCodeString, String statusText ) {
-		return httpVersionString + " " + statusCodeString + " " + statusText;
-	}
-
-	private String generateHeaderString( String statusLine, IStruct headers ) {
-		return statusLine + " " + headers.entrySet()
-		    .stream()
-		    .sorted( Map.Entry.comparingByKey() )
-		    .map( entry -> {
-			    StringBuilder	sb				= new StringBuilder();
-			    Object			headerValues	= entry.getValue();
-			    CastAttempt<Array> isValuesArray = ArrayCaster.attempt( headerValues );
-			    if ( isValuesArray.wasSuccessful() ) {
-				    Array values = isValuesArray.getOrFail();
-				    for ( Object value : values ) {
-					    String headerValue = StringCaster.cast( value );
-					    sb.append( entry.getKey().getName() + ": " + headerValue + " " );
-				    }
-			    } else {
-				    String headerValue = StringCaster.cast( headerValues );
-				    sb.append( entry.getKey().getName() + ": " + headerValue + " " );
-			    }
-			    return sb.toString().trim();
-		    } ).collect( Collectors.joining( " " ) );
-	}
-
-	private IStruct transformToResponseHeaderStruct( Map<String, List<String>> headersMap ) {
-		IStruct responseHeaders = new Struct();
-
-		if ( headersMap == null ) {
-			return responseHeaders;
-		}
-
-		// Add all the headers to our struct
-		for ( String headerName : headersMap.keySet() ) {
-			if ( ":status".equals( headerName ) ) {
-				continue;
+			HTTPResult = call.toErrorResult( e );
+			if ( HTTPResult == null ) {
+				throw new BoxRuntimeException( e.getCause().getMessage() );
 			}
-			Key		headerNameKey	= Key.of( headerName );
-			Array	values			= ( Array ) responseHeaders.getOrDefault( headerNameKey, new Array() );
-			values.addAll( headersMap.get( headerName ) );
-			responseHeaders.put( headerNameKey, values );
 		}
 
-		for ( Key structHeaderKey : responseHeaders.keySet() ) {
-			CastAttempt<Array> isValuesArray = ArrayCaster.attempt( responseHeaders.get( structHeaderKey ) );
-			if ( isValuesArray.wasSuccessful() ) {
-				Array values = isValuesArray.getOrFail();
-				if ( values.size() == 1 ) {
-					responseHeaders.put( structHeaderKey, values.get( 0 ) );
-				}
-			}
-		}
+		// Set the result back into the page
+		ExpressionInterpreter.setVariable( context, variableName, HTTPResult );
 
-		return responseHeaders;
+		return DEFAULT_RETURN;
 	}
 }
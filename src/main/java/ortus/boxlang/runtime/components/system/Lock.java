@@ -17,19 +17,18 @@
  */
 package ortus.boxlang.runtime.components.system;
 
-import java.lang.ref.Reference;
-import java.lang.ref.ReferenceQueue;
-import java.lang.ref.WeakReference;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import ortus.boxlang.runtime.components.Attribute;
 import ortus.boxlang.runtime.components.BoxComponent;
 import ortus.boxlang.runtime.components.Component;
 import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.RequestBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.DoubleCaster;
+import ortus.boxlang.runtime.dynamic.casters.StringCaster;
 import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.services.LockService;
+import ortus.boxlang.runtime.services.LockService.HeldLock;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.exceptions.LockException;
@@ -38,8 +37,10 @@ import ortus.boxlang.runtime.validation.Validator;
 @BoxComponent( requiresBody = true )
 public class Lock extends Component {
 
-	private ConcurrentHashMap<String, WeakReference<ReentrantReadWriteLock>>	lockMap	= new ConcurrentHashMap<>();
-	private ReferenceQueue<ReentrantReadWriteLock>								queue	= new ReferenceQueue<>();
+	/**
+	 * The service that holds the named locks
+	 */
+	private final LockService lockService = runtime.getLockService();
 
 	public Lock() {
 		super();
@@ -47,7 +48,7 @@ public class Lock extends Component {
 		    new Attribute( Key._NAME, "string", Set.of( Validator.NON_EMPTY ) ),
 		    new Attribute( Key.scope, "string" ),
 		    new Attribute( Key.type, "string", "exclusive", Set.of( Validator.valueOneOf( "readonly", "exclusive" ) ) ),
-		    new Attribute( Key.timeout, "Integer", Set.of( Validator.REQUIRED, Validator.min( 0 ) ) ),
+		    new Attribute( Key.timeout, "numeric", Set.of( Validator.REQUIRED, Validator.min( 0 ) ) ),
 		    new Attribute( Key.throwOnTimeout, "boolean", true )
 			// Lucee supports a "result" attribute, but it doesn't seem very useful and its docs don't even seem to match its implementation!.
 			// We can add it if it's really needed.
@@ -74,8 +75,9 @@ public class Lock extends Component {
 	 * 
 	 * @attribute.type readOnly: lets more than one request read shared data. exclusive: lets one request read or write shared data.
 	 * 
-	 * @attribute.timeout Maximum length of time, in seconds, to wait to obtain a lock. If lock is obtained, tag execution continues. Otherwise, behavior
-	 *                    depends on throwOnTimeout attribute value. A value of 0 will wait forever.
+	 * @attribute.timeout Maximum length of time, in seconds, to wait to obtain a lock. Fractions of a second are honored. If lock is obtained, tag execution continues. Otherwise, behavior
+	 *                    depends on throwOnTimeout attribute value. A value of 0 will wait as long as the request timeout allows,
+	 *                    or forever if there is none.
 	 * 
 	 * @attribute.throwOnTimeout True: if lock is not obtained within the timeout period, a runtime exception is thrown. False: if lock is not obtained,
 	 *                           the body of the component is skipped and execution continues without running the statements in the component.
@@ -86,111 +88,64 @@ public class Lock extends Component {
 		String	type			= attributes.getAsString( Key.type ).toLowerCase();
 		String	name			= attributes.getAsString( Key._NAME );
 		String	scope			= attributes.getAsString( Key.scope );
-		Integer	timeout			= attributes.getAsInteger( Key.timeout );
+		Double	timeout			= DoubleCaster.cast( attributes.get( Key.timeout ) );
 		Boolean	throwOnTimeout	= attributes.getAsBoolean( Key.throwOnTimeout );
 
-		String	lockName;
+		Key		lockName;
 
 		if ( name != null ) {
-			lockName = name.toLowerCase();
+			lockName = Key.of( name );
 		} else if ( scope != null ) {
-			lockName = "scope_lock_" + context.getScopeNearby( Key.of( scope ) ).getLockName();
+			lockName = Key.of( "scope_lock_" + context.getScopeNearby( Key.of( scope ) ).getLockName() );
 		} else {
 			throw new BoxRuntimeException( "Lock requires either a 'name' or 'scope' attribute to be provided." );
 		}
-		ReentrantReadWriteLock				lock		= getLockByName( lockName );
-		ReentrantReadWriteLock.ReadLock		readLock	= lock.readLock();
-		ReentrantReadWriteLock.WriteLock	writeLock	= lock.writeLock();
-
-		java.util.concurrent.locks.Lock		lockToUse	= null;
-		try {
-			// Will be set to false if we time out
-			boolean acquired;
-			if ( type.equals( "readonly" ) ) {
-				// TODO: Once we implement request timeouts, 0 should be treated as as long as the request timeout
-				if ( timeout == 0 ) {
-					readLock.lock();
-					lockToUse	= readLock;
-					acquired	= true;
-				} else {
-					acquired	= readLock.tryLock( timeout, TimeUnit.SECONDS );
-					lockToUse	= readLock;
-				}
-			} else if ( type.equals( "exclusive" ) ) {
-				// TODO: Once we implement request timeouts, 0 should be treated as as long as the request timeout
-				if ( timeout == 0 ) {
-					writeLock.lock();
-					lockToUse	= writeLock;
-					acquired	= true;
-				} else {
-					acquired	= writeLock.tryLock( timeout, TimeUnit.SECONDS );
-					lockToUse	= writeLock;
-				}
-			} else {
-				// This will never happen based on the attribute validation, but the compiler doens't know that so it wants this
-				throw new BoxRuntimeException( "Lock type [" + type + "] is not supported" );
-			}
 
-			if ( !acquired ) {
-				if ( throwOnTimeout ) {
-					throw new LockException( "Timeout of [" + timeout + "] seconds reached while waiting to acquire lock [" + lockName + "]", lockName,
-					    "timeout" );
-				} else {
-					// No need to release anything, because we never aquired it!s
-					return DEFAULT_RETURN;
-				}
-			}
-
-			try {
-				// process the body
-				BodyResult bodyResult = processBody( context, body );
-				// IF there was a return statement inside our body, we early exit now
-				if ( bodyResult.isEarlyExit() ) {
-					return bodyResult;
-				}
-				return DEFAULT_RETURN;
-			} finally {
-				// unlock the lock
-				lockToUse.unlock();
+		// Round up, so a sub-millisecond timeout doesn't become 0 and wait forever
+		long timeoutMillis = ( long ) Math.ceil( timeout * 1000 );
+		// A timeout of 0 waits as long as the request is allowed to run
+		if ( timeoutMillis == 0 ) {
+			RequestBoxContext	requestContext	= context.getParentOfType( RequestBoxContext.class );
+			Long				remaining		= requestContext == null ? null : requestContext.getRequestTimeRemaining();
+			if ( remaining != null ) {
+				timeoutMillis = Math.max( 1L, remaining );
 			}
+		}
 
+		HeldLock lock;
+		try {
+			lock = lockService.acquire( lockName, type.equals( "exclusive" ), timeoutMillis );
 		} catch ( InterruptedException e ) {
 			// This doesn't apply to the lock timing out. This just means our current thread was interuppted while waiting for the lock
-			throw new LockException( "Interrupted while waiting for lock", "", lockName, "interrupted", e );
+			Thread.currentThread().interrupt();
+			throw new LockException( "Interrupted while waiting for lock", "", lockName.getName(), "interrupted", e );
 		}
-	}
 
-	/**
-	 * Get the lock to use. A soft reference store will allow unused locks to be garbage collected
-	 * 
-	 * @param lockName The name of the lock to get
-	 * 
-	 * @return The lock to use
-	 */
-	private ReentrantReadWriteLock getLockByName( String lockName ) {
-		cleanUp(); // Clean up garbage collected references before getting the lock
-
-		// For high concurrency, this opts for possibly attempting to create the lock more than once for the
-		// benifit of never locking the entire map.
-		while ( true ) {
-			WeakReference<ReentrantReadWriteLock>	lockRef	= lockMap.computeIfAbsent( lockName,
-			    key -> new WeakReference<>( new ReentrantReadWriteLock(), queue ) );
-			ReentrantReadWriteLock					lock	= lockRef.get();
-
-			if ( lock != null ) {
-				return lock;
+		if ( lock == null ) {
+			// If we ran out of request time rather than lock time, that's a request timeout
+			if ( timeout == 0 ) {
+				context.getParentOfType( RequestBoxContext.class ).enforceRequestTimeout();
 			}
-
-			// If we reach here, it means the WeakReference was garbage collected between the computeIfAbsent and get calls.
-			// We remove the entry from the map and try again.
-			lockMap.remove( lockName, lockRef );
+			if ( throwOnTimeout ) {
+				throw new LockException(
+				    "Timeout of [" + StringCaster.cast( timeout ) + "] seconds reached while waiting to acquire lock [" + lockName.getName() + "]",
+				    lockName.getName(),
+				    "timeout" );
+			}
+			// No need to release anything, because we never aquired it!
+			return DEFAULT_RETURN;
 		}
-	}
 
-	private void cleanUp() {
-		Reference<? extends ReentrantReadWriteLock> ref;
-		while ( ( ref = queue.poll() ) != null ) {
-			lockMap.values().remove( ref );
+		try {
+			// process the body
+			BodyResult bodyResult = processBody( context, body );
+			// IF there was a return statement inside our body, we early exit now
+			if ( bodyResult.isEarlyExit() ) {
+				return bodyResult;
+			}
+			return DEFAULT_RETURN;
+		} finally {
+			lock.release();
 		}
 	}
 }
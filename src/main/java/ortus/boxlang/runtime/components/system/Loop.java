@@ -17,6 +17,11 @@
  */
 package ortus.boxlang.runtime.components.system;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Set;
 
 import ortus.boxlang.runtime.components.Attribute;
@@ -31,6 +36,7 @@ import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Array;
 import ortus.boxlang.runtime.types.Function;
 import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.exceptions.BoxIOException;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.util.ListUtil;
 import ortus.boxlang.runtime.util.FileSystemUtil;
@@ -205,27 +211,40 @@ public class Loop extends Component {
 	}
 
 	private BodyResult _invokeFile( IBoxContext context, String file, String index, ComponentBody body, IStruct executionState, String label ) {
-		String		fileContents	= StringCaster.cast( FileSystemUtil.read( file ) );
-		// loop over lines
-		String[]	lines			= fileContents.split( "\r?\n" );
+		// Remote files are read whole, local files are streamed a line at a time
+		if ( file.regionMatches( true, 0, "http", 0, 4 ) ) {
+			String fileContents = StringCaster.cast( FileSystemUtil.read( file ) );
+			return _invokeLines( context, new BufferedReader( new StringReader( fileContents ) ), index, body, label );
+		}
+		try ( BufferedReader reader = Files.newBufferedReader( Path.of( file ), FileSystemUtil.DEFAULT_CHARSET ) ) {
+			return _invokeLines( context, reader, index, body, label );
+		} catch ( IOException e ) {
+			throw new BoxIOException( e );
+		}
+	}
 
-		// Loop over array, executing body every time
-		for ( int i = 0; i < lines.length; i++ ) {
-			String thisLine = lines[ i ];
-			// Set the index and item variables
-			ExpressionInterpreter.setVariable( context, index, thisLine );
-			// Run the code inside of the output loop
-			BodyResult bodyResult = processBody( context, body );
-			// IF there was a return statement inside our body, we early exit now
-			if ( bodyResult.isEarlyExit() ) {
-				if ( bodyResult.isContinue( label ) ) {
-					continue;
-				} else if ( bodyResult.isBreak( label ) ) {
-					break;
-				} else {
-					return bodyResult;
+	private BodyResult _invokeLines( IBoxContext context, BufferedReader reader, String index, ComponentBody body, String label ) {
+		String thisLine;
+		try {
+			// Loop over lines, executing body every time
+			while ( ( thisLine = reader.readLine() ) != null ) {
+				// Set the index and item variables
+				ExpressionInterpreter.setVariable( context, index, thisLine );
+				// Run the code inside of the output loop
+				BodyResult bodyResult = processBody( context, body );
+				// IF there was a return statement inside our body, we early exit now
+				if ( bodyResult.isEarlyExit() ) {
+					if ( bodyResult.isContinue( label ) ) {
+						continue;
+					} else if ( bodyResult.isBreak( label ) ) {
+						break;
+					} else {
+						return bodyResult;
+					}
 				}
 			}
+		} catch ( IOException e ) {
+			throw new BoxIOException( e );
 		}
 		return DEFAULT_RETURN;
 	}
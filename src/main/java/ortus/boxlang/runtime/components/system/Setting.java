@@ -69,7 +69,7 @@ public class Setting extends Component {
 		}
 		if ( requestTimeout != null ) {
 			// This will change the setting for the request of the request
-			requestContext.setRequestTimeout( requestTimeout );
+			requestContext.setRequestTimeout( requestTimeout * 1000 );
 		}
 		if ( showDebugOutput != null ) {
 			// This will change the setting for the request of the request
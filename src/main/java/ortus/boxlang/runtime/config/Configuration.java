@@ -39,6 +39,7 @@ import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.config.segments.CacheConfig;
 import ortus.boxlang.runtime.config.segments.DatasourceConfig;
 import ortus.boxlang.runtime.config.segments.ExecutorConfig;
+import ortus.boxlang.runtime.config.segments.HttpClientConfig;
 import ortus.boxlang.runtime.config.segments.IConfigSegment;
 import ortus.boxlang.runtime.config.segments.ModuleConfig;
 import ortus.boxlang.runtime.config.segments.SecurityConfig;
@@ -141,6 +142,13 @@ public class Configuration implements IConfigSegment {
 	 */
 	public Boolean				sessionManagement				= false;
 
+	/**
+	 * Run the threads created by bx:thread and threadNew() as virtual threads instead of platform threads.
+	 * Applications can override it with {@code this.virtualThreads} and each thread via its {@code virtual} attribute.
+	 * {@code false} by default
+	 */
+	public Boolean				virtualThreads					= false;
+
 	/**
 	 * The default session storage cache. This has to be the name of a registered
 	 * cache
@@ -235,6 +243,11 @@ public class Configuration implements IConfigSegment {
 	 */
 	public IStruct				executors						= new Struct();
 
+	/**
+	 * A collection of all the registered HTTP client profiles
+	 */
+	public IStruct				httpClients						= new Struct();
+
 	/**
 	 * Valid BoxLang class extensions
 	 */
@@ -250,6 +263,11 @@ public class Configuration implements IConfigSegment {
 	 */
 	public IStruct				experimental					= new Struct();
 
+	/**
+	 * The asynchronous log file writing settings: { bufferSize, overflowPolicy, flushBatchSize, flushInterval, maxOpenFiles, idleTimeout }
+	 */
+	public IStruct				logging							= new Struct();
+
 	/**
 	 * The security configuration
 	 */
@@ -352,6 +370,12 @@ public class Configuration implements IConfigSegment {
 			    .ifSuccessful( value -> this.sessionManagement = value );
 		}
 
+		// Virtual Threads
+		if ( config.containsKey( Key.virtualThreads ) ) {
+			BooleanCaster.attempt( PlaceholderHelper.resolve( config.get( Key.virtualThreads ) ) )
+			    .ifSuccessful( value -> this.virtualThreads = value );
+		}
+
 		// Session Storage
 		if ( config.containsKey( Key.sessionStorage ) && StringCaster.cast( config.get( "sessionStorage" ) ).length() > 0 ) {
 			this.sessionStorage = PlaceholderHelper.resolve( config.get( "sessionStorage" ) );
@@ -487,6 +511,27 @@ public class Configuration implements IConfigSegment {
 			}
 		}
 
+		// Process HTTP client profiles
+		if ( config.containsKey( Key.httpClients ) ) {
+			if ( config.get( Key.httpClients ) instanceof IStruct castedClients ) {
+				// Process each profile configuration
+				castedClients
+				    .entrySet()
+				    .forEach( entry -> {
+					    if ( entry.getValue() instanceof IStruct castedMap ) {
+						    HttpClientConfig httpClientConfig = new HttpClientConfig( entry.getKey() )
+						        .process( StructCaster.cast( castedMap ) );
+						    this.httpClients.put( httpClientConfig.name, httpClientConfig );
+					    } else {
+						    logger.warn( "The [httpClients.{}] configuration is not a JSON Object, ignoring it.",
+						        entry.getKey() );
+					    }
+				    } );
+			} else {
+				logger.warn( "The [httpClients] configuration is not a JSON Object, ignoring it." );
+			}
+		}
+
 		// Process validClassExtensions
 		if ( config.containsKey( Key.validClassExtensions ) ) {
 			if ( config.get( Key.validClassExtensions ) instanceof List<?> castedList ) {
@@ -518,6 +563,15 @@ public class Configuration implements IConfigSegment {
 			}
 		}
 
+		// Process logging settings
+		if ( config.containsKey( Key.logging ) ) {
+			if ( config.get( Key.logging ) instanceof IStruct castedStruct ) {
+				castedStruct.entrySet().forEach( entry -> this.logging.put( entry.getKey(), PlaceholderHelper.resolve( entry.getValue() ) ) );
+			} else {
+				logger.warn( "The [runtime.logging] configuration is not a JSON Object, ignoring it." );
+			}
+		}
+
 		// Process default datasource configuration
 		if ( config.containsKey( Key.defaultDatasource ) ) {
 			this.defaultDatasource = PlaceholderHelper.resolve( config.get( Key.defaultDatasource ) );
@@ -832,6 +886,10 @@ public class Configuration implements IConfigSegment {
 		this.executors.entrySet()
 		    .forEach( entry -> executorsCopy.put( entry.getKey(), ( ( ExecutorConfig ) entry.getValue() ).toStruct() ) );
 
+		IStruct httpClientsCopy = new Struct();
+		this.httpClients.entrySet()
+		    .forEach( entry -> httpClientsCopy.put( entry.getKey(), ( ( HttpClientConfig ) entry.getValue() ).toStruct() ) );
+
 		IStruct datsourcesCopy = new Struct();
 		this.datasources.entrySet()
 		    .forEach( entry -> datsourcesCopy.put( entry.getKey(), ( ( DatasourceConfig ) entry.getValue() ).asStruct() ) );
@@ -853,9 +911,11 @@ public class Configuration implements IConfigSegment {
 		    Key.defaultRemoteMethodReturnFormat, this.defaultRemoteMethodReturnFormat,
 		    Key.executors, executorsCopy,
 		    Key.experimental, Struct.fromMap( this.experimental ),
+		    Key.httpClients, httpClientsCopy,
 		    Key.invokeImplicitAccessor, this.invokeImplicitAccessor,
 		    Key.javaLibraryPaths, Array.fromList( this.javaLibraryPaths ),
 		    Key.locale, this.locale,
+		    Key.logging, Struct.fromMap( this.logging ),
 		    Key.mappings, mappingsCopy,
 		    Key.modules, modulesCopy,
 		    Key.modulesDirectory, Array.fromList( this.modulesDirectory ),
@@ -871,6 +931,7 @@ public class Configuration implements IConfigSegment {
 		    Key.useHighPrecisionMath, this.useHighPrecisionMath,
 		    Key.validExtensions, Array.fromSet( getValidExtensions() ),
 		    Key.validClassExtensions, Array.fromSet( this.validClassExtensions ),
-		    Key.validTemplateExtensions, Array.fromSet( this.validTemplateExtensions ) );
+		    Key.validTemplateExtensions, Array.fromSet( this.validTemplateExtensions ),
+		    Key.virtualThreads, this.virtualThreads );
 	}
 }
@@ -66,6 +66,9 @@ public class CacheConfig {
 	    "freeMemoryPercentageThreshold", 0,
 	    // The maximum number of objects to store in the cache
 	    "maxObjects", 1000,
+	    // The maximum estimated weight in bytes of all the objects in the cache
+	    // 0 = disabled, else objects are evicted using the policy until the cache is under this weight
+	    "maxWeightBytes", 0,
 	    // The maximum in seconds to keep an object in the cache since it's last access
 	    // So if an object is not accessed in this time or greater, it will be removed from the cache
 	    "defaultLastAccessTimeout", 30 * 60,
@@ -75,15 +78,25 @@ public class CacheConfig {
 	    // The object store to use to store the objects.
 	    // The default is a ConcurrentStore which is a memory sensitive store
 	    "objectStore", "ConcurrentStore",
+	    // If enabled, stores that support it keep a sorted index of the keys so filters with a literal prefix
+	    // (e.g. "myapp_*") only look at the matching keys instead of scanning every key in the store
+	    "prefixIndex", false,
 	    // The frequency in seconds to check for expired objects and expire them using the policy
 	    // This creates a BoxLang task that runs every X seconds to check for expired objects
 	    "reapFrequency", 2 * 60,
+	    // Refresh-ahead factor: a fraction (0-1) of an entry's timeout after which a getOrSet() hit
+	    // triggers an async recompute of the value while the current value keeps being served.
+	    // 0 = disabled, 0.8 = refresh once an entry has lived 80% of its timeout
+	    "refreshAheadFactor", 0,
 	    // If enabled, the last access timeout will be reset on every access
 	    // This means that the last access timeout will be reset to the defaultLastAccessTimeout on every access
 	    // Usually for session caches or to simulate a session
 	    "resetTimeoutOnAccess", false,
 	    // If enabled, the last access timeout will be used to evict objects from the cache
-	    "useLastAccessTimeouts", true
+	    "useLastAccessTimeouts", true,
+	    // The weigher used to estimate object sizes when maxWeightBytes is enabled
+	    // The default is the BoxCacheWeigher, or use a class path to your own ICacheWeigher
+	    "weigher", "BoxCacheWeigher"
 	);
 
 	/**
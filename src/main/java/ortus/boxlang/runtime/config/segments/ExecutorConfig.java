@@ -17,8 +17,10 @@
  */
 package ortus.boxlang.runtime.config.segments;
 
+import ortus.boxlang.runtime.async.executors.ExecutorMetrics;
 import ortus.boxlang.runtime.config.util.PlaceholderHelper;
 import ortus.boxlang.runtime.dynamic.casters.IntegerCaster;
+import ortus.boxlang.runtime.dynamic.casters.LongCaster;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.services.AsyncService;
 import ortus.boxlang.runtime.types.IStruct;
@@ -39,12 +41,22 @@ public class ExecutorConfig {
 	/**
 	 * The type of the executor. Fixed is the default
 	 */
-	public String	type		= "FIXED";
+	public String	type				= "FIXED";
 
 	/**
 	 * The number of threads, if any
 	 */
-	public int		maxThreads	= AsyncService.DEFAULT_MAX_THREADS;
+	public int		maxThreads			= AsyncService.DEFAULT_MAX_THREADS;
+
+	/**
+	 * The queue depth at which the executor is considered saturated, 0 disables it
+	 */
+	public int		queueDepthThreshold	= ExecutorMetrics.DEFAULT_QUEUE_DEPTH_THRESHOLD;
+
+	/**
+	 * The time in milliseconds a task can wait to start before the executor is considered saturated, 0 disables it
+	 */
+	public long		queueWaitThreshold	= ExecutorMetrics.DEFAULT_QUEUE_WAIT_THRESHOLD;
 
 	/**
 	 * --------------------------------------------------------------------------
@@ -98,6 +110,14 @@ public class ExecutorConfig {
 			this.maxThreads = IntegerCaster.cast( PlaceholderHelper.resolve( config.get( "maxThreads" ) ) );
 		}
 
+		if ( config.containsKey( "queueDepthThreshold" ) ) {
+			this.queueDepthThreshold = IntegerCaster.cast( PlaceholderHelper.resolve( config.get( "queueDepthThreshold" ) ) );
+		}
+
+		if ( config.containsKey( "queueWaitThreshold" ) ) {
+			this.queueWaitThreshold = LongCaster.cast( PlaceholderHelper.resolve( config.get( "queueWaitThreshold" ) ) );
+		}
+
 		return this;
 	}
 
@@ -109,7 +129,9 @@ public class ExecutorConfig {
 		return Struct.of(
 		    "name", this.name,
 		    "type", this.type,
-		    "maxThreads", this.maxThreads
+		    "maxThreads", this.maxThreads,
+		    "queueDepthThreshold", this.queueDepthThreshold,
+		    "queueWaitThreshold", this.queueWaitThreshold
 		);
 	}
 
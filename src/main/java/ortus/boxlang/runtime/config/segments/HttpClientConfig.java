@@ -0,0 +1,188 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.config.segments;
+
+import ortus.boxlang.runtime.config.util.PlaceholderHelper;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
+import ortus.boxlang.runtime.dynamic.casters.IntegerCaster;
+import ortus.boxlang.runtime.dynamic.casters.LongCaster;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+/**
+ * A BoxLang HTTP Client Configuration Segment
+ * <p>
+ * This segment defines a named HTTP client profile. The {@code http} component picks a profile via its
+ * {@code httpClient} attribute and every profile gets its own pooled client.
+ */
+public class HttpClientConfig {
+
+	/**
+	 * The name of the default profile
+	 */
+	public static final String	DEFAULT_NAME	= "default";
+
+	/**
+	 * The name of the profile
+	 */
+	public String				name			= DEFAULT_NAME;
+
+	/**
+	 * The preferred HTTP version: HTTP_2 or HTTP_1_1. HTTP/2 falls back to HTTP/1.1 when the server does not support it
+	 */
+	public String				httpVersion		= "HTTP_2";
+
+	/**
+	 * The connect timeout in seconds, 0 means no timeout
+	 */
+	public long					connectTimeout	= 30;
+
+	/**
+	 * The redirect policy: NORMAL, NEVER or ALWAYS
+	 */
+	public String				redirect		= "NORMAL";
+
+	/**
+	 * Whether the client runs its work on virtual threads instead of its default cached pool
+	 */
+	public boolean				virtualThreads	= false;
+
+	/**
+	 * The proxy server, if any
+	 */
+	public String				proxyServer		= "";
+
+	/**
+	 * The proxy port
+	 */
+	public int					proxyPort		= 80;
+
+	/**
+	 * The proxy user, if the proxy requires authentication
+	 */
+	public String				proxyUser		= "";
+
+	/**
+	 * The proxy password
+	 */
+	public String				proxyPassword	= "";
+
+	/**
+	 * The name of the cache that stores the GET responses of this profile, empty for no response caching. The
+	 * {@code cache} attribute of the {@code http} component overrides it per request.
+	 */
+	public String				cache			= "";
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Default Empty Constructor
+	 */
+	public HttpClientConfig() {
+		// Default all things
+	}
+
+	/**
+	 * Constructor by name
+	 *
+	 * @param name The name of the profile
+	 */
+	public HttpClientConfig( String name ) {
+		this.name = name;
+	}
+
+	/**
+	 * Constructor by name
+	 *
+	 * @param name The name key of the profile
+	 */
+	public HttpClientConfig( Key name ) {
+		this.name = name.getName();
+	}
+
+	/**
+	 * Processes the configuration struct. Each segment is processed individually from the initial configuration struct.
+	 *
+	 * @param config the configuration struct
+	 *
+	 * @return the configuration
+	 */
+	public HttpClientConfig process( IStruct config ) {
+		if ( config.containsKey( "httpVersion" ) ) {
+			this.httpVersion = PlaceholderHelper.resolve( config.get( "httpVersion" ) ).toUpperCase().replace( '.', '_' ).replace( "HTTP/", "HTTP_" );
+		}
+
+		if ( config.containsKey( "connectTimeout" ) ) {
+			this.connectTimeout = LongCaster.cast( PlaceholderHelper.resolve( config.get( "connectTimeout" ) ) );
+		}
+
+		if ( config.containsKey( "redirect" ) ) {
+			this.redirect = PlaceholderHelper.resolve( config.get( "redirect" ) ).toUpperCase();
+		}
+
+		if ( config.containsKey( "virtualThreads" ) ) {
+			this.virtualThreads = BooleanCaster.cast( PlaceholderHelper.resolve( config.get( "virtualThreads" ) ) );
+		}
+
+		if ( config.containsKey( "proxyServer" ) ) {
+			this.proxyServer = PlaceholderHelper.resolve( config.get( "proxyServer" ) );
+		}
+
+		if ( config.containsKey( "proxyPort" ) ) {
+			this.proxyPort = IntegerCaster.cast( PlaceholderHelper.resolve( config.get( "proxyPort" ) ) );
+		}
+
+		if ( config.containsKey( "proxyUser" ) ) {
+			this.proxyUser = PlaceholderHelper.resolve( config.get( "proxyUser" ) );
+		}
+
+		if ( config.containsKey( "proxyPassword" ) ) {
+			this.proxyPassword = PlaceholderHelper.resolve( config.get( "proxyPassword" ) );
+		}
+
+		if ( config.containsKey( "cache" ) ) {
+			this.cache = PlaceholderHelper.resolve( config.get( "cache" ) );
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns the configuration as a struct
+	 * Remember that this is what the context's use to build runtime/request configs, so don't use any references
+	 */
+	public IStruct toStruct() {
+		return Struct.of(
+		    "name", this.name,
+		    "httpVersion", this.httpVersion,
+		    "connectTimeout", this.connectTimeout,
+		    "redirect", this.redirect,
+		    "virtualThreads", this.virtualThreads,
+		    "proxyServer", this.proxyServer,
+		    "proxyPort", this.proxyPort,
+		    "proxyUser", this.proxyUser,
+		    "cache", this.cache
+		);
+	}
+
+}
@@ -19,6 +19,7 @@ package ortus.boxlang.runtime.context;
 
 import java.io.PrintStream;
 import java.net.URI;
+import java.time.Duration;
 import java.time.ZoneId;
 import java.util.ArrayDeque;
 import java.util.Locale;
@@ -37,6 +38,7 @@ import ortus.boxlang.runtime.types.DateTime;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.KeyNotFoundException;
+import ortus.boxlang.runtime.types.exceptions.RequestTimeoutException;
 import ortus.boxlang.runtime.util.RequestThreadManager;
 
 /**
@@ -55,6 +57,11 @@ public abstract class RequestBoxContext extends BaseBoxContext implements IJDBCC
 	 */
 	private static final ThreadLocal<ArrayDeque<RequestBoxContext>>	current					= new ThreadLocal<ArrayDeque<RequestBoxContext>>();
 
+	/**
+	 * Only one out of this many request timeout checks reads the clock. Must be a power of two.
+	 */
+	private static final int										TIMEOUT_CHECK_INTERVAL	= 64;
+
 	/**
 	 * The locale for this request
 	 */
@@ -92,6 +99,27 @@ public abstract class RequestBoxContext extends BaseBoxContext implements IJDBCC
 	 */
 	private Long													requestTimeout			= null;
 
+	/**
+	 * The epoch millis at which the request times out, 0 if it never does.
+	 * It's volatile as it's read by every timeout check and can be changed from any thread.
+	 */
+	private volatile long											timeoutDeadline			= 0L;
+
+	/**
+	 * Set while the request end and error handlers run, which must complete even once the request timed out
+	 */
+	private volatile boolean										timeoutExempt			= false;
+
+	/**
+	 * Whether the request threads have already been interrupted by the timeout
+	 */
+	private volatile boolean										timeoutFired			= false;
+
+	/**
+	 * How many timeout checks have been done, to amortize the clock reads
+	 */
+	private int														timeoutChecks			= 0;
+
 	/**
 	 * The time in milliseconds when the request started
 	 */
@@ -132,6 +160,7 @@ public abstract class RequestBoxContext extends BaseBoxContext implements IJDBCC
 	protected RequestBoxContext( IBoxContext parent ) {
 		super( parent );
 		this.connectionManager = new ConnectionManager( this );
+		armRequestTimeout( getRuntime().getConfiguration().requestTimeout.toMillis() );
 	}
 
 	/**
@@ -211,6 +240,7 @@ public abstract class RequestBoxContext extends BaseBoxContext implements IJDBCC
 	public void loadApplicationDescriptor( URI template ) {
 		// This will load the Application file and create an ApplicationListener, or an empty listener with default behavior
 		this.applicationListener = this.applicationService.createApplicationListener( this, template );
+		applyApplicationRequestTimeout();
 	}
 
 	/**
@@ -266,6 +296,7 @@ public abstract class RequestBoxContext extends BaseBoxContext implements IJDBCC
 	 */
 	public RequestBoxContext setApplicationListener( BaseApplicationListener applicationListener ) {
 		this.applicationListener = applicationListener;
+		applyApplicationRequestTimeout();
 		return this;
 	}
 
@@ -435,6 +466,7 @@ public abstract class RequestBoxContext extends BaseBoxContext implements IJDBCC
 	 */
 	public RequestBoxContext setRequestTimeout( Long requestTimeout ) {
 		this.requestTimeout = requestTimeout;
+		armRequestTimeout( requestTimeout );
 		return this;
 	}
 
@@ -447,6 +479,83 @@ public abstract class RequestBoxContext extends BaseBoxContext implements IJDBCC
 		return this.requestTimeout;
 	}
 
+	/**
+	 * Get how long the request can still run before timing out
+	 *
+	 * @return The remaining time in milliseconds, or null if the request has no timeout
+	 */
+	public Long getRequestTimeRemaining() {
+		long deadline = this.timeoutDeadline;
+		if ( deadline == 0L ) {
+			return null;
+		}
+		return Math.max( 0L, deadline - System.currentTimeMillis() );
+	}
+
+	/**
+	 * Cooperative request timeout check, called by the compiled code at loop back-edges and function entry.
+	 * Only one out of {@link #TIMEOUT_CHECK_INTERVAL} calls reads the clock, the rest are a volatile read and an increment.
+	 *
+	 * @throws RequestTimeoutException If the request timeout has been reached
+	 */
+	public void checkRequestTimeout() {
+		if ( this.timeoutDeadline == 0L || ( ++this.timeoutChecks & ( TIMEOUT_CHECK_INTERVAL - 1 ) ) != 0 ) {
+			return;
+		}
+		enforceRequestTimeout();
+	}
+
+	/**
+	 * Throw if the request timeout has been reached, without amortizing the clock read.
+	 * The timeout stays armed, so code that catches the exception keeps hitting it at its next check.
+	 * It doesn't apply while the request end and error handlers run, see {@link #setTimeoutExempt(boolean)}.
+	 * The threads started by the request are interrupted the first time, and everything else is released
+	 * as the request unwinds.
+	 *
+	 * @throws RequestTimeoutException If the request timeout has been reached
+	 */
+	public void enforceRequestTimeout() {
+		long deadline = this.timeoutDeadline;
+		if ( deadline == 0L || this.timeoutExempt || System.currentTimeMillis() < deadline ) {
+			return;
+		}
+		if ( !this.timeoutFired ) {
+			this.timeoutFired = true;
+			if ( this.threadManager != null ) {
+				this.threadManager.interruptThreads();
+			}
+		}
+		throw new RequestTimeoutException(
+		    "The request has exceeded its timeout of [" + ( deadline - this.requestStart.toEpochMillis() ) / 1000d + "] seconds"
+		);
+	}
+
+	/**
+	 * Exempt the request from its timeout, or not. Set while the {@code onRequestEnd} and {@code onError}
+	 * handlers run, so they can complete once the request timed out.
+	 *
+	 * @param timeoutExempt True to exempt the request from its timeout
+	 *
+	 * @return this context
+	 */
+	public RequestBoxContext setTimeoutExempt( boolean timeoutExempt ) {
+		this.timeoutExempt = timeoutExempt;
+		return this;
+	}
+
+	/**
+	 * Check the request timeout of the request executing in the current thread, if any.
+	 * This is the entry point of the checks compiled into loops and functions.
+	 *
+	 * @throws RequestTimeoutException If the request timeout has been reached
+	 */
+	public static void checkCurrentRequestTimeout() {
+		ArrayDeque<RequestBoxContext> stack = current.get();
+		if ( stack != null && !stack.isEmpty() ) {
+			stack.peek().checkRequestTimeout();
+		}
+	}
+
 	/**
 	 * Get the settings for this request. These are known as "application settings" since they configure the
 	 * application that uses them, but they are really set every request.
@@ -501,6 +610,31 @@ public abstract class RequestBoxContext extends BaseBoxContext implements IJDBCC
 		return this.showDebugOutput;
 	}
 
+	/**
+	 * Arm the request timeout, counted from the start of the request
+	 *
+	 * @param timeout The timeout in milliseconds, null or 0 to disarm it
+	 */
+	private void armRequestTimeout( Long timeout ) {
+		this.timeoutDeadline = ( timeout == null || timeout <= 0 ) ? 0L : this.requestStart.toEpochMillis() + timeout;
+	}
+
+	/**
+	 * Arm the request timeout from the application settings, unless the request set its own.
+	 * A duration is used as is, a number is taken as seconds.
+	 */
+	private void applyApplicationRequestTimeout() {
+		if ( this.requestTimeout != null || this.applicationListener == null ) {
+			return;
+		}
+		Object timeout = this.applicationListener.getSettings().get( Key.requestTimeout );
+		if ( timeout instanceof Duration castedTimeout ) {
+			armRequestTimeout( castedTimeout.toMillis() );
+		} else if ( timeout instanceof Number castedTimeout ) {
+			armRequestTimeout( Math.round( castedTimeout.doubleValue() * 1000 ) );
+		}
+	}
+
 	public static RequestBoxContext getCurrent() {
 		ArrayDeque<RequestBoxContext> stack = current.get();
 		if ( stack == null || stack.isEmpty() ) {
@@ -159,6 +159,11 @@ public enum BoxEvent {
 	ON_SCHEDULER_REMOVAL( "onSchedulerRemoval" ),
 	ON_SCHEDULER_REGISTRATION( "onSchedulerRegistration" ),
 
+	/**
+	 * Async Service Events
+	 */
+	ON_EXECUTOR_SATURATED( "onExecutorSaturated" ),
+
 	/**
 	 * Object Marshaller Events
 	 */
@@ -23,6 +23,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -71,6 +72,12 @@ public class InterceptorPool {
 	 */
 	protected Map<Key, InterceptorState>		interceptionStates	= new ConcurrentHashMap<>();
 
+	/**
+	 * The states that have at least one observer. Rebuilt whenever observers are registered or unregistered
+	 * so hot announcement paths can cheaply skip building event data nobody listens to.
+	 */
+	protected volatile Set<Key>					listenedStates		= Set.of();
+
 	/**
 	 * Key registry of announced states, to avoid key creation
 	 */
@@ -163,6 +170,7 @@ public class InterceptorPool {
 	 */
 	public void clearInterceptionStates() {
 		this.interceptionStates.clear();
+		invalidateListeners();
 	}
 
 	/**
@@ -208,6 +216,7 @@ public class InterceptorPool {
 	public synchronized InterceptorPool removeInterceptionPoint( Key... points ) {
 		this.interceptionPoints.removeAll( Arrays.asList( points ) );
 		this.interceptionStates.keySet().removeAll( Arrays.asList( points ) );
+		invalidateListeners();
 		return this;
 	}
 
@@ -263,7 +272,7 @@ public class InterceptorPool {
 		// Comput if absent
 		return interceptionStates.computeIfAbsent(
 		    name,
-		    InterceptorState::new
+		    key -> new InterceptorState( key, this::invalidateListeners )
 		);
 	}
 
@@ -277,9 +286,45 @@ public class InterceptorPool {
 	 */
 	public synchronized InterceptorPool removeState( Key name ) {
 		this.interceptionStates.remove( name );
+		invalidateListeners();
 		return this;
 	}
 
+	/**
+	 * Check if anybody is listening to a state. This is a cheap cached lookup, so use it
+	 * to avoid building announcement data when there are no observers.
+	 *
+	 * @param state The state key to check
+	 *
+	 * @return True if the state has at least one observer, false otherwise
+	 */
+	public boolean hasListeners( Key state ) {
+		return this.listenedStates.contains( state );
+	}
+
+	/**
+	 * Check if anybody is listening to a BoxEvent. This is a cheap cached lookup, so use it
+	 * to avoid building announcement data when there are no observers.
+	 *
+	 * @param state The BoxEvent to check
+	 *
+	 * @return True if the event has at least one observer, false otherwise
+	 */
+	public boolean hasListeners( BoxEvent state ) {
+		return hasListeners( state.key() );
+	}
+
+	/**
+	 * Rebuild the cache of states with observers. Called by the states on registration changes.
+	 */
+	protected synchronized void invalidateListeners() {
+		this.listenedStates = this.interceptionStates.values()
+		    .stream()
+		    .filter( InterceptorState::hasObservers )
+		    .map( InterceptorState::getName )
+		    .collect( Collectors.toUnmodifiableSet() );
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Interceptor Registration Methods
@@ -582,6 +627,42 @@ public class InterceptorPool {
 		}
 	}
 
+	/**
+	 * Announce a BoxEvent with lazily built data. The data supplier is only called if
+	 * there are observers listening to the event.
+	 *
+	 * @param state The state to announce
+	 * @param data  The supplier of the data to announce
+	 */
+	public void announce( BoxEvent state, Supplier<IStruct> data ) {
+		announce( state.key(), data, this.runtime.getRuntimeContext() );
+	}
+
+	/**
+	 * Announce an event with lazily built data. The data supplier is only called if
+	 * there are observers listening to the state.
+	 *
+	 * @param state The state key to announce
+	 * @param data  The supplier of the data to announce
+	 */
+	public void announce( Key state, Supplier<IStruct> data ) {
+		announce( state, data, this.runtime.getRuntimeContext() );
+	}
+
+	/**
+	 * Announce an event with lazily built data and context. The data supplier is only called if
+	 * there are observers listening to the state.
+	 *
+	 * @param state   The state key to announce
+	 * @param data    The supplier of the data to announce
+	 * @param context The box context to execute on
+	 */
+	public void announce( Key state, Supplier<IStruct> data, IBoxContext context ) {
+		if ( hasListeners( state ) ) {
+			announce( state, data.get(), context );
+		}
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Async Announcements Methods
@@ -17,15 +17,25 @@
  */
 package ortus.boxlang.runtime.events;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
 
+import ortus.boxlang.runtime.context.FunctionBoxContext;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.IReferenceable;
 import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
 import ortus.boxlang.runtime.interop.DynamicObject;
+import ortus.boxlang.runtime.runnables.IClassRunnable;
 import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Function;
 import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 
 /**
  * An interceptor state is an event state that is used to hold observers that want to listent
@@ -33,6 +43,10 @@ import ortus.boxlang.runtime.types.IStruct;
  * listen to "preProcess" events.
  *
  * The {@see InterceptorService} is in charge of managing all states and event registrations in BoxLang.
+ *
+ * Observers are resolved to invokers once, on registration, into an immutable dispatch chain that is
+ * replaced (copy-on-write) on every registration change. Announcements just loop over the current chain,
+ * with no method lookups, and are not affected by observers registering or unregistering mid-announcement.
  */
 public class InterceptorState {
 
@@ -42,9 +56,14 @@ public class InterceptorState {
 	private Key					name;
 
 	/**
-	 * The observers for this state
+	 * The dispatch chain of observers for this state. Never mutated, replaced on registration changes.
 	 */
-	private List<DynamicObject>	observers	= new ArrayList<>();
+	private volatile Observer[]	chain		= new Observer[ 0 ];
+
+	/**
+	 * An optional callback to run when observers are registered or unregistered
+	 */
+	private final Runnable		onChange;
 
 	/**
 	 * --------------------------------------------------------------------------
@@ -67,7 +86,18 @@ public class InterceptorState {
 	 * @param name The state name
 	 */
 	public InterceptorState( Key name ) {
-		this.name = name;
+		this( name, null );
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param name     The state name
+	 * @param onChange A callback to run when observers are registered or unregistered, usually by the owning pool
+	 */
+	public InterceptorState( Key name, Runnable onChange ) {
+		this.name		= name;
+		this.onChange	= onChange;
 	}
 
 	/**
@@ -93,7 +123,13 @@ public class InterceptorState {
 	 * @return The same state
 	 */
 	public InterceptorState register( DynamicObject observer ) {
-		this.observers.add( observer );
+		Observer resolved = new Observer( observer, buildInvoker( observer ) );
+		synchronized ( this ) {
+			Observer[] newChain = Arrays.copyOf( this.chain, this.chain.length + 1 );
+			newChain[ newChain.length - 1 ]	= resolved;
+			this.chain						= newChain;
+		}
+		notifyChange();
 		return this;
 	}
 
@@ -105,7 +141,21 @@ public class InterceptorState {
 	 * @return The same state
 	 */
 	public InterceptorState unregister( DynamicObject observer ) {
-		this.observers.remove( observer );
+		boolean removed = false;
+		synchronized ( this ) {
+			Observer[]	current	= this.chain;
+			int			index	= indexOf( current, observer );
+			if ( index >= 0 ) {
+				Observer[] newChain = new Observer[ current.length - 1 ];
+				System.arraycopy( current, 0, newChain, 0, index );
+				System.arraycopy( current, index + 1, newChain, index, current.length - index - 1 );
+				this.chain	= newChain;
+				removed		= true;
+			}
+		}
+		if ( removed ) {
+			notifyChange();
+		}
 		return this;
 	}
 
@@ -117,7 +167,7 @@ public class InterceptorState {
 	 * @return True if the observer is registered, false otherwise
 	 */
 	public Boolean exists( DynamicObject observer ) {
-		return this.observers.contains( observer );
+		return indexOf( this.chain, observer ) >= 0;
 	}
 
 	/**
@@ -126,7 +176,16 @@ public class InterceptorState {
 	 * @return The number of observers registered for this state
 	 */
 	public int size() {
-		return this.observers.size();
+		return this.chain.length;
+	}
+
+	/**
+	 * Check if this state has any observers registered
+	 *
+	 * @return True if there is at least one observer, false otherwise
+	 */
+	public boolean hasObservers() {
+		return this.chain.length > 0;
 	}
 
 	/**
@@ -136,34 +195,24 @@ public class InterceptorState {
 	 * @param context The box context to execute on
 	 */
 	public void announce( IStruct data, IBoxContext context ) {
+		// Snapshot the chain, registrations while announcing apply to the next announcement
+		Observer[] observers = this.chain;
 
 		// Quick short ciruit
-		if ( this.observers.isEmpty() ) {
+		if ( observers.length == 0 ) {
 			return;
 		}
 
 		// Process the state
 		Object[] args = new Object[] { data };
-		for ( DynamicObject observer : this.observers ) {
-			Object	stopChain;
-			// Get the actual instance from the dynamic object
-			Object	unwrappedObject	= observer.unWrap();
-
-			// Do we have a BoxLang class or Java Class
-			if ( unwrappedObject instanceof IReferenceable castedObserver ) {
-				// Dereference and Invoke the BoxLang class
-				stopChain = castedObserver.dereferenceAndInvoke(
-				    context,
-				    getName(),
-				    args,
-				    false
-				);
-			} else if ( unwrappedObject instanceof IInterceptorLambda castedLambda ) {
-				// Invoke the Java lambda
-				stopChain = castedLambda.intercept( data );
-			} else {
-				// Announce to the Java observer via Indy
-				stopChain = observer.invoke( context, getName().getName(), args );
+		for ( Observer observer : observers ) {
+			Object stopChain;
+			try {
+				stopChain = observer.invoker().invoke( context, data, args );
+			} catch ( RuntimeException | Error e ) {
+				throw e;
+			} catch ( Throwable e ) {
+				throw new BoxRuntimeException( "Error announcing [" + getName().getName() + "] to " + observer.target().getTargetClass().getName(), e );
 			}
 
 			// If the observer returns true, we short circuit the rest of the observers
@@ -173,4 +222,147 @@ public class InterceptorState {
 		}
 	}
 
+	/**
+	 * Notify the change callback, if any, that the observers changed
+	 */
+	private void notifyChange() {
+		if ( this.onChange != null ) {
+			this.onChange.run();
+		}
+	}
+
+	/**
+	 * Find the position of an observer in a chain
+	 *
+	 * @param observers The chain
+	 * @param observer  The observer to find
+	 *
+	 * @return The index or -1 if not found
+	 */
+	private static int indexOf( Observer[] observers, DynamicObject observer ) {
+		for ( int i = 0; i < observers.length; i++ ) {
+			if ( observers[ i ].target().equals( observer ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Resolve the invoker for an observer of this state:
+	 * <ul>
+	 * <li>Java lambdas are called directly</li>
+	 * <li>BoxLang classes get their function for this state resolved once</li>
+	 * <li>Java classes get a bound {@link MethodHandle} to their method for this state</li>
+	 * </ul>
+	 * Anything we can't pre-resolve falls back to dynamic invocation.
+	 *
+	 * @param observer The observer
+	 *
+	 * @return The invoker
+	 */
+	private ObserverInvoker buildInvoker( DynamicObject observer ) {
+		Object target = observer.unWrap();
+
+		// Java Lambdas
+		if ( target instanceof IInterceptorLambda castedLambda ) {
+			return ( context, data, args ) -> castedLambda.intercept( data );
+		}
+
+		// BoxLang Classes: resolve the function once if it's declared in the class itself
+		if ( target instanceof IClassRunnable boxClass ) {
+			if ( boxClass.getChild() == null && boxClass.getThisScope().get( getName() ) instanceof Function function ) {
+				return ( context, data, args ) -> {
+					FunctionBoxContext functionContext = Function.generateFunctionContext( function, context, getName(), args, boxClass, null );
+					functionContext.setThisClass( boxClass );
+					return function.invoke( functionContext );
+				};
+			}
+			return ( context, data, args ) -> boxClass.dereferenceAndInvoke( context, getName(), args, false );
+		}
+
+		// Any other BoxLang referenceable
+		if ( target instanceof IReferenceable castedObserver ) {
+			return ( context, data, args ) -> castedObserver.dereferenceAndInvoke( context, getName(), args, false );
+		}
+
+		// Java Classes: bind a method handle
+		Optional<MethodHandle> handle = resolveMethodHandle( target );
+		if ( handle.isPresent() ) {
+			MethodHandle methodHandle = handle.get();
+			return ( context, data, args ) -> methodHandle.invokeExact( data );
+		}
+
+		// Announce to the Java observer via Indy
+		String methodName = getName().getName();
+		return ( context, data, args ) -> observer.invoke( context, methodName, args );
+	}
+
+	/**
+	 * Resolve a method handle bound to a Java observer for this state. It looks for an instance method
+	 * named as the state that takes the data struct, or no arguments.
+	 *
+	 * @param target The Java observer
+	 *
+	 * @return A {@code (IStruct)Object} method handle or empty if it can't be resolved
+	 */
+	private Optional<MethodHandle> resolveMethodHandle( Object target ) {
+		if ( target == null ) {
+			return Optional.empty();
+		}
+
+		String			methodName	= getName().getName();
+		Optional<Method> method		= Arrays.stream( target.getClass().getMethods() )
+		    .filter( candidate -> candidate.getName().equalsIgnoreCase( methodName ) )
+		    .filter( candidate -> !Modifier.isStatic( candidate.getModifiers() ) )
+		    .filter( candidate -> candidate.getParameterCount() == 0
+		        || ( candidate.getParameterCount() == 1 && candidate.getParameterTypes()[ 0 ].isAssignableFrom( IStruct.class ) ) )
+		    // Prefer the ones receiving the data
+		    .sorted( Comparator.comparingInt( Method::getParameterCount ).reversed() )
+		    .findFirst();
+
+		if ( method.isEmpty() ) {
+			return Optional.empty();
+		}
+
+		try {
+			Method			found	= method.get();
+			MethodHandle	handle	= MethodHandles.publicLookup().unreflect( found ).bindTo( target );
+			if ( found.getParameterCount() == 0 ) {
+				handle = MethodHandles.dropArguments( handle, 0, IStruct.class );
+			}
+			return Optional.of( handle.asType( MethodType.methodType( Object.class, IStruct.class ) ) );
+		} catch ( IllegalAccessException e ) {
+			// Not accessible, we will go dynamic
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * A pre-resolved invoker of an observer
+	 */
+	@FunctionalInterface
+	private interface ObserverInvoker {
+
+		/**
+		 * Invoke the observer
+		 *
+		 * @param context The box context to execute on
+		 * @param data    The data to announce
+		 * @param args    The data wrapped as the positional arguments
+		 *
+		 * @return The observer's result, true to stop the chain
+		 */
+		Object invoke( IBoxContext context, IStruct data, Object[] args ) throws Throwable;
+	}
+
+	/**
+	 * A registered observer and its invoker
+	 *
+	 * @param target  The observer as registered
+	 * @param invoker The pre-resolved invoker
+	 */
+	private record Observer( DynamicObject target, ObserverInvoker invoker ) {
+	}
+
 }
@@ -28,11 +28,14 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.Configurator;
-import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.classic.spi.LoggingEvent;
 import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.dynamic.casters.IntegerCaster;
+import ortus.boxlang.runtime.dynamic.casters.LongCaster;
+import ortus.boxlang.runtime.dynamic.casters.StringCaster;
 import ortus.boxlang.runtime.events.BaseInterceptor;
 import ortus.boxlang.runtime.events.InterceptionPoint;
+import ortus.boxlang.runtime.logging.AsyncLogWriter;
 import ortus.boxlang.runtime.logging.LoggingConfigurator;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Argument;
@@ -41,7 +44,10 @@ import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 
 /**
- * A BoxLang interceptor that provides logging capabilities
+ * A BoxLang interceptor that provides logging capabilities.
+ *
+ * Messages are sent to the logger hierarchy right away and written to their log files asynchronously
+ * by an {@link AsyncLogWriter}, configured by the {@code logging} runtime settings.
  */
 public class Logging extends BaseInterceptor {
 
@@ -51,9 +57,19 @@ public class Logging extends BaseInterceptor {
 	private final String					logsDirectory;
 
 	/**
-	 * A map of appenders
+	 * The runtime settings
+	 */
+	private final IStruct					settings;
+
+	/**
+	 * The logger context, lazy loaded
+	 */
+	private volatile LoggerContext			logContext;
+
+	/**
+	 * The asynchronous log file writer, lazy loaded
 	 */
-	private Struct							appendersMap	= new Struct();
+	private volatile AsyncLogWriter			writer;
 
 	/**
 	 * The arguments for the logMessage method
@@ -87,13 +103,25 @@ public class Logging extends BaseInterceptor {
 	    Key.of( "Fatal" ), LEVEL_ERROR
 	);
 
+	/**
+	 * The logback levels of the logging levels
+	 */
+	private static final Map<String, Level>	logbackLevels	= Map.of(
+	    LEVEL_TRACE, Level.TRACE,
+	    LEVEL_DEBUG, Level.DEBUG,
+	    LEVEL_INFO, Level.INFO,
+	    LEVEL_WARN, Level.WARN,
+	    LEVEL_ERROR, Level.ERROR
+	);
+
 	/**
 	 * Constructor
 	 *
 	 * @param instance The BoxRuntime instance
 	 */
 	public Logging( BoxRuntime instance ) {
-		this.logsDirectory = instance.getConfiguration().logsDirectory;
+		this.logsDirectory	= instance.getConfiguration().logsDirectory;
+		this.settings		= instance.getConfiguration().logging;
 	}
 
 	/**
@@ -127,104 +155,64 @@ public class Logging extends BaseInterceptor {
 			);
 		}
 
-		FileAppender<ILoggingEvent>	fileAppender	= null;
-		Logger						logger			= null;
 		try {
 			if ( file == null ) {
 				file = logCategory + ".log";
 			}
-			String						filePath		= Path.of( file ).isAbsolute()
+			String			filePath	= Path.of( file ).isAbsolute()
 			    ? Path.of( file ).normalize().toString()
 			    : Paths.get( logsDirectory, "/", file ).normalize().toString();
 
-			LoggerContext				logContext		= null;
-
-			org.slf4j.ILoggerFactory	loggerFactory	= LoggerFactory.getILoggerFactory();
-
-			// If our core SLF4J logger factory is returning a logback instance use that
-			if ( loggerFactory instanceof LoggerContext ) {
-				logContext = ( LoggerContext ) loggerFactory;
-			} else {
-				loggerFactory.getLogger( getClass().getName() )
-				    .warn( "The LoggerFactory context is not an instance of Logback LoggerContext. Recevied class: " + loggerFactory.getClass().getName() );
-				// otherwise grab the context from the configurator
-				LoggingConfigurator configurator = ServiceLoader
-				    .load( Configurator.class, BoxRuntime.class.getClassLoader() )
-				    .stream()
-				    .map( ServiceLoader.Provider::get )
-				    .map( target -> ( LoggingConfigurator ) target )
-				    .findFirst().orElse( null );
-
-				logContext = ( LoggerContext ) configurator.getLoggerContext();
-
-				// In the servlet context we are seeing the configurator configure method is not being run automagically
-				if ( logContext == null ) {
-					logContext = new LoggerContext();
-					logContext.start();
-					configurator.configure( logContext );
-				}
-			}
-
-			logger = logContext.getLogger( logCategory );
+			LoggerContext	context		= getLoggerContext();
+			Logger			logger		= context.getLogger( logCategory );
 			logger.setLevel( Level.ALL );
 			logger.setAdditive( true );
 
-			fileAppender = new FileAppender<ILoggingEvent>();
-			fileAppender.setFile( filePath );
-			fileAppender.setEncoder( LoggingConfigurator.encoder );
-			fileAppender.setContext( logContext );
-			fileAppender.setAppend( true );
-			fileAppender.setImmediateFlush( true );
-			fileAppender.setPrudent( true );
-			fileAppender.start();
-
-			logger.addAppender( fileAppender );
-
-			switch ( levelMap.get( levelKey ) ) {
-				case LEVEL_TRACE : {
-					logger.trace( logText );
-					break;
-				}
-				case LEVEL_DEBUG : {
-					logger.debug( logText );
-					break;
-				}
-				default :
-				case LEVEL_INFO : {
-					logContext.getLogger( Logger.ROOT_LOGGER_NAME ).info( logText );
-					logger.info( logText );
-					break;
-				}
-				case LEVEL_WARN : {
-					logger.warn( logText );
-					break;
-				}
-				case LEVEL_ERROR : {
-					logger.error( logText );
-					break;
-				}
+			// Capture the event on the calling thread, it carries the timestamp and thread name
+			String			level		= levelMap.get( levelKey );
+			LoggingEvent	event		= new LoggingEvent( Logging.class.getName(), logger, logbackLevels.get( level ), logText, null, null );
+			event.prepareForDeferredProcessing();
+
+			// Send it through the logger hierarchy appenders (console)
+			if ( LEVEL_INFO.equals( level ) ) {
+				context.getLogger( Logger.ROOT_LOGGER_NAME ).info( logText );
 			}
+			logger.callAppenders( event );
 
+			// Hand it to the async file writer
+			getWriter( context ).append( filePath, event );
 		} catch ( Exception e ) {
 			throw new BoxRuntimeException( "An error occurred while attempting to log the message", e );
-		} finally {
-			if ( fileAppender != null ) {
-				if ( logger != null ) {
-					logger.detachAppender( fileAppender );
-				}
-				fileAppender.stop();
-			}
 		}
 
 	}
 
+	/**
+	 * Wait until all the messages logged so far are written to their log files
+	 *
+	 * @return True if flushed, false if the writer is not running or it timed out
+	 */
+	public boolean flush() {
+		return this.writer != null && this.writer.flush();
+	}
+
+	/**
+	 * Get the asynchronous writer metrics, see {@link AsyncLogWriter#getStats()}
+	 *
+	 * @return The stats or an empty struct if nothing has been logged yet
+	 */
+	public IStruct getStats() {
+		return this.writer != null ? this.writer.getStats() : new Struct();
+	}
+
 	/**
 	 * Runtime shutdown interception
 	 */
-	@SuppressWarnings( "unchecked" )
 	@InterceptionPoint
 	public void onRuntimeShutdown() {
-		this.appendersMap.keySet().stream().forEach( key -> ( ( FileAppender<ILoggingEvent> ) this.appendersMap.get( key ) ).stop() );
+		if ( this.writer != null ) {
+			this.writer.shutdown();
+		}
 	}
 
 	/**
@@ -236,4 +224,71 @@ public class Logging extends BaseInterceptor {
 		onRuntimeShutdown();
 	}
 
+	/**
+	 * Get or create the asynchronous log file writer
+	 *
+	 * @param context The logger context
+	 *
+	 * @return The writer
+	 */
+	private AsyncLogWriter getWriter( LoggerContext context ) {
+		if ( this.writer == null ) {
+			synchronized ( this ) {
+				if ( this.writer == null ) {
+					this.writer = new AsyncLogWriter(
+					    context,
+					    IntegerCaster.cast( this.settings.getOrDefault( Key.buffersize, AsyncLogWriter.DEFAULT_BUFFER_SIZE ) ),
+					    AsyncLogWriter.OverflowPolicy.fromString( StringCaster.cast( this.settings.getOrDefault( Key.overflowPolicy, "block" ) ) ),
+					    IntegerCaster.cast( this.settings.getOrDefault( Key.flushBatchSize, AsyncLogWriter.DEFAULT_FLUSH_BATCH_SIZE ) ),
+					    LongCaster.cast( this.settings.getOrDefault( Key.flushInterval, AsyncLogWriter.DEFAULT_FLUSH_INTERVAL ) ),
+					    IntegerCaster.cast( this.settings.getOrDefault( Key.maxOpenFiles, AsyncLogWriter.DEFAULT_MAX_OPEN_FILES ) ),
+					    LongCaster.cast( this.settings.getOrDefault( Key.idleTimeout, AsyncLogWriter.DEFAULT_IDLE_TIMEOUT ) )
+					);
+				}
+			}
+		}
+		return this.writer;
+	}
+
+	/**
+	 * Get the Logback logger context
+	 *
+	 * @return The logger context
+	 */
+	private LoggerContext getLoggerContext() {
+		if ( this.logContext != null ) {
+			return this.logContext;
+		}
+
+		LoggerContext				context			= null;
+		org.slf4j.ILoggerFactory	loggerFactory	= LoggerFactory.getILoggerFactory();
+
+		// If our core SLF4J logger factory is returning a logback instance use that
+		if ( loggerFactory instanceof LoggerContext ) {
+			context = ( LoggerContext ) loggerFactory;
+		} else {
+			loggerFactory.getLogger( getClass().getName() )
+			    .warn( "The LoggerFactory context is not an instance of Logback LoggerContext. Recevied class: " + loggerFactory.getClass().getName() );
+			// otherwise grab the context from the configurator
+			LoggingConfigurator configurator = ServiceLoader
+			    .load( Configurator.class, BoxRuntime.class.getClassLoader() )
+			    .stream()
+			    .map( ServiceLoader.Provider::get )
+			    .map( target -> ( LoggingConfigurator ) target )
+			    .findFirst().orElse( null );
+
+			context = ( LoggerContext ) configurator.getLoggerContext();
+
+			// In the servlet context we are seeing the configurator configure method is not being run automagically
+			if ( context == null ) {
+				context = new LoggerContext();
+				context.start();
+				configurator.configure( context );
+			}
+		}
+
+		this.logContext = context;
+		return context;
+	}
+
 }
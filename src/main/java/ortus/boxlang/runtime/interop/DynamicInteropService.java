@@ -314,7 +314,7 @@ public class DynamicInteropService {
 			    .getInterceptorService()
 			    .announce(
 			        BoxEvent.AFTER_DYNAMIC_OBJECT_CREATION,
-			        Struct.of(
+			        () -> Struct.of(
 			            Key.object, thisInstance,
 			            Key.clazz, targetClass
 			        )
@@ -0,0 +1,567 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.logging;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+import ortus.boxlang.runtime.util.JMXUtil;
+
+/**
+ * Writes log events to log files asynchronously.
+ *
+ * Callers hand events to a lock-free {@link BoundedRingBuffer} and a single background writer thread drains it
+ * into one cached, buffered {@link FileAppender} per log file. Files are flushed in batches, when
+ * {@code flushBatchSize} events have been written or {@code flushInterval} milliseconds have passed since the
+ * first unflushed event, whichever comes first.
+ *
+ * At most {@code maxOpenFiles} files are kept open, the least recently used one is closed to make room, and files
+ * not written to for {@code idleTimeout} seconds are closed as well.
+ *
+ * When the buffer is full the {@link OverflowPolicy} decides if the caller waits for space or the event is dropped.
+ */
+public class AsyncLogWriter implements IAsyncLogWriterMXBean {
+
+	/**
+	 * What to do when the buffer is full
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * Wait for the writer to make space
+		 */
+		BLOCK,
+		/**
+		 * Drop the event and count it
+		 */
+		DROP;
+
+		/**
+		 * Get a policy by name, defaults to {@link #BLOCK}
+		 *
+		 * @param name The name of the policy
+		 *
+		 * @return The policy
+		 */
+		public static OverflowPolicy fromString( String name ) {
+			return name != null && name.equalsIgnoreCase( DROP.name() ) ? DROP : BLOCK;
+		}
+	}
+
+	/**
+	 * Defaults
+	 */
+	public static final int							DEFAULT_BUFFER_SIZE			= 8192;
+	public static final int							DEFAULT_FLUSH_BATCH_SIZE	= 256;
+	public static final long						DEFAULT_FLUSH_INTERVAL		= 1000;
+	public static final int							DEFAULT_MAX_OPEN_FILES		= 64;
+	public static final long						DEFAULT_IDLE_TIMEOUT		= 300;
+
+	/**
+	 * The JMX object name
+	 */
+	public static final String						OBJECT_NAME					= JMXUtil.objectName( "Logging", "AsyncLogWriter" );
+
+	/**
+	 * How long the writer parks at most when idle, it wakes up to close idle files
+	 */
+	private static final long						IDLE_PARK_NANOS				= TimeUnit.SECONDS.toNanos( 1 );
+
+	/**
+	 * How long flush() waits at most for the writer to catch up
+	 */
+	private static final long						FLUSH_TIMEOUT_NANOS			= TimeUnit.SECONDS.toNanos( 10 );
+
+	/**
+	 * The pending log events
+	 */
+	private final BoundedRingBuffer<PendingEvent>	buffer;
+
+	/**
+	 * The overflow policy
+	 */
+	private final OverflowPolicy					overflowPolicy;
+
+	/**
+	 * Flush triggers
+	 */
+	private final int								flushBatchSize;
+	private final long								flushIntervalNanos;
+
+	/**
+	 * Open file limits
+	 */
+	private final int								maxOpenFiles;
+	private final long								idleTimeoutNanos;
+
+	/**
+	 * The logger context for the appenders
+	 */
+	private final LoggerContext						loggerContext;
+
+	/**
+	 * The open files by path, least recently used first. Only the writer thread writes to them, the map is guarded by
+	 * its own monitor.
+	 */
+	private final LinkedHashMap<String, OpenFile>	appenders					= new LinkedHashMap<>( 16, 0.75f, true );
+
+	/**
+	 * The writer thread
+	 */
+	private final Thread							writer;
+
+	/**
+	 * Are we accepting events
+	 */
+	private volatile boolean						running						= true;
+
+	/**
+	 * Is a caller waiting on a flush
+	 */
+	private volatile boolean						flushRequested				= false;
+
+	/**
+	 * Is the writer parked waiting for events
+	 */
+	private volatile boolean						parked						= false;
+
+	/**
+	 * How many events were accepted and how many are written and flushed, used to wait on flushes
+	 */
+	private final AtomicLong						accepted					= new AtomicLong();
+	private volatile long							flushedThrough				= 0;
+
+	/**
+	 * Metrics
+	 */
+	private final LongAdder							written						= new LongAdder();
+	private final LongAdder							dropped						= new LongAdder();
+	private final LongAdder							blocked						= new LongAdder();
+	private final LongAdder							flushes						= new LongAdder();
+
+	/**
+	 * Constructor
+	 *
+	 * @param loggerContext  The logger context to create the appenders in
+	 * @param bufferSize     How many events can be buffered
+	 * @param overflowPolicy What to do when the buffer is full
+	 * @param flushBatchSize Flush after this many events
+	 * @param flushInterval  Flush after this many milliseconds
+	 * @param maxOpenFiles   How many files can be open at once
+	 * @param idleTimeout    Close files not written to for this many seconds, 0 to keep them open
+	 */
+	public AsyncLogWriter(
+	    LoggerContext loggerContext,
+	    int bufferSize,
+	    OverflowPolicy overflowPolicy,
+	    int flushBatchSize,
+	    long flushInterval,
+	    int maxOpenFiles,
+	    long idleTimeout ) {
+		this.loggerContext		= loggerContext;
+		this.buffer				= new BoundedRingBuffer<>( bufferSize );
+		this.overflowPolicy		= overflowPolicy;
+		this.flushBatchSize		= Math.max( 1, flushBatchSize );
+		this.flushIntervalNanos	= TimeUnit.MILLISECONDS.toNanos( Math.max( 0, flushInterval ) );
+		this.maxOpenFiles		= Math.max( 1, maxOpenFiles );
+		this.idleTimeoutNanos	= TimeUnit.SECONDS.toNanos( Math.max( 0, idleTimeout ) );
+		this.writer				= new Thread( this::drainLoop, "BoxLang-AsyncLogWriter" );
+		this.writer.setDaemon( true );
+		this.writer.start();
+		JMXUtil.register( OBJECT_NAME, this );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Public Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Append a log event to a log file. The event is written asynchronously, unless the writer
+	 * has been shutdown, in which case it is written right away.
+	 *
+	 * @param filePath The absolute path of the log file
+	 * @param event    The event, it must already be prepared for deferred processing
+	 *
+	 * @return True if the event was accepted, false if it was dropped
+	 */
+	public boolean append( String filePath, ILoggingEvent event ) {
+		if ( !this.running ) {
+			writeNow( filePath, event );
+			return true;
+		}
+
+		PendingEvent pending = new PendingEvent( filePath, event );
+		if ( this.buffer.offer( pending ) ) {
+			this.accepted.incrementAndGet();
+			if ( this.parked ) {
+				LockSupport.unpark( this.writer );
+			}
+			return true;
+		}
+
+		// Buffer is full
+		if ( this.overflowPolicy == OverflowPolicy.DROP ) {
+			this.dropped.increment();
+			return false;
+		}
+
+		this.blocked.increment();
+		while ( !this.buffer.offer( pending ) ) {
+			if ( !this.running ) {
+				writeNow( filePath, event );
+				return true;
+			}
+			LockSupport.unpark( this.writer );
+			LockSupport.parkNanos( 100_000 );
+		}
+		this.accepted.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * Wait until all the events accepted so far are written and flushed to their files
+	 *
+	 * @return True if flushed, false if it timed out
+	 */
+	public boolean flush() {
+		long	target		= this.accepted.get();
+		long	deadline	= System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+		while ( this.flushedThrough < target ) {
+			if ( !this.writer.isAlive() || System.nanoTime() > deadline ) {
+				return false;
+			}
+			this.flushRequested = true;
+			LockSupport.unpark( this.writer );
+			LockSupport.parkNanos( 200_000 );
+		}
+		return true;
+	}
+
+	/**
+	 * Stop accepting events, drain the pending ones and close all the log files
+	 */
+	public void shutdown() {
+		this.running = false;
+		LockSupport.unpark( this.writer );
+		try {
+			this.writer.join( TimeUnit.NANOSECONDS.toMillis( FLUSH_TIMEOUT_NANOS ) );
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+		}
+		synchronized ( this.appenders ) {
+			this.appenders.values().forEach( file -> file.appender.stop() );
+			this.appenders.clear();
+		}
+		JMXUtil.unregister( OBJECT_NAME );
+	}
+
+	/**
+	 * Get the writer metrics
+	 *
+	 * @return A struct of { queueDepth, queueCapacity, overflowPolicy, written, dropped, blocked, flushes, openFiles }
+	 */
+	public IStruct getStats() {
+		return Struct.of(
+		    "queueDepth", getQueueDepth(),
+		    "queueCapacity", getQueueCapacity(),
+		    "overflowPolicy", getOverflowPolicy(),
+		    "written", getWrittenCount(),
+		    "dropped", getDroppedCount(),
+		    "blocked", getBlockedCount(),
+		    "flushes", getFlushCount(),
+		    "openFiles", getOpenFiles()
+		);
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * MXBean Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	@Override
+	public int getQueueDepth() {
+		return this.buffer.size();
+	}
+
+	@Override
+	public int getQueueCapacity() {
+		return this.buffer.capacity();
+	}
+
+	@Override
+	public String getOverflowPolicy() {
+		return this.overflowPolicy.name();
+	}
+
+	@Override
+	public long getWrittenCount() {
+		return this.written.sum();
+	}
+
+	@Override
+	public long getDroppedCount() {
+		return this.dropped.sum();
+	}
+
+	@Override
+	public long getBlockedCount() {
+		return this.blocked.sum();
+	}
+
+	@Override
+	public long getFlushCount() {
+		return this.flushes.sum();
+	}
+
+	@Override
+	public int getOpenFiles() {
+		synchronized ( this.appenders ) {
+			return this.appenders.size();
+		}
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Private Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * The writer thread loop: drain, write and flush on the batch or time triggers
+	 */
+	private void drainLoop() {
+		long	processed		= 0;
+		long	unflushed		= 0;
+		long	firstUnflushed	= 0;
+		long	lastIdleCheck	= System.nanoTime();
+
+		while ( this.running || !this.buffer.isEmpty() ) {
+			PendingEvent pending = this.buffer.poll();
+
+			if ( pending != null ) {
+				write( pending.filePath(), pending.event() );
+				processed++;
+				if ( unflushed++ == 0 ) {
+					firstUnflushed = System.nanoTime();
+				}
+				if ( unflushed >= this.flushBatchSize ) {
+					flushAll( processed );
+					unflushed = 0;
+				}
+				continue;
+			}
+
+			// Nothing to write, flush if due or requested
+			if ( unflushed > 0 && ( this.flushRequested || System.nanoTime() - firstUnflushed >= this.flushIntervalNanos ) ) {
+				flushAll( processed );
+				unflushed = 0;
+			} else if ( unflushed == 0 ) {
+				this.flushedThrough = processed;
+			}
+			this.flushRequested = false;
+
+			if ( System.nanoTime() - lastIdleCheck >= IDLE_PARK_NANOS ) {
+				closeIdleFiles();
+				lastIdleCheck = System.nanoTime();
+			}
+
+			// Park until an event arrives or a flush is due. Producers unpark us when they see the flag,
+			// and we check the buffer again after raising it so no event is missed.
+			if ( this.running ) {
+				long remaining = unflushed > 0 ? this.flushIntervalNanos - ( System.nanoTime() - firstUnflushed ) : IDLE_PARK_NANOS;
+				this.parked = true;
+				if ( this.buffer.isEmpty() && this.running ) {
+					LockSupport.parkNanos( Math.max( 1, Math.min( remaining, IDLE_PARK_NANOS ) ) );
+				}
+				this.parked = false;
+			}
+		}
+
+		flushAll( processed );
+	}
+
+	/**
+	 * Write an event to its file appender
+	 *
+	 * @param filePath The log file
+	 * @param event    The event
+	 */
+	private void write( String filePath, ILoggingEvent event ) {
+		try {
+			getAppender( filePath ).doAppend( event );
+			this.written.increment();
+		} catch ( Exception e ) {
+			LoggerFactory.getLogger( AsyncLogWriter.class ).error( "Unable to write to the log file [{}]", filePath, e );
+		}
+	}
+
+	/**
+	 * Write an event synchronously and flush, used once the writer is shutdown
+	 *
+	 * @param filePath The log file
+	 * @param event    The event
+	 */
+	private void writeNow( String filePath, ILoggingEvent event ) {
+		synchronized ( this.appenders ) {
+			FileAppender<ILoggingEvent> appender = getAppender( filePath );
+			appender.doAppend( event );
+			this.written.increment();
+			flush( appender );
+		}
+	}
+
+	/**
+	 * Close the files that have not been written to within the idle timeout
+	 */
+	private void closeIdleFiles() {
+		if ( this.idleTimeoutNanos == 0 ) {
+			return;
+		}
+		long now = System.nanoTime();
+		synchronized ( this.appenders ) {
+			// Least recently used first, so we can stop at the first file still in use
+			Iterator<OpenFile> files = this.appenders.values().iterator();
+			while ( files.hasNext() ) {
+				OpenFile file = files.next();
+				if ( now - file.lastUsed < this.idleTimeoutNanos ) {
+					break;
+				}
+				file.appender.stop();
+				files.remove();
+			}
+		}
+	}
+
+	/**
+	 * Flush all the open files
+	 *
+	 * @param processed How many events have been processed so far
+	 */
+	private void flushAll( long processed ) {
+		synchronized ( this.appenders ) {
+			this.appenders.values().forEach( file -> flush( file.appender ) );
+		}
+		this.flushes.increment();
+		this.flushedThrough = processed;
+	}
+
+	/**
+	 * Flush a file appender
+	 *
+	 * @param appender The appender
+	 */
+	private void flush( FileAppender<ILoggingEvent> appender ) {
+		OutputStream stream = appender.getOutputStream();
+		if ( stream == null ) {
+			return;
+		}
+		try {
+			stream.flush();
+		} catch ( IOException e ) {
+			LoggerFactory.getLogger( AsyncLogWriter.class ).error( "Unable to flush the log file [{}]", appender.getFile(), e );
+		}
+	}
+
+	/**
+	 * Get or create the buffered appender of a log file. Opening a file over the {@code maxOpenFiles} limit closes the
+	 * least recently used one, which flushes it.
+	 *
+	 * @param filePath The log file
+	 *
+	 * @return The started appender
+	 */
+	private FileAppender<ILoggingEvent> getAppender( String filePath ) {
+		synchronized ( this.appenders ) {
+			OpenFile file = this.appenders.get( filePath );
+			if ( file == null ) {
+				file = new OpenFile( openAppender( filePath ) );
+				this.appenders.put( filePath, file );
+				if ( this.appenders.size() > this.maxOpenFiles ) {
+					Iterator<OpenFile> eldest = this.appenders.values().iterator();
+					eldest.next().appender.stop();
+					eldest.remove();
+				}
+			}
+			file.lastUsed = System.nanoTime();
+			return file.appender;
+		}
+	}
+
+	/**
+	 * Open a buffered appender on a log file
+	 *
+	 * @param path The log file
+	 *
+	 * @return The started appender
+	 */
+	private FileAppender<ILoggingEvent> openAppender( String path ) {
+		FileAppender<ILoggingEvent> appender = new FileAppender<>();
+		appender.setName( path );
+		appender.setFile( path );
+		appender.setEncoder( LoggingConfigurator.encoder );
+		appender.setContext( this.loggerContext );
+		appender.setAppend( true );
+		// We flush in batches
+		appender.setImmediateFlush( false );
+		appender.start();
+		if ( !appender.isStarted() ) {
+			throw new BoxRuntimeException( "Unable to open the log file [" + path + "]" );
+		}
+		return appender;
+	}
+
+	/**
+	 * An open log file
+	 */
+	private static final class OpenFile {
+
+		final FileAppender<ILoggingEvent>	appender;
+		long								lastUsed;
+
+		OpenFile( FileAppender<ILoggingEvent> appender ) {
+			this.appender = appender;
+		}
+
+	}
+
+	/**
+	 * An event waiting to be written
+	 *
+	 * @param filePath The log file
+	 * @param event    The event
+	 */
+	private record PendingEvent( String filePath, ILoggingEvent event ) {
+	}
+
+}
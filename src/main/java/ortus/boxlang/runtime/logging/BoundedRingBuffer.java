@@ -0,0 +1,154 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free, bounded, multi-producer ring buffer based on Dmitry Vyukov's bounded MPMC queue.
+ *
+ * Every slot carries a sequence number that tells producers and consumers if the slot is ready for them,
+ * so offering and polling are a single CAS in the uncontended case and never block.
+ *
+ * @param <E> The type of elements in the buffer
+ */
+public class BoundedRingBuffer<E> {
+
+	/**
+	 * The slots of the buffer
+	 */
+	private final AtomicReferenceArray<E>	slots;
+
+	/**
+	 * The sequence of each slot
+	 */
+	private final AtomicLongArray			sequences;
+
+	/**
+	 * The mask to map a position to a slot, capacity - 1
+	 */
+	private final int						mask;
+
+	/**
+	 * The next position to offer and to poll
+	 */
+	private final AtomicLong				enqueuePosition	= new AtomicLong();
+	private final AtomicLong				dequeuePosition	= new AtomicLong();
+
+	/**
+	 * Constructor
+	 *
+	 * @param capacity The requested capacity, rounded up to the next power of two
+	 */
+	public BoundedRingBuffer( int capacity ) {
+		if ( capacity < 2 ) {
+			capacity = 2;
+		}
+		int size = Integer.highestOneBit( capacity - 1 ) << 1;
+		this.mask		= size - 1;
+		this.slots		= new AtomicReferenceArray<>( size );
+		this.sequences	= new AtomicLongArray( size );
+		for ( int i = 0; i < size; i++ ) {
+			this.sequences.set( i, i );
+		}
+	}
+
+	/**
+	 * Offer an element to the buffer
+	 *
+	 * @param element The element, not null
+	 *
+	 * @return True if added, false if the buffer is full
+	 */
+	public boolean offer( E element ) {
+		long	position	= this.enqueuePosition.get();
+		int		index;
+		while ( true ) {
+			index = ( int ) ( position & this.mask );
+			long difference = this.sequences.get( index ) - position;
+			if ( difference == 0 ) {
+				if ( this.enqueuePosition.compareAndSet( position, position + 1 ) ) {
+					break;
+				}
+				position = this.enqueuePosition.get();
+			} else if ( difference < 0 ) {
+				// A full lap behind, we are full
+				return false;
+			} else {
+				position = this.enqueuePosition.get();
+			}
+		}
+		this.slots.set( index, element );
+		this.sequences.set( index, position + 1 );
+		return true;
+	}
+
+	/**
+	 * Poll an element from the buffer
+	 *
+	 * @return The element or null if the buffer is empty
+	 */
+	public E poll() {
+		long	position	= this.dequeuePosition.get();
+		int		index;
+		while ( true ) {
+			index = ( int ) ( position & this.mask );
+			long difference = this.sequences.get( index ) - ( position + 1 );
+			if ( difference == 0 ) {
+				if ( this.dequeuePosition.compareAndSet( position, position + 1 ) ) {
+					break;
+				}
+				position = this.dequeuePosition.get();
+			} else if ( difference < 0 ) {
+				// Nothing published here yet, we are empty
+				return null;
+			} else {
+				position = this.dequeuePosition.get();
+			}
+		}
+		E element = this.slots.get( index );
+		this.slots.set( index, null );
+		this.sequences.set( index, position + this.mask + 1 );
+		return element;
+	}
+
+	/**
+	 * An approximate count of the elements in the buffer
+	 */
+	public int size() {
+		long size = this.enqueuePosition.get() - this.dequeuePosition.get();
+		return ( int ) Math.max( 0, Math.min( size, capacity() ) );
+	}
+
+	/**
+	 * Is the buffer empty
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * The capacity of the buffer
+	 */
+	public int capacity() {
+		return this.mask + 1;
+	}
+
+}
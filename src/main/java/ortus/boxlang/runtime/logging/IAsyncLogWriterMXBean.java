@@ -0,0 +1,65 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.logging;
+
+/**
+ * The JMX view of the {@link AsyncLogWriter}, registered as {@code ortus.boxlang:type=Logging,name=AsyncLogWriter}
+ */
+public interface IAsyncLogWriterMXBean {
+
+	/**
+	 * How many log events are waiting to be written
+	 */
+	public int getQueueDepth();
+
+	/**
+	 * How many log events the buffer can hold
+	 */
+	public int getQueueCapacity();
+
+	/**
+	 * What happens when the buffer is full: BLOCK or DROP
+	 */
+	public String getOverflowPolicy();
+
+	/**
+	 * How many log events have been written
+	 */
+	public long getWrittenCount();
+
+	/**
+	 * How many log events have been dropped because the buffer was full
+	 */
+	public long getDroppedCount();
+
+	/**
+	 * How many times a caller had to wait because the buffer was full
+	 */
+	public long getBlockedCount();
+
+	/**
+	 * How many batched flushes have been done
+	 */
+	public long getFlushCount();
+
+	/**
+	 * How many log files are open
+	 */
+	public int getOpenFiles();
+
+}
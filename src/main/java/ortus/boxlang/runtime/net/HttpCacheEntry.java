@@ -0,0 +1,220 @@
+package ortus.boxlang.runtime.net;
+
+import java.io.Serializable;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * A response stored by the {@link HttpResponseCache}: the status, headers and decoded body, plus what is needed to decide
+ * its freshness, revalidate it and match it against the {@code Vary} headers of later requests.
+ */
+public class HttpCacheEntry implements Serializable {
+
+	private static final long				serialVersionUID	= 1L;
+
+	private final int						statusCode;
+	private final Map<String, List<String>>	headers;
+	private final byte[]					body;
+	private final String					version;
+	private final long						storedAt;
+	private final long						freshnessMillis;
+	private final Map<String, String>		varyValues;
+
+	/**
+	 * Constructor
+	 *
+	 * @param statusCode      The response status code
+	 * @param headers         The response headers
+	 * @param body            The decoded body
+	 * @param version         The HTTP version of the response
+	 * @param storedAt        When the response was received, in epoch milliseconds
+	 * @param freshnessMillis For how long the response is fresh after it was received
+	 * @param varyValues      The request values of the headers the response varies on, by lower case header name
+	 */
+	public HttpCacheEntry(
+	    int statusCode,
+	    Map<String, List<String>> headers,
+	    byte[] body,
+	    String version,
+	    long storedAt,
+	    long freshnessMillis,
+	    Map<String, String> varyValues ) {
+		this.statusCode			= statusCode;
+		this.headers			= headers;
+		this.body				= body;
+		this.version			= version;
+		this.storedAt			= storedAt;
+		this.freshnessMillis	= freshnessMillis;
+		this.varyValues			= varyValues;
+	}
+
+	/**
+	 * Whether the entry can be served without going to the network
+	 *
+	 * @param now The current time in epoch milliseconds
+	 */
+	public boolean isFresh( long now ) {
+		return now < this.storedAt + this.freshnessMillis;
+	}
+
+	/**
+	 * For how long the entry is fresh after it was stored, in milliseconds
+	 */
+	public long getFreshnessMillis() {
+		return this.freshnessMillis;
+	}
+
+	/**
+	 * Whether the entry can be revalidated with a conditional request
+	 */
+	public boolean hasValidators() {
+		return getETag() != null || getLastModified() != null;
+	}
+
+	/**
+	 * The entity tag of the response, if any
+	 */
+	public String getETag() {
+		return firstHeader( "ETag" );
+	}
+
+	/**
+	 * The last modified date of the response, if any
+	 */
+	public String getLastModified() {
+		return firstHeader( "Last-Modified" );
+	}
+
+	/**
+	 * Whether the entry was stored for a request with the same values for the headers the response varies on
+	 *
+	 * @param request The new request
+	 */
+	public boolean matches( HttpRequest request ) {
+		for ( Map.Entry<String, String> vary : this.varyValues.entrySet() ) {
+			if ( !vary.getValue().equals( varyValue( request.headers(), vary.getKey() ) ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the value of a request header a response varies on, normalized so that requests that only differ in how the
+	 * header is spread or spaced get the same value
+	 *
+	 * @param headers The request headers
+	 * @param name    The lower case header name
+	 *
+	 * @return All the values of the header, trimmed and separated by commas
+	 */
+	static String varyValue( HttpHeaders headers, String name ) {
+		StringBuilder value = new StringBuilder();
+		for ( String header : headers.allValues( name ) ) {
+			for ( String part : header.split( "," ) ) {
+				if ( !part.isBlank() ) {
+					value.append( value.isEmpty() ? "" : "," ).append( part.trim() );
+				}
+			}
+		}
+		return value.toString();
+	}
+
+	/**
+	 * Builds the entry that results from a {@code 304 Not Modified} revalidation: same body, headers updated with the
+	 * ones of the 304 response, and a new freshness lifetime computed from the merged headers. A 304 usually omits
+	 * {@code Cache-Control}, so the stored one still applies.
+	 *
+	 * @param notModified The 304 response headers
+	 * @param storedAt    When the 304 was received, in epoch milliseconds
+	 *
+	 * @return The refreshed entry
+	 */
+	public HttpCacheEntry refresh( HttpHeaders notModified, long storedAt ) {
+		Map<String, List<String>> merged = new LinkedHashMap<>( this.headers );
+		notModified.map().forEach( ( name, values ) -> {
+			// The 304 has no body, so its framing headers do not describe ours
+			if ( !name.equalsIgnoreCase( "Content-Length" ) && !name.equalsIgnoreCase( "Transfer-Encoding" ) ) {
+				merged.keySet().removeIf( existing -> existing.equalsIgnoreCase( name ) );
+				merged.put( name, values );
+			}
+		} );
+		long freshnessMillis = HttpResponseCache.getFreshness( HttpHeaders.of( merged, ( name, value ) -> true ), storedAt );
+		return new HttpCacheEntry( this.statusCode, merged, this.body, this.version, storedAt, freshnessMillis, this.varyValues );
+	}
+
+	/**
+	 * Builds a response out of the entry, as if it came from the network
+	 *
+	 * @param request The request it answers
+	 *
+	 * @return The response
+	 */
+	public HttpResponse<byte[]> toResponse( HttpRequest request ) {
+		HttpHeaders				responseHeaders	= HttpHeaders.of( this.headers, ( name, value ) -> true );
+		HttpClient.Version		responseVersion	= HttpClient.Version.valueOf( this.version );
+		int						status			= this.statusCode;
+		byte[]					responseBody	= this.body;
+		return new HttpResponse<byte[]>() {
+
+			@Override
+			public int statusCode() {
+				return status;
+			}
+
+			@Override
+			public HttpRequest request() {
+				return request;
+			}
+
+			@Override
+			public Optional<HttpResponse<byte[]>> previousResponse() {
+				return Optional.empty();
+			}
+
+			@Override
+			public HttpHeaders headers() {
+				return responseHeaders;
+			}
+
+			@Override
+			public byte[] body() {
+				return responseBody;
+			}
+
+			@Override
+			public Optional<SSLSession> sslSession() {
+				return Optional.empty();
+			}
+
+			@Override
+			public URI uri() {
+				return request.uri();
+			}
+
+			@Override
+			public HttpClient.Version version() {
+				return responseVersion;
+			}
+		};
+	}
+
+	private String firstHeader( String name ) {
+		for ( Map.Entry<String, List<String>> header : this.headers.entrySet() ) {
+			if ( header.getKey().equalsIgnoreCase( name ) && !header.getValue().isEmpty() ) {
+				return header.getValue().get( 0 );
+			}
+		}
+		return null;
+	}
+
+}
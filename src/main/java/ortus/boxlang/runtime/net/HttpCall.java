@@ -0,0 +1,601 @@
+package ortus.boxlang.runtime.net;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLConnection;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.RequestBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.ArrayCaster;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
+import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
+import ortus.boxlang.runtime.dynamic.casters.DoubleCaster;
+import ortus.boxlang.runtime.dynamic.casters.StringCaster;
+import ortus.boxlang.runtime.dynamic.casters.StructCaster;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.Function;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.QueryColumnType;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+import ortus.boxlang.runtime.util.FileSystemUtil;
+import ortus.boxlang.runtime.util.ResolvedFilePath;
+
+/**
+ * A single HTTP call prepared from the attributes and params of the {@code http} component, or from a request spec of
+ * {@code httpMulti()}. It builds the request, sends it through the selected client profile, and turns the response or
+ * the failure into the {@code http} result struct.
+ */
+public class HttpCall {
+
+	/**
+	 * The context the call was prepared in
+	 */
+	private final IBoxContext			context;
+
+	/**
+	 * The http attributes
+	 */
+	private final IStruct				attributes;
+
+	/**
+	 * The request builder, fully configured except for the timeout
+	 */
+	private final HttpRequest.Builder	builder;
+
+	/**
+	 * The request URI
+	 */
+	private final URI					uri;
+
+	/**
+	 * The timeout, or null
+	 */
+	private final Duration				timeout;
+
+	/**
+	 * Where the body is written, or null
+	 */
+	private final Path					outputFile;
+
+	/**
+	 * The chunk callback, or null
+	 */
+	private final Function				onChunk;
+
+	/**
+	 * The HTTP client profile
+	 */
+	private final String				profile;
+
+	/**
+	 * Whether redirects are followed
+	 */
+	private final boolean				followRedirects;
+
+	private HttpCall( IBoxContext context, IStruct attributes, HttpRequest.Builder builder, URI uri ) {
+		this.context			= context;
+		this.attributes			= attributes;
+		this.builder			= builder;
+		this.uri				= uri;
+		this.timeout			= attributes.containsKey( Key.timeout ) && attributes.get( Key.timeout ) != null
+		    ? Duration.ofSeconds( attributes.getAsInteger( Key.timeout ) )
+		    : null;
+		this.outputFile			= getOutputFile( context, attributes );
+		this.onChunk			= ( Function ) attributes.get( Key.onChunk );
+		this.profile			= StringCaster.cast( attributes.getOrDefault( Key.httpClient, "default" ) );
+		this.followRedirects	= BooleanCaster.cast( attributes.getOrDefault( Key.redirect, true ) );
+	}
+
+	/**
+	 * Prepares a call
+	 *
+	 * @param context    The context
+	 * @param attributes The http attributes: url, method, timeout, path, file, getAsBinary, charset, httpClient...
+	 * @param params     The http params as structs with a type, name and value
+	 *
+	 * @return The prepared call
+	 */
+	public static HttpCall prepare( IBoxContext context, IStruct attributes, Array params ) {
+		String	theURL	= attributes.getAsString( Key.URL );
+		String	method	= StringCaster.cast( attributes.getOrDefault( Key.method, "GET" ) ).toUpperCase();
+		try {
+			HttpRequest.Builder			builder			= HttpRequest.newBuilder();
+			URIBuilder					uriBuilder		= new URIBuilder( theURL );
+			HttpRequest.BodyPublisher	bodyPublisher	= null;
+			List<IStruct>				formFields		= new ArrayList<>();
+			List<IStruct>				files			= new ArrayList<>();
+			boolean						acceptEncoding	= false;
+			builder.header( "User-Agent", "BoxLang" );
+			for ( Object p : params ) {
+				IStruct	param	= StructCaster.cast( p );
+				String	type	= param.getAsString( Key.type );
+				switch ( type.toLowerCase() ) {
+					case "header" -> {
+						acceptEncoding = acceptEncoding || param.getAsString( Key._NAME ).equalsIgnoreCase( "Accept-Encoding" );
+						builder.header( param.getAsString( Key._NAME ), param.getAsString( Key.value ) );
+					}
+					case "body" -> {
+						if ( bodyPublisher != null ) {
+							throw new BoxRuntimeException( "Cannot use a body httpparam with an existing http body: " + bodyPublisher.toString() );
+						}
+						bodyPublisher = HttpRequest.BodyPublishers.ofString( param.getAsString( Key.value ) );
+					}
+					case "xml" -> {
+						if ( bodyPublisher != null ) {
+							throw new BoxRuntimeException( "Cannot use a xml httpparam with an existing http body: " + bodyPublisher.toString() );
+						}
+						builder.header( "Content-Type", "text/xml" );
+						bodyPublisher = HttpRequest.BodyPublishers.ofString( param.getAsString( Key.value ) );
+					}
+					// @TODO move URLEncoder.encode usage a non-deprecated method
+					case "cgi" -> builder.header( param.getAsString( Key._NAME ),
+					    java.net.URLEncoder.encode( param.getAsString( Key.value ), StandardCharsets.UTF_8 ) );
+					case "file" -> files.add( param );
+					case "url" -> uriBuilder.addParameter(
+					    param.getAsString( Key._NAME ),
+					    BooleanCaster.cast( param.getOrDefault( Key.encoded, true ) )
+					        ? URLEncoder.encode( StringCaster.cast( param.get( Key.value ) ), StandardCharsets.UTF_8 )
+					        : StringCaster.cast( param.get( Key.value ) )
+					);
+					case "formfield" -> formFields.add( param );
+					case "cookie" -> builder.header( "Cookie",
+					    param.getAsString( Key._NAME ) + "=" + URLEncoder.encode( param.getAsString( Key.value ), StandardCharsets.UTF_8 ) );
+					default -> throw new BoxRuntimeException( "Unhandled HTTPParam type: " + type );
+				}
+			}
+
+			if ( !files.isEmpty() ) {
+				if ( bodyPublisher != null ) {
+					throw new BoxRuntimeException( "Cannot use a multipart body with an existing http body: " + bodyPublisher.toString() );
+				}
+				HttpRequestMultipartBody.Builder multipartBodyBuilder = new HttpRequestMultipartBody.Builder();
+				for ( IStruct param : files ) {
+					ResolvedFilePath	path		= FileSystemUtil.expandPath( context, param.getAsString( Key.file ) );
+					File				file		= path.absolutePath().toFile();
+					String				mimeType	= Optional.ofNullable( param.getAsString( Key.mimetype ) )
+					    .orElseGet( () -> URLConnection.getFileNameMap().getContentTypeFor( file.getName() ) );
+					multipartBodyBuilder.addPart( param.getAsString( Key._name ), file, mimeType, file.getName() );
+				}
+
+				for ( IStruct formField : formFields ) {
+					multipartBodyBuilder.addPart( formField.getAsString( Key._name ), formField.getAsString( Key.value ) );
+				}
+				HttpRequestMultipartBody multipartBody = multipartBodyBuilder.build();
+				builder.header( "Content-Type", multipartBody.getContentType() );
+				bodyPublisher = HttpRequest.BodyPublishers.ofByteArray( multipartBody.getBody() );
+			} else if ( !formFields.isEmpty() ) {
+				if ( bodyPublisher != null ) {
+					throw new BoxRuntimeException( "Cannot use a formfield httpparam with an existing http body: " + bodyPublisher.toString() );
+				}
+				bodyPublisher = HttpRequest.BodyPublishers.ofString(
+				    formFields.stream()
+				        .map( formField -> {
+					        String value = formField.getAsString( Key.value );
+					        if ( BooleanCaster.cast( formField.getOrDefault( Key.encoded, true ) ) ) {
+						        value = URLEncoder.encode( value, StandardCharsets.UTF_8 );
+					        }
+					        return formField.getAsString( Key._name ) + "=" + value;
+				        } )
+				        .collect( Collectors.joining( "&" ) )
+				);
+				builder.header( "Content-Type", "application/x-www-form-urlencoded" );
+			}
+
+			if ( bodyPublisher == null ) {
+				bodyPublisher = HttpRequest.BodyPublishers.noBody();
+			}
+
+			// Ask for compressed responses unless told otherwise, we decode them on the stream
+			String compression = StringCaster.cast( attributes.getOrDefault( Key.compression, "" ) );
+			if ( !acceptEncoding && !compression.equalsIgnoreCase( "none" ) ) {
+				builder.header( "Accept-Encoding", ResponseBodyHandlers.ACCEPT_ENCODING );
+			}
+
+			builder.method( method, bodyPublisher );
+			URI uri = uriBuilder.build();
+			builder.uri( uri );
+
+			return new HttpCall( context, attributes, builder, uri );
+		} catch ( URISyntaxException | IOException e ) {
+			throw new BoxRuntimeException( e.getMessage(), e );
+		}
+	}
+
+	/**
+	 * Whether the body is streamed to a callback, which happens on the thread that builds the result
+	 */
+	public boolean isStreamed() {
+		return this.onChunk != null;
+	}
+
+	/**
+	 * Sends the request. The body is received straight to a file, as a stream for the chunk callback, or buffered as
+	 * bytes. Buffered GET requests go through the response cache when one is enabled.
+	 *
+	 * @return A future for the response
+	 */
+	public CompletableFuture<? extends HttpResponse<?>> sendAsync() {
+		if ( this.outputFile != null ) {
+			return HttpManager.sendAsync( this.profile, this.followRedirects, this.builder, ResponseBodyHandlers.ofDecodedFile( this.outputFile ), this.timeout );
+		}
+		if ( this.onChunk != null ) {
+			return HttpManager.sendAsync( this.profile, this.followRedirects, this.builder, HttpResponse.BodyHandlers.ofInputStream(), this.timeout );
+		}
+		String cacheName = getResponseCacheName();
+		if ( cacheName != null ) {
+			return HttpManager.getResponseCache( cacheName ).sendAsync(
+			    this.builder,
+			    networkBuilder -> HttpManager.sendAsync( this.profile, this.followRedirects, networkBuilder, ResponseBodyHandlers.ofDecodedByteArray(),
+			        this.timeout )
+			);
+		}
+		return HttpManager.sendAsync( this.profile, this.followRedirects, this.builder, ResponseBodyHandlers.ofDecodedByteArray(), this.timeout );
+	}
+
+	/**
+	 * Resolves the response cache of a buffered call from the {@code cache} attribute: {@code true} for the profile's
+	 * cache or the default cache, {@code false} for none, or a cache name. Without the attribute the profile's
+	 * {@code cache} setting applies.
+	 *
+	 * @return The name of the cache, or null if responses are not cached
+	 */
+	private String getResponseCacheName() {
+		Object	cache			= this.attributes.get( Key.cache );
+		String	profileCache	= HttpManager.getProfile( this.profile ).cache;
+		if ( cache == null ) {
+			return profileCache.isBlank() ? null : profileCache;
+		}
+		CastAttempt<Boolean> enabled = BooleanCaster.attempt( cache );
+		if ( enabled.wasSuccessful() ) {
+			if ( !enabled.get() ) {
+				return null;
+			}
+			return profileCache.isBlank() ? "default" : profileCache;
+		}
+		String cacheName = StringCaster.cast( cache );
+		return cacheName.isBlank() ? null : cacheName;
+	}
+
+	/**
+	 * Sends the request and waits for the response. If the waiting thread is interrupted, e.g. by a request timeout, the
+	 * exchange is cancelled.
+	 *
+	 * @return The response
+	 *
+	 * @throws ExecutionException If the exchange failed, see {@link #toErrorResult(Throwable)}
+	 */
+	public HttpResponse<?> send() throws ExecutionException {
+		CompletableFuture<? extends HttpResponse<?>> inflight = sendAsync();
+		try {
+			return inflight.get();
+		} catch ( InterruptedException e ) {
+			inflight.cancel( true );
+			Thread.currentThread().interrupt();
+			throw new BoxRuntimeException( e.getMessage(), e );
+		}
+	}
+
+	/**
+	 * Builds the {@code http} result struct of a response. Streamed bodies are handed to the chunk callback here.
+	 *
+	 * @param response The response
+	 *
+	 * @return The result struct
+	 */
+	public IStruct toResult( HttpResponse<?> response ) {
+		IStruct result = new Struct();
+		try {
+			HttpHeaders				httpHeaders			= Optional.ofNullable( response.headers() )
+			    .orElse( HttpHeaders.of( Map.of(), ( a, b ) -> true ) );
+			IStruct					headers				= transformToResponseHeaderStruct(
+			    httpHeaders.map() );
+			String					httpVersionString	= response.version() == HttpClient.Version.HTTP_1_1 ? "HTTP/1.1" : "HTTP/2";
+			String					statusCodeString	= String.valueOf( response.statusCode() );
+			String					statusText			= HTTPStatusReasons.getReasonForStatus( response.statusCode() );
+
+			headers.put( Key.HTTP_Version, httpVersionString );
+			headers.put( Key.status_code, statusCodeString );
+			headers.put( Key.explanation, statusText );
+
+			result.put( Key.responseHeader, headers );
+			result.put( Key.header, generateHeaderString( generateStatusLine( httpVersionString, statusCodeString, statusText ), headers ) );
+			result.put( Key.HTTP_Version, httpVersionString );
+			result.put( Key.statusCode, response.statusCode() );
+			result.put( Key.status_code, response.statusCode() );
+			result.put( Key.statusText, statusText );
+			result.put( Key.status_text, statusText );
+			result.put( Key.errorDetail, "" );
+			Optional<String> contentTypeHeader = httpHeaders.firstValue( "Content-Type" );
+			contentTypeHeader.ifPresent( ( contentType ) -> {
+				String[] contentTypeParts = contentType.split( ";\s*" );
+				if ( contentTypeParts.length > 0 ) {
+					result.put( Key.mimetype, contentTypeParts[ 0 ] );
+				}
+				if ( contentTypeParts.length > 1 ) {
+					String charset = contentTypeParts[ 1 ].replace( "charset=", "" );
+					result.put( Key.charset, charset );
+				}
+			} );
+			result.put( Key.cookies, generateCookiesQuery( headers ) );
+
+			String	responseCharset	= StringCaster.cast( result.getOrDefault( Key.charset, this.attributes.getOrDefault( Key.charset, "UTF-8" ) ) )
+			    .replace( "\"", "" );
+			boolean	asBinary		= isBinaryResponse( this.attributes, result.getAsString( Key.mimetype ) );
+			switch ( response.body() ) {
+				case Path ignored -> result.put( Key.fileContent, "" );
+				case InputStream stream -> {
+					streamChunks( this.context, ResponseBodyHandlers.decode( stream, httpHeaders ), this.onChunk, asBinary, responseCharset );
+					result.put( Key.fileContent, "" );
+				}
+				case byte[] bytes -> result.put( Key.fileContent, asBinary ? bytes : new String( bytes, Charset.forName( responseCharset ) ) );
+				default -> throw new BoxRuntimeException( "Unexpected HTTP response body: " + response.body() );
+			}
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( e.getMessage(), e );
+		}
+		return result;
+	}
+
+	/**
+	 * Builds the {@code http} result struct of a failed exchange: a 502 for connection failures and a 408 for timeouts.
+	 *
+	 * @param error The failure, possibly wrapped in an {@link ExecutionException} or {@link CompletionException}
+	 *
+	 * @return The result struct, or null if the failure has no result representation and should be thrown
+	 */
+	public IStruct toErrorResult( Throwable error ) {
+		Throwable cause = error;
+		while ( ( cause instanceof ExecutionException || cause instanceof CompletionException ) && cause.getCause() != null ) {
+			cause = cause.getCause();
+		}
+
+		IStruct result = new Struct();
+		if ( cause instanceof ConnectException ) {
+			result.put( Key.responseHeader, Struct.EMPTY );
+			result.put( Key.header, "" );
+			result.put( Key.statusCode, 502 );
+			result.put( Key.status_code, 502 );
+			result.put( Key.statusText, "Bad Gateway" );
+			result.put( Key.status_text, "Bad Gateway" );
+			result.put( Key.fileContent, "Connection Failure" );
+			result.put( Key.errorDetail, String.format( "Unknown host: %s: Name or service not known.", this.uri.getHost() ) );
+			return result;
+		}
+		if ( cause instanceof HttpTimeoutException ) {
+			result.put( Key.responseHeader, Struct.EMPTY );
+			result.put( Key.header, "" );
+			result.put( Key.statusCode, 408 );
+			result.put( Key.status_code, 408 );
+			result.put( Key.statusText, "Request Timeout" );
+			result.put( Key.status_text, "Request Timeout" );
+			result.put( Key.fileContent, "Request Timeout" );
+			result.put( Key.errorDetail, cause.getMessage() );
+			return result;
+		}
+		return null;
+	}
+
+	/**
+	 * Resolves where the response body should be written when the {@code path} and {@code file} attributes are used
+	 *
+	 * @param context    The context
+	 * @param attributes The http attributes
+	 *
+	 * @return The absolute target file, or null if the body is not written to disk
+	 */
+	private static Path getOutputFile( IBoxContext context, IStruct attributes ) {
+		String path = attributes.getAsString( Key.path );
+		if ( path == null || path.isBlank() ) {
+			return null;
+		}
+		Path directory = FileSystemUtil.expandPath( context, path ).absolutePath();
+		return directory.resolve( attributes.getAsString( Key.file ) );
+	}
+
+	/**
+	 * Decides whether the body is returned as binary according to the {@code getAsBinary} attribute and the mime type
+	 *
+	 * @param attributes The http attributes
+	 * @param mimeType   The response mime type, if any
+	 *
+	 * @return True if the body should be returned as a byte array
+	 */
+	private static boolean isBinaryResponse( IStruct attributes, String mimeType ) {
+		return switch ( StringCaster.cast( attributes.getOrDefault( Key.getAsBinary, "auto" ) ).toLowerCase() ) {
+			case "yes" -> true;
+			case "no", "never" -> false;
+			default -> ResponseBodyHandlers.isBinaryMimeType( mimeType );
+		};
+	}
+
+	/**
+	 * Reads a streamed body and hands it to the callback chunk by chunk as it arrives. Binary bodies are delivered as
+	 * byte arrays, text bodies as strings decoded with the response charset. The stream is always closed, which aborts
+	 * the exchange if the callback throws.
+	 *
+	 * @param context  The context
+	 * @param body     The decoded body stream
+	 * @param onChunk  The callback, receives the chunk and its 1-based number
+	 * @param asBinary Whether to deliver byte arrays
+	 * @param charset  The charset of text bodies
+	 *
+	 * @throws IOException If the body cannot be read
+	 */
+	private static void streamChunks( IBoxContext context, InputStream body, Function onChunk, boolean asBinary, String charset ) throws IOException {
+		int chunkNumber = 0;
+		if ( asBinary ) {
+			try ( InputStream in = body ) {
+				byte[]	buffer	= new byte[ ResponseBodyHandlers.CHUNK_SIZE ];
+				int		read;
+				while ( ( read = in.read( buffer ) ) != -1 ) {
+					if ( read > 0 ) {
+						RequestBoxContext.checkCurrentRequestTimeout();
+						context.invokeFunction( onChunk, new Object[] { Arrays.copyOf( buffer, read ), ++chunkNumber } );
+					}
+				}
+			}
+			return;
+		}
+		try ( Reader in = new InputStreamReader( body, Charset.forName( charset ) ) ) {
+			char[]	buffer	= new char[ ResponseBodyHandlers.CHUNK_SIZE ];
+			int		read;
+			while ( ( read = in.read( buffer ) ) != -1 ) {
+				if ( read > 0 ) {
+					RequestBoxContext.checkCurrentRequestTimeout();
+					context.invokeFunction( onChunk, new Object[] { new String( buffer, 0, read ), ++chunkNumber } );
+				}
+			}
+		}
+	}
+
+	private static Query generateCookiesQuery( IStruct headers ) {
+		Query cookies = new Query();
+		cookies.addColumn( Key._NAME, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.value, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.path, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.domain, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.expires, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.secure, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.httpOnly, QueryColumnType.VARCHAR );
+		cookies.addColumn( Key.samesite, QueryColumnType.VARCHAR );
+
+		Object				cookieValue		= headers.getOrDefault( Key.of( "Set-Cookie" ), new Array() );
+		CastAttempt<Array>	isValuesArray	= ArrayCaster.attempt( cookieValue );
+		if ( isValuesArray.wasSuccessful() ) {
+			Array values = isValuesArray.getOrFail();
+			for ( Object value : values ) {
+				parseCookieStringIntoQuery( StringCaster.cast( value ), cookies );
+			}
+		} else {
+			parseCookieStringIntoQuery( StringCaster.cast( cookieValue ), cookies );
+		}
+
+		return cookies;
+	}
+
+	private static void parseCookieStringIntoQuery( String cookieString, Query cookies ) {
+		IStruct		cookieStruct;
+		String[]	parts	= cookieString.split( ";" );
+		if ( parts.length == 0 ) {
+			return;
+		}
+
+		String[] nameAndValue = parts[ 0 ].split( "=" );
+		if ( nameAndValue.length != 2 ) {
+			return;
+		}
+
+		cookieStruct = new Struct();
+		cookieStruct.put( Key._NAME, nameAndValue[ 0 ] );
+		cookieStruct.put( Key.value, nameAndValue[ 1 ] );
+
+		if ( parts.length > 1 ) {
+			Arrays.stream( parts, 1, parts.length )
+			    .forEach( metadata -> {
+				    String[] metadataParts = metadata.split( "=" );
+				    if ( metadataParts.length == 0 ) {
+					    return;
+				    }
+				    Key	metadataType	= Key.of( metadataParts[ 0 ] );
+				    Object metadataValue = true;
+				    if ( metadataParts.length == 2 ) {
+					    metadataValue = metadataParts[ 1 ];
+				    }
+
+				    if ( metadataType.equals( Key.of( "max-age" ) ) ) {
+					    metadataType = Key.expires;
+					    metadataValue = StringCaster.cast( DoubleCaster.cast( metadataValue ) / 60 / 60 / 24 );
+				    }
+
+				    cookieStruct.put( metadataType, metadataValue );
+			    } );
+		}
+
+		cookies.add( cookieStruct );
+	}
+
+	private static String generateStatusLine( String httpVersionString, String statusCodeString, String statusText ) {
+		return httpVersionString + " " + statusCodeString + " " + statusText;
+	}
+
+	private static String generateHeaderString( String statusLine, IStruct headers ) {
+		return statusLine + " " + headers.entrySet()
+		    .stream()
+		    .sorted( Map.Entry.comparingByKey() )
+		    .map( entry -> {
+			    StringBuilder	sb				= new StringBuilder();
+			    Object			headerValues	= entry.getValue();
+			    CastAttempt<Array> isValuesArray = ArrayCaster.attempt( headerValues );
+			    if ( isValuesArray.wasSuccessful() ) {
+				    Array values = isValuesArray.getOrFail();
+				    for ( Object value : values ) {
+					    String headerValue = StringCaster.cast( value );
+					    sb.append( entry.getKey().getName() + ": " + headerValue + " " );
+				    }
+			    } else {
+				    String headerValue = StringCaster.cast( headerValues );
+				    sb.append( entry.getKey().getName() + ": " + headerValue + " " );
+			    }
+			    return sb.toString().trim();
+		    } ).collect( Collectors.joining( " " ) );
+	}
+
+	private static IStruct transformToResponseHeaderStruct( Map<String, List<String>> headersMap ) {
+		IStruct responseHeaders = new Struct();
+
+		if ( headersMap == null ) {
+			return responseHeaders;
+		}
+
+		// Add all the headers to our struct
+		for ( String headerName : headersMap.keySet() ) {
+			if ( ":status".equals( headerName ) ) {
+				continue;
+			}
+			Key		headerNameKey	= Key.of( headerName );
+			Array	values			= ( Array ) responseHeaders.getOrDefault( headerNameKey, new Array() );
+			values.addAll( headersMap.get( headerName ) );
+			responseHeaders.put( headerNameKey, values );
+		}
+
+		for ( Key structHeaderKey : responseHeaders.keySet() ) {
+			CastAttempt<Array> isValuesArray = ArrayCaster.attempt( responseHeaders.get( structHeaderKey ) );
+			if ( isValuesArray.wasSuccessful() ) {
+				Array values = isValuesArray.getOrFail();
+				if ( values.size() == 1 ) {
+					responseHeaders.put( structHeaderKey, values.get( 0 ) );
+				}
+			}
+		}
+
+		return responseHeaders;
+	}
+}
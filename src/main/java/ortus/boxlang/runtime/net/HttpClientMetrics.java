@@ -0,0 +1,147 @@
+package ortus.boxlang.runtime.net;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.util.LatencyHistogram;
+
+/**
+ * The live metrics of an HTTP client profile, fed by {@link HttpManager#sendAsync}:
+ * <ul>
+ * <li>In-flight requests gauge</li>
+ * <li>Request, failure and timeout counters</li>
+ * <li>Bytes sent and received. Received bytes come from the buffered body or the {@code Content-Length} header</li>
+ * <li>Send to response latency histogram</li>
+ * </ul>
+ */
+public class HttpClientMetrics {
+
+	/**
+	 * The name of the profile
+	 */
+	private final String			name;
+
+	/**
+	 * Requests currently waiting for their response
+	 */
+	private final AtomicInteger		inFlight		= new AtomicInteger();
+
+	/**
+	 * Counters
+	 */
+	private final LongAdder			requests		= new LongAdder();
+	private final LongAdder			failures		= new LongAdder();
+	private final LongAdder			timeouts		= new LongAdder();
+	private final LongAdder			bytesSent		= new LongAdder();
+	private final LongAdder			bytesReceived	= new LongAdder();
+
+	/**
+	 * Send to response in nanoseconds
+	 */
+	private final LatencyHistogram	latency			= new LatencyHistogram();
+
+	/**
+	 * Constructor
+	 *
+	 * @param name The name of the profile
+	 */
+	public HttpClientMetrics( String name ) {
+		this.name = name;
+	}
+
+	/**
+	 * Records a request being sent
+	 *
+	 * @param contentLength The request body length, negative if unknown
+	 *
+	 * @return The start time in nanoseconds, to pass to {@link #recordEnd}
+	 */
+	public long recordStart( long contentLength ) {
+		this.requests.increment();
+		this.inFlight.incrementAndGet();
+		if ( contentLength > 0 ) {
+			this.bytesSent.add( contentLength );
+		}
+		return System.nanoTime();
+	}
+
+	/**
+	 * Records the outcome of a request
+	 *
+	 * @param startNanos    The start time returned by {@link #recordStart}
+	 * @param bytesReceived The response body length, negative if unknown
+	 * @param failed        Whether the request failed
+	 * @param timedOut      Whether the request timed out
+	 */
+	public void recordEnd( long startNanos, long bytesReceived, boolean failed, boolean timedOut ) {
+		this.inFlight.decrementAndGet();
+		this.latency.recordSince( startNanos );
+		if ( bytesReceived > 0 ) {
+			this.bytesReceived.add( bytesReceived );
+		}
+		if ( timedOut ) {
+			this.timeouts.increment();
+		} else if ( failed ) {
+			this.failures.increment();
+		}
+	}
+
+	/**
+	 * Resets the counters and the histogram. The in-flight gauge is left alone.
+	 */
+	public void reset() {
+		this.requests.reset();
+		this.failures.reset();
+		this.timeouts.reset();
+		this.bytesSent.reset();
+		this.bytesReceived.reset();
+		this.latency.reset();
+	}
+
+	/**
+	 * The name of the profile
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * The requests currently waiting for their response
+	 */
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+
+	/**
+	 * The total requests sent
+	 */
+	public long getRequests() {
+		return this.requests.sum();
+	}
+
+	/**
+	 * The send to response latency histogram in nanoseconds
+	 */
+	public LatencyHistogram latency() {
+		return this.latency;
+	}
+
+	/**
+	 * The metrics as a struct
+	 */
+	public IStruct toStruct() {
+		return Struct.of(
+		    "name", this.name,
+		    "inFlight", this.inFlight.get(),
+		    "requests", this.requests.sum(),
+		    "failures", this.failures.sum(),
+		    "timeouts", this.timeouts.sum(),
+		    "bytesSent", this.bytesSent.sum(),
+		    "bytesReceived", this.bytesReceived.sum(),
+		    "latency", this.latency.toStruct()
+		);
+	}
+
+}
@@ -1,24 +1,60 @@
 package ortus.boxlang.runtime.net;
 
-import java.net.URI;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
 import java.net.http.HttpClient;
-import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.util.Optional;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
-import javax.net.ssl.SSLSession;
-
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.config.segments.HttpClientConfig;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 
 public class HttpManager {
 
 	/**
-	 * Singleton instance of the HttpManager.
+	 * The pooled clients, one per profile and redirect behavior
+	 */
+	private static final Map<String, HttpClient>		clients		= new ConcurrentHashMap<>();
+
+	/**
+	 * The metrics of every profile that sent a request
+	 */
+	private static final Map<Key, HttpClientMetrics>	metrics		= new ConcurrentHashMap<>();
+
+	/**
+	 * The response caches, by backing cache name
+	 */
+	private static final Map<Key, HttpResponseCache>	responseCaches	= new ConcurrentHashMap<>();
+
+	/**
+	 * Executors we created for clients, closed on shutdown
+	 */
+	private static final List<ExecutorService>			executors	= new CopyOnWriteArrayList<>();
+
+	/**
+	 * Shared scheduler that enforces the overall deadline of timed requests. It never runs user code, it only completes
+	 * futures and cancels exchanges, so a single daemon thread is enough.
 	 */
-	private static HttpClient instance;
+	private static ScheduledThreadPoolExecutor			timeoutScheduler;
 
 	/**
 	 * Private constructor. Use getInstance() instead.
@@ -27,73 +63,337 @@ public class HttpManager {
 	}
 
 	/**
-	 * Get the singleton instance of the HttpManager.
-	 * <p>
-	 * Will construct a new instance if one does not already exist, otherwise returns the existing instance.
+	 * Get the client of the default profile.
 	 *
-	 * @return The HttpManager instance.
+	 * @return The default HttpClient.
 	 */
 	public static HttpClient getClient() {
-		if ( instance == null ) {
-			instance = HttpClient.newHttpClient();
+		return getClient( HttpClientConfig.DEFAULT_NAME, true );
+	}
+
+	/**
+	 * Get the pooled client of a profile, building it on first use. Clients are cached per profile and redirect behavior
+	 * so connections are reused across requests.
+	 *
+	 * @param profile         The name of the profile in the {@code httpClients} configuration
+	 * @param followRedirects Whether to follow redirects according to the profile's policy, or never
+	 *
+	 * @return The HttpClient
+	 */
+	public static HttpClient getClient( String profile, boolean followRedirects ) {
+		HttpClientConfig config = getProfile( profile );
+		return clients.computeIfAbsent(
+		    config.name.toLowerCase() + ( followRedirects ? "" : "@noredirect" ),
+		    key -> buildClient( config, followRedirects )
+		);
+	}
+
+	/**
+	 * Get the configuration of a profile. The {@code default} profile always exists.
+	 *
+	 * @param profile The name of the profile
+	 *
+	 * @return The profile configuration
+	 *
+	 * @throws BoxRuntimeException If the profile is not configured
+	 */
+	public static HttpClientConfig getProfile( String profile ) {
+		Object config = BoxRuntime.getInstance().getConfiguration().httpClients.get( Key.of( profile ) );
+		if ( config instanceof HttpClientConfig castedConfig ) {
+			return castedConfig;
+		}
+		if ( profile.equalsIgnoreCase( HttpClientConfig.DEFAULT_NAME ) ) {
+			return new HttpClientConfig();
+		}
+		throw new BoxRuntimeException( "The HTTP client profile [" + profile + "] is not configured in the [httpClients] settings." );
+	}
+
+	/**
+	 * Get the metrics of every profile that sent a request
+	 *
+	 * @return A struct of metrics structs by profile name
+	 */
+	public static IStruct getMetrics() {
+		IStruct result = new Struct();
+		metrics.forEach( ( name, profileMetrics ) -> result.put( name, profileMetrics.toStruct() ) );
+		return result;
+	}
+
+	/**
+	 * Get the metrics of a profile
+	 *
+	 * @param profile The name of the profile
+	 *
+	 * @return The metrics, or null if the profile never sent a request
+	 */
+	public static HttpClientMetrics getMetrics( String profile ) {
+		return metrics.get( Key.of( profile ) );
+	}
+
+	/**
+	 * Get the response cache backed by a BoxLang cache, creating it on first use
+	 *
+	 * @param cacheName The name of the backing cache
+	 *
+	 * @return The response cache
+	 *
+	 * @throws BoxRuntimeException If the cache does not exist
+	 */
+	public static HttpResponseCache getResponseCache( String cacheName ) {
+		if ( !BoxRuntime.getInstance().getCacheService().hasCache( Key.of( cacheName ) ) ) {
+			throw new BoxRuntimeException( "The cache [" + cacheName + "] used for HTTP responses does not exist." );
+		}
+		return responseCaches.computeIfAbsent( Key.of( cacheName ), key -> new HttpResponseCache( key.getName() ) );
+	}
+
+	/**
+	 * Get the metrics of every response cache that was used
+	 *
+	 * @return A struct of metrics structs by cache name
+	 */
+	public static IStruct getResponseCacheMetrics() {
+		IStruct result = new Struct();
+		responseCaches.forEach( ( name, responseCache ) -> result.put( name, responseCache.toStruct() ) );
+		return result;
+	}
+
+	/**
+	 * Get a response cache without creating it
+	 *
+	 * @param cacheName The name of the backing cache
+	 *
+	 * @return The response cache, or null if the cache was never used for HTTP responses
+	 */
+	public static HttpResponseCache getResponseCacheIfPresent( String cacheName ) {
+		return responseCaches.get( Key.of( cacheName ) );
+	}
+
+	/**
+	 * Sends a request through a profile's pooled client and records it in the profile metrics. The latency is measured
+	 * until the response future completes, which is when the body was received for buffered and file bodies and when
+	 * the headers were received for streamed bodies.
+	 *
+	 * @param profile         The name of the profile
+	 * @param followRedirects Whether to follow redirects according to the profile's policy, or never
+	 * @param builder         The request builder, fully configured except for the timeout
+	 * @param bodyHandler     The response body handler
+	 * @param timeout         The timeout, a {@code null} or non-positive duration means no timeout
+	 *
+	 * @return A future for the response
+	 */
+	public static <T> CompletableFuture<HttpResponse<T>> sendAsync(
+	    String profile,
+	    boolean followRedirects,
+	    HttpRequest.Builder builder,
+	    HttpResponse.BodyHandler<T> bodyHandler,
+	    Duration timeout ) {
+		HttpClient			client			= getClient( profile, followRedirects );
+		HttpRequest			request			= withTimeout( builder, timeout ).build();
+		HttpClientMetrics	profileMetrics	= metrics.computeIfAbsent( Key.of( getProfile( profile ).name ), key -> new HttpClientMetrics( key.getName() ) );
+		long				startNanos		= profileMetrics.recordStart(
+		    request.bodyPublisher().map( HttpRequest.BodyPublisher::contentLength ).orElse( 0L )
+		);
+
+		CompletableFuture<HttpResponse<T>> result;
+		try {
+			result = send( client, request, bodyHandler, timeout );
+		} catch ( RuntimeException e ) {
+			profileMetrics.recordEnd( startNanos, -1, true, false );
+			throw e;
 		}
-		return instance;
+		result.whenComplete( ( response, error ) -> profileMetrics.recordEnd(
+		    startNanos,
+		    response == null ? -1 : getReceivedBytes( response ),
+		    error != null,
+		    unwrap( error ) instanceof HttpTimeoutException
+		) );
+		return result;
 	}
 
-	public static CompletableFuture<HttpResponse<String>> getTimeoutRequestAsync( int timeout ) {
-		return CompletableFuture.supplyAsync( () -> getTimeoutRequest( timeout ) );
+	/**
+	 * Sends a request asynchronously with an overall deadline.
+	 * <p>
+	 * The request gets a {@link HttpRequest.Builder#timeout(Duration)} so the client itself aborts when no response
+	 * headers arrive in time, and the shared timeout scheduler bounds the whole exchange including the body. Whichever
+	 * fires first completes the returned future exceptionally with an {@link HttpTimeoutException} and cancels the
+	 * in-flight exchange. No thread is parked while waiting.
+	 *
+	 * @param client      The client to send with
+	 * @param builder     The request builder, fully configured except for the timeout
+	 * @param bodyHandler The response body handler
+	 * @param timeout     The timeout, a {@code null} or non-positive duration means no timeout
+	 *
+	 * @return A future for the response
+	 */
+	public static <T> CompletableFuture<HttpResponse<T>> sendAsync(
+	    HttpClient client,
+	    HttpRequest.Builder builder,
+	    HttpResponse.BodyHandler<T> bodyHandler,
+	    Duration timeout ) {
+		return send( client, withTimeout( builder, timeout ).build(), bodyHandler, timeout );
 	}
 
-	public static HttpResponse<String> getTimeoutRequest( int timeout ) {
+	/**
+	 * Sends a built request, arming the overall deadline if there is a timeout
+	 */
+	private static <T> CompletableFuture<HttpResponse<T>> send(
+	    HttpClient client,
+	    HttpRequest request,
+	    HttpResponse.BodyHandler<T> bodyHandler,
+	    Duration timeout ) {
+		if ( !hasTimeout( timeout ) ) {
+			return client.sendAsync( request, bodyHandler );
+		}
+
+		CompletableFuture<HttpResponse<T>>	inflight	= client.sendAsync( request, bodyHandler );
+		CompletableFuture<HttpResponse<T>>	result		= new CompletableFuture<>();
+		Runnable							onDeadline	= () -> {
+															if ( result.completeExceptionally( newTimeoutException( timeout ) ) ) {
+																inflight.cancel( true );
+															}
+														};
+		ScheduledFuture<?>					deadline	= getTimeoutScheduler().schedule( onDeadline, timeout.toNanos(), TimeUnit.NANOSECONDS );
+
+		inflight.whenComplete( ( response, error ) -> {
+			deadline.cancel( false );
+			if ( error == null ) {
+				result.complete( response );
+				return;
+			}
+			Throwable cause = unwrap( error );
+			result.completeExceptionally( cause instanceof HttpTimeoutException ? newTimeoutException( timeout ) : cause );
+		} );
+
+		// If the caller gives up on the result, give up on the exchange too
+		result.whenComplete( ( response, error ) -> {
+			if ( result.isCancelled() ) {
+				inflight.cancel( true );
+			}
+		} );
+
+		return result;
+	}
+
+	/**
+	 * Builds the human readable detail for a timed out request
+	 *
+	 * @param timeout The timeout that elapsed
+	 *
+	 * @return The detail message
+	 */
+	public static String getTimeoutMessage( Duration timeout ) {
+		long seconds = timeout.toSeconds();
+		if ( timeout.toMillis() % 1000 != 0 ) {
+			return "Request timed out after " + timeout.toMillis() + " milliseconds.";
+		}
+		return "Request timed out after " + seconds + ( seconds == 1 ? " second." : " seconds." );
+	}
+
+	/**
+	 * Shuts down and drops the pooled clients and their executors, and shuts down the shared timeout scheduler, if it was
+	 * ever started. In-flight requests are aborted, which releases the clients' selector threads and connections, and
+	 * pending deadlines are dropped. Clients are rebuilt from the configuration on next use.
+	 */
+	public static synchronized void shutdown() {
+		clients.values().forEach( HttpClient::shutdownNow );
+		clients.clear();
+		metrics.clear();
+		responseCaches.clear();
+		executors.forEach( ExecutorService::shutdown );
+		executors.clear();
+		if ( timeoutScheduler != null ) {
+			timeoutScheduler.shutdownNow();
+			timeoutScheduler = null;
+		}
+	}
+
+	/**
+	 * Lazily builds the shared timeout scheduler
+	 *
+	 * @return The timeout scheduler
+	 */
+	private static synchronized ScheduledThreadPoolExecutor getTimeoutScheduler() {
+		if ( timeoutScheduler == null ) {
+			timeoutScheduler = new ScheduledThreadPoolExecutor( 1, runnable -> {
+				Thread thread = new Thread( runnable, "boxlang-http-timeouts" );
+				thread.setDaemon( true );
+				return thread;
+			} );
+			// Most deadlines are cancelled because the response won, don't let them pile up in the queue
+			timeoutScheduler.setRemoveOnCancelPolicy( true );
+		}
+		return timeoutScheduler;
+	}
+
+	/**
+	 * Builds the client of a profile
+	 *
+	 * @param config          The profile configuration
+	 * @param followRedirects Whether to follow redirects according to the profile's policy, or never
+	 *
+	 * @return The client
+	 */
+	private static HttpClient buildClient( HttpClientConfig config, boolean followRedirects ) {
+		HttpClient.Builder builder = HttpClient.newBuilder();
 		try {
-			TimeUnit.SECONDS.sleep( timeout );
-			return new HttpResponse<String>() {
-
-				@Override
-				public int statusCode() {
-					return 408;
-				}
-
-				@Override
-				public HttpRequest request() {
-					return null;
-				}
-
-				@Override
-				public Optional<HttpResponse<String>> previousResponse() {
-					return Optional
-					    .empty();
-				}
-
-				@Override
-				public HttpHeaders headers() {
-					return null;
-				}
-
-				@Override
-				public String body() {
-					return "Request timed out after " + timeout + ( timeout == 1 ? " second." : " seconds." );
-				}
-
-				@Override
-				public Optional<SSLSession> sslSession() {
-					return Optional
-					    .empty();
-				}
-
-				@Override
-				public URI uri() {
-					return null;
-				}
-
-				@Override
-				public HttpClient.Version version() {
-					return null;
-				}
-			};
-		} catch ( InterruptedException e ) {
-			throw new BoxRuntimeException( e.getMessage(), e );
+			builder
+			    .version( HttpClient.Version.valueOf( config.httpVersion ) )
+			    .followRedirects( followRedirects ? HttpClient.Redirect.valueOf( config.redirect ) : HttpClient.Redirect.NEVER );
+		} catch ( IllegalArgumentException e ) {
+			throw new BoxRuntimeException(
+			    "The HTTP client profile [" + config.name + "] has an invalid httpVersion [" + config.httpVersion + "] or redirect [" + config.redirect + "]", e );
+		}
+
+		if ( config.connectTimeout > 0 ) {
+			builder.connectTimeout( Duration.ofSeconds( config.connectTimeout ) );
+		}
+
+		if ( config.virtualThreads ) {
+			ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+			executors.add( executor );
+			builder.executor( executor );
 		}
+
+		if ( !config.proxyServer.isBlank() ) {
+			builder.proxy( ProxySelector.of( new InetSocketAddress( config.proxyServer, config.proxyPort ) ) );
+			if ( !config.proxyUser.isBlank() ) {
+				builder.authenticator( new Authenticator() {
+
+					@Override
+					protected PasswordAuthentication getPasswordAuthentication() {
+						if ( getRequestorType() != RequestorType.PROXY ) {
+							return null;
+						}
+						return new PasswordAuthentication( config.proxyUser, config.proxyPassword.toCharArray() );
+					}
+				} );
+			}
+		}
+
+		return builder.build();
+	}
+
+	private static HttpRequest.Builder withTimeout( HttpRequest.Builder builder, Duration timeout ) {
+		return hasTimeout( timeout ) ? builder.timeout( timeout ) : builder;
+	}
+
+	private static boolean hasTimeout( Duration timeout ) {
+		return timeout != null && !timeout.isZero() && !timeout.isNegative();
+	}
+
+	private static long getReceivedBytes( HttpResponse<?> response ) {
+		if ( response.body() instanceof byte[] bytes ) {
+			return bytes.length;
+		}
+		return response.headers().firstValueAsLong( "Content-Length" ).orElse( -1 );
+	}
+
+	private static Throwable unwrap( Throwable error ) {
+		return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+	}
+
+	private static HttpTimeoutException newTimeoutException( Duration timeout ) {
+		return new HttpTimeoutException( getTimeoutMessage( timeout ) );
 	}
 
 }
@@ -0,0 +1,393 @@
+package ortus.boxlang.runtime.net;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.cache.providers.ICacheProvider;
+import ortus.boxlang.runtime.dynamic.Attempt;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+/**
+ * An HTTP response cache backed by a BoxLang cache. It follows shared cache semantics:
+ * <ul>
+ * <li>Only {@code GET} requests and {@code 200} responses are cached, and never with {@code no-store}, {@code private}
+ * or {@code Vary: *}</li>
+ * <li>Responses to requests with an {@code Authorization} header are only cached if marked {@code public} or with an
+ * {@code s-maxage}</li>
+ * <li>Freshness comes from {@code s-maxage}, {@code max-age} or {@code Expires}, minus the {@code Age} of the
+ * response. {@code no-cache} responses are stored but always revalidated.</li>
+ * <li>Stale entries with an {@code ETag} or {@code Last-Modified} are revalidated with a conditional request, and a
+ * {@code 304 Not Modified} is answered from the cache</li>
+ * </ul>
+ * Entries are stored in the cache for their freshness lifetime, plus {@link #REVALIDATION_WINDOW} when they can be
+ * revalidated. Each variant of a URL that responds with {@code Vary} is stored under its own key, made from the URL and
+ * the request values of the headers it varies on. The names of those headers are kept in a small entry per URL.
+ */
+public class HttpResponseCache {
+
+	/**
+	 * How long stale entries with validators are kept around for revalidation
+	 */
+	public static final Duration	REVALIDATION_WINDOW	= Duration.ofHours( 1 );
+
+	/**
+	 * The prefix of the cache keys
+	 */
+	private static final String		KEY_PREFIX			= "bxhttp:";
+
+	/**
+	 * The suffix of the key that holds the names of the headers the responses of a URL vary on
+	 */
+	private static final String		VARY_SUFFIX			= ":vary";
+
+	/**
+	 * The name of the backing cache
+	 */
+	private final String			cacheName;
+
+	/**
+	 * Counters
+	 */
+	private final LongAdder			hits				= new LongAdder();
+	private final LongAdder			misses				= new LongAdder();
+	private final LongAdder			revalidations		= new LongAdder();
+	private final LongAdder			notModified			= new LongAdder();
+	private final LongAdder			stores				= new LongAdder();
+	private final LongAdder			bypasses			= new LongAdder();
+
+	/**
+	 * Constructor
+	 *
+	 * @param cacheName The name of the backing cache
+	 */
+	public HttpResponseCache( String cacheName ) {
+		this.cacheName = cacheName;
+	}
+
+	/**
+	 * Sends a request through the cache. Fresh entries are answered without going to the network, stale ones are
+	 * revalidated, and cacheable responses are stored.
+	 *
+	 * @param builder The request builder, fully configured. It is not modified.
+	 * @param sender  Sends a request builder over the network, with a decoded byte array body handler
+	 *
+	 * @return A future for the response. Cancelling it cancels the network exchange, if any.
+	 */
+	public CompletableFuture<HttpResponse<byte[]>> sendAsync(
+	    HttpRequest.Builder builder,
+	    Function<HttpRequest.Builder, CompletableFuture<HttpResponse<byte[]>>> sender ) {
+		HttpRequest request = builder.copy().build();
+		if ( !request.method().equals( "GET" ) || hasDirective( request.headers(), "no-store" ) ) {
+			this.bypasses.increment();
+			return sender.apply( builder );
+		}
+
+		ICacheProvider	cache		= getCache();
+		String			baseKey		= KEY_PREFIX + request.method() + ":" + request.uri();
+		Attempt<Object>	varyNames	= cache.get( baseKey + VARY_SUFFIX );
+		String			key			= toVariantKey( baseKey, varyNames.isPresent() ? varyNames.get().toString() : "", request.headers() );
+		HttpCacheEntry	entry		= getEntry( cache, key, request );
+		long			now			= System.currentTimeMillis();
+
+		if ( entry != null && entry.isFresh( now ) && !hasDirective( request.headers(), "no-cache" ) ) {
+			this.hits.increment();
+			return CompletableFuture.completedFuture( entry.toResponse( request ) );
+		}
+
+		HttpRequest.Builder networkBuilder = builder;
+		if ( entry != null && entry.hasValidators() ) {
+			this.revalidations.increment();
+			networkBuilder = builder.copy();
+			if ( entry.getETag() != null ) {
+				networkBuilder.setHeader( "If-None-Match", entry.getETag() );
+			}
+			if ( entry.getLastModified() != null ) {
+				networkBuilder.setHeader( "If-Modified-Since", entry.getLastModified() );
+			}
+		} else {
+			this.misses.increment();
+		}
+
+		CompletableFuture<HttpResponse<byte[]>>	inflight	= sender.apply( networkBuilder );
+		CompletableFuture<HttpResponse<byte[]>>	result		= inflight.thenApply( response -> onResponse( cache, baseKey, key, entry, request, response ) );
+		// Cancelling the result must reach the network exchange
+		result.whenComplete( ( response, error ) -> {
+			if ( result.isCancelled() ) {
+				inflight.cancel( true );
+			}
+		} );
+		return result;
+	}
+
+	/**
+	 * Whether a response can be stored for a request
+	 *
+	 * @param request  The request
+	 * @param response The response
+	 *
+	 * @return True if cacheable
+	 */
+	public static boolean isCacheable( HttpRequest request, HttpResponse<?> response ) {
+		HttpHeaders headers = response.headers();
+		if ( !request.method().equals( "GET" ) || response.statusCode() != 200 ) {
+			return false;
+		}
+		if ( hasDirective( request.headers(), "no-store" ) || hasDirective( headers, "no-store" ) || hasDirective( headers, "private" ) ) {
+			return false;
+		}
+		if ( headers.allValues( "Vary" ).stream().anyMatch( vary -> vary.trim().equals( "*" ) ) ) {
+			return false;
+		}
+		if ( request.headers().firstValue( "Authorization" ).isPresent()
+		    && !hasDirective( headers, "public" )
+		    && getDirective( headers, "s-maxage" ).isEmpty() ) {
+			return false;
+		}
+		return getFreshness( headers, System.currentTimeMillis() ) > 0
+		    || headers.firstValue( "ETag" ).isPresent()
+		    || headers.firstValue( "Last-Modified" ).isPresent();
+	}
+
+	/**
+	 * Computes for how long a response is fresh after it was received
+	 *
+	 * @param headers The response headers
+	 * @param now     The time the response was received, in epoch milliseconds
+	 *
+	 * @return The freshness lifetime in milliseconds, 0 if it must be revalidated
+	 */
+	public static long getFreshness( HttpHeaders headers, long now ) {
+		if ( hasDirective( headers, "no-cache" ) ) {
+			return 0;
+		}
+		long				age		= parseSeconds( headers.firstValue( "Age" ).orElse( null ) );
+		Optional<String>	maxAge	= getDirective( headers, "s-maxage" ).or( () -> getDirective( headers, "max-age" ) );
+		long				lifetime;
+		if ( maxAge.isPresent() ) {
+			lifetime = parseSeconds( maxAge.get() ) * 1000;
+		} else {
+			// Invalid dates, like "0", mean already expired
+			Long expires = parseDate( headers.firstValue( "Expires" ).orElse( null ) );
+			if ( expires == null ) {
+				return 0;
+			}
+			Long date = parseDate( headers.firstValue( "Date" ).orElse( null ) );
+			lifetime = expires - ( date == null ? now : date );
+		}
+		return Math.max( 0, lifetime - Math.max( 0, age ) * 1000 );
+	}
+
+	/**
+	 * Get the name of the backing cache
+	 */
+	public String getCacheName() {
+		return this.cacheName;
+	}
+
+	/**
+	 * Get the cache metrics: hits, misses, revalidations, 304s, stores and bypassed requests
+	 *
+	 * @return The metrics struct
+	 */
+	public IStruct toStruct() {
+		// A revalidation answered with a 304 is served from the cache too
+		long	hitCount	= this.hits.sum() + this.notModified.sum();
+		long	lookups		= this.hits.sum() + this.misses.sum() + this.revalidations.sum();
+		return Struct.of(
+		    "cacheName", this.cacheName,
+		    "hits", this.hits.sum(),
+		    "misses", this.misses.sum(),
+		    "revalidations", this.revalidations.sum(),
+		    "notModified", this.notModified.sum(),
+		    "stores", this.stores.sum(),
+		    "bypasses", this.bypasses.sum(),
+		    "hitRatio", lookups == 0 ? 0d : ( double ) hitCount / lookups
+		);
+	}
+
+	/**
+	 * Answers a 304 from the cache and stores cacheable responses
+	 *
+	 * @param cache    The backing cache
+	 * @param baseKey  The cache key of the URL
+	 * @param key      The cache key of the variant the request selected
+	 * @param entry    The entry that was revalidated, or null
+	 * @param request  The original request
+	 * @param response The network response
+	 *
+	 * @return The response to hand to the caller
+	 */
+	private HttpResponse<byte[]> onResponse(
+	    ICacheProvider cache,
+	    String baseKey,
+	    String key,
+	    HttpCacheEntry entry,
+	    HttpRequest request,
+	    HttpResponse<byte[]> response ) {
+		if ( response.statusCode() == 304 && entry != null ) {
+			this.notModified.increment();
+			HttpCacheEntry refreshed = entry.refresh( response.headers(), System.currentTimeMillis() );
+			store( cache, key, refreshed );
+			return refreshed.toResponse( request );
+		}
+		if ( isCacheable( request, response ) ) {
+			// The response says which headers select its variant, they may differ from the ones used for the lookup
+			String		varyNames	= getVaryNames( response.headers() );
+			Duration	ttl			= store( cache, toVariantKey( baseKey, varyNames, request.headers() ), toEntry( request, response ) );
+			if ( ttl != null && !varyNames.isEmpty() ) {
+				cache.set( baseKey + VARY_SUFFIX, varyNames, ttl, 0L );
+			} else if ( ttl != null && !key.equals( baseKey ) ) {
+				cache.clear( baseKey + VARY_SUFFIX );
+			}
+		} else if ( entry != null ) {
+			cache.clear( key );
+		}
+		return response;
+	}
+
+	private ICacheProvider getCache() {
+		return BoxRuntime.getInstance().getCacheService().getCache( this.cacheName );
+	}
+
+	/**
+	 * Stores an entry for its freshness lifetime, plus the revalidation window if it can be revalidated
+	 *
+	 * @return How long the entry is stored for, or null if it was not stored
+	 */
+	private Duration store( ICacheProvider cache, String key, HttpCacheEntry entry ) {
+		long ttl = entry.getFreshnessMillis() + ( entry.hasValidators() ? REVALIDATION_WINDOW.toMillis() : 0 );
+		if ( ttl <= 0 ) {
+			return null;
+		}
+		this.stores.increment();
+		Duration timeout = Duration.ofMillis( Math.max( 1000, ttl ) );
+		cache.set( key, entry, timeout, 0L );
+		return timeout;
+	}
+
+	private static HttpCacheEntry getEntry( ICacheProvider cache, String key, HttpRequest request ) {
+		Attempt<Object> cached = cache.get( key );
+		if ( cached.isPresent() && cached.get() instanceof HttpCacheEntry entry && entry.matches( request ) ) {
+			return entry;
+		}
+		return null;
+	}
+
+	private static HttpCacheEntry toEntry( HttpRequest request, HttpResponse<byte[]> response ) {
+		long				now			= System.currentTimeMillis();
+		Map<String, String>	varyValues	= new LinkedHashMap<>();
+		for ( String name : getVaryNames( response.headers() ).split( "," ) ) {
+			if ( !name.isEmpty() ) {
+				varyValues.put( name, HttpCacheEntry.varyValue( request.headers(), name ) );
+			}
+		}
+		return new HttpCacheEntry(
+		    response.statusCode(),
+		    new LinkedHashMap<>( response.headers().map() ),
+		    response.body(),
+		    response.version().name(),
+		    now,
+		    getFreshness( response.headers(), now ),
+		    varyValues
+		);
+	}
+
+	/**
+	 * Gets the names of the headers a response varies on
+	 *
+	 * @param headers The response headers
+	 *
+	 * @return The lower case names, sorted and separated by commas, or an empty string
+	 */
+	private static String getVaryNames( HttpHeaders headers ) {
+		TreeSet<String> names = new TreeSet<>();
+		for ( String vary : headers.allValues( "Vary" ) ) {
+			for ( String name : vary.split( "," ) ) {
+				if ( !name.isBlank() ) {
+					names.add( name.trim().toLowerCase( Locale.ROOT ) );
+				}
+			}
+		}
+		return String.join( ",", names );
+	}
+
+	/**
+	 * Gets the cache key of the variant of a URL a request selects
+	 *
+	 * @param baseKey   The cache key of the URL
+	 * @param varyNames The names of the headers the responses of the URL vary on, see {@link #getVaryNames(HttpHeaders)}
+	 * @param headers   The request headers
+	 *
+	 * @return The key of the variant, the key of the URL if its responses do not vary
+	 */
+	private static String toVariantKey( String baseKey, String varyNames, HttpHeaders headers ) {
+		if ( varyNames.isEmpty() ) {
+			return baseKey;
+		}
+		StringBuilder values = new StringBuilder();
+		for ( String name : varyNames.split( "," ) ) {
+			values.append( name ).append( '=' ).append( HttpCacheEntry.varyValue( headers, name ) ).append( '\n' );
+		}
+		// The values may hold credentials, so the key only gets a hash of them. HttpCacheEntry.matches() rejects collisions.
+		return baseKey + "#" + Integer.toHexString( values.toString().hashCode() );
+	}
+
+	private static boolean hasDirective( HttpHeaders headers, String directive ) {
+		return getDirective( headers, directive ).isPresent();
+	}
+
+	/**
+	 * Finds a {@code Cache-Control} directive
+	 *
+	 * @return The directive value, an empty string for directives without a value, or empty if absent
+	 */
+	private static Optional<String> getDirective( HttpHeaders headers, String directive ) {
+		for ( String header : headers.allValues( "Cache-Control" ) ) {
+			for ( String part : header.split( "," ) ) {
+				String[] nameAndValue = part.trim().split( "=", 2 );
+				if ( nameAndValue[ 0 ].trim().equalsIgnoreCase( directive ) ) {
+					return Optional.of( nameAndValue.length > 1 ? nameAndValue[ 1 ].trim().replace( "\"", "" ) : "" );
+				}
+			}
+		}
+		return Optional.empty();
+	}
+
+	private static long parseSeconds( String value ) {
+		if ( value == null || value.isBlank() ) {
+			return 0;
+		}
+		try {
+			return Long.parseLong( value.trim() );
+		} catch ( NumberFormatException e ) {
+			return 0;
+		}
+	}
+
+	private static Long parseDate( String value ) {
+		if ( value == null || value.isBlank() ) {
+			return null;
+		}
+		try {
+			return ZonedDateTime.parse( value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME ).toInstant().toEpochMilli();
+		} catch ( DateTimeParseException e ) {
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,170 @@
+package ortus.boxlang.runtime.net;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Body handlers for the HTTP component that never turn a response into a String unless asked to, and that decode
+ * {@code gzip}/{@code deflate} content encodings on the stream.
+ */
+public class ResponseBodyHandlers {
+
+	/**
+	 * The content encodings we can decode
+	 */
+	public static final String			ACCEPT_ENCODING		= "gzip, deflate";
+
+	/**
+	 * Mime types outside of {@code text/*} that are still text
+	 */
+	private static final Set<String>	TEXT_MIME_SUFFIXES	= Set.of( "json", "xml", "javascript", "ecmascript", "x-www-form-urlencoded", "csv", "yaml",
+	    "x-yaml", "html", "xhtml+xml", "ld+json", "problem+json" );
+
+	/**
+	 * Size of the chunks we read from streamed bodies
+	 */
+	public static final int				CHUNK_SIZE			= 64 * 1024;
+
+	private ResponseBodyHandlers() {
+	}
+
+	/**
+	 * Buffers the body as bytes, decoded according to its {@code Content-Encoding}. No charset conversion happens.
+	 *
+	 * @return The body handler
+	 */
+	public static BodyHandler<byte[]> ofDecodedByteArray() {
+		return responseInfo -> {
+			String encoding = getContentEncoding( responseInfo.headers() );
+			if ( encoding == null ) {
+				return BodySubscribers.ofByteArray();
+			}
+			return BodySubscribers.mapping( BodySubscribers.ofByteArray(), bytes -> {
+				try ( InputStream in = decode( new ByteArrayInputStream( bytes ), encoding ) ) {
+					return in.readAllBytes();
+				} catch ( IOException e ) {
+					throw new UncheckedIOException( e );
+				}
+			} );
+		};
+	}
+
+	/**
+	 * Streams the body straight to a file. Plain bodies are written by the client as they arrive. Encoded bodies are
+	 * first written as they arrive to a temporary file next to the target and then decoded into the target, so the body
+	 * is never held in memory either way.
+	 *
+	 * @param target The file to write the body to, replaced if it exists
+	 *
+	 * @return The body handler
+	 */
+	public static BodyHandler<Path> ofDecodedFile( Path target ) {
+		return responseInfo -> {
+			String encoding = getContentEncoding( responseInfo.headers() );
+			if ( encoding == null ) {
+				return BodySubscribers.ofFile( target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING );
+			}
+			Path encoded = target.resolveSibling( target.getFileName() + ".part" );
+			return BodySubscribers.mapping(
+			    BodySubscribers.ofFile( encoded, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING ),
+			    path -> {
+				    try ( InputStream in = decode( Files.newInputStream( path ), encoding ) ) {
+					    Files.copy( in, target, StandardCopyOption.REPLACE_EXISTING );
+					    return target;
+				    } catch ( IOException e ) {
+					    throw new UncheckedIOException( e );
+				    } finally {
+					    try {
+						    Files.deleteIfExists( path );
+					    } catch ( IOException e ) {
+						    // Nothing we can do, it's a temp file
+					    }
+				    }
+			    }
+			);
+		};
+	}
+
+	/**
+	 * Wraps a body stream in a decoder for the response's {@code Content-Encoding}, if any
+	 *
+	 * @param body    The body stream
+	 * @param headers The response headers
+	 *
+	 * @return The decoded stream
+	 *
+	 * @throws IOException If the decoder cannot read the stream header
+	 */
+	public static InputStream decode( InputStream body, HttpHeaders headers ) throws IOException {
+		return decode( body, getContentEncoding( headers ) );
+	}
+
+	/**
+	 * Whether a response mime type should be treated as binary
+	 *
+	 * @param mimeType The mime type, without parameters. A {@code null} mime type is treated as text.
+	 *
+	 * @return True if binary
+	 */
+	public static boolean isBinaryMimeType( String mimeType ) {
+		if ( mimeType == null || mimeType.isBlank() ) {
+			return false;
+		}
+		String[]	parts	= mimeType.trim().toLowerCase( Locale.ROOT ).split( "/" );
+		String		subType	= parts[ parts.length - 1 ];
+		if ( parts[ 0 ].equals( "text" ) || TEXT_MIME_SUFFIXES.contains( subType ) ) {
+			return false;
+		}
+		int plus = subType.lastIndexOf( '+' );
+		return plus < 0 || !TEXT_MIME_SUFFIXES.contains( subType.substring( plus + 1 ) );
+	}
+
+	/**
+	 * Gets the content encoding we need to decode, if any
+	 *
+	 * @param headers The response headers
+	 *
+	 * @return {@code gzip}, {@code deflate} or {@code null} for identity and unknown encodings
+	 */
+	public static String getContentEncoding( HttpHeaders headers ) {
+		String encoding = headers.firstValue( "Content-Encoding" ).orElse( "" ).trim().toLowerCase( Locale.ROOT );
+		return switch ( encoding ) {
+			case "gzip", "x-gzip" -> "gzip";
+			case "deflate" -> "deflate";
+			default -> null;
+		};
+	}
+
+	private static InputStream decode( InputStream in, String encoding ) throws IOException {
+		if ( encoding == null ) {
+			return in;
+		}
+		if ( encoding.equals( "gzip" ) ) {
+			return new GZIPInputStream( in, CHUNK_SIZE );
+		}
+		// Servers disagree on whether "deflate" means zlib-wrapped or raw, sniff the zlib header
+		InputStream	buffered	= in.markSupported() ? in : new BufferedInputStream( in, CHUNK_SIZE );
+		buffered.mark( 2 );
+		int			cmf			= buffered.read();
+		int			flg			= buffered.read();
+		buffered.reset();
+		boolean		zlib		= ( cmf & 0x0F ) == 8 && ( ( cmf << 8 ) | flg ) % 31 == 0;
+		return new InflaterInputStream( buffered, new Inflater( !zlib ), CHUNK_SIZE );
+	}
+
+}
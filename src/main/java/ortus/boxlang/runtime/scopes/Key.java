@@ -157,6 +157,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		charset								= Key.of( "charset" );
 	public static final Key		charsetOrBufferSize					= Key.of( "charsetOrBufferSize" );
 	public static final Key		childname							= Key.of( "childname" );
+	public static final Key		chunkSize							= Key.of( "chunkSize" );
 	public static final Key		classGenerationDirectory			= Key.of( "classGenerationDirectory" );
 	public static final Key		className							= Key.of( "className" );
 	public static final Key		cli									= Key.of( "cli" );
@@ -281,6 +282,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		error								= Key.of( "error" );
 	public static final Key		errorcode							= Key.of( "errorcode" );
 	public static final Key		errorDetail							= Key.of( "errorDetail" );
+	public static final Key		errorPolicy							= Key.of( "errorPolicy" );
 	public static final Key		errors								= Key.of( "errors" );
 	public static final Key		escapeChars							= Key.of( "escapeChars" );
 	public static final Key		evictCount							= Key.of( "evictCount" );
@@ -303,6 +305,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		expressions							= Key.of( "expressions" );
 	public static final Key		extendedinfo						= Key.of( "extendedinfo" );
 	public static final Key		extrainfo							= Key.of( "extrainfo" );
+	public static final Key		failFast							= Key.of( "failFast" );
 	public static final Key		fatalErrors							= Key.of( "fatalErrors" );
 	public static final Key		file								= Key.of( "file" );
 	public static final Key		fileContent							= Key.of( "fileContent" );
@@ -316,6 +319,8 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		firstRowAsHeaders					= Key.of( "firstRowAsHeaders" );
 	public static final Key		fixnewline							= Key.of( "fixnewline" );
 	public static final Key		flatList							= Key.of( "flatList" );
+	public static final Key		flushBatchSize						= Key.of( "flushBatchSize" );
+	public static final Key		flushInterval						= Key.of( "flushInterval" );
 	public static final Key		format								= Key.of( "format" );
 	public static final Key		force								= Key.of( "force" );
 	public static final Key		freeMemoryPercentageThreshold		= Key.of( "freeMemoryPercentageThreshold" );
@@ -351,6 +356,8 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		http_referer						= Key.of( "http_referer" );
 	public static final Key		http_user_agent						= Key.of( "http_user_agent" );
 	public static final Key		HTTP_Version						= Key.of( "http_version" );
+	public static final Key		httpClient							= Key.of( "httpClient" );
+	public static final Key		httpClients							= Key.of( "httpClients" );
 	public static final Key		httpOnly							= Key.of( "httpOnly" );
 	public static final Key		HTTPParams							= Key.of( "httpParams" );
 	public static final Key		https								= Key.of( "https" );
@@ -387,6 +394,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		iso									= Key.of( "iso" );
 	public static final Key		isValid								= Key.of( "isValid" );
 	public static final Key		item								= Key.of( "item" );
+	public static final Key		items								= Key.of( "items" );
 	public static final Key		iterations							= Key.of( "iterations" );
 	public static final Key		IVorSalt							= Key.of( "IVorSalt" );
 	public static final Key		java								= Key.of( "java" );
@@ -403,6 +411,8 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		key									= Key.of( "key" );
 	public static final Key		keyMap								= Key.of( "keyMap" );
 	public static final Key		keySize								= Key.of( "keySize" );
+	public static final Key		l1MaxObjects						= Key.of( "l1MaxObjects" );
+	public static final Key		l2ObjectStore						= Key.of( "l2ObjectStore" );
 	public static final Key		label								= Key.of( "label" );
 	public static final Key		lambda								= Key.of( "lambda" );
 	public static final Key		language							= Key.of( "language" );
@@ -423,20 +433,26 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		local_host							= Key.of( "local_host" );
 	public static final Key		locale								= Key.of( "locale" );
 	public static final Key		localeSensitive						= Key.of( "localeSensitive" );
+	public static final Key		lockService							= Key.of( "lockService" );
 	public static final Key		log									= Key.of( "log" );
 	public static final Key		logger								= Key.of( "logger" );
+	public static final Key		logging								= Key.of( "logging" );
 	public static final Key		lucee								= Key.of( "lucee" );
 	public static final Key		main								= Key.of( "main" );
 	public static final Key		mapping								= Key.of( "mapping" );
 	public static final Key		mappings							= Key.of( "mappings" );
+	public static final Key		mapper								= Key.of( "mapper" );
 	public static final Key		mask								= Key.of( "mask" );
 	public static final Key		match								= Key.of( "match" );
 	public static final Key		max									= Key.of( "max" );
+	public static final Key		maxConcurrency						= Key.of( "maxConcurrency" );
 	public static final Key		maxFrames							= Key.of( "maxFrames" );
 	public static final Key		maxLength							= Key.of( "maxLength" );
 	public static final Key		maxObjects							= Key.of( "maxObjects" );
+	public static final Key		maxOpenFiles						= Key.of( "maxOpenFiles" );
 	public static final Key		maxRows								= Key.of( "maxRows" );
 	public static final Key		maxThreads							= Key.of( "maxThreads" );
+	public static final Key		maxWeightBytes						= Key.of( "maxWeightBytes" );
 	public static final Key		merge								= Key.of( "merge" );
 	public static final Key		message								= Key.of( "message" );
 	public static final Key		metadata							= Key.of( "metadata" );
@@ -491,6 +507,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		onApplicationEnd					= Key.of( "onApplicationEnd" );
 	public static final Key		onApplicationRestart				= Key.of( "onApplicationRestart" );
 	public static final Key		onApplicationStart					= Key.of( "onApplicationStart" );
+	public static final Key		onChunk								= Key.of( "onChunk" );
 	public static final Key		onClassRequest						= Key.of( "onClassRequest" );
 	public static final Key		onError								= Key.of( "onError" );
 	public static final Key		onLoad								= Key.of( "onLoad" );
@@ -508,6 +525,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		originalConfig						= Key.of( "originalConfig" );
 	public static final Key		os									= Key.of( "os" );
 	public static final Key		output								= Key.of( "output" );
+	public static final Key		overflowPolicy						= Key.of( "overflowPolicy" );
 	public static final Key		overwrite							= Key.of( "overwrite" );
 	public static final Key		owner								= Key.of( "owner" );
 	public static final Key		pageEncoding						= Key.of( "pageEncoding" );
@@ -527,6 +545,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		position2							= Key.of( "position2" );
 	public static final Key		precise								= Key.of( "precise" );
 	public static final Key		prefix								= Key.of( "prefix" );
+	public static final Key		prefixIndex							= Key.of( "prefixIndex" );
 	public static final Key		priority							= Key.of( "priority" );
 	public static final Key		positionals							= Key.of( "positionals" );
 	public static final Key		properties							= Key.of( "properties" );
@@ -555,6 +574,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		recurse								= Key.of( "recurse" );
 	public static final Key		recursive							= Key.of( "recursive" );
 	public static final Key		redirect							= Key.of( "redirect" );
+	public static final Key		refreshAheadFactor					= Key.of( "refreshAheadFactor" );
 	public static final Key		reg_expression						= Key.of( "reg_expression" );
 	public static final Key		regex								= Key.of( "regex" );
 	public static final Key		region								= Key.of( "region" );
@@ -566,6 +586,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		replacements						= Key.of( "replacements" );
 	public static final Key		request_method						= Key.of( "request_method" );
 	public static final Key		request_url							= Key.of( "request_url" );
+	public static final Key		requests							= Key.of( "requests" );
 	public static final Key		requestTimeout						= Key.of( "requestTimeout" );
 	public static final Key		required							= Key.of( "required" );
 	public static final Key		reset								= Key.of( "reset" );
@@ -575,6 +596,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		response							= Key.of( "response" );
 	public static final Key		responseHeader						= Key.of( "responseHeader" );
 	public static final Key		result								= Key.of( "result" );
+	public static final Key		results								= Key.of( "results" );
 	public static final Key		retainKeys							= Key.of( "retainKeys" );
 	public static final Key		returnFormat						= Key.of( "returnFormat" );
 	public static final Key		returnSubExpressions				= Key.of( "returnSubExpressions" );
@@ -583,6 +605,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		rJustify							= Key.of( "rJustify" );
 	public static final Key		row									= Key.of( "row" );
 	public static final Key		row_number							= Key.of( "row_number" );
+	public static final Key		rowCount							= Key.of( "rowCount" );
 	public static final Key		rowData								= Key.of( "rowData" );
 	public static final Key		rowNumber							= Key.of( "rowNumber" );
 	public static final Key		run									= Key.of( "run" );
@@ -670,6 +693,7 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		tagContext							= Key.of( "tagContext" );
 	public static final Key		tagName								= Key.of( "tagName" );
 	public static final Key		target								= Key.of( "target" );
+	public static final Key		tasks								= Key.of( "tasks" );
 	public static final Key		template							= Key.of( "template" );
 	public static final Key		terminate							= Key.of( "terminate" );
 	public static final Key		terminated							= Key.of( "terminated" );
@@ -720,11 +744,16 @@ public class Key implements Comparable<Key>, Serializable {
 	public static final Key		variables							= Key.of( "variables" );
 	public static final Key		variant								= Key.of( "variant" );
 	public static final Key		version								= Key.of( "version" );
+	public static final Key		virtual								= Key.of( "virtual" );
+	public static final Key		virtualThreads						= Key.of( "virtualThreads" );
 	public static final Key		warning								= Key.of( "warning" );
 	public static final Key		web_server_api						= Key.of( "web_server_api" );
 	public static final Key		webURL								= Key.of( "webURL" );
+	public static final Key		weigher								= Key.of( "weigher" );
 	public static final Key		workstation							= Key.of( "workstation" );
 	public static final Key		write								= Key.of( "write" );
+	public static final Key		writeBehind							= Key.of( "writeBehind" );
+	public static final Key		writeBehindFrequency				= Key.of( "writeBehindFrequency" );
 	public static final Key		wddx								= Key.of( "wddx" );
 	public static final Key		XML									= Key.of( "XML" );
 	public static final Key		XMLAttributes						= Key.of( "XMLAttributes" );
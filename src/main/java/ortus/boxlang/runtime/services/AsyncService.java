@@ -31,12 +31,16 @@ import org.slf4j.LoggerFactory;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.async.executors.BoxScheduledExecutor;
+import ortus.boxlang.runtime.async.executors.ExecutorMetrics;
 import ortus.boxlang.runtime.async.executors.ExecutorRecord;
+import ortus.boxlang.runtime.async.executors.InstrumentedExecutorService;
 import ortus.boxlang.runtime.config.segments.ExecutorConfig;
+import ortus.boxlang.runtime.events.BoxEvent;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.KeyNotFoundException;
+import ortus.boxlang.runtime.util.JMXUtil;
 
 /**
  * The BoxLang Async Service is a service that allows you to create and manage executors.
@@ -66,6 +70,11 @@ import ortus.boxlang.runtime.types.exceptions.KeyNotFoundException;
  * and
  * {@link ExecutorRecord#shutdownAndAwaitTermination(Long, TimeUnit)}
  * methods to allow the tasks to finish gracefully. If you want to force shutdown, you can do so by passing in a {code force = true}
+ *
+ * All executors are wrapped in an {@link InstrumentedExecutorService} that tracks their {@link ExecutorMetrics}: queue wait and
+ * run time histograms, queue depth, rejections and saturation. Registered executors also expose them via JMX as
+ * {@code ortus.boxlang:type=Executor,name={name}}, and the {@link BoxEvent#ON_EXECUTOR_SATURATED} event is announced when
+ * an executor becomes saturated.
  */
 public class AsyncService extends BaseService {
 
@@ -142,7 +151,10 @@ public class AsyncService extends BaseService {
 		    .entrySet()
 		    .forEach( entry -> {
 			    ExecutorConfig thisConfig = ( ExecutorConfig ) entry.getValue();
-			    newExecutor( thisConfig.name, ExecutorType.valueOf( thisConfig.type ), thisConfig.maxThreads );
+			    ExecutorMetrics metrics = newExecutor( thisConfig.name, ExecutorType.valueOf( thisConfig.type ), thisConfig.maxThreads ).metrics();
+			    if ( metrics != null ) {
+				    metrics.setThresholds( thisConfig.queueDepthThreshold, thisConfig.queueWaitThreshold );
+			    }
 			    logger.debug( "+ Registered executor [{}] with type [{}] and max threads [{}]", thisConfig.name, thisConfig.type, thisConfig.maxThreads );
 		    } );
 		logger.info( "AsyncService.onStartup()" );
@@ -190,8 +202,13 @@ public class AsyncService extends BaseService {
 	 * @return The executor record
 	 */
 	public ExecutorRecord newExecutor( String name, ExecutorType type, int maxThreads ) {
-		this.executors.computeIfAbsent( name, key -> buildExecutor( name, type, maxThreads ) );
-		return this.executors.get( name );
+		return this.executors.computeIfAbsent( name, key -> {
+			ExecutorRecord executorRecord = buildExecutor( name, type, maxThreads );
+			if ( executorRecord.metrics() != null ) {
+				JMXUtil.register( ExecutorMetrics.objectName( name ), executorRecord.metrics() );
+			}
+			return executorRecord;
+		} );
 	}
 
 	/**
@@ -233,6 +250,7 @@ public class AsyncService extends BaseService {
 			if ( targetExecutor.executor().isShutdown() ) {
 				targetExecutor.executor().shutdownNow();
 			}
+			JMXUtil.unregister( ExecutorMetrics.objectName( name ) );
 		}
 		return this;
 	}
@@ -440,7 +458,8 @@ public class AsyncService extends BaseService {
 	}
 
 	/**
-	 * Build an executor without registering it using BoxLang specs
+	 * Build an executor without registering it using BoxLang specs.
+	 * The executor is wrapped with instrumentation, see {@link ExecutorRecord#metrics()}.
 	 *
 	 * @param name       The name of the executor
 	 * @param type       The executor type: CACHED, FIXED, SINGLE, SCHEDULED, WORK_STEALING, VIRTUAL
@@ -475,7 +494,19 @@ public class AsyncService extends BaseService {
 			default :
 				executor = null;
 		}
+		if ( executor != null ) {
+			executor = new InstrumentedExecutorService( executor, new ExecutorMetrics( name, AsyncService::announceSaturation ) );
+		}
 		return new ExecutorRecord( executor, name, type, maxThreads );
 	}
 
+	/**
+	 * Announce that an executor is saturated
+	 *
+	 * @param data The saturation data: executor, reason and metrics
+	 */
+	private static void announceSaturation( IStruct data ) {
+		BoxRuntime.getInstance().getInterceptorService().announce( BoxEvent.ON_EXECUTOR_SATURATED, data );
+	}
+
 }
@@ -0,0 +1,379 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.services;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.util.LatencyHistogram;
+
+/**
+ * The runtime service in charge of the named locks used by the {@code lock} component.
+ * <p>
+ * Locks live in a table keyed by their case-insensitive {@link Key}, so hot locks are never reallocated and there are no
+ * weak references to poll. Each entry tracks how many callers are using it, and the idle ones are purged periodically
+ * without ever racing an acquisition: an entry is only removed once it's been marked as retired, and a retired entry is
+ * never handed out.
+ * <p>
+ * Locks are {@link ReentrantReadWriteLock}s, which park virtual threads instead of pinning their carrier, and timeouts
+ * are in milliseconds. Every lock keeps its contention stats: acquisitions, contended acquisitions, timeouts, and wait and
+ * hold time histograms.
+ */
+public class LockService extends BaseService {
+
+	/**
+	 * How long a lock must be unused before it's purged, in minutes
+	 */
+	public static final long			IDLE_TIMEOUT	= 10;
+
+	/**
+	 * The lock table
+	 */
+	private final Map<Key, NamedLock>	locks			= new ConcurrentHashMap<>();
+
+	/**
+	 * The purging task, if scheduled
+	 */
+	private ScheduledFuture<?>			purgeTask;
+
+	/**
+	 * Logger
+	 */
+	private static final Logger			logger			= LoggerFactory.getLogger( LockService.class );
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Constructors
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Constructor
+	 *
+	 * @param runtime The BoxRuntime
+	 */
+	public LockService( BoxRuntime runtime ) {
+		super( runtime, Key.lockService );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Runtime Service Event Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * The startup event is fired when the runtime starts up
+	 */
+	@Override
+	public void onStartup() {
+		AsyncService asyncService = this.runtime.getAsyncService();
+		if ( asyncService != null && asyncService.hasExecutor( "boxlang-tasks" ) ) {
+			this.purgeTask = asyncService.getExecutor( "boxlang-tasks" )
+			    .scheduledExecutor()
+			    .scheduleWithFixedDelay( () -> purgeIdle( IDLE_TIMEOUT, TimeUnit.MINUTES ), IDLE_TIMEOUT, IDLE_TIMEOUT, TimeUnit.MINUTES );
+		}
+		logger.debug( "+ Lock Service started" );
+	}
+
+	/**
+	 * The shutdown event is fired when the runtime shuts down
+	 *
+	 * @param force Whether the shutdown is forced
+	 */
+	@Override
+	public void onShutdown( Boolean force ) {
+		if ( this.purgeTask != null ) {
+			this.purgeTask.cancel( false );
+		}
+		this.locks.clear();
+		logger.debug( "+ Lock Service shutdown" );
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Acquire a named lock, waiting up to the timeout
+	 *
+	 * @param name      The name of the lock
+	 * @param exclusive True for an exclusive lock, false for a read only lock
+	 * @param timeout   The timeout in milliseconds, 0 means wait forever
+	 *
+	 * @return The held lock, which must be released, or null if the timeout was reached
+	 *
+	 * @throws InterruptedException If the thread is interrupted while waiting
+	 */
+	public HeldLock acquire( Key name, boolean exclusive, long timeout ) throws InterruptedException {
+		NamedLock	namedLock	= retain( name );
+		Lock		lock		= exclusive ? namedLock.rwLock.writeLock() : namedLock.rwLock.readLock();
+		long		startNanos	= System.nanoTime();
+		boolean		acquired	= false;
+
+		try {
+			if ( lock.tryLock() ) {
+				acquired = true;
+			} else {
+				namedLock.contended.increment();
+				if ( timeout <= 0 ) {
+					lock.lockInterruptibly();
+					acquired = true;
+				} else {
+					acquired = lock.tryLock( timeout, TimeUnit.MILLISECONDS );
+				}
+			}
+		} finally {
+			if ( !acquired ) {
+				namedLock.release();
+			}
+		}
+
+		long acquiredNanos = System.nanoTime();
+		namedLock.waitTime.record( acquiredNanos - startNanos );
+		if ( !acquired ) {
+			namedLock.timeouts.increment();
+			return null;
+		}
+		namedLock.acquisitions.increment();
+		return new HeldLock( namedLock, lock, acquiredNanos );
+	}
+
+	/**
+	 * Does a lock exist in the table
+	 *
+	 * @param name The name of the lock
+	 *
+	 * @return True if it exists
+	 */
+	public boolean hasLock( Key name ) {
+		return this.locks.containsKey( name );
+	}
+
+	/**
+	 * Get the stats of all the locks
+	 *
+	 * @return A struct of lock stats by lock name
+	 */
+	public IStruct getStats() {
+		IStruct stats = new Struct( Struct.TYPES.SORTED );
+		this.locks.forEach( ( name, lock ) -> stats.put( name, lock.getStats() ) );
+		return stats;
+	}
+
+	/**
+	 * Get the stats of a lock
+	 *
+	 * @param name The name of the lock
+	 *
+	 * @return The lock stats, or null if the lock does not exist
+	 */
+	public IStruct getStats( Key name ) {
+		NamedLock lock = this.locks.get( name );
+		return lock == null ? null : lock.getStats();
+	}
+
+	/**
+	 * Reset the stats of all the locks
+	 */
+	public void resetStats() {
+		this.locks.values().forEach( NamedLock::resetStats );
+	}
+
+	/**
+	 * Purge the locks that are not in use and have not been used for a while
+	 *
+	 * @param idle The idle time
+	 * @param unit The idle time unit
+	 *
+	 * @return How many locks were purged
+	 */
+	public int purgeIdle( long idle, TimeUnit unit ) {
+		long	idleNanos	= unit.toNanos( idle );
+		long	now			= System.nanoTime();
+		int		purged		= 0;
+		for ( NamedLock lock : this.locks.values() ) {
+			if ( now - lock.lastUsedNanos >= idleNanos && lock.retire() ) {
+				this.locks.remove( lock.name, lock );
+				purged++;
+			}
+		}
+		if ( purged > 0 ) {
+			logger.debug( "Purged [{}] idle locks", purged );
+		}
+		return purged;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Private Helpers
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Get a lock from the table and mark it as in use
+	 *
+	 * @param name The name of the lock
+	 *
+	 * @return The lock
+	 */
+	private NamedLock retain( Key name ) {
+		while ( true ) {
+			NamedLock lock = this.locks.computeIfAbsent( name, NamedLock::new );
+			if ( lock.retain() ) {
+				return lock;
+			}
+			// Retired while we got it, help remove it and try again
+			this.locks.remove( name, lock );
+		}
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Lock Classes
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * A lock acquired from the service. Release it once done.
+	 */
+	public static final class HeldLock {
+
+		private final NamedLock	namedLock;
+		private final Lock		lock;
+		private final long		acquiredNanos;
+
+		private HeldLock( NamedLock namedLock, Lock lock, long acquiredNanos ) {
+			this.namedLock		= namedLock;
+			this.lock			= lock;
+			this.acquiredNanos	= acquiredNanos;
+		}
+
+		/**
+		 * Release the lock and record how long it was held.
+		 * <p>
+		 * Only the thread that acquired the lock may release it. The underlying locks track holds per thread, so a
+		 * release from another thread fails for exclusive locks and drops that thread's own hold for read locks.
+		 */
+		public void release() {
+			this.lock.unlock();
+			this.namedLock.holdTime.recordSince( this.acquiredNanos );
+			this.namedLock.release();
+		}
+	}
+
+	/**
+	 * An entry of the lock table
+	 */
+	private static final class NamedLock {
+
+		private final Key						name;
+		private final ReentrantReadWriteLock	rwLock			= new ReentrantReadWriteLock();
+
+		/**
+		 * How many callers are using the lock, -1 once retired
+		 */
+		private final AtomicInteger				users			= new AtomicInteger();
+		private volatile long					lastUsedNanos	= System.nanoTime();
+
+		/**
+		 * Stats
+		 */
+		private final LongAdder					acquisitions	= new LongAdder();
+		private final LongAdder					contended		= new LongAdder();
+		private final LongAdder					timeouts		= new LongAdder();
+		private final LatencyHistogram			waitTime		= new LatencyHistogram();
+		private final LatencyHistogram			holdTime		= new LatencyHistogram();
+
+		NamedLock( Key name ) {
+			this.name = name;
+		}
+
+		/**
+		 * Mark the lock as in use, unless it's retired
+		 *
+		 * @return False if the lock is retired
+		 */
+		boolean retain() {
+			while ( true ) {
+				int current = this.users.get();
+				if ( current < 0 ) {
+					return false;
+				}
+				if ( this.users.compareAndSet( current, current + 1 ) ) {
+					return true;
+				}
+			}
+		}
+
+		/**
+		 * Mark the lock as no longer used by a caller
+		 */
+		void release() {
+			this.lastUsedNanos = System.nanoTime();
+			this.users.decrementAndGet();
+		}
+
+		/**
+		 * Retire the lock if nobody is using it
+		 *
+		 * @return True if retired
+		 */
+		boolean retire() {
+			return this.users.compareAndSet( 0, -1 );
+		}
+
+		void resetStats() {
+			this.acquisitions.reset();
+			this.contended.reset();
+			this.timeouts.reset();
+			this.waitTime.reset();
+			this.holdTime.reset();
+		}
+
+		IStruct getStats() {
+			return Struct.of(
+			    "name", this.name.getName(),
+			    "acquisitions", this.acquisitions.sum(),
+			    "contended", this.contended.sum(),
+			    "timeouts", this.timeouts.sum(),
+			    "readers", this.rwLock.getReadLockCount(),
+			    "writeLocked", this.rwLock.isWriteLocked(),
+			    "queueLength", this.rwLock.getQueueLength(),
+			    "waitTime", this.waitTime.toStruct(),
+			    "holdTime", this.holdTime.toStruct()
+			);
+		}
+	}
+
+}
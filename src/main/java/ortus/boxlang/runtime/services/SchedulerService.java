@@ -17,6 +17,7 @@
  */
 package ortus.boxlang.runtime.services;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -25,6 +26,7 @@ import org.slf4j.LoggerFactory;
 
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.async.tasks.IScheduler;
+import ortus.boxlang.runtime.async.tasks.TaskStats;
 import ortus.boxlang.runtime.events.BoxEvent;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Struct;
@@ -181,6 +183,33 @@ public class SchedulerService extends BaseService {
 		return this.schedulers.containsKey( name );
 	}
 
+	/**
+	 * Get the typed stats of the tasks of a scheduler
+	 *
+	 * @param name The name of the scheduler
+	 *
+	 * @return The task stats by task name, empty if the scheduler does not exist
+	 */
+	public Map<String, TaskStats> getTaskStats( Key name ) {
+		Map<String, TaskStats>	stats		= new LinkedHashMap<>();
+		IScheduler				scheduler	= this.schedulers.get( name );
+		if ( scheduler != null ) {
+			scheduler.getTasks().forEach( ( taskName, taskRecord ) -> stats.put( taskName, taskRecord.task.getTaskStats() ) );
+		}
+		return stats;
+	}
+
+	/**
+	 * Get the typed stats of the tasks of all the schedulers
+	 *
+	 * @return The task stats by scheduler name and task name
+	 */
+	public Map<Key, Map<String, TaskStats>> getTaskStats() {
+		Map<Key, Map<String, TaskStats>> stats = new LinkedHashMap<>();
+		this.schedulers.keySet().forEach( name -> stats.put( name, getTaskStats( name ) ) );
+		return stats;
+	}
+
 	/**
 	 * Register a scheduler with the service
 	 *
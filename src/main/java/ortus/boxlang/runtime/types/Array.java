@@ -17,7 +17,10 @@
  */
 package ortus.boxlang.runtime.types;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -27,6 +30,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -57,6 +61,7 @@ import ortus.boxlang.runtime.types.meta.IChangeListener;
 import ortus.boxlang.runtime.types.meta.IListenable;
 import ortus.boxlang.runtime.types.unmodifiable.UnmodifiableArray;
 import ortus.boxlang.runtime.types.util.BLCollector;
+import ortus.boxlang.runtime.util.DuplicationUtil;
 
 /**
  * The primary array class in BoxLang. This class wraps a Java List and provides additional functionality for BoxLang.
@@ -81,7 +86,19 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 	/**
 	 * This is the array we are wrapping and enhancing for BoxLang
 	 */
-	protected final List<Object>				wrapped;
+	protected volatile List<Object>				wrapped;
+
+	/**
+	 * Set while the wrapped list is shared with a copy of this array, which copies it before the first write. See
+	 * {@link #duplicate(boolean)}.
+	 */
+	private transient volatile CopyOnWrite		copyOnWrite;
+
+	/**
+	 * Set once the wrapped list has been shared with a copy. Until then {@link #iterator()}, {@link #toList()} and
+	 * {@link #subList(int, int)} hand out the list itself.
+	 */
+	private transient volatile boolean			shared;
 
 	/**
 	 * Metadata object
@@ -149,6 +166,18 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 		this.wrapped = ( List<Object> ) list;
 	}
 
+	/**
+	 * Constructor to create a copy of an array that shares its list until the first write
+	 *
+	 * @param list        The shared list
+	 * @param copyOnWrite How to copy the shared list
+	 */
+	Array( List<Object> list, CopyOnWrite copyOnWrite ) {
+		this.wrapped		= list;
+		this.copyOnWrite	= copyOnWrite;
+		this.shared			= true;
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * Static convenience methods
@@ -245,8 +274,9 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 	}
 
 	public Object toVarArgsArray( Class<?> varArgType ) {
-		Object array = java.lang.reflect.Array.newInstance( varArgType, wrapped.size() );
-		System.arraycopy( wrapped.toArray(), 0, array, 0, wrapped.size() );
+		Object[]	values	= resolvedList().toArray();
+		Object		array	= java.lang.reflect.Array.newInstance( varArgType, values.length );
+		System.arraycopy( values, 0, array, 0, values.length );
 		return array;
 	}
 
@@ -265,40 +295,52 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 	}
 
 	public boolean contains( Object o ) {
-		return wrapped.contains( o );
+		return resolvedList().contains( o );
 	}
 
 	public Iterator<Object> iterator() {
-		return wrapped.iterator();
+		return this.shared ? new ViewIterator( 0 ) : this.wrapped.iterator();
 	}
 
 	public Object[] toArray() {
-		return wrapped.toArray();
+		return resolvedList().toArray();
 	}
 
 	public <T> T[] toArray( T[] a ) {
-		return wrapped.toArray( a );
+		return resolvedList().toArray( a );
 	}
 
 	public List<Object> toList() {
-		return wrapped;
+		return this.shared ? new ListView() : this.wrapped;
 	}
 
 	public boolean add( Object e ) {
-		synchronized ( wrapped ) {
-			return wrapped.add( notifyListeners( wrapped.size(), e ) );
+		List<Object> list = this.wrapped;
+		synchronized ( list ) {
+			if ( owns( list ) ) {
+				return list.add( notifyListeners( list.size(), e ) );
+			}
 		}
+		return write( owned -> owned.add( notifyListeners( owned.size(), e ) ) );
 	}
 
 	public void add( int index, Object element ) {
-		synchronized ( wrapped ) {
-			wrapped.add( index, notifyListeners( index, element ) );
+		List<Object> list = this.wrapped;
+		synchronized ( list ) {
+			if ( owns( list ) ) {
+				list.add( index, notifyListeners( index, element ) );
+				return;
+			}
 		}
+		write( owned -> {
+			owned.add( index, notifyListeners( index, element ) );
+			return null;
+		} );
 	}
 
 	public boolean remove( Object o ) {
-		synchronized ( wrapped ) {
-			ListIterator<Object> iterator = wrapped.listIterator();
+		return write( list -> {
+			ListIterator<Object> iterator = list.listIterator();
 			while ( iterator.hasNext() ) {
 				Object element = iterator.next();
 				if ( element.equals( o ) ) {
@@ -307,40 +349,31 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 				}
 			}
 			return false;
-		}
+		} );
 	}
 
 	public boolean containsAll( Collection<?> c ) {
-		return wrapped.containsAll( c );
+		return resolvedList().containsAll( c );
 	}
 
 	public boolean addAll( Collection<? extends Object> c ) {
-
-		synchronized ( wrapped ) {
-			// TODO: deal with listeners
-			return wrapped.addAll( c );
-		}
+		// TODO: deal with listeners
+		return write( list -> list.addAll( c ) );
 	}
 
 	public boolean addAll( int index, Collection<? extends Object> c ) {
-		synchronized ( wrapped ) {
-			// TODO: deal with listeners
-			return wrapped.addAll( index, c );
-		}
+		// TODO: deal with listeners
+		return write( list -> list.addAll( index, c ) );
 	}
 
 	public boolean removeAll( Collection<?> c ) {
 		// TODO: deal with listeners
-		synchronized ( wrapped ) {
-			return wrapped.removeAll( c );
-		}
+		return write( list -> list.removeAll( c ) );
 	}
 
 	public boolean retainAll( Collection<?> c ) {
 		// TODO: deal with listeners
-		synchronized ( wrapped ) {
-			return wrapped.retainAll( c );
-		}
+		return write( list -> list.retainAll( c ) );
 	}
 
 	/**
@@ -348,45 +381,74 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 	 */
 	public void clear() {
 		// TODO: deal with listeners
-		synchronized ( wrapped ) {
-			wrapped.clear();
-		}
+		write( list -> {
+			list.clear();
+			return null;
+		} );
 	}
 
 	/*
 	 * Get the element at the specified index
 	 */
 	public Object get( int index ) {
-		return wrapped.get( index );
+		Object		value		= this.wrapped.get( index );
+		CopyOnWrite	copyOnWrite	= this.copyOnWrite;
+		// A nested struct or array of a deep copy is created on first access
+		if ( copyOnWrite != null && copyOnWrite.replaces( value ) ) {
+			return ownList().get( index );
+		}
+		return value;
 	}
 
 	/**
 	 * Set the element at the specified index
 	 */
 	public Object set( int index, Object element ) {
-		return wrapped.set(
+		List<Object> list = this.wrapped;
+		synchronized ( list ) {
+			if ( owns( list ) ) {
+				return list.set( index, notifyListeners( index, element ) );
+			}
+		}
+		return write( owned -> owned.set(
 		    index,
 		    notifyListeners( index, element )
-		);
+		) );
 	}
 
 	/**
 	 * Remove an element at a specified index
 	 */
 	public Object remove( int index ) {
-		synchronized ( wrapped ) {
-			ListIterator<Object>	iterator	= wrapped.listIterator();
-			int						i			= 0;
-			while ( iterator.hasNext() ) {
-				Object element = iterator.next();
-				if ( i == index ) {
-					iterator.remove();
-					return element;
-				}
-				i++;
+		List<Object> list = this.wrapped;
+		synchronized ( list ) {
+			if ( owns( list ) ) {
+				return removeIndex( list, index );
 			}
-			return null;
 		}
+		return write( owned -> removeIndex( owned, index ) );
+	}
+
+	/**
+	 * Removes an element from the wrapped list
+	 *
+	 * @param list  The wrapped list
+	 * @param index The zero-based index of the element
+	 *
+	 * @return The removed element, or null if the index is out of bounds
+	 */
+	private static Object removeIndex( List<Object> list, int index ) {
+		ListIterator<Object>	iterator	= list.listIterator();
+		int						i			= 0;
+		while ( iterator.hasNext() ) {
+			Object element = iterator.next();
+			if ( i == index ) {
+				iterator.remove();
+				return element;
+			}
+			i++;
+		}
+		return null;
 	}
 
 	public Object removeAt( Number index ) {
@@ -394,30 +456,30 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 	}
 
 	public int indexOf( Object o ) {
-		return wrapped.indexOf( o );
+		return resolvedList().indexOf( o );
 	}
 
 	public int lastIndexOf( Object o ) {
-		return wrapped.lastIndexOf( o );
+		return resolvedList().lastIndexOf( o );
 	}
 
 	public ListIterator<Object> listIterator() {
-		return wrapped.listIterator();
+		return listIterator( 0 );
 	}
 
 	public ListIterator<Object> listIterator( int index ) {
-		return wrapped.listIterator( index );
+		return this.shared ? new ViewIterator( index ) : this.wrapped.listIterator( index );
 	}
 
 	public List<Object> subList( int fromIndex, int toIndex ) {
-		return wrapped.subList( fromIndex, toIndex );
+		return toList().subList( fromIndex, toIndex );
 	}
 
 	public int append( Object e ) {
-		synchronized ( wrapped ) {
+		return write( list -> {
 			add( e );
-			return wrapped.size();
-		}
+			return list.size();
+		} );
 	}
 
 	/**
@@ -428,7 +490,10 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 	@SuppressWarnings( { "unchecked", "rawtypes" } )
 	@Override
 	public void sort( Comparator compareFunc ) {
-		wrapped.sort( compareFunc );
+		write( list -> {
+			list.sort( compareFunc );
+			return null;
+		} );
 	}
 
 	/**
@@ -439,7 +504,7 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 	@Override
 	@BoxMemberExpose
 	public Stream<Object> stream() {
-		return wrapped.stream();
+		return resolvedList().stream();
 	}
 
 	/**
@@ -450,7 +515,7 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 	@Override
 	@BoxMemberExpose
 	public Stream<Object> parallelStream() {
-		return wrapped.parallelStream();
+		return resolvedList().parallelStream();
 	}
 
 	/**
@@ -464,7 +529,10 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 	 * Reverses the elements in the underlying list
 	 */
 	public Array reverse() {
-		Collections.reverse( this.wrapped );
+		write( list -> {
+			Collections.reverse( list );
+			return null;
+		} );
 		return this;
 	}
 
@@ -480,7 +548,7 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 	@Override
 	@BoxMemberExpose
 	public boolean equals( Object obj ) {
-		return wrapped.equals( obj );
+		return resolvedList().equals( obj );
 	}
 
 	/**
@@ -500,7 +568,7 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 		}
 		visited.add( this );
 		int result = 1;
-		for ( Object value : wrapped.toArray() ) {
+		for ( Object value : resolvedList().toArray() ) {
 			if ( value instanceof IType ) {
 				result = 31 * result + ( ( IType ) value ).computeHashCode( visited );
 			} else {
@@ -517,7 +585,7 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 	 */
 	@Override
 	public String toString() {
-		return wrapped.toString();
+		return resolvedList().toString();
 	}
 
 	/**
@@ -535,7 +603,7 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 	public String asString() {
 		StringBuilder sb = new StringBuilder();
 		sb.append( "[\n  " );
-		sb.append( wrapped.stream()
+		sb.append( resolvedList().stream()
 		    .map( value -> ( value instanceof IType t ? t.asString() : ( value == null ? "[null]" : value.toString() ) ) )
 		    .map( line -> line.replaceAll( "(?m)^", "  " ) ) // Add an indent to the start of each line
 		    .collect( java.util.stream.Collectors.joining( ",\n" ) ) );
@@ -636,13 +704,15 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 			index = index * 2;
 		}
 
-		synchronized ( wrapped ) {
-			remove( index - 1 );
-			if ( containsDelimiters && size() >= index - 1 ) {
-				remove( index - 1 );
+		int position = index - 1;
+		write( list -> {
+			remove( position );
+			if ( containsDelimiters && size() >= position ) {
+				remove( position );
 			}
-			notifyListeners( index - 1, null );
-		}
+			notifyListeners( position, null );
+			return null;
+		} );
 		return this;
 	}
 
@@ -766,6 +836,258 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 		return new UnmodifiableArray( this );
 	}
 
+	/**
+	 * --------------------------------------------------------------------------
+	 * Copy-on-write
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Duplicates the array. The copy shares the wrapped list, and each side copies it before its first write, so
+	 * duplicating is constant time and copies that are only read are never built. A deep copy also captures every
+	 * nested struct and array, which are copied the first time they are reached through the copy.
+	 *
+	 * @param deep Whether to copy nested values too
+	 *
+	 * @return The copy
+	 */
+	public Array duplicate( boolean deep ) {
+		if ( !CopyOnWrite.isCopyable( this ) ) {
+			return DuplicationUtil.copyArray( this, deep );
+		}
+		if ( deep ) {
+			return ( Array ) CopyOnWrite.deepCopy( this );
+		}
+		return new Array( share(), CopyOnWrite.SHARED );
+	}
+
+	/**
+	 * Marks the wrapped list as shared with a copy
+	 *
+	 * @return The shared list
+	 */
+	List<Object> share() {
+		synchronized ( this ) {
+			// A deep copy that was never written to still holds values of its source, resolve them first
+			if ( this.copyOnWrite != null && this.copyOnWrite != CopyOnWrite.SHARED ) {
+				ownList();
+			}
+			List<Object> list = this.wrapped;
+			// Writes hold the lock of the list, see write()
+			synchronized ( list ) {
+				if ( this.copyOnWrite == null ) {
+					this.copyOnWrite	= CopyOnWrite.SHARED;
+					this.shared			= true;
+				}
+			}
+			return list;
+		}
+	}
+
+	/**
+	 * Gets the wrapped list to write to, copying it first if it is shared with a copy of this array
+	 *
+	 * @return The wrapped list
+	 */
+	private List<Object> ownList() {
+		if ( this.copyOnWrite != null ) {
+			synchronized ( this ) {
+				CopyOnWrite copyOnWrite = this.copyOnWrite;
+				if ( copyOnWrite != null ) {
+					List<Object> source = this.wrapped;
+					List<Object> copy	= new ArrayList<>( source.size() );
+					for ( Object value : source ) {
+						copy.add( copyOnWrite.replace( value ) );
+					}
+					this.wrapped		= Collections.synchronizedList( copy );
+					this.copyOnWrite	= null;
+				}
+			}
+		}
+		return this.wrapped;
+	}
+
+	/**
+	 * Gets the wrapped list to read all values from, resolving values a deep copy still shares with its source
+	 *
+	 * @return The wrapped list
+	 */
+	private List<Object> resolvedList() {
+		CopyOnWrite copyOnWrite = this.copyOnWrite;
+		return copyOnWrite != null && copyOnWrite != CopyOnWrite.SHARED ? ownList() : this.wrapped;
+	}
+
+	/**
+	 * Writes to the wrapped list, copying it first if it is shared with a copy of this array. The write holds the lock of
+	 * the list, which {@link #share()} takes as well, so no write can reach a list once it is shared.
+	 *
+	 * @param write The write, given the list to write to
+	 *
+	 * @return The result of the write
+	 */
+	private <T> T write( java.util.function.Function<List<Object>, T> write ) {
+		while ( true ) {
+			List<Object> list = ownList();
+			synchronized ( list ) {
+				// The list was shared before the lock was taken, write to a copy instead
+				if ( owns( list ) ) {
+					return write.apply( list );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Whether the array may write to a list, which must be locked by the caller. The hot writes try this with the list
+	 * they read, and only fall back to {@link #write(java.util.function.Function)} while a copy is pending.
+	 *
+	 * @param list The locked list
+	 */
+	private boolean owns( List<Object> list ) {
+		return this.copyOnWrite == null && this.wrapped == list;
+	}
+
+	/**
+	 * Resolves values shared with the source of a deep copy before the array is serialized
+	 */
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvedList();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 * A view of the wrapped list, see {@link #toList()}. Reads go to the list as it is, writes go through the array,
+	 * which copies the list first if it is shared.
+	 */
+	private final class ListView extends AbstractList<Object> implements RandomAccess {
+
+		@Override
+		public Object get( int index ) {
+			return Array.this.get( index );
+		}
+
+		@Override
+		public int size() {
+			return wrapped.size();
+		}
+
+		@Override
+		public Object set( int index, Object element ) {
+			return write( list -> list.set( index, element ) );
+		}
+
+		@Override
+		public void add( int index, Object element ) {
+			write( list -> {
+				list.add( index, element );
+				return null;
+			} );
+		}
+
+		@Override
+		public Object remove( int index ) {
+			return write( list -> list.remove( index ) );
+		}
+
+		@Override
+		public Iterator<Object> iterator() {
+			return new ViewIterator( 0 );
+		}
+
+		@Override
+		public ListIterator<Object> listIterator( int index ) {
+			return new ViewIterator( index );
+		}
+	}
+
+	/**
+	 * Iterates the wrapped list as it was when the iteration began. Writes go through the array, after which the
+	 * iteration continues on the list that was written to.
+	 */
+	private final class ViewIterator implements ListIterator<Object> {
+
+		private ListIterator<Object>	items;
+
+		private int						last	= -1;
+
+		ViewIterator( int index ) {
+			this.items = resolvedList().listIterator( index );
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.items.hasNext();
+		}
+
+		@Override
+		public Object next() {
+			Object item = this.items.next();
+			this.last = this.items.previousIndex();
+			return item;
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return this.items.hasPrevious();
+		}
+
+		@Override
+		public Object previous() {
+			Object item = this.items.previous();
+			this.last = this.items.nextIndex();
+			return item;
+		}
+
+		@Override
+		public int nextIndex() {
+			return this.items.nextIndex();
+		}
+
+		@Override
+		public int previousIndex() {
+			return this.items.previousIndex();
+		}
+
+		@Override
+		public void remove() {
+			if ( this.last < 0 ) {
+				throw new IllegalStateException();
+			}
+			int index = this.last;
+			write( list -> {
+				list.remove( index );
+				this.items = list.listIterator( index );
+				return null;
+			} );
+			this.last = -1;
+		}
+
+		@Override
+		public void set( Object item ) {
+			if ( this.last < 0 ) {
+				throw new IllegalStateException();
+			}
+			int	index	= this.last;
+			int	cursor	= this.items.nextIndex();
+			write( list -> {
+				list.set( index, item );
+				this.items = list.listIterator( cursor );
+				return null;
+			} );
+		}
+
+		@Override
+		public void add( Object item ) {
+			int cursor = this.items.nextIndex();
+			write( list -> {
+				list.add( cursor, item );
+				this.items = list.listIterator( cursor + 1 );
+				return null;
+			} );
+			this.last = -1;
+		}
+	}
+
 	/**
 	 * --------------------------------------------------------------------------
 	 * IReferenceable Interface Methods
@@ -783,19 +1105,36 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 	@Override
 	public Object assign( IBoxContext context, Key key, Object value ) {
 
-		Integer index = Array.validateAndGetIntForAssign( key, wrapped.size(), false );
-		if ( index > wrapped.size() ) {
-			synchronized ( wrapped ) {
-				// If the index is larger than the array, pad the array with nulls
-				for ( int i = wrapped.size(); i < index; i++ ) {
-					wrapped.add( null );
-				}
+		Integer			index	= Array.validateAndGetIntForAssign( key, wrapped.size(), false );
+		List<Object>	list	= this.wrapped;
+		synchronized ( list ) {
+			if ( owns( list ) ) {
+				assignIndex( list, index, value );
+				return value;
 			}
 		}
-		wrapped.set( index - 1, value );
+		write( owned -> {
+			assignIndex( owned, index, value );
+			return null;
+		} );
 		return value;
 	}
 
+	/**
+	 * Sets an element of the wrapped list, padding the list with nulls up to it
+	 *
+	 * @param list  The wrapped list
+	 * @param index The one-based index of the element
+	 * @param value The value to set
+	 */
+	private static void assignIndex( List<Object> list, int index, Object value ) {
+		// If the index is larger than the array, pad the array with nulls
+		for ( int i = list.size(); i < index; i++ ) {
+			list.add( null );
+		}
+		list.set( index - 1, value );
+	}
+
 	/**
 	 * Dereference this object by a key and return the value, or throw exception
 	 *
@@ -817,7 +1156,7 @@ public class Array implements List<Object>, IType, IReferenceable, IListenable,
 		if ( safe && ( index < 1 || index > wrapped.size() ) ) {
 			return null;
 		}
-		return wrapped.get( index - 1 );
+		return get( index - 1 );
 	}
 
 	/**
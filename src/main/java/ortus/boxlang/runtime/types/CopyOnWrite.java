@@ -0,0 +1,182 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.util.DuplicationUtil;
+
+/**
+ * Tracks the storage a {@link Struct} or {@link Array} shares with its copies, see {@link Struct#duplicate(boolean)} and
+ * {@link Array#duplicate(boolean)}.
+ * <p>
+ * A container holding a copy-on-write marker copies its storage before the first write, so duplicating is constant time
+ * and a copy that is only read never copies anything. {@link #SHARED} marks storage whose values belong to the container,
+ * as after a shallow copy. A deep copy uses its own instance: the storage of every container reachable from the source is
+ * captured when the copy is taken, and each nested container of the copy is created from that storage the first time it
+ * is reached, so only the parts of a copy that are used are ever built.
+ * <p>
+ * Taking a deep copy is not constant time: it visits every container reachable from the source once, and marks each of
+ * them shared, so the next write to any of them copies that container. Only building the copy is deferred. Reads of a
+ * deep copy take no lock: what a copy replaces is fixed once it is taken, and a container stops consulting its marker
+ * once its storage is resolved.
+ */
+final class CopyOnWrite {
+
+	/**
+	 * Marks storage shared with a shallow copy, or with a deep copy that has nothing nested to replace
+	 */
+	static final CopyOnWrite			SHARED	= new CopyOnWrite( null, null );
+
+	/**
+	 * The storage of each container reachable from the source of a deep copy, as it was when the copy was taken, and
+	 * {@link #DUPLICATED} for the other values it duplicates. Only written while the copy is taken.
+	 */
+	private final Map<Object, Captured>	captured;
+
+	/**
+	 * The copy of each container and mutable value reachable from the source of a deep copy
+	 */
+	private final Map<Object, Object>	copies;
+
+	/**
+	 * Captured storage of a container
+	 *
+	 * @param storage The map or list
+	 * @param nested  Whether the storage holds values that are replaced in the copy
+	 */
+	private record Captured( Object storage, boolean nested ) {
+	}
+
+	/**
+	 * Marks a captured value that is duplicated right away
+	 */
+	private static final Captured DUPLICATED = new Captured( null, false );
+
+	private CopyOnWrite( Map<Object, Captured> captured, Map<Object, Object> copies ) {
+		this.captured	= captured;
+		this.copies		= copies;
+	}
+
+	/**
+	 * Creates a deep copy of a struct or array. Nested structs and arrays are copied when first reached, other mutable
+	 * values are duplicated right away.
+	 *
+	 * @param source The struct or array, which must be copyable, see {@link #isCopyable(Object)}
+	 *
+	 * @return The copy
+	 */
+	static Object deepCopy( Object source ) {
+		CopyOnWrite copyOnWrite = new CopyOnWrite( new IdentityHashMap<>(), new IdentityHashMap<>() );
+		copyOnWrite.capture( source );
+		return copyOnWrite.replace( source );
+	}
+
+	/**
+	 * Whether a value is a struct or array whose storage can be shared with copies. Subclasses such as scopes manage
+	 * their storage themselves, and weak or soft structs cannot have their values captured.
+	 *
+	 * @param value The value
+	 */
+	static boolean isCopyable( Object value ) {
+		if ( value == null ) {
+			return false;
+		}
+		if ( value.getClass() == Array.class ) {
+			return true;
+		}
+		return value.getClass() == Struct.class
+		    && ( ( Struct ) value ).getType() != IStruct.TYPES.WEAK
+		    && ( ( Struct ) value ).getType() != IStruct.TYPES.SOFT;
+	}
+
+	/**
+	 * Whether a value found in shared storage must be replaced before it is handed out
+	 *
+	 * @param value The raw value from the storage
+	 */
+	boolean replaces( Object value ) {
+		// The captured values never change once the copy is taken, so reads need no lock
+		return this.copies != null && value != null && this.captured.containsKey( value );
+	}
+
+	/**
+	 * Gets the value a copy holds in place of a value of the source
+	 *
+	 * @param value The raw value from the shared storage
+	 *
+	 * @return The copy of the value, the value itself if it needs no copy
+	 */
+	@SuppressWarnings( "unchecked" )
+	synchronized Object replace( Object value ) {
+		if ( this.copies == null || value == null ) {
+			return value;
+		}
+		Object copy = this.copies.get( value );
+		if ( copy != null ) {
+			return copy;
+		}
+		Captured source = this.captured.get( value );
+		if ( source == null ) {
+			return value;
+		}
+		CopyOnWrite marker = source.nested() ? this : SHARED;
+		if ( value instanceof Struct struct ) {
+			copy = new Struct( struct.getType(), ( Map<Key, Object> ) source.storage(), marker );
+		} else {
+			copy = new Array( ( List<Object> ) source.storage(), marker );
+		}
+		this.copies.put( value, copy );
+		return copy;
+	}
+
+	/**
+	 * Captures the storage of a value and everything nested in it
+	 *
+	 * @param value The raw value
+	 *
+	 * @return Whether the value is replaced in the copy
+	 */
+	private boolean capture( Object value ) {
+		if ( value == null || DuplicationUtil.isImmutable( value ) ) {
+			return false;
+		}
+		if ( this.captured.containsKey( value ) || this.copies.containsKey( value ) ) {
+			return true;
+		}
+		if ( !isCopyable( value ) ) {
+			this.captured.put( value, DUPLICATED );
+			this.copies.put( value, DuplicationUtil.duplicate( value, true ) );
+			return true;
+		}
+
+		// Register first, so cycles end here
+		Object storage = value instanceof Struct struct ? struct.share() : ( ( Array ) value ).share();
+		this.captured.put( value, new Captured( storage, true ) );
+		boolean nested = false;
+		for ( Object item : storage instanceof Map<?, ?> map ? map.values() : ( List<?> ) storage ) {
+			nested = capture( item ) || nested;
+		}
+		this.captured.put( value, new Captured( storage, nested ) );
+		return true;
+	}
+
+}
@@ -17,18 +17,26 @@
  */
 package ortus.boxlang.runtime.types;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.ref.SoftReference;
+import java.util.AbstractMap;
 import java.util.AbstractMap.SimpleEntry;
+import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -54,6 +62,7 @@ import ortus.boxlang.runtime.types.meta.IChangeListener;
 import ortus.boxlang.runtime.types.meta.IListenable;
 import ortus.boxlang.runtime.types.meta.StructMeta;
 import ortus.boxlang.runtime.types.unmodifiable.UnmodifiableStruct;
+import ortus.boxlang.runtime.util.DuplicationUtil;
 
 /**
  * This type provides the core map class for Boxlang. Structs are highly versatile and are used for organizing and managing related data.
@@ -125,7 +134,43 @@ public class Struct implements IStruct, IListenable, Serializable {
 	/**
 	 * The wrapped map used in the implementation
 	 */
-	protected final Map<Key, Object>				wrapped;
+	protected volatile Map<Key, Object>				wrapped;
+
+	/**
+	 * Set while the wrapped map is shared with a copy of this struct, which copies it before the first write. See
+	 * {@link #duplicate(boolean)}.
+	 */
+	private transient volatile CopyOnWrite			copyOnWrite;
+
+	/**
+	 * Set once the wrapped map has been shared with a copy. Until then {@link #keySet()} and {@link #getWrapped()} hand
+	 * out the map itself.
+	 */
+	private transient volatile boolean				shared;
+
+	/**
+	 * The number of writes going straight to the wrapped map, or {@link #PENDING} while a copy of it is pending. See
+	 * {@link #beginWrite()}.
+	 */
+	private transient volatile int					writers;
+
+	/**
+	 * The value of {@link #writers} while a copy of the wrapped map is pending
+	 */
+	private static final int						PENDING								= -1;
+
+	/**
+	 * Updates {@link #writers}
+	 */
+	private static final VarHandle					WRITERS;
+
+	static {
+		try {
+			WRITERS = MethodHandles.lookup().findVarHandle( Struct.class, "writers", int.class );
+		} catch ( ReflectiveOperationException e ) {
+			throw new ExceptionInInitializerError( e );
+		}
+	}
 
 	/**
 	 * Used to track change listeners. Intitialized on-demand
@@ -156,13 +201,7 @@ public class Struct implements IStruct, IListenable, Serializable {
 		this.type		= type;
 
 		// Initialize the wrapped map
-		this.wrapped	= switch ( type ) {
-							case DEFAULT, CASE_SENSITIVE, SOFT -> new ConcurrentHashMap<>( INITIAL_CAPACITY );
-							case LINKED, LINKED_CASE_SENSITIVE -> Collections.synchronizedMap( new LinkedHashMap<>( INITIAL_CAPACITY ) );
-							case SORTED -> new ConcurrentSkipListMap<>();
-							case WEAK -> new WeakHashMap<>( INITIAL_CAPACITY );
-							default -> throw new BoxRuntimeException( "Invalid struct type [" + type.name() + "]" );
-						};
+		this.wrapped	= createMap( type );
 	}
 
 	/**
@@ -196,6 +235,21 @@ public class Struct implements IStruct, IListenable, Serializable {
 		this.wrapped	= map;
 	}
 
+	/**
+	 * Construct a copy of a struct that shares its map until the first write
+	 *
+	 * @param type        The type of struct
+	 * @param map         The shared map
+	 * @param copyOnWrite How to copy the shared map
+	 */
+	Struct( TYPES type, Map<Key, Object> map, CopyOnWrite copyOnWrite ) {
+		this.type			= type;
+		this.wrapped		= map;
+		this.copyOnWrite	= copyOnWrite;
+		this.shared			= true;
+		this.writers		= PENDING;
+	}
+
 	/**
 	 * Construct a struct from the keys/values in your map.
 	 *
@@ -407,7 +461,7 @@ public class Struct implements IStruct, IListenable, Serializable {
 	 */
 	@Override
 	public boolean containsValue( Object value ) {
-		return wrapped.containsValue( value );
+		return resolvedMap().containsValue( value );
 	}
 
 	/**
@@ -420,11 +474,7 @@ public class Struct implements IStruct, IListenable, Serializable {
 	@Override
 	public Object get( Object key ) {
 		if ( key instanceof Key keyKey ) {
-			return unWrapNull(
-			    isCaseSensitive()
-			        ? wrapped.get( keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( keyKey ) ).findFirst().orElse( Key.EMPTY ) )
-			        : wrapped.get( keyKey )
-			);
+			return unWrapNull( lookup( keyKey ) );
 		}
 		if ( key instanceof String stringKey ) {
 			return get( stringKey );
@@ -440,12 +490,7 @@ public class Struct implements IStruct, IListenable, Serializable {
 	 * @return the value to which the specified key is mapped or null if not found
 	 */
 	public Object get( String key ) {
-		Key keyObj = Key.of( key );
-		return unWrapNull(
-		    isCaseSensitive()
-		        ? wrapped.get( keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( keyObj ) ).findFirst().orElse( Key.EMPTY ) )
-		        : wrapped.get( keyObj )
-		);
+		return unWrapNull( lookup( Key.of( key ) ) );
 	}
 
 	/**
@@ -457,12 +502,8 @@ public class Struct implements IStruct, IListenable, Serializable {
 	 * @return The value of the key
 	 */
 	public Object getOrDefault( Key key, Object defaultValue ) {
-		return isCaseSensitive()
-		    ? unWrapNull(
-		        wrapped.getOrDefault( keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( key ) ).findFirst().orElse( Key.EMPTY ), defaultValue )
-		    )
-		    : unWrapNull( wrapped.getOrDefault( key, defaultValue ) );
-
+		Object value = lookup( key );
+		return unWrapNull( value == null ? defaultValue : value );
 	}
 
 	/**
@@ -485,10 +526,28 @@ public class Struct implements IStruct, IListenable, Serializable {
 	 * @return The value of the key or a NullValue object, null means the key didn't exist *
 	 */
 	public Object getRaw( Key key ) {
-		return isCaseSensitive()
-		    ? wrapped.get( keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( key ) ).findFirst().orElse( Key.EMPTY ) )
-		    : wrapped.get( key );
+		return lookup( key );
+	}
 
+	/**
+	 * Looks up the raw value of a key
+	 *
+	 * @param key The key to look for
+	 *
+	 * @return The value of the key or a NullValue object, null means the key didn't exist
+	 */
+	private Object lookup( Key key ) {
+		Map<Key, Object>	map		= this.wrapped;
+		Object				value	= isCaseSensitive()
+		    ? map.get( map.keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( key ) ).findFirst().orElse( Key.EMPTY ) )
+		    : map.get( key );
+		// A nested struct or array of a deep copy is created on first access
+		CopyOnWrite copyOnWrite = this.copyOnWrite;
+		if ( copyOnWrite != null && copyOnWrite.replaces( value ) ) {
+			ownMap();
+			return lookup( key );
+		}
+		return value;
 	}
 
 	/**
@@ -501,10 +560,16 @@ public class Struct implements IStruct, IListenable, Serializable {
 	 */
 	@Override
 	public Object put( Key key, Object value ) {
-		return wrapped.put(
-		    isCaseSensitive() && ! ( key instanceof KeyCased ) ? new KeyCased( key.getName() ) : key,
-		    notifyListeners( key, wrapNull( value ) )
-		);
+		Key		putKey		= isCaseSensitive() && ! ( key instanceof KeyCased ) ? new KeyCased( key.getName() ) : key;
+		Object	putValue	= notifyListeners( key, wrapNull( value ) );
+		if ( beginWrite() ) {
+			try {
+				return this.wrapped.put( putKey, putValue );
+			} finally {
+				endWrite();
+			}
+		}
+		return write( map -> map.put( putKey, putValue ) );
 	}
 
 	/**
@@ -530,10 +595,16 @@ public class Struct implements IStruct, IListenable, Serializable {
 	@Override
 	public Object putIfAbsent( Key key, Object value ) {
 		if ( !containsKey( key ) ) {
-			return wrapped.putIfAbsent(
-			    isCaseSensitive() && ! ( key instanceof KeyCased ) ? new KeyCased( key.getName() ) : key,
-			    notifyListeners( key, wrapNull( value ) )
-			);
+			Key		putKey		= isCaseSensitive() && ! ( key instanceof KeyCased ) ? new KeyCased( key.getName() ) : key;
+			Object	putValue	= notifyListeners( key, wrapNull( value ) );
+			if ( beginWrite() ) {
+				try {
+					return this.wrapped.putIfAbsent( putKey, putValue );
+				} finally {
+					endWrite();
+				}
+			}
+			return write( map -> map.putIfAbsent( putKey, putValue ) );
 		}
 		return null;
 	}
@@ -582,9 +653,28 @@ public class Struct implements IStruct, IListenable, Serializable {
 	 */
 	public Object remove( Key key ) {
 		notifyListeners( key, null );
+		if ( beginWrite() ) {
+			try {
+				return removeFrom( this.wrapped, key );
+			} finally {
+				endWrite();
+			}
+		}
+		return write( map -> removeFrom( map, key ) );
+	}
+
+	/**
+	 * Removes a key from the wrapped map
+	 *
+	 * @param map The wrapped map
+	 * @param key The key to remove
+	 *
+	 * @return The removed value, or null if not found
+	 */
+	private Object removeFrom( Map<Key, Object> map, Key key ) {
 		return isCaseSensitive()
-		    ? wrapped.remove( keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( key ) ).findFirst().orElse( Key.EMPTY ) )
-		    : wrapped.remove( key );
+		    ? map.remove( map.keySet().stream().filter( k -> KeyCaster.cast( k ).equalsWithCase( key ) ).findFirst().orElse( Key.EMPTY ) )
+		    : map.remove( key );
 	}
 
 	/**
@@ -601,16 +691,19 @@ public class Struct implements IStruct, IListenable, Serializable {
 		} else {
 			entryStream = map.entrySet().stream().map( entry -> entry );
 		}
-		// With a linked hashmap we need to maintain order - which is a tiny bit slower
-		if ( type.equals( TYPES.LINKED ) ) {
-			entryStream.forEachOrdered( entry -> {
-				wrapped.put( entry.getKey(), ( entry.getValue() == null ) ? new NullValue() : entry.getValue() );
-			} );
-		} else {
-			entryStream.forEach( entry -> {
-				wrapped.put( entry.getKey(), ( entry.getValue() == null ) ? new NullValue() : entry.getValue() );
-			} );
-		}
+		write( target -> {
+			// With a linked hashmap we need to maintain order - which is a tiny bit slower
+			if ( type.equals( TYPES.LINKED ) ) {
+				entryStream.forEachOrdered( entry -> {
+					target.put( entry.getKey(), ( entry.getValue() == null ) ? new NullValue() : entry.getValue() );
+				} );
+			} else {
+				entryStream.forEach( entry -> {
+					target.put( entry.getKey(), ( entry.getValue() == null ) ? new NullValue() : entry.getValue() );
+				} );
+			}
+			return null;
+		} );
 	}
 
 	/**
@@ -628,28 +721,31 @@ public class Struct implements IStruct, IListenable, Serializable {
 		} else {
 			entryStream = map.entrySet().stream().map( entry -> entry );
 		}
-		// With a linked hashmap we need to maintain order - which is a tiny bit slower
-		if ( type.equals( TYPES.LINKED ) ) {
-			entryStream.forEachOrdered( entry -> {
-				Key key;
-				if ( entry.getKey() instanceof Key entryKey ) {
-					key = entryKey;
-				} else {
-					key = Key.of( entry.getKey().toString() );
-				}
-				wrapped.put( key, ( entry.getValue() == null ) ? new NullValue() : entry.getValue() );
-			} );
-		} else {
-			entryStream.forEach( entry -> {
-				Key key;
-				if ( entry.getKey() instanceof Key entryKey ) {
-					key = entryKey;
-				} else {
-					key = Key.of( entry.getKey().toString() );
-				}
-				wrapped.put( key, ( entry.getValue() == null ) ? new NullValue() : entry.getValue() );
-			} );
-		}
+		write( target -> {
+			// With a linked hashmap we need to maintain order - which is a tiny bit slower
+			if ( type.equals( TYPES.LINKED ) ) {
+				entryStream.forEachOrdered( entry -> {
+					Key key;
+					if ( entry.getKey() instanceof Key entryKey ) {
+						key = entryKey;
+					} else {
+						key = Key.of( entry.getKey().toString() );
+					}
+					target.put( key, ( entry.getValue() == null ) ? new NullValue() : entry.getValue() );
+				} );
+			} else {
+				entryStream.forEach( entry -> {
+					Key key;
+					if ( entry.getKey() instanceof Key entryKey ) {
+						key = entryKey;
+					} else {
+						key = Key.of( entry.getKey().toString() );
+					}
+					target.put( key, ( entry.getValue() == null ) ? new NullValue() : entry.getValue() );
+				} );
+			}
+			return null;
+		} );
 	}
 
 	/**
@@ -658,7 +754,18 @@ public class Struct implements IStruct, IListenable, Serializable {
 	@Override
 	public void clear() {
 		// TODO: handle listeners
-		wrapped.clear();
+		if ( beginWrite() ) {
+			try {
+				this.wrapped.clear();
+			} finally {
+				endWrite();
+			}
+			return;
+		}
+		write( map -> {
+			map.clear();
+			return null;
+		} );
 	}
 
 	/**
@@ -666,7 +773,7 @@ public class Struct implements IStruct, IListenable, Serializable {
 	 */
 	@Override
 	public Set<Key> keySet() {
-		return wrapped.keySet();
+		return this.shared ? new KeyView() : this.wrapped.keySet();
 	}
 
 	/**
@@ -674,7 +781,7 @@ public class Struct implements IStruct, IListenable, Serializable {
 	 */
 	@Override
 	public Collection<Object> values() {
-		return wrapped.values().stream()
+		return resolvedMap().values().stream()
 		    .map( entry -> unWrapNull( entry ) )
 		    .collect( Collectors.toList() );
 	}
@@ -684,7 +791,7 @@ public class Struct implements IStruct, IListenable, Serializable {
 	 */
 	@Override
 	public Set<Entry<Key, Object>> entrySet() {
-		return wrapped.entrySet().stream()
+		return resolvedMap().entrySet().stream()
 		    .map( entry -> new SimpleEntry<>( entry.getKey(), unWrapNull( entry.getValue() ) ) )
 		    .collect( Collectors.toCollection( LinkedHashSet::new ) );
 	}
@@ -697,8 +804,8 @@ public class Struct implements IStruct, IListenable, Serializable {
 	@Override
 	public boolean equals( Object obj ) {
 		return obj instanceof IStruct struct
-		    ? wrapped.equals( struct.getWrapped() )
-		    : wrapped.equals( obj );
+		    ? resolvedMap().equals( struct.getWrapped() )
+		    : resolvedMap().equals( obj );
 	}
 
 	/**
@@ -716,7 +823,7 @@ public class Struct implements IStruct, IListenable, Serializable {
 		}
 		visited.add( this );
 		int result = 1;
-		for ( Map.Entry<Key, Object> entry : wrapped.entrySet() ) {
+		for ( Map.Entry<Key, Object> entry : resolvedMap().entrySet() ) {
 			result = 31 * result + ( entry.getKey() == null ? 0 : entry.getKey().hashCode() );
 			Object value = entry.getValue();
 			if ( value instanceof IType ) {
@@ -762,7 +869,7 @@ public class Struct implements IStruct, IListenable, Serializable {
 		try {
 			StringBuilder sb = new StringBuilder();
 			sb.append( size() > 0 ? "{\n" : "{" );
-			sb.append( wrapped.entrySet().stream()
+			sb.append( resolvedMap().entrySet().stream()
 			    .map( entry -> {
 				    String line = entry.getKey().getName() + " : ";
 				    if ( entry.getValue() instanceof IType t ) {
@@ -1021,10 +1128,326 @@ public class Struct implements IStruct, IListenable, Serializable {
 	}
 
 	/**
-	 * Get the wrapped map used in the implementation
+	 * Get the wrapped map used in the implementation. Once the map has been shared with a copy, this returns a view,
+	 * which reads the map as it is and only copies it when written to.
 	 */
 	public Map<? extends Object, Object> getWrapped() {
-		return wrapped;
+		return this.shared ? new WrappedView() : this.wrapped;
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Copy-on-write
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Duplicates the struct. The copy shares the wrapped map, and each side copies it before its first write, so
+	 * duplicating is constant time and copies that are only read are never built. A deep copy also captures every
+	 * nested struct and array, which are copied the first time they are reached through the copy. Other mutable values
+	 * are duplicated right away.
+	 * <p>
+	 * Structs that manage their own map, such as scopes, weak and soft structs are copied right away.
+	 *
+	 * @param deep Whether to copy nested values too
+	 *
+	 * @return The copy
+	 */
+	public Struct duplicate( boolean deep ) {
+		if ( !CopyOnWrite.isCopyable( this ) ) {
+			return DuplicationUtil.copyStruct( this, deep );
+		}
+		if ( deep ) {
+			return ( Struct ) CopyOnWrite.deepCopy( this );
+		}
+		return new Struct( this.type, share(), CopyOnWrite.SHARED );
+	}
+
+	/**
+	 * Marks the wrapped map as shared with a copy
+	 *
+	 * @return The shared map
+	 */
+	Map<Key, Object> share() {
+		synchronized ( this ) {
+			// A deep copy that was never written to still holds values of its source, resolve them first
+			if ( this.copyOnWrite != null && this.copyOnWrite != CopyOnWrite.SHARED ) {
+				ownMap();
+			}
+			if ( this.copyOnWrite == null ) {
+				// Wait for the writes going straight to the map, later writes copy it first
+				while ( !WRITERS.compareAndSet( this, 0, PENDING ) ) {
+					Thread.onSpinWait();
+				}
+				this.copyOnWrite	= CopyOnWrite.SHARED;
+				this.shared			= true;
+			}
+			return this.wrapped;
+		}
+	}
+
+	/**
+	 * Gets the wrapped map to write to, copying it first if it is shared with a copy of this struct
+	 *
+	 * @return The wrapped map
+	 */
+	private Map<Key, Object> ownMap() {
+		if ( this.copyOnWrite != null ) {
+			synchronized ( this ) {
+				CopyOnWrite copyOnWrite = this.copyOnWrite;
+				if ( copyOnWrite != null ) {
+					Map<Key, Object> source = this.wrapped;
+					Map<Key, Object> copy	= source instanceof SortedMap<Key, Object> sorted && sorted.comparator() != null
+					    ? new ConcurrentSkipListMap<>( sorted.comparator() )
+					    : createMap( this.type );
+					source.forEach( ( key, value ) -> copy.put( key, copyOnWrite.replace( value ) ) );
+					this.wrapped		= copy;
+					this.copyOnWrite	= null;
+					this.writers		= 0;
+				}
+			}
+		}
+		return this.wrapped;
+	}
+
+	/**
+	 * Gets the wrapped map to read all values from, resolving values a deep copy still shares with its source
+	 *
+	 * @return The wrapped map
+	 */
+	private Map<Key, Object> resolvedMap() {
+		CopyOnWrite copyOnWrite = this.copyOnWrite;
+		return copyOnWrite != null && copyOnWrite != CopyOnWrite.SHARED ? ownMap() : this.wrapped;
+	}
+
+	/**
+	 * Starts a write straight to the wrapped map, which is possible unless a copy of the map is pending. Such writes
+	 * only count themselves, so they never wait for each other, and {@link #share()} waits for them to end.
+	 *
+	 * @return Whether the write may go straight to the wrapped map, in which case it must call {@link #endWrite()}
+	 */
+	private boolean beginWrite() {
+		// Only copyable structs are ever shared, the others have nothing to count
+		if ( !CopyOnWrite.isCopyable( this ) ) {
+			return true;
+		}
+		for ( int count = this.writers; count != PENDING; count = this.writers ) {
+			if ( WRITERS.compareAndSet( this, count, count + 1 ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Ends a write started by {@link #beginWrite()}
+	 */
+	private void endWrite() {
+		if ( CopyOnWrite.isCopyable( this ) ) {
+			WRITERS.getAndAdd( this, -1 );
+		}
+	}
+
+	/**
+	 * Writes to the wrapped map. While a copy of the map is pending, the write holds the same lock as {@link #share()}
+	 * and copies the map first.
+	 *
+	 * @param write The write, given the map to write to
+	 *
+	 * @return The result of the write
+	 */
+	private <T> T write( java.util.function.Function<Map<Key, Object>, T> write ) {
+		if ( beginWrite() ) {
+			try {
+				return write.apply( this.wrapped );
+			} finally {
+				endWrite();
+			}
+		}
+		synchronized ( this ) {
+			return write.apply( ownMap() );
+		}
+	}
+
+	/**
+	 * Creates the map for a type of struct
+	 *
+	 * @param type The type of struct
+	 *
+	 * @return The map
+	 */
+	private static Map<Key, Object> createMap( TYPES type ) {
+		return switch ( type ) {
+			case DEFAULT, CASE_SENSITIVE, SOFT -> new ConcurrentHashMap<>( INITIAL_CAPACITY );
+			case LINKED, LINKED_CASE_SENSITIVE -> Collections.synchronizedMap( new LinkedHashMap<>( INITIAL_CAPACITY ) );
+			case SORTED -> new ConcurrentSkipListMap<>();
+			case WEAK -> new WeakHashMap<>( INITIAL_CAPACITY );
+			default -> throw new BoxRuntimeException( "Invalid struct type [" + type.name() + "]" );
+		};
+	}
+
+	/**
+	 * Resolves values shared with the source of a deep copy before the struct is serialized
+	 */
+	private void writeObject( ObjectOutputStream out ) throws IOException {
+		resolvedMap();
+		out.defaultWriteObject();
+	}
+
+	/**
+	 * A view of the wrapped map, see {@link #getWrapped()}. Reads go to the map as it is, writes go through the struct,
+	 * which copies the map first if it is shared.
+	 */
+	private final class WrappedView extends AbstractMap<Key, Object> {
+
+		@Override
+		public int size() {
+			return wrapped.size();
+		}
+
+		@Override
+		public boolean containsKey( Object key ) {
+			return resolvedMap().containsKey( key );
+		}
+
+		@Override
+		public Object get( Object key ) {
+			return resolvedMap().get( key );
+		}
+
+		@Override
+		public Object put( Key key, Object value ) {
+			return write( map -> map.put( key, value ) );
+		}
+
+		@Override
+		public Object remove( Object key ) {
+			return write( map -> map.remove( key ) );
+		}
+
+		@Override
+		public void clear() {
+			Struct.this.clear();
+		}
+
+		@Override
+		public Set<Key> keySet() {
+			return new KeyView();
+		}
+
+		@Override
+		public Set<Entry<Key, Object>> entrySet() {
+			return new AbstractSet<Entry<Key, Object>>() {
+
+				@Override
+				public Iterator<Entry<Key, Object>> iterator() {
+					return new ViewIterator<>( ViewEntry::new );
+				}
+
+				@Override
+				public int size() {
+					return wrapped.size();
+				}
+			};
+		}
+	}
+
+	/**
+	 * A view of the keys, see {@link #keySet()}. Reads go to the map as it is, removals go through the struct, which
+	 * copies the map first if it is shared.
+	 */
+	private final class KeyView extends AbstractSet<Key> {
+
+		@Override
+		public Iterator<Key> iterator() {
+			return new ViewIterator<>( Entry::getKey );
+		}
+
+		@Override
+		public int size() {
+			return wrapped.size();
+		}
+
+		@Override
+		public boolean contains( Object key ) {
+			return resolvedMap().containsKey( key );
+		}
+
+		@Override
+		public boolean remove( Object key ) {
+			return write( map -> map.keySet().remove( key ) );
+		}
+
+		@Override
+		public void clear() {
+			Struct.this.clear();
+		}
+	}
+
+	/**
+	 * Iterates the wrapped map as it was when the iteration began. Removals go through the struct, and through the
+	 * iterator itself as long as it walks the map that is written to.
+	 */
+	private final class ViewIterator<T> implements Iterator<T> {
+
+		private final Map<Key, Object>									source	= resolvedMap();
+
+		private final Iterator<Entry<Key, Object>>						entries	= this.source.entrySet().iterator();
+
+		private final java.util.function.Function<Entry<Key, Object>, T>	mapper;
+
+		private Entry<Key, Object>										last;
+
+		ViewIterator( java.util.function.Function<Entry<Key, Object>, T> mapper ) {
+			this.mapper = mapper;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.entries.hasNext();
+		}
+
+		@Override
+		public T next() {
+			this.last = this.entries.next();
+			return this.mapper.apply( this.last );
+		}
+
+		@Override
+		public void remove() {
+			if ( this.last == null ) {
+				throw new IllegalStateException();
+			}
+			Key key = this.last.getKey();
+			this.last = null;
+			write( map -> {
+				if ( map == this.source ) {
+					this.entries.remove();
+				} else {
+					map.remove( key );
+				}
+				return null;
+			} );
+		}
+	}
+
+	/**
+	 * An entry of {@link WrappedView}, which sets its value through the struct
+	 */
+	private final class ViewEntry extends SimpleEntry<Key, Object> {
+
+		private static final long serialVersionUID = 1L;
+
+		ViewEntry( Entry<Key, Object> entry ) {
+			super( entry );
+		}
+
+		@Override
+		public Object setValue( Object value ) {
+			Key key = getKey();
+			write( map -> map.put( key, value ) );
+			return super.setValue( value );
+		}
 	}
 
 	/**
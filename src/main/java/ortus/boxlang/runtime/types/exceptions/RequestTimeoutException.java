@@ -0,0 +1,36 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.types.exceptions;
+
+/**
+ * This exception is thrown when a request runs past its request timeout. It's raised cooperatively by the
+ * checks compiled into loops and function calls, so the request unwinds normally and releases its locks and
+ * resources on the way out.
+ */
+public class RequestTimeoutException extends BoxRuntimeException {
+
+	/**
+	 * Constructor
+	 *
+	 * @param message The message
+	 */
+	public RequestTimeoutException( String message ) {
+		super( message, null, "RequestTimeout", "", null );
+	}
+
+}
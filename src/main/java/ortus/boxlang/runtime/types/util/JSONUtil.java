@@ -17,11 +17,16 @@
  */
 package ortus.boxlang.runtime.types.util;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.jr.annotationsupport.JacksonAnnotationExtension;
 import com.fasterxml.jackson.jr.extension.javatime.JacksonJrJavaTimeExtension;
@@ -39,6 +44,7 @@ import ortus.boxlang.runtime.types.QueryColumnType;
 import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.util.conversion.BoxJsonProvider;
+import ortus.boxlang.runtime.util.conversion.BoxJsonReader;
 
 /**
  * Utility class for JSON operations based on our library of choice.
@@ -95,6 +101,52 @@ public class JSONUtil {
 		return JSON_BUILDER;
 	}
 
+	/**
+	 * Serializes a value as JSON straight to a writer, as it is generated. Nothing is buffered beyond the generator's
+	 * own buffer, so large structs, arrays and queries never exist as one JSON string. The writer is flushed, but not
+	 * closed.
+	 *
+	 * @param value  The value to serialize
+	 * @param writer The writer to write to
+	 *
+	 * @throws IOException If the writer fails
+	 */
+	public static void writeJSON( Object value, Writer writer ) throws IOException {
+		try ( JsonGenerator generator = JSON_BUILDER.getStreamingFactory().createGenerator( writer ) ) {
+			writeJSON( value, generator );
+		}
+	}
+
+	/**
+	 * Serializes a value as UTF-8 JSON straight to an output stream, as it is generated. The stream is flushed, but not
+	 * closed.
+	 *
+	 * @param value The value to serialize
+	 * @param out   The stream to write to
+	 *
+	 * @throws IOException If the stream fails
+	 */
+	public static void writeJSON( Object value, OutputStream out ) throws IOException {
+		try ( JsonGenerator generator = JSON_BUILDER.getStreamingFactory().createGenerator( out, JsonEncoding.UTF8 ) ) {
+			writeJSON( value, generator );
+		}
+	}
+
+	/**
+	 * Serializes a value with a generator configured like our JSON builder, without closing the generator target
+	 *
+	 * @param value     The value to serialize
+	 * @param generator The generator
+	 *
+	 * @throws IOException If the target fails
+	 */
+	private static void writeJSON( Object value, JsonGenerator generator ) throws IOException {
+		generator.disable( JsonGenerator.Feature.AUTO_CLOSE_TARGET );
+		generator.useDefaultPrettyPrinter();
+		JSON_BUILDER.write( value, generator );
+		generator.flush();
+	}
+
 	/**
 	 * Read method that will take given JSON Source (of one of supported types),
 	 * read contents and map it to one of simple mappings ({@link java.util.Map}
@@ -115,15 +167,18 @@ public class JSONUtil {
 	 * <li><code>char[]</code></li>
 	 * </ul>
 	 *
-	 * @param json The JSON to parse
+	 * @param json      The JSON to parse
+	 * @param toBLTypes Whether to build BoxLang structs and arrays instead, see {@link BoxJsonReader}
 	 *
-	 * @return The parsed JSON in raw Java format
+	 * @return The parsed JSON in raw Java format, or in BoxLang types
 	 */
 	public static Object fromJSON( Object json, boolean toBLTypes ) {
+		// BoxLang types are built in a single pass, no intermediate Java maps and lists
+		if ( toBLTypes ) {
+			return BoxJsonReader.parse( json, true );
+		}
 		try {
-			Object parsed = JSON_BUILDER.anyFrom( json );
-			// Now parse the JSON
-			return toBLTypes ? mapToBLTypes( parsed, true ) : parsed;
+			return JSON_BUILDER.anyFrom( json );
 		} catch ( Exception e ) {
 			throw new BoxRuntimeException( "Failed to parse JSON " + json.toString(), e );
 		}
@@ -55,11 +55,7 @@ public class DuplicationUtil {
 	public static Object duplicate( Object target, Boolean deep ) {
 		if ( target == null ) {
 			return null;
-		} else if ( ClassUtils.isPrimitiveOrWrapper( target.getClass() ) ) {
-			return target;
-		} else if ( target instanceof String || target instanceof Number || target instanceof Character ) {
-			return target;
-		} else if ( target instanceof Enum<?> || target instanceof Class<?> ) {
+		} else if ( isImmutable( target ) ) {
 			return target;
 		} else if ( target instanceof IStruct str ) {
 			return duplicateStruct( str, deep );
@@ -69,9 +65,6 @@ public class DuplicationUtil {
 			return duplicateQuery( arr, deep );
 		} else if ( target instanceof DateTime dateTimeInstance ) {
 			return dateTimeInstance.clone();
-		} else if ( target instanceof Function ) {
-			// functions should never be duplicated
-			return target;
 		} else if ( target instanceof Throwable t ) {
 			return ExceptionUtil.throwableToStruct( t );
 		} else if ( target instanceof Serializable ) {
@@ -89,7 +82,27 @@ public class DuplicationUtil {
 	}
 
 	/**
-	 * Duplicate a Struct object
+	 * Whether a value is immutable and can be shared by a copy as is
+	 *
+	 * @param target The value, not null
+	 *
+	 * @return True if the value never needs duplication
+	 */
+	public static boolean isImmutable( Object target ) {
+		return ClassUtils.isPrimitiveOrWrapper( target.getClass() )
+		    || target instanceof String
+		    || target instanceof Number
+		    || target instanceof Character
+		    || target instanceof Enum<?>
+		    || target instanceof Class<?>
+		    || target instanceof Key
+		    || target instanceof NullValue
+		    // functions should never be duplicated
+		    || target instanceof Function;
+	}
+
+	/**
+	 * Duplicate a Struct object. Structs are copied on write, see {@link Struct#duplicate(boolean)}.
 	 *
 	 * @param target The Struct object to duplicate
 	 * @param deep   Flag to do a deep copy on all nested objects, if true
@@ -97,6 +110,19 @@ public class DuplicationUtil {
 	 * @return A new Struct copy
 	 */
 	public static Struct duplicateStruct( IStruct target, Boolean deep ) {
+		return target instanceof Struct struct ? struct.duplicate( deep ) : copyStruct( target, deep );
+	}
+
+	/**
+	 * Copies all the entries of a struct into a new Struct right away. Used for structs that cannot be copied on write,
+	 * such as scopes.
+	 *
+	 * @param target The struct to copy
+	 * @param deep   Flag to do a deep copy on all nested objects, if true
+	 *
+	 * @return A new Struct copy
+	 */
+	public static Struct copyStruct( IStruct target, Boolean deep ) {
 		var entries = target.entrySet().stream();
 
 		if ( target.getType().equals( Struct.TYPES.LINKED ) ) {
@@ -173,7 +199,7 @@ public class DuplicationUtil {
 	}
 
 	/**
-	 * Duplicate an Array object
+	 * Duplicate an Array object. Arrays are copied on write, see {@link Array#duplicate(boolean)}.
 	 *
 	 * @param target The Array object to duplicate
 	 * @param deep   Flag to do a deep copy on all nested objects, if true
@@ -181,6 +207,18 @@ public class DuplicationUtil {
 	 * @return A new Array copy
 	 */
 	public static Array duplicateArray( Array target, Boolean deep ) {
+		return target.duplicate( deep );
+	}
+
+	/**
+	 * Copies all the items of an array into a new Array right away. Used for arrays that cannot be copied on write.
+	 *
+	 * @param target The array to copy
+	 * @param deep   Flag to do a deep copy on all nested objects, if true
+	 *
+	 * @return A new Array copy
+	 */
+	public static Array copyArray( Array target, Boolean deep ) {
 		return new Array(
 		    target.intStream()
 		        .mapToObj( idx -> deep ? ( Object ) duplicate( target.get( idx ), deep ) : ( Object ) target.get( idx ) )
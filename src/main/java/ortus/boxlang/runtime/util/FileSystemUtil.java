@@ -17,20 +17,25 @@
  */
 package ortus.boxlang.runtime.util;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.DirectoryStream;
@@ -49,6 +54,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -71,6 +77,7 @@ import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.BoxIOException;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.util.ListUtil;
+import ortus.boxlang.runtime.util.conversion.BoxBinaryCodec;
 
 public final class FileSystemUtil {
 
@@ -134,6 +141,22 @@ public final class FileSystemUtil {
 	 */
 	public static final String			SLASH_PREFIX			= "/";
 
+	/**
+	 * Files at least this large are memory mapped when read in chunks, instead of being read through a heap buffer
+	 */
+	public static final long			MEMORY_MAP_THRESHOLD	= 64L * 1024 * 1024;
+
+	/**
+	 * The default size, in bytes, of the chunks a file is read in
+	 */
+	public static final int				DEFAULT_CHUNK_SIZE		= 1024 * 1024;
+
+	/**
+	 * The largest region of a file mapped at once. A region is only unmapped once it is garbage collected, so they are
+	 * kept small
+	 */
+	private static final int			MAX_MAPPED_REGION		= 16 * 1024 * 1024;
+
 	private static InterceptorService	interceptorService		= BoxRuntime.getInstance().getInterceptorService();
 
 	/**
@@ -169,9 +192,8 @@ public final class FileSystemUtil {
 					if ( isBinaryFile( filePath ) ) {
 						return IOUtils.toByteArray( fileURL.openStream() );
 					} else {
-						InputStreamReader inputReader = new InputStreamReader( fileURL.openStream() );
-						try ( BufferedReader reader = new BufferedReader( inputReader ) ) {
-							return reader.lines().parallel().collect( Collectors.joining( LINE_SEPARATOR ) );
+						try ( InputStream inputStream = fileURL.openStream() ) {
+							return IOUtils.toString( inputStream, cs );
 						}
 					}
 				} catch ( MalformedURLException e ) {
@@ -186,8 +208,15 @@ public final class FileSystemUtil {
 				} else if ( bufferSize == null ) {
 					return Files.readString( path, cs );
 				} else {
-					try ( BufferedReader reader = new BufferedReader( Files.newBufferedReader( path, cs ), bufferSize ) ) {
-						return reader.lines().parallel().collect( Collectors.joining( LINE_SEPARATOR ) );
+					// Read through a buffer of the requested size, keeping the content as is
+					try ( BufferedReader reader = Files.newBufferedReader( path, cs ) ) {
+						StringBuilder	contents	= new StringBuilder( ( int ) Math.min( Files.size( path ), Integer.MAX_VALUE - 8 ) );
+						char[]			buffer		= new char[ Math.max( bufferSize, 1 ) ];
+						int				read;
+						while ( ( read = reader.read( buffer ) ) != -1 ) {
+							contents.append( buffer, 0, read );
+						}
+						return contents.toString();
 					}
 				}
 			}
@@ -206,6 +235,132 @@ public final class FileSystemUtil {
 		return read( filePath, null, null );
 	}
 
+	/**
+	 * Reads a file in chunks and hands each chunk to a consumer, so files of any size can be processed with a bounded
+	 * amount of memory. Files of at least {@link #MEMORY_MAP_THRESHOLD} bytes are memory mapped a region at a time.
+	 * <p>
+	 * With a charset, chunks are decoded into strings straight from the file buffer. A character split across two chunks
+	 * is decoded with the later chunk, so every string is valid. Without a charset, chunks are byte arrays.
+	 *
+	 * @param path      The file to read
+	 * @param chunkSize The size of the chunks, in bytes
+	 * @param charset   The charset to decode the chunks with, or null to read binary chunks
+	 * @param consumer  Receives each chunk, and returns false to stop reading
+	 *
+	 * @return The number of chunks read
+	 */
+	public static long readChunks( Path path, int chunkSize, Charset charset, Predicate<Object> consumer ) {
+		return readChunks( path, chunkSize, charset, consumer, MEMORY_MAP_THRESHOLD );
+	}
+
+	/**
+	 * Reads a file in chunks and hands each chunk to a consumer, memory mapping files of at least the given size. See
+	 * {@link #readChunks(Path, int, Charset, Predicate)}.
+	 *
+	 * @param path         The file to read
+	 * @param chunkSize    The size of the chunks, in bytes
+	 * @param charset      The charset to decode the chunks with, or null to read binary chunks
+	 * @param consumer     Receives each chunk, and returns false to stop reading
+	 * @param mapThreshold The size, in bytes, from which the file is memory mapped
+	 *
+	 * @return The number of chunks read
+	 */
+	public static long readChunks( Path path, int chunkSize, Charset charset, Predicate<Object> consumer, long mapThreshold ) {
+		if ( chunkSize < 1 ) {
+			throw new BoxRuntimeException( "The chunk size must be greater than zero, received [" + chunkSize + "]" );
+		}
+		try ( FileChannel channel = FileChannel.open( path, StandardOpenOption.READ ) ) {
+			long				size		= channel.size();
+			boolean				mapped		= size >= mapThreshold;
+			// Mapped regions hold whole chunks, so no chunk spans two regions
+			long				regionSize	= ( long ) chunkSize * Math.max( 1, MAX_MAPPED_REGION / chunkSize );
+			ByteBuffer			heapBuffer	= mapped ? null : ByteBuffer.allocate( chunkSize );
+			MappedByteBuffer	region		= null;
+			CharsetDecoder		decoder		= null;
+			ByteBuffer			pending		= null;
+			CharBuffer			decoded		= null;
+			if ( charset != null ) {
+				decoder		= charset.newDecoder()
+				    .onMalformedInput( CodingErrorAction.REPLACE )
+				    .onUnmappableCharacter( CodingErrorAction.REPLACE );
+				// The bytes of a character left over from the previous chunk
+				pending		= ByteBuffer.allocate( 16 );
+				decoded		= CharBuffer.allocate( ( int ) Math.ceil( ( chunkSize + pending.capacity() ) * ( double ) decoder.maxCharsPerByte() ) + 1 );
+			}
+
+			long	position	= 0;
+			long	chunks		= 0;
+			while ( position < size ) {
+				ByteBuffer input;
+				if ( mapped ) {
+					if ( region == null || !region.hasRemaining() ) {
+						region = channel.map( FileChannel.MapMode.READ_ONLY, position, Math.min( regionSize, size - position ) );
+					}
+					// A read only view of the chunk, nothing is copied out of the mapping to decode it
+					input = region.slice( region.position(), Math.min( chunkSize, region.remaining() ) );
+					region.position( region.position() + input.remaining() );
+				} else {
+					heapBuffer.clear();
+					while ( heapBuffer.hasRemaining() && channel.read( heapBuffer ) > 0 ) {
+						// Fill the chunk, a read may return fewer bytes than asked for
+					}
+					input = heapBuffer.flip();
+					if ( !input.hasRemaining() ) {
+						break;
+					}
+				}
+				position += input.remaining();
+
+				Object chunk;
+				if ( decoder == null ) {
+					byte[] bytes = new byte[ input.remaining() ];
+					input.get( bytes );
+					chunk = bytes;
+				} else {
+					chunk = decodeChunk( decoder, pending, input, decoded, position >= size );
+				}
+				chunks++;
+				if ( !consumer.test( chunk ) ) {
+					break;
+				}
+			}
+			return chunks;
+		} catch ( IOException e ) {
+			throw new BoxIOException( e );
+		}
+	}
+
+	/**
+	 * Decodes a chunk read by {@link #readChunks(Path, int, Charset, Predicate, long)}
+	 *
+	 * @param decoder The decoder of the file
+	 * @param pending The bytes of a character left over from the previous chunk, the ones left over from this chunk are
+	 *                kept in it
+	 * @param input   The bytes of the chunk
+	 * @param decoded The buffer to decode into
+	 * @param last    Whether this is the last chunk of the file
+	 *
+	 * @return The decoded chunk
+	 */
+	private static String decodeChunk( CharsetDecoder decoder, ByteBuffer pending, ByteBuffer input, CharBuffer decoded, boolean last ) {
+		// Complete the left over character a byte at a time, then decode the rest of the chunk in place
+		while ( pending.position() > 0 && input.hasRemaining() ) {
+			pending.put( input.get() ).flip();
+			decoder.decode( pending, decoded, false );
+			pending.compact();
+		}
+		decoder.decode( input, decoded, last && pending.position() == 0 );
+		pending.put( input );
+		if ( last ) {
+			decoder.decode( pending.flip(), decoded, true );
+			decoder.flush( decoded );
+			pending.clear();
+		}
+		String chunk = decoded.flip().toString();
+		decoded.clear();
+		return chunk;
+	}
+
 	/**
 	 * Creates a directory from a string path.
 	 *
@@ -1040,7 +1195,7 @@ public final class FileSystemUtil {
 	}
 
 	/**
-	 * Serializes a target Serializable object to a file destination as binary data.
+	 * Serializes a target object to a file destination as binary data, using the {@link BoxBinaryCodec}.
 	 * If the file already exists, it will be overwritten.
 	 *
 	 * @param target   The target object to serialize
@@ -1048,16 +1203,16 @@ public final class FileSystemUtil {
 	 */
 	public static void serializeToFile( Object target, Path filePath ) {
 		try ( OutputStream fileStream = Files.newOutputStream( filePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING ) ) {
-			try ( ObjectOutputStream objStream = new ObjectOutputStream( fileStream ) ) {
-				objStream.writeObject( target );
-			} catch ( IOException e ) {
+			try {
+				BoxBinaryCodec.encode( target, fileStream );
+			} catch ( BoxIOException e ) {
 				throw new BoxIOException( String.format(
 				    "The target entry [%s] could not be written to the file path [%s]. The message received was: %s",
 				    target.getClass().getName(),
 				    filePath.toString(),
 				    e.getMessage()
 				),
-				    e
+				    e.getCause() instanceof IOException cause ? cause : new IOException( e )
 				);
 			}
 		} catch ( IOException e ) {
@@ -1066,14 +1221,19 @@ public final class FileSystemUtil {
 	}
 
 	/**
-	 * Deserializes a target Serializable object from a file destination as binary data
+	 * Deserializes a target object from a file destination as binary data. Files written with Java serialization
+	 * are still read.
 	 *
 	 * @param filePath The file path to deserialize from
 	 *
 	 * @return The deserialized object
 	 */
 	public static Object deserializeFromFile( Path filePath ) {
-		try ( InputStream fileStream = Files.newInputStream( filePath ) ) {
+		try ( BufferedInputStream fileStream = new BufferedInputStream( Files.newInputStream( filePath ) ) ) {
+			if ( BoxBinaryCodec.isEncoded( fileStream ) ) {
+				return BoxBinaryCodec.decode( null, fileStream );
+			}
+			// Files written with Java serialization, before the BoxLang codec
 			try ( ObjectInputStream objStream = new ObjectInputStream( fileStream ) ) {
 				return objStream.readObject();
 			} catch ( ClassNotFoundException e ) {
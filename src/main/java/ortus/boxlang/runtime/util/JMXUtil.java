@@ -0,0 +1,120 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.util;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A utility to register and unregister BoxLang management beans in the platform MBean server
+ * under the {@code ortus.boxlang} domain, e.g. {@code ortus.boxlang:type=Cache,name=default}
+ *
+ * JMX is a monitoring concern, so failures are logged and never bubble up to the runtime.
+ */
+public class JMXUtil {
+
+	/**
+	 * The JMX domain for all BoxLang beans
+	 */
+	public static final String	DOMAIN	= "ortus.boxlang";
+
+	/**
+	 * Logger
+	 */
+	private static final Logger	logger	= LoggerFactory.getLogger( JMXUtil.class );
+
+	/**
+	 * Build the object name of a BoxLang bean
+	 *
+	 * @param type The type of bean, e.g. Cache, Executor
+	 * @param name The name of the bean, characters not allowed in object names are replaced with underscores
+	 *
+	 * @return The object name string
+	 */
+	public static String objectName( String type, String name ) {
+		return DOMAIN + ":type=" + sanitize( type ) + ",name=" + sanitize( name );
+	}
+
+	/**
+	 * Register a bean in the platform MBean server. If a bean is already registered with that name,
+	 * it is replaced, as we can have multiple runtimes or reconfigured services in the same JVM.
+	 *
+	 * @param objectName The object name, see {@link #objectName(String, String)}
+	 * @param bean       The standard or MX bean to register
+	 *
+	 * @return True if registered, false otherwise
+	 */
+	public static boolean register( String objectName, Object bean ) {
+		try {
+			MBeanServer	server	= ManagementFactory.getPlatformMBeanServer();
+			ObjectName	name	= new ObjectName( objectName );
+			synchronized ( JMXUtil.class ) {
+				if ( server.isRegistered( name ) ) {
+					server.unregisterMBean( name );
+				}
+				server.registerMBean( bean, name );
+			}
+			return true;
+		} catch ( JMException | SecurityException e ) {
+			logger.debug( "Unable to register the JMX bean [{}]", objectName, e );
+			return false;
+		}
+	}
+
+	/**
+	 * Unregister a bean from the platform MBean server if registered
+	 *
+	 * @param objectName The object name, see {@link #objectName(String, String)}
+	 *
+	 * @return True if unregistered, false otherwise
+	 */
+	public static boolean unregister( String objectName ) {
+		try {
+			MBeanServer	server	= ManagementFactory.getPlatformMBeanServer();
+			ObjectName	name	= new ObjectName( objectName );
+			synchronized ( JMXUtil.class ) {
+				if ( !server.isRegistered( name ) ) {
+					return false;
+				}
+				server.unregisterMBean( name );
+			}
+			return true;
+		} catch ( JMException | SecurityException e ) {
+			logger.debug( "Unable to unregister the JMX bean [{}]", objectName, e );
+			return false;
+		}
+	}
+
+	/**
+	 * Replace the characters not allowed in unquoted object name values
+	 *
+	 * @param value The value to sanitize
+	 *
+	 * @return The sanitized value
+	 */
+	private static String sanitize( String value ) {
+		return value.replaceAll( "[,=:\"*?\\s]", "_" );
+	}
+
+}
@@ -0,0 +1,310 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+/**
+ * A low overhead, lock-free histogram for latencies and durations in the spirit of HDR histograms.
+ *
+ * Values are recorded into log-linear buckets: every power of two is split into {@code SUB_BUCKETS} linear
+ * sub buckets, so any recorded value is reported with a relative error of at most ~6%, using a fixed
+ * amount of memory regardless of how many values are recorded.
+ *
+ * Values are recorded in the {@link TimeUnit} given to the constructor and reported in milliseconds.
+ *
+ * <pre>
+ * LatencyHistogram histogram = new LatencyHistogram( TimeUnit.NANOSECONDS );
+ * long start = System.nanoTime();
+ * ...
+ * histogram.recordSince( start );
+ * histogram.percentile( 99 );
+ * </pre>
+ */
+public class LatencyHistogram {
+
+	/**
+	 * Bits of precision per power of two
+	 */
+	private static final int	SUB_BUCKET_BITS	= 4;
+
+	/**
+	 * Linear sub buckets per power of two
+	 */
+	private static final int	SUB_BUCKETS		= 1 << SUB_BUCKET_BITS;
+
+	/**
+	 * How many powers of two we track above the sub buckets, anything larger goes into the last bucket.
+	 * 48 covers about 52 days in nanoseconds.
+	 */
+	private static final int	MAGNITUDES		= 48;
+
+	/**
+	 * The total amount of buckets
+	 */
+	private static final int	BUCKET_COUNT	= SUB_BUCKETS + ( MAGNITUDES * SUB_BUCKETS );
+
+	/**
+	 * The percentiles reported by {@link #toStruct()}
+	 */
+	private static final double[]	PERCENTILES		= { 50, 75, 90, 95, 99, 99.9 };
+	private static final String[]	PERCENTILE_KEYS	= { "p50", "p75", "p90", "p95", "p99", "p999" };
+
+	/**
+	 * The bucket counts
+	 */
+	private final AtomicLongArray	buckets			= new AtomicLongArray( BUCKET_COUNT );
+
+	/**
+	 * Striped counters for the count and sum of values
+	 */
+	private final LongAdder			count			= new LongAdder();
+	private final LongAdder			sum				= new LongAdder();
+
+	/**
+	 * The max value recorded
+	 */
+	private final LongAccumulator	max				= new LongAccumulator( Long::max, 0 );
+
+	/**
+	 * The unit of the recorded values
+	 */
+	private final TimeUnit			unit;
+
+	/**
+	 * Create a histogram that records values in a time unit
+	 *
+	 * @param unit The unit of the values to record
+	 */
+	public LatencyHistogram( TimeUnit unit ) {
+		this.unit = unit;
+	}
+
+	/**
+	 * Create a histogram that records nanoseconds
+	 */
+	public LatencyHistogram() {
+		this( TimeUnit.NANOSECONDS );
+	}
+
+	/**
+	 * Record a value in the histogram unit. Negative values are recorded as 0.
+	 *
+	 * @param value The value to record
+	 *
+	 * @return The histogram
+	 */
+	public LatencyHistogram record( long value ) {
+		long safeValue = Math.max( 0, value );
+		this.buckets.incrementAndGet( bucketIndex( safeValue ) );
+		this.count.increment();
+		this.sum.add( safeValue );
+		this.max.accumulate( safeValue );
+		return this;
+	}
+
+	/**
+	 * Record the nanoseconds elapsed since a {@link System#nanoTime()} start.
+	 * Only valid for histograms recording nanoseconds.
+	 *
+	 * @param startNanos The start from {@link System#nanoTime()}
+	 *
+	 * @return The histogram
+	 */
+	public LatencyHistogram recordSince( long startNanos ) {
+		return record( System.nanoTime() - startNanos );
+	}
+
+	/**
+	 * How many values have been recorded
+	 */
+	public long count() {
+		return this.count.sum();
+	}
+
+	/**
+	 * The max value recorded in the histogram unit
+	 */
+	public long max() {
+		return this.max.get();
+	}
+
+	/**
+	 * The mean of the values recorded in the histogram unit
+	 */
+	public double mean() {
+		long total = this.count.sum();
+		return total == 0 ? 0 : ( double ) this.sum.sum() / total;
+	}
+
+	/**
+	 * Get the value at a percentile in the histogram unit.
+	 * The value is the highest value of the bucket the percentile falls in, capped by the max recorded.
+	 *
+	 * @param percentile The percentile from 0 to 100
+	 *
+	 * @return The value at the percentile or 0 if nothing was recorded
+	 */
+	public long percentile( double percentile ) {
+		return percentiles( snapshot(), new double[] { percentile } )[ 0 ];
+	}
+
+	/**
+	 * Reset the histogram
+	 *
+	 * @return The histogram
+	 */
+	public LatencyHistogram reset() {
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			this.buckets.set( i, 0 );
+		}
+		this.count.reset();
+		this.sum.reset();
+		this.max.reset();
+		return this;
+	}
+
+	/**
+	 * Get a snapshot of the histogram as a struct with the values in milliseconds:
+	 * {@code { count, mean, max, p50, p75, p90, p95, p99, p999 }}
+	 *
+	 * @return The snapshot struct
+	 */
+	public IStruct toStruct() {
+		long[]	counts		= snapshot();
+		long[]	values		= percentiles( counts, PERCENTILES );
+		IStruct	results		= new Struct( Struct.TYPES.LINKED );
+		long	snapshotSum	= 0;
+		for ( long bucketCount : counts ) {
+			snapshotSum += bucketCount;
+		}
+
+		results.put( "count", snapshotSum );
+		results.put( "mean", toMillis( mean() ) );
+		results.put( "max", toMillis( max() ) );
+		for ( int i = 0; i < PERCENTILES.length; i++ ) {
+			results.put( PERCENTILE_KEYS[ i ], toMillis( values[ i ] ) );
+		}
+		return results;
+	}
+
+	/**
+	 * Convert a value in the histogram unit to milliseconds with microsecond precision
+	 *
+	 * @param value The value
+	 *
+	 * @return The milliseconds
+	 */
+	public double toMillis( double value ) {
+		double nanos = value * this.unit.toNanos( 1 );
+		return BigDecimal.valueOf( nanos / 1_000_000d ).setScale( 3, RoundingMode.HALF_UP ).doubleValue();
+	}
+
+	/**
+	 * --------------------------------------------------------------------------
+	 * Private Methods
+	 * --------------------------------------------------------------------------
+	 */
+
+	/**
+	 * Take a snapshot of the bucket counts
+	 */
+	private long[] snapshot() {
+		long[] counts = new long[ BUCKET_COUNT ];
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			counts[ i ] = this.buckets.get( i );
+		}
+		return counts;
+	}
+
+	/**
+	 * Calculate multiple ascending percentiles in one pass over a snapshot
+	 *
+	 * @param counts      The bucket counts snapshot
+	 * @param percentiles The ascending percentiles to calculate
+	 *
+	 * @return The values at the percentiles
+	 */
+	private long[] percentiles( long[] counts, double[] percentiles ) {
+		long[]	results	= new long[ percentiles.length ];
+		long	total	= 0;
+		for ( long bucketCount : counts ) {
+			total += bucketCount;
+		}
+		if ( total == 0 ) {
+			return results;
+		}
+
+		long	maxValue	= max();
+		long	seen		= 0;
+		int		target		= 0;
+		for ( int i = 0; i < BUCKET_COUNT && target < percentiles.length; i++ ) {
+			seen += counts[ i ];
+			while ( target < percentiles.length && seen >= Math.ceil( total * ( percentiles[ target ] / 100d ) ) && seen > 0 ) {
+				results[ target ] = Math.min( bucketUpperBound( i ), maxValue );
+				target++;
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Get the bucket index of a value
+	 *
+	 * @param value The value, must be positive
+	 *
+	 * @return The bucket index
+	 */
+	private static int bucketIndex( long value ) {
+		if ( value < SUB_BUCKETS ) {
+			return ( int ) value;
+		}
+		int	highestBit	= 63 - Long.numberOfLeadingZeros( value );
+		int	shift		= highestBit - SUB_BUCKET_BITS;
+		if ( shift >= MAGNITUDES ) {
+			return BUCKET_COUNT - 1;
+		}
+		int subBucket = ( int ) ( ( value >>> shift ) - SUB_BUCKETS );
+		return SUB_BUCKETS + ( shift * SUB_BUCKETS ) + subBucket;
+	}
+
+	/**
+	 * Get the highest value that falls into a bucket
+	 *
+	 * @param index The bucket index
+	 *
+	 * @return The highest value of the bucket
+	 */
+	private static long bucketUpperBound( int index ) {
+		if ( index < SUB_BUCKETS ) {
+			return index;
+		}
+		int	shift		= ( index - SUB_BUCKETS ) / SUB_BUCKETS;
+		int	subBucket	= ( index - SUB_BUCKETS ) % SUB_BUCKETS;
+		return ( ( long ) ( SUB_BUCKETS + subBucket + 1 ) << shift ) - 1;
+	}
+
+}
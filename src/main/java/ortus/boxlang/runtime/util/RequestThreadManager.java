@@ -27,8 +27,12 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.application.BaseApplicationListener;
 import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.RequestBoxContext;
 import ortus.boxlang.runtime.context.ThreadBoxContext;
+import ortus.boxlang.runtime.dynamic.casters.BooleanCaster;
 import ortus.boxlang.runtime.scopes.IScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.scopes.LocalScope;
@@ -42,6 +46,13 @@ import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 /**
  * I manage the threads for a request. Used by the bx:thread component and thread scopes
  * Every request has a thread manager
+ * <p>
+ * Threads can run as platform threads in the BoxLang thread group or as virtual threads, according to the
+ * {@code virtualThreads} runtime/application setting or the {@code virtual} attribute of each thread.
+ * Both kinds get their own {@link ThreadBoxContext} and see the same shared scopes (thread, variables, request, etc.)
+ * by reference, so visibility works the same way. Thread locals are per thread for virtual threads too.
+ * The differences are that virtual threads ignore priorities and that they can't be force stopped on terminate,
+ * they are interrupted instead.
  */
 public class RequestThreadManager {
 
@@ -114,6 +125,7 @@ public class RequestThreadManager {
 		    Key.output, "",
 		    Key.stackTrace, "",
 		    Key.interrupted, false,
+		    Key.virtual, context.getThread().isVirtual(),
 		    Key.priority, switch ( context.getThread().getPriority() ) {
 			    case Thread.MIN_PRIORITY -> "LOW";
 			    case Thread.NORM_PRIORITY -> "NORMAL";
@@ -264,6 +276,7 @@ public class RequestThreadManager {
 
 	/**
 	 * Starts a thread using the given context, name, priority, task, and attributes of execution.
+	 * The thread will be virtual or not according to the {@code virtualThreads} setting.
 	 *
 	 * @param context    The thread context to run in
 	 * @param name       The name of the thread, if empty or null, a random name is generated
@@ -274,22 +287,47 @@ public class RequestThreadManager {
 	 * @return The thread instance already started
 	 */
 	public Thread startThread( ThreadBoxContext context, Key name, String priority, Runnable task, IStruct attributes ) {
-		// Create a new thread definition
-		java.lang.Thread thread = new java.lang.Thread(
-		    // Use the BoxLang thread group
-		    getThreadGroup(),
-		    // The taks to run asynch
-		    task,
-		    // The internal name of the thread
-		    DEFAULT_THREAD_PREFIX + name.getName()
-		);
+		return startThread( context, name, priority, task, attributes, null );
+	}
 
-		// Set the priority of the thread if it's not the default
-		thread.setPriority( switch ( priority ) {
-			case "high" -> java.lang.Thread.MAX_PRIORITY;
-			case "low" -> java.lang.Thread.MIN_PRIORITY;
-			default -> java.lang.Thread.NORM_PRIORITY;
-		} );
+	/**
+	 * Starts a thread using the given context, name, priority, task, and attributes of execution.
+	 *
+	 * @param context    The thread context to run in
+	 * @param name       The name of the thread, if empty or null, a random name is generated
+	 * @param priority   The priority of the thread, can be "high", "low", or "normal", the default is "normal". Ignored for virtual threads.
+	 * @param task       The task to run in the thread, lambda or runnable
+	 * @param attributes The attributes to pass to the thread's local scope
+	 * @param virtual    Run it as a virtual thread or not, if null the {@code virtualThreads} application/runtime setting is used
+	 *
+	 * @return The thread instance already started
+	 */
+	public Thread startThread( ThreadBoxContext context, Key name, String priority, Runnable task, IStruct attributes, Boolean virtual ) {
+		java.lang.Thread thread;
+
+		if ( useVirtualThreads( context, virtual ) ) {
+			// Virtual threads have no groups and no priorities
+			thread = java.lang.Thread.ofVirtual()
+			    .name( DEFAULT_THREAD_PREFIX + name.getName() )
+			    .unstarted( task );
+		} else {
+			// Create a new thread definition
+			thread = new java.lang.Thread(
+			    // Use the BoxLang thread group
+			    getThreadGroup(),
+			    // The taks to run asynch
+			    task,
+			    // The internal name of the thread
+			    DEFAULT_THREAD_PREFIX + name.getName()
+			);
+
+			// Set the priority of the thread if it's not the default
+			thread.setPriority( switch ( priority ) {
+				case "high" -> java.lang.Thread.MAX_PRIORITY;
+				case "low" -> java.lang.Thread.MIN_PRIORITY;
+				default -> java.lang.Thread.NORM_PRIORITY;
+			} );
+		}
 		// Register the thread in the context
 		context.setThread( thread );
 		// Store the attributes in the local scope of the thread
@@ -303,12 +341,38 @@ public class RequestThreadManager {
 		return thread;
 	}
 
+	/**
+	 * Decide if a thread should run as a virtual thread: the requested value, else the application
+	 * {@code virtualThreads} setting, else the runtime one.
+	 *
+	 * @param context The thread context
+	 * @param virtual The requested value or null to use the settings
+	 *
+	 * @return True if the thread should be virtual
+	 */
+	public static boolean useVirtualThreads( IBoxContext context, Boolean virtual ) {
+		if ( virtual != null ) {
+			return virtual;
+		}
+
+		RequestBoxContext requestContext = context.getParentOfType( RequestBoxContext.class );
+		if ( requestContext != null ) {
+			BaseApplicationListener listener = requestContext.getApplicationListener();
+			if ( listener != null && listener.getSettings().get( Key.virtualThreads ) != null ) {
+				return BooleanCaster.cast( listener.getSettings().get( Key.virtualThreads ) );
+			}
+		}
+
+		return Boolean.TRUE.equals( BoxRuntime.getInstance().getConfiguration().virtualThreads );
+	}
+
 	/**
 	 * This method is used to terminate a thread. It's not foolproof and the JVM
 	 * could still be running the thread after this method is called.
 	 * <p>
 	 * We try to interrupt the thread first, then we wait for x milliseconds for the
 	 * thread to stop. If it doesn't stop, we force kill it. Well at least we try to force it.
+	 * Virtual threads can't be force killed, so they are only interrupted.
 	 *
 	 * @param name The name of the thread
 	 *
@@ -330,20 +394,35 @@ public class RequestThreadManager {
 		try {
 			targetThread.join( DEFAULT_THREAD_WAIT_TIME );
 			// Check if still alive, if so, force kill it
-			if ( targetThread.isAlive() ) {
+			if ( targetThread.isAlive() && !targetThread.isVirtual() ) {
 				targetThread.stop();
 			}
 		} catch ( InterruptedException e ) {
 			// Set it again as good practice
 			targetThread.interrupt();
 			// Force kill the thread
-			targetThread.stop();
+			if ( !targetThread.isVirtual() ) {
+				targetThread.stop();
+			}
 		} finally {
 			// Complete it
 			completeThread( name, "", new InterruptedException( "Thread requested to terminate" ), true );
 		}
 	}
 
+	/**
+	 * Interrupts all the threads of the request that are still running, without waiting for them.
+	 * Used when the request is cancelled, for example when it times out.
+	 */
+	public void interruptThreads() {
+		this.threads.values().forEach( threadData -> {
+			java.lang.Thread targetThread = ( ( ThreadBoxContext ) threadData.get( Key.context ) ).getThread();
+			if ( targetThread != null && targetThread.isAlive() ) {
+				targetThread.interrupt();
+			}
+		} );
+	}
+
 	/**
 	 * Joins all threads in the request thread manager
 	 *
@@ -0,0 +1,644 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.util.conversion;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.application.Session;
+import ortus.boxlang.runtime.cache.BoxCacheEntry;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.runnables.IClassRunnable;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.SessionScope;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.DateTime;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.QueryColumn;
+import ortus.boxlang.runtime.types.QueryColumnType;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxIOException;
+
+/**
+ * A compact binary codec for BoxLang data, used instead of Java serialization by {@link ObjectMarshaller} and the
+ * file system cache store.
+ * <p>
+ * The format starts with a {@link #MAGIC} and {@link #VERSION} header, followed by one tagged value. Integers and lengths
+ * are varints (zig-zag encoded when signed), strings and keys are written once and then referenced by index, queries are
+ * written column by column, and structs, arrays, queries and classes referenced more than once are written once, so
+ * shared and circular references survive a round trip.
+ * <p>
+ * {@link Struct}, {@link Array}, {@link Query}, {@link Key}, {@link DateTime}, numbers, strings, booleans, binary,
+ * BoxLang classes, {@link BoxCacheEntry} and {@link Session}, with its scope, are encoded natively. Anything else,
+ * including other subclasses of those types such as scopes and unmodifiable types, falls back to Java serialization
+ * and must be {@link java.io.Serializable}.
+ */
+public class BoxBinaryCodec {
+
+	/**
+	 * The first bytes of every encoded value. Java serialization streams start with {@code 0xACED}, so both can be told
+	 * apart.
+	 */
+	private static final byte[]		MAGIC				= { 'B', 'X', 'B' };
+
+	/**
+	 * The format version
+	 */
+	public static final int			VERSION				= 1;
+
+	/**
+	 * Strings up to this length are deduplicated
+	 */
+	private static final int		MAX_DEDUP_LENGTH	= 256;
+
+	/**
+	 * Metadata keys a query derives from its data, see {@link Query#getMetaData()}
+	 */
+	private static final Set<Key>	DERIVED_QUERY_META	= Set.of( Key.recordCount, Key.columns, Key.columnList, Key._HASHCODE );
+
+	/**
+	 * Type tags
+	 */
+	private static final int		NULL				= 0;
+	private static final int		TRUE				= 1;
+	private static final int		FALSE				= 2;
+	private static final int		INTEGER				= 3;
+	private static final int		LONG				= 4;
+	private static final int		DOUBLE				= 5;
+	private static final int		FLOAT				= 6;
+	private static final int		BIG_DECIMAL			= 7;
+	private static final int		BIG_INTEGER			= 8;
+	private static final int		STRING				= 9;
+	private static final int		STRING_REF			= 10;
+	private static final int		BINARY				= 11;
+	private static final int		KEY					= 12;
+	private static final int		DATETIME			= 13;
+	private static final int		STRUCT				= 14;
+	private static final int		ARRAY				= 15;
+	private static final int		QUERY				= 16;
+	private static final int		BOX_CLASS			= 17;
+	private static final int		CACHE_ENTRY			= 18;
+	private static final int		REFERENCE			= 19;
+	private static final int		JAVA				= 20;
+	private static final int		SESSION				= 21;
+
+	private BoxBinaryCodec() {
+	}
+
+	/**
+	 * Encodes a value
+	 *
+	 * @param value The value
+	 *
+	 * @return The encoded bytes
+	 */
+	public static byte[] encode( Object value ) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		encode( value, bytes );
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Encodes a value to a stream. The stream is flushed, but not closed.
+	 *
+	 * @param value The value
+	 * @param out   The stream
+	 */
+	public static void encode( Object value, OutputStream out ) {
+		try {
+			DataOutputStream data = new DataOutputStream( out instanceof ByteArrayOutputStream ? out : new BufferedOutputStream( out ) );
+			data.write( MAGIC );
+			data.writeByte( VERSION );
+			new Encoder( data ).write( value );
+			data.flush();
+		} catch ( IOException e ) {
+			throw new BoxIOException( "Failed to encode object: " + e.getMessage(), e );
+		}
+	}
+
+	/**
+	 * Whether the bytes were produced by this codec
+	 *
+	 * @param data The bytes
+	 */
+	public static boolean isEncoded( byte[] data ) {
+		return data != null && data.length > MAGIC.length && Arrays.equals( data, 0, MAGIC.length, MAGIC, 0, MAGIC.length );
+	}
+
+	/**
+	 * Whether a stream starts with a value produced by this codec. The stream is reset to where it was.
+	 *
+	 * @param in A stream that supports mark and reset
+	 *
+	 * @throws IOException If the stream fails
+	 */
+	public static boolean isEncoded( BufferedInputStream in ) throws IOException {
+		in.mark( MAGIC.length );
+		byte[] header = in.readNBytes( MAGIC.length );
+		in.reset();
+		return Arrays.equals( header, MAGIC );
+	}
+
+	/**
+	 * Decodes a value
+	 *
+	 * @param context The context BoxLang classes are loaded in, or null for the runtime context
+	 * @param data    The encoded bytes
+	 *
+	 * @return The value
+	 */
+	public static Object decode( IBoxContext context, byte[] data ) {
+		return decode( context, new ByteArrayInputStream( data ) );
+	}
+
+	/**
+	 * Decodes a value from a stream. The stream is not closed.
+	 *
+	 * @param context The context BoxLang classes are loaded in, or null for the runtime context
+	 * @param in      The stream
+	 *
+	 * @return The value
+	 */
+	public static Object decode( IBoxContext context, InputStream in ) {
+		try {
+			DataInputStream	data	= new DataInputStream( in instanceof ByteArrayInputStream || in instanceof BufferedInputStream ? in : new BufferedInputStream( in ) );
+			byte[]			header	= new byte[ MAGIC.length ];
+			data.readFully( header );
+			if ( !Arrays.equals( header, MAGIC ) ) {
+				throw new StreamCorruptedException( "Not a BoxLang binary stream" );
+			}
+			int version = data.readUnsignedByte();
+			if ( version > VERSION ) {
+				throw new StreamCorruptedException( "Unsupported BoxLang binary format version " + version );
+			}
+			return new Decoder( data, context == null ? BoxRuntime.getInstance().getRuntimeContext() : context ).read();
+		} catch ( IOException e ) {
+			throw new BoxIOException( "Failed to decode object: " + e.getMessage(), e );
+		}
+	}
+
+	/**
+	 * Writes one value graph. Not thread safe.
+	 */
+	private static final class Encoder {
+
+		private final DataOutputStream			out;
+		private final Map<String, Integer>		strings		= new HashMap<>();
+		private final Map<Object, Integer>		references	= new IdentityHashMap<>();
+		private int								stringCount	= 0;
+
+		Encoder( DataOutputStream out ) {
+			this.out = out;
+		}
+
+		void write( Object value ) throws IOException {
+			switch ( value ) {
+				case null -> out.writeByte( NULL );
+				case Boolean bool -> out.writeByte( bool ? TRUE : FALSE );
+				case Integer number -> {
+					out.writeByte( INTEGER );
+					writeSigned( number );
+				}
+				case Long number -> {
+					out.writeByte( LONG );
+					writeSigned( number );
+				}
+				case Double number -> {
+					out.writeByte( DOUBLE );
+					out.writeDouble( number );
+				}
+				case Float number -> {
+					out.writeByte( FLOAT );
+					out.writeFloat( number );
+				}
+				case BigDecimal number -> {
+					out.writeByte( BIG_DECIMAL );
+					writeSigned( number.scale() );
+					writeBytes( number.unscaledValue().toByteArray() );
+				}
+				case BigInteger number -> {
+					out.writeByte( BIG_INTEGER );
+					writeBytes( number.toByteArray() );
+				}
+				case String string -> writeString( string );
+				case byte[] bytes -> {
+					out.writeByte( BINARY );
+					writeBytes( bytes );
+				}
+				case Key key -> {
+					out.writeByte( KEY );
+					writeString( key.getName() );
+				}
+				default -> writeObject( value );
+			}
+		}
+
+		private void writeObject( Object value ) throws IOException {
+			Integer reference = references.get( value );
+			if ( reference != null ) {
+				out.writeByte( REFERENCE );
+				writeUnsigned( reference );
+				return;
+			}
+
+			Class<?> type = value.getClass();
+			if ( type == DateTime.class ) {
+				ZonedDateTime dateTime = ( ( DateTime ) value ).getWrapped();
+				out.writeByte( DATETIME );
+				writeSigned( dateTime.toEpochSecond() );
+				writeUnsigned( dateTime.getNano() );
+				writeString( dateTime.getZone().getId() );
+			} else if ( type == Struct.class ) {
+				references.put( value, references.size() );
+				writeStruct( ( Struct ) value );
+			} else if ( type == Array.class ) {
+				references.put( value, references.size() );
+				Array array = ( Array ) value;
+				out.writeByte( ARRAY );
+				writeUnsigned( array.size() );
+				for ( Object item : array ) {
+					write( item );
+				}
+			} else if ( type == Query.class ) {
+				references.put( value, references.size() );
+				writeQuery( ( Query ) value );
+			} else if ( value instanceof IClassRunnable boxClass ) {
+				references.put( value, references.size() );
+				writeClass( ( BoxClassState ) ObjectMarshaller.serializeClass( boxClass ) );
+			} else if ( type == BoxClassState.class ) {
+				references.put( value, references.size() );
+				writeClass( ( BoxClassState ) value );
+			} else if ( type == BoxCacheEntry.class ) {
+				writeCacheEntry( ( BoxCacheEntry ) value );
+			} else if ( type == Session.class ) {
+				references.put( value, references.size() );
+				writeSession( ( Session ) value );
+			} else {
+				writeJava( value );
+			}
+		}
+
+		private void writeStruct( Struct struct ) throws IOException {
+			out.writeByte( STRUCT );
+			out.writeByte( struct.getType().ordinal() );
+			writeEntries( struct );
+		}
+
+		private void writeEntries( Struct struct ) throws IOException {
+			Map<? extends Object, Object> wrapped = struct.getWrapped();
+			writeUnsigned( wrapped.size() );
+			for ( Map.Entry<? extends Object, Object> entry : wrapped.entrySet() ) {
+				writeString( ( ( Key ) entry.getKey() ).getName() );
+				write( Struct.unWrapNull( entry.getValue() ) );
+			}
+		}
+
+		private void writeQuery( Query query ) throws IOException {
+			QueryColumn[]	columns	= query.getColumns().values().toArray( new QueryColumn[ 0 ] );
+			List<Object[]>	data	= query.getData();
+			int				rows	= query.size();
+			IStruct			meta	= new Struct();
+			query.getMetaData().entrySet().stream()
+			    .filter( entry -> !DERIVED_QUERY_META.contains( entry.getKey() ) )
+			    .forEach( entry -> meta.put( entry.getKey(), entry.getValue() ) );
+
+			out.writeByte( QUERY );
+			write( meta );
+			writeUnsigned( columns.length );
+			for ( QueryColumn column : columns ) {
+				writeString( column.getName().getName() );
+				writeString( column.getType().name() );
+			}
+			writeUnsigned( rows );
+			// Column by column, values of a column are alike and are often repeated strings
+			for ( QueryColumn column : columns ) {
+				int index = column.getIndex();
+				for ( int i = 0; i < rows; i++ ) {
+					write( data.get( i )[ index ] );
+				}
+			}
+		}
+
+		private void writeClass( BoxClassState state ) throws IOException {
+			out.writeByte( BOX_CLASS );
+			writeString( state.classPath.getName() );
+			write( state.variablesScope );
+			write( state.thisScope );
+		}
+
+		private void writeCacheEntry( BoxCacheEntry entry ) throws IOException {
+			out.writeByte( CACHE_ENTRY );
+			writeString( entry.cacheName().getName() );
+			writeSigned( entry.timeout() );
+			writeSigned( entry.lastAccessTimeout() );
+			writeString( entry.key().getName() );
+			write( entry.rawValue() );
+			write( entry.metadata() );
+			writeSigned( entry.hits() );
+			writeInstant( entry.created() );
+			writeInstant( entry.lastAccessed() );
+			writeSigned( entry.weight() );
+		}
+
+		private void writeSession( Session session ) throws IOException {
+			out.writeByte( SESSION );
+			writeString( session.getID().getName() );
+			write( session.getApplicationName() );
+			out.writeBoolean( session.isNew() );
+			// The scope is written as its entries, a shut down session has none
+			SessionScope scope = session.getSessionScope();
+			out.writeBoolean( scope != null );
+			if ( scope != null ) {
+				writeEntries( scope );
+			}
+		}
+
+		private void writeJava( Object value ) throws IOException {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try ( ObjectOutputStream objectStream = new ObjectOutputStream( bytes ) ) {
+				objectStream.writeObject( value );
+			}
+			out.writeByte( JAVA );
+			writeBytes( bytes.toByteArray() );
+		}
+
+		private void writeString( String string ) throws IOException {
+			boolean	dedup	= string.length() <= MAX_DEDUP_LENGTH;
+			Integer	index	= dedup ? strings.get( string ) : null;
+			if ( index != null ) {
+				out.writeByte( STRING_REF );
+				writeUnsigned( index );
+				return;
+			}
+			out.writeByte( STRING );
+			writeBytes( string.getBytes( StandardCharsets.UTF_8 ) );
+			if ( dedup ) {
+				strings.put( string, stringCount );
+			}
+			stringCount++;
+		}
+
+		private void writeInstant( Instant instant ) throws IOException {
+			writeSigned( instant.getEpochSecond() );
+			writeUnsigned( instant.getNano() );
+		}
+
+		private void writeBytes( byte[] bytes ) throws IOException {
+			writeUnsigned( bytes.length );
+			out.write( bytes );
+		}
+
+		private void writeSigned( long value ) throws IOException {
+			writeUnsigned( ( value << 1 ) ^ ( value >> 63 ) );
+		}
+
+		private void writeUnsigned( long value ) throws IOException {
+			while ( ( value & ~0x7FL ) != 0 ) {
+				out.writeByte( ( int ) ( ( value & 0x7F ) | 0x80 ) );
+				value >>>= 7;
+			}
+			out.writeByte( ( int ) value );
+		}
+	}
+
+	/**
+	 * Reads one value graph. Not thread safe.
+	 */
+	private static final class Decoder {
+
+		private final DataInputStream	in;
+		private final IBoxContext		context;
+		private final List<String>		strings		= new ArrayList<>();
+		private final Map<String, Key>	keys		= new HashMap<>();
+		private final List<Object>		references	= new ArrayList<>();
+
+		Decoder( DataInputStream in, IBoxContext context ) {
+			this.in			= in;
+			this.context	= context;
+		}
+
+		Object read() throws IOException {
+			int tag = in.readUnsignedByte();
+			return switch ( tag ) {
+				case NULL -> null;
+				case TRUE -> Boolean.TRUE;
+				case FALSE -> Boolean.FALSE;
+				case INTEGER -> ( int ) readSigned();
+				case LONG -> readSigned();
+				case DOUBLE -> in.readDouble();
+				case FLOAT -> in.readFloat();
+				case BIG_DECIMAL -> {
+					int scale = ( int ) readSigned();
+					yield new BigDecimal( new BigInteger( readBytes() ), scale );
+				}
+				case BIG_INTEGER -> new BigInteger( readBytes() );
+				case STRING, STRING_REF -> readString( tag );
+				case BINARY -> readBytes();
+				case KEY -> readKey();
+				case DATETIME -> {
+					long	seconds	= readSigned();
+					long	nanos	= readUnsigned();
+					yield new DateTime( ZonedDateTime.ofInstant( Instant.ofEpochSecond( seconds, nanos ), ZoneId.of( readString() ) ) );
+				}
+				case STRUCT -> readStruct();
+				case ARRAY -> readArray();
+				case QUERY -> readQuery();
+				case BOX_CLASS -> readClass();
+				case CACHE_ENTRY -> readCacheEntry();
+				case REFERENCE -> references.get( readLength() );
+				case JAVA -> readJava();
+				case SESSION -> readSession();
+				default -> throw new StreamCorruptedException( "Unknown type tag " + tag );
+			};
+		}
+
+		private IStruct readStruct() throws IOException {
+			IStruct struct = new Struct( IStruct.TYPES.values()[ in.readUnsignedByte() ] );
+			references.add( struct );
+			readEntries( struct );
+			return struct;
+		}
+
+		private void readEntries( IStruct struct ) throws IOException {
+			int size = readLength();
+			for ( int i = 0; i < size; i++ ) {
+				Key key = readKey();
+				struct.put( key, read() );
+			}
+		}
+
+		private Array readArray() throws IOException {
+			int		size	= readLength();
+			Array	array	= new Array( size );
+			references.add( array );
+			for ( int i = 0; i < size; i++ ) {
+				array.add( read() );
+			}
+			return array;
+		}
+
+		private Query readQuery() throws IOException {
+			Query query = new Query();
+			references.add( query );
+			IStruct meta = ( IStruct ) read();
+			if ( !meta.isEmpty() ) {
+				query.setMetadata( meta );
+			}
+			int columns = readLength();
+			for ( int i = 0; i < columns; i++ ) {
+				query.addColumn( readKey(), QueryColumnType.valueOf( readString() ) );
+			}
+			int			rows	= readLength();
+			Object[][]	data	= new Object[ rows ][ columns ];
+			for ( int column = 0; column < columns; column++ ) {
+				for ( int row = 0; row < rows; row++ ) {
+					data[ row ][ column ] = read();
+				}
+			}
+			for ( Object[] row : data ) {
+				query.addRow( row );
+			}
+			return query;
+		}
+
+		private IClassRunnable readClass() throws IOException {
+			IClassRunnable boxClass = BoxClassState.newInstance( context, readKey() );
+			references.add( boxClass );
+			IStruct	variablesScope	= ( IStruct ) read();
+			IStruct	thisScope		= ( IStruct ) read();
+			boxClass.getVariablesScope().putAll( variablesScope );
+			boxClass.getThisScope().putAll( thisScope );
+			return boxClass;
+		}
+
+		private BoxCacheEntry readCacheEntry() throws IOException {
+			Key		cacheName			= readKey();
+			long	timeout				= readSigned();
+			long	lastAccessTimeout	= readSigned();
+			Key		key					= readKey();
+			Object	value				= read();
+			IStruct	metadata			= ( IStruct ) read();
+			long	hits				= readSigned();
+			Instant	created				= readInstant();
+			Instant	lastAccessed		= readInstant();
+			long	weight				= readSigned();
+			return new BoxCacheEntry( cacheName, timeout, lastAccessTimeout, key, value, metadata, hits, created, lastAccessed, weight );
+		}
+
+		private Session readSession() throws IOException {
+			Key		id				= readKey();
+			Key		applicationName	= ( Key ) read();
+			Session	session			= Session.restore( id, applicationName, in.readBoolean() );
+			references.add( session );
+			if ( in.readBoolean() ) {
+				readEntries( session.getSessionScope() );
+			}
+			return session;
+		}
+
+		private Object readJava() throws IOException {
+			try ( ObjectInputStream objectStream = new ObjectInputStream( new ByteArrayInputStream( readBytes() ) ) ) {
+				return objectStream.readObject();
+			} catch ( ClassNotFoundException e ) {
+				throw new IOException( "Cannot load the class of a serialized object: " + e.getMessage(), e );
+			}
+		}
+
+		private Key readKey() throws IOException {
+			return keys.computeIfAbsent( readString(), Key::of );
+		}
+
+		private String readString() throws IOException {
+			return readString( in.readUnsignedByte() );
+		}
+
+		private String readString( int tag ) throws IOException {
+			if ( tag == STRING_REF ) {
+				return strings.get( readLength() );
+			}
+			if ( tag != STRING ) {
+				throw new StreamCorruptedException( "Expected a string, found type tag " + tag );
+			}
+			String string = new String( readBytes(), StandardCharsets.UTF_8 );
+			strings.add( string );
+			return string;
+		}
+
+		private Instant readInstant() throws IOException {
+			long seconds = readSigned();
+			return Instant.ofEpochSecond( seconds, readUnsigned() );
+		}
+
+		private byte[] readBytes() throws IOException {
+			return in.readNBytes( readLength() );
+		}
+
+		private int readLength() throws IOException {
+			long length = readUnsigned();
+			if ( length > Integer.MAX_VALUE ) {
+				throw new StreamCorruptedException( "Invalid length " + length );
+			}
+			return ( int ) length;
+		}
+
+		private long readSigned() throws IOException {
+			long value = readUnsigned();
+			return ( value >>> 1 ) ^ - ( value & 1 );
+		}
+
+		private long readUnsigned() throws IOException {
+			long	value	= 0;
+			int		shift	= 0;
+			while ( shift < 64 ) {
+				int b = in.readUnsignedByte();
+				value |= ( long ) ( b & 0x7F ) << shift;
+				if ( ( b & 0x80 ) == 0 ) {
+					return value;
+				}
+				shift += 7;
+			}
+			throw new StreamCorruptedException( "Malformed varint" );
+		}
+	}
+
+}
@@ -114,25 +114,36 @@ public class BoxClassState implements Serializable {
 	}
 
 	/**
-	 * This method is called to return a new instance of Target Class after deserialization
+	 * Creates an instance of a BoxLang class without running its constructor, ready to have its state restored
 	 *
-	 * @return The deserialized class
+	 * @param context   The context to load the class in
+	 * @param classPath The class path
 	 *
-	 * @throws ObjectStreamException
+	 * @return The class instance
 	 */
-	private Object readResolve() throws ObjectStreamException {
-		IBoxContext		context		= BoxRuntime.getInstance().getRuntimeContext();
-		IClassRunnable	boxClass	= ( IClassRunnable ) ClassLocator
+	public static IClassRunnable newInstance( IBoxContext context, Key classPath ) {
+		return ( IClassRunnable ) ClassLocator
 		    .getInstance()
 		    .load(
 		        context,
-		        this.classPath.getName(),
+		        classPath.getName(),
 		        ClassLocator.BX_PREFIX,
 		        true,
 		        context.getCurrentImports()
 		    )
 		    .invokeConstructor( context, Key.noInit )
 		    .unWrapBoxLangClass();
+	}
+
+	/**
+	 * Recreates the class this state was taken from
+	 *
+	 * @param context The context to load the class in
+	 *
+	 * @return The class, with its variables and this scopes restored
+	 */
+	public IClassRunnable restore( IBoxContext context ) {
+		IClassRunnable boxClass = newInstance( context, this.classPath );
 
 		// Restore the state
 		boxClass.getVariablesScope().putAll( this.variablesScope );
@@ -142,4 +153,15 @@ public class BoxClassState implements Serializable {
 		return boxClass;
 	}
 
+	/**
+	 * This method is called to return a new instance of Target Class after deserialization
+	 *
+	 * @return The deserialized class
+	 *
+	 * @throws ObjectStreamException
+	 */
+	private Object readResolve() throws ObjectStreamException {
+		return restore( BoxRuntime.getInstance().getRuntimeContext() );
+	}
+
 }
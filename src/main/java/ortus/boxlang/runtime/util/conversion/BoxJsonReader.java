@@ -0,0 +1,248 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.util.conversion;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import ortus.boxlang.runtime.dynamic.casters.CastAttempt;
+import ortus.boxlang.runtime.dynamic.casters.IntegerCaster;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.QueryColumnType;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+import ortus.boxlang.runtime.types.util.JSONUtil;
+
+/**
+ * A single pass JSON reader that builds BoxLang types straight from the token stream: objects become linked
+ * {@link Struct}s, arrays become {@link Array}s, floating point numbers become {@link java.math.BigDecimal}s and
+ * integers the smallest of {@link Integer}, {@link Long} or {@link java.math.BigInteger}. Object keys are created once
+ * per distinct name and reused for the rest of the document.
+ * <p>
+ * Without strict mapping, objects shaped like a serialized query, with {@code columns} and {@code data} and an optional
+ * {@code rowCount}, are turned into a {@link Query}.
+ * <p>
+ * The reader is not thread safe, create one per document or stream.
+ */
+public class BoxJsonReader {
+
+	/**
+	 * Whether query shaped objects stay structs
+	 */
+	private final boolean			strictMapping;
+
+	/**
+	 * The keys of the object names seen so far. Jackson canonicalizes names, so lookups are cheap.
+	 */
+	private final Map<String, Key>	keys	= new HashMap<>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param strictMapping Whether query shaped objects stay structs
+	 */
+	public BoxJsonReader( boolean strictMapping ) {
+		this.strictMapping = strictMapping;
+	}
+
+	/**
+	 * Parses a JSON document into BoxLang types
+	 *
+	 * @param source        The JSON: a String, byte[], char[], InputStream, Reader, File, Path or URL. Streams and readers
+	 *                      are closed.
+	 * @param strictMapping Whether query shaped objects stay structs
+	 *
+	 * @return The parsed value
+	 */
+	public static Object parse( Object source, boolean strictMapping ) {
+		try ( JsonParser parser = createParser( source ) ) {
+			JsonToken token = parser.nextToken();
+			if ( token == null ) {
+				throw new BoxRuntimeException( "Failed to parse JSON, the source is empty" );
+			}
+			return new BoxJsonReader( strictMapping ).read( parser, token );
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( "Failed to parse JSON: " + e.getMessage(), e );
+		}
+	}
+
+	/**
+	 * Parses a JSON Lines source, or any sequence of JSON values separated by whitespace, handing each value to a
+	 * callback as soon as it is read. Only one value is held in memory at a time.
+	 *
+	 * @param source        The JSON Lines: a String, byte[], char[], InputStream, Reader, File, Path or URL. Streams and
+	 *                      readers are closed.
+	 * @param strictMapping Whether query shaped objects stay structs
+	 * @param onRecord      Receives each value, returns false to stop reading
+	 *
+	 * @return The number of values read
+	 */
+	public static long parseLines( Object source, boolean strictMapping, Predicate<Object> onRecord ) {
+		BoxJsonReader	reader	= new BoxJsonReader( strictMapping );
+		long			records	= 0;
+		try ( JsonParser parser = createParser( source ) ) {
+			JsonToken token;
+			while ( ( token = parser.nextToken() ) != null ) {
+				records++;
+				if ( !onRecord.test( reader.read( parser, token ) ) ) {
+					break;
+				}
+			}
+		} catch ( IOException e ) {
+			throw new BoxRuntimeException( "Failed to parse JSON record " + ( records + 1 ) + ": " + e.getMessage(), e );
+		}
+		return records;
+	}
+
+	/**
+	 * Reads the value that starts at the current token, leaving the parser on its last token
+	 *
+	 * @param parser The parser
+	 * @param token  The current token
+	 *
+	 * @return The value
+	 *
+	 * @throws IOException If the JSON is invalid or the source fails
+	 */
+	public Object read( JsonParser parser, JsonToken token ) throws IOException {
+		return switch ( token ) {
+			case START_OBJECT -> readObject( parser );
+			case START_ARRAY -> readArray( parser );
+			case VALUE_STRING -> parser.getText();
+			case VALUE_NUMBER_INT -> parser.getNumberValue();
+			case VALUE_NUMBER_FLOAT -> parser.getDecimalValue();
+			case VALUE_TRUE -> Boolean.TRUE;
+			case VALUE_FALSE -> Boolean.FALSE;
+			case VALUE_NULL -> null;
+			case VALUE_EMBEDDED_OBJECT -> parser.getEmbeddedObject();
+			default -> throw new BoxRuntimeException( "Unexpected JSON token [" + token + "] at " + parser.currentLocation().offsetDescription() );
+		};
+	}
+
+	private Object readObject( JsonParser parser ) throws IOException {
+		IStruct	struct	= new Struct( IStruct.TYPES.LINKED );
+		String	name;
+		while ( ( name = parser.nextFieldName() ) != null ) {
+			struct.put( this.keys.computeIfAbsent( name, Key::of ), read( parser, parser.nextToken() ) );
+		}
+		if ( !this.strictMapping ) {
+			Query query = toQuery( struct );
+			if ( query != null ) {
+				return query;
+			}
+		}
+		return struct;
+	}
+
+	private Array readArray( JsonParser parser ) throws IOException {
+		Array		array	= new Array();
+		JsonToken	token;
+		while ( ( token = parser.nextToken() ) != JsonToken.END_ARRAY ) {
+			array.add( read( parser, token ) );
+		}
+		return array;
+	}
+
+	/**
+	 * Turns a struct shaped like a serialized query into a query: {@code columns} and {@code data} as an array of row
+	 * arrays, or {@code columns}, {@code rowCount} and {@code data} as a struct of column arrays. Same rules as
+	 * {@link JSONUtil#mapToBLTypes(Object, Boolean)}.
+	 *
+	 * @param struct The struct
+	 *
+	 * @return The query, or null if the struct is not a query
+	 */
+	private static Query toQuery( IStruct struct ) {
+		if ( ( struct.size() != 2 && struct.size() != 3 ) || ! ( struct.get( Key.columns ) instanceof Array columns )
+		    || !struct.containsKey( Key.data ) ) {
+			return null;
+		}
+
+		Query query = new Query();
+		for ( Object column : columns ) {
+			query.addColumn( Key.of( column.toString() ), QueryColumnType.OBJECT );
+		}
+
+		Object data = struct.get( Key.data );
+		if ( data instanceof Array rows ) {
+			for ( Object row : rows ) {
+				if ( ! ( row instanceof Array values ) || values.size() != columns.size() ) {
+					return null;
+				}
+				query.addRow( values.toArray() );
+			}
+			return query;
+		}
+
+		if ( data instanceof IStruct columnData && columnData.size() == columns.size() && struct.containsKey( Key.rowCount ) ) {
+			CastAttempt<Integer> rowCount = IntegerCaster.attempt( struct.get( Key.rowCount ) );
+			if ( !rowCount.wasSuccessful() ) {
+				return null;
+			}
+			for ( Map.Entry<Key, Object> column : columnData.entrySet() ) {
+				if ( !query.hasColumn( column.getKey() ) || ! ( column.getValue() instanceof Array values ) || values.size() != rowCount.get() ) {
+					return null;
+				}
+				query.addColumn( column.getKey(), QueryColumnType.OBJECT, values.toArray() );
+			}
+			return query;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Creates a parser with the features of our JSON builder, comments included
+	 *
+	 * @param source The JSON source
+	 *
+	 * @return The parser
+	 *
+	 * @throws IOException If the source cannot be opened
+	 */
+	private static JsonParser createParser( Object source ) throws IOException {
+		JsonFactory factory = JSONUtil.getJSONBuilder().getStreamingFactory();
+		return switch ( source ) {
+			case String json -> factory.createParser( json );
+			case byte[] bytes -> factory.createParser( bytes );
+			case char[] chars -> factory.createParser( chars );
+			case InputStream stream -> factory.createParser( stream );
+			case Reader reader -> factory.createParser( reader );
+			case File file -> factory.createParser( file );
+			case Path path -> factory.createParser( path.toFile() );
+			case URL url -> factory.createParser( url );
+			case null -> throw new BoxRuntimeException( "Cannot parse JSON from a null source" );
+			default -> throw new BoxRuntimeException( "Cannot parse JSON from a source of type " + source.getClass().getName() );
+		};
+	}
+
+}
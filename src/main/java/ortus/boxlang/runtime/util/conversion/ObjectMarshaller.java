@@ -18,17 +18,13 @@
 package ortus.boxlang.runtime.util.conversion;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 
 import ortus.boxlang.compiler.javaboxpiler.transformer.BoxClassTransformer;
 import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.events.BoxEvent;
-import ortus.boxlang.runtime.loader.ClassLocator;
 import ortus.boxlang.runtime.runnables.IClassRunnable;
-import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.types.exceptions.BoxIOException;
 import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
@@ -36,7 +32,8 @@ import ortus.boxlang.runtime.types.exceptions.BoxValidationException;
 
 /**
  * This class is in charge of marshalling objects to binary formats and
- * vice-versa
+ * vice-versa. Objects are written with the {@link BoxBinaryCodec}, data written
+ * with Java serialization can still be read.
  */
 public class ObjectMarshaller {
 
@@ -67,20 +64,12 @@ public class ObjectMarshaller {
 		    .announce( BoxEvent.BEFORE_OBJECT_MARSHALL_SERIALIZE, Struct.of( "object", target ) );
 
 		// Serialize the object
-		try ( ByteArrayOutputStream bos = new ByteArrayOutputStream();
-		    ObjectOutputStream oos = new ObjectOutputStream( bos ) ) {
-			oos.writeObject( target );
-			oos.flush();
-			// Get the serialized object
-			byte[] result = bos.toByteArray();
-			// Announce the event
-			context.getRuntime()
-			    .getInterceptorService()
-			    .announce( BoxEvent.AFTER_OBJECT_MARSHALL_SERIALIZE, Struct.of( "binary", result ) );
-			return result;
-		} catch ( IOException e ) {
-			throw new BoxIOException( "Failed to serialize object", e );
-		}
+		byte[] result = BoxBinaryCodec.encode( target );
+		// Announce the event
+		context.getRuntime()
+		    .getInterceptorService()
+		    .announce( BoxEvent.AFTER_OBJECT_MARSHALL_SERIALIZE, Struct.of( "binary", result ) );
+		return result;
 	}
 
 	/**
@@ -104,6 +93,16 @@ public class ObjectMarshaller {
 		    .getInterceptorService()
 		    .announce( BoxEvent.BEFORE_OBJECT_MARSHALL_DESERIALIZE, Struct.of( "binary", data ) );
 
+		if ( BoxBinaryCodec.isEncoded( data ) ) {
+			Object result = BoxBinaryCodec.decode( context, data );
+			// Announce the event
+			context.getRuntime()
+			    .getInterceptorService()
+			    .announce( BoxEvent.AFTER_OBJECT_MARSHALL_DESERIALIZE, Struct.of( "object", result ) );
+			return result;
+		}
+
+		// Binary data written by Java serialization, before the BoxLang codec
 		try ( ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream( data );
 		    ObjectInputStream objectInputStream = new ObjectInputStream( byteArrayInputStream ) ) {
 
@@ -113,23 +112,7 @@ public class ObjectMarshaller {
 			// If this is BoxLang class, then load back it's state
 			// According to BoxLang creation rules, the object should be a BoxClassState
 			if ( result instanceof BoxClassState classState ) {
-				IClassRunnable boxClass = ( IClassRunnable ) ClassLocator
-				    .getInstance()
-				    .load(
-				        context,
-				        classState.classPath.getName(),
-				        ClassLocator.BX_PREFIX,
-				        true,
-				        context.getCurrentImports()
-				    )
-				    .invokeConstructor( context, Key.noInit )
-				    .unWrapBoxLangClass();
-
-				// Restore the state
-				boxClass.getVariablesScope().putAll( classState.variablesScope );
-				boxClass.getThisScope().putAll( classState.thisScope );
-				// Restored
-				result = boxClass;
+				result = classState.restore( context );
 			}
 
 			// Announce the event
@@ -0,0 +1,181 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.util.conversion.serializers;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
+
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.QueryColumn;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+/**
+ * This class provides JSON Serialization of a BoxLang Query.
+ * <p>
+ * Rows are emitted straight from the query data, so no row structs, column arrays or intermediate documents are built,
+ * whatever the format. Queries serialize as an array of row objects, unless wrapped in a {@link Formatted} query to
+ * pick another format.
+ */
+public class BoxQuerySerializer implements ValueWriter {
+
+	/**
+	 * The JSON shapes of a query
+	 */
+	public enum Format {
+
+		/**
+		 * {@code { "columns" : [ ... ], "data" : [ [ row values ], ... ] }}
+		 */
+		ROW,
+
+		/**
+		 * {@code { "rowCount" : n, "columns" : [ ... ], "data" : { "column" : [ column values ], ... } }}
+		 */
+		COLUMN,
+
+		/**
+		 * {@code [ { "column" : value, ... }, ... ]}
+		 */
+		STRUCT;
+
+		/**
+		 * Parses the {@code queryFormat} argument of {@code jsonSerialize()}: {@code row} or {@code false}, {@code column}
+		 * or {@code true}, and {@code struct}
+		 *
+		 * @param queryFormat The query format
+		 *
+		 * @return The format
+		 *
+		 * @throws BoxRuntimeException If the format is not valid
+		 */
+		public static Format of( String queryFormat ) {
+			return switch ( queryFormat.toLowerCase() ) {
+				case "row", "false", "no" -> ROW;
+				case "column", "true", "yes" -> COLUMN;
+				case "struct" -> STRUCT;
+				default -> throw new BoxRuntimeException( "Invalid queryFormat: " + queryFormat );
+			};
+		}
+	}
+
+	/**
+	 * A query to serialize in a given format
+	 *
+	 * @param query  The query
+	 * @param format The format
+	 */
+	public record Formatted( Query query, Format format ) {
+	}
+
+	/**
+	 * Custom BoxLang Query Serializer
+	 */
+	@Override
+	public void writeValue( JSONWriter context, JsonGenerator g, Object value ) throws IOException {
+		if ( value instanceof Formatted formatted ) {
+			writeQuery( context, g, formatted.query(), formatted.format() );
+		} else {
+			writeQuery( context, g, ( Query ) value, Format.STRUCT );
+		}
+	}
+
+	@Override
+	public Class<?> valueType() {
+		return Query.class;
+	}
+
+	/**
+	 * Writes a query in a format
+	 *
+	 * @param context The JSON writer, for the cell values
+	 * @param g       The generator
+	 * @param query   The query
+	 * @param format  The format
+	 *
+	 * @throws IOException If the output fails
+	 */
+	private static void writeQuery( JSONWriter context, JsonGenerator g, Query query, Format format ) throws IOException {
+		QueryColumn[]	columns	= query.getColumns().values().toArray( new QueryColumn[ 0 ] );
+		List<Object[]>	data	= query.getData();
+		int				rows	= query.size();
+
+		switch ( format ) {
+			case ROW -> {
+				g.writeStartObject();
+				writeColumnNames( g, columns );
+				g.writeFieldName( "data" );
+				g.writeStartArray();
+				for ( int i = 0; i < rows; i++ ) {
+					Object[] row = data.get( i );
+					g.writeStartArray();
+					for ( QueryColumn column : columns ) {
+						context.writeValue( row[ column.getIndex() ] );
+					}
+					g.writeEndArray();
+				}
+				g.writeEndArray();
+				g.writeEndObject();
+			}
+			case COLUMN -> {
+				g.writeStartObject();
+				g.writeFieldName( "rowCount" );
+				g.writeNumber( rows );
+				writeColumnNames( g, columns );
+				g.writeFieldName( "data" );
+				g.writeStartObject();
+				for ( QueryColumn column : columns ) {
+					g.writeFieldName( column.getName().getName() );
+					g.writeStartArray();
+					for ( int i = 0; i < rows; i++ ) {
+						context.writeValue( data.get( i )[ column.getIndex() ] );
+					}
+					g.writeEndArray();
+				}
+				g.writeEndObject();
+				g.writeEndObject();
+			}
+			case STRUCT -> {
+				g.writeStartArray();
+				for ( int i = 0; i < rows; i++ ) {
+					Object[] row = data.get( i );
+					g.writeStartObject();
+					for ( QueryColumn column : columns ) {
+						g.writeFieldName( column.getName().getName() );
+						context.writeValue( row[ column.getIndex() ] );
+					}
+					g.writeEndObject();
+				}
+				g.writeEndArray();
+			}
+		}
+	}
+
+	private static void writeColumnNames( JsonGenerator g, QueryColumn[] columns ) throws IOException {
+		g.writeFieldName( "columns" );
+		g.writeStartArray();
+		for ( QueryColumn column : columns ) {
+			g.writeString( column.getName().getName() );
+		}
+		g.writeEndArray();
+	}
+
+}
@@ -0,0 +1,140 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ortus.boxlang.runtime.async;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.async.ParallelMapper.ErrorPolicy;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+class ParallelMapperTest {
+
+	ExecutorService executor;
+
+	@BeforeEach
+	public void setupBeforeEach() {
+		executor = Executors.newFixedThreadPool( 8 );
+	}
+
+	@AfterEach
+	public void teardownAfterEach() {
+		executor.shutdownNow();
+	}
+
+	@DisplayName( "It maps in the input order" )
+	@Test
+	void testOrdered() {
+		ParallelMapper			mapper	= new ParallelMapper( executor, 4, true, 0, ErrorPolicy.FAIL_FAST );
+		ParallelMapper.Result	result	= mapper.map( List.of( 30, 1, 20, 5 ), ParallelMapper.of( item -> {
+											sleep( ( Integer ) item );
+											return ( Integer ) item * 2;
+										} ) );
+
+		assertThat( result.results() ).containsExactly( 60, 2, 40, 10 ).inOrder();
+		assertThat( result.errors() ).isEmpty();
+	}
+
+	@DisplayName( "It never runs more than maxConcurrency items at once" )
+	@Test
+	void testMaxConcurrency() {
+		AtomicInteger			running	= new AtomicInteger();
+		AtomicInteger			peak	= new AtomicInteger();
+		ParallelMapper			mapper	= new ParallelMapper( executor, 3, false, 0, ErrorPolicy.FAIL_FAST );
+		ParallelMapper.Result	result	= mapper.map( IntStream.range( 0, 50 ).boxed(), ( item, position ) -> {
+											peak.accumulateAndGet( running.incrementAndGet(), Math::max );
+											sleep( 5 );
+											running.decrementAndGet();
+											return position;
+										} );
+
+		assertThat( result.results() ).hasSize( 50 );
+		assertThat( peak.get() ).isAtMost( 3 );
+	}
+
+	@DisplayName( "It fails fast with the first error" )
+	@Test
+	void testFailFast() {
+		ParallelMapper			mapper	= new ParallelMapper( executor, 2, true, 0, ErrorPolicy.FAIL_FAST );
+		BoxRuntimeException		e		= assertThrows( BoxRuntimeException.class, () -> mapper.map( List.of( 1, 2, 3 ), ParallelMapper.of( item -> {
+											if ( item.equals( 2 ) ) {
+												throw new BoxRuntimeException( "bad item" );
+											}
+											return item;
+										} ) ) );
+
+		assertThat( e.getMessage() ).isEqualTo( "bad item" );
+	}
+
+	@DisplayName( "It can collect or skip the errors" )
+	@Test
+	void testCollectAndSkip() {
+		ParallelMapper.ItemMapper	failOnTwo	= ( item, position ) -> {
+													if ( item.equals( 2 ) ) {
+														throw new BoxRuntimeException( "bad item" );
+													}
+													return item;
+												};
+
+		ParallelMapper.Result		collected	= new ParallelMapper( executor, 2, true, 0, ErrorPolicy.COLLECT ).map( List.of( 1, 2, 3 ), failOnTwo );
+		assertThat( collected.results() ).containsExactly( 1, null, 3 ).inOrder();
+		assertThat( collected.errors() ).hasSize( 1 );
+		assertThat( ( ( IStruct ) collected.errors().get( 0 ) ).get( Key.index ) ).isEqualTo( 2 );
+
+		ParallelMapper.Result skipped = new ParallelMapper( executor, 2, true, 0, ErrorPolicy.SKIP ).map( List.of( 1, 2, 3 ), failOnTwo );
+		assertThat( skipped.results() ).containsExactly( 1, 3 ).inOrder();
+		assertThat( skipped.errors() ).isEmpty();
+	}
+
+	@DisplayName( "It cancels items that exceed their timeout" )
+	@Test
+	void testItemTimeout() {
+		ParallelMapper			mapper	= new ParallelMapper( executor, 2, true, 50, ErrorPolicy.COLLECT );
+		ParallelMapper.Result	result	= mapper.map( new Array( new Object[] { 1, 5000 } ), ParallelMapper.of( item -> {
+											sleep( ( Integer ) item );
+											return item;
+										} ) );
+
+		assertThat( result.results() ).containsExactly( 1, null ).inOrder();
+		assertThat( result.errors() ).hasSize( 1 );
+	}
+
+	private static void sleep( int millis ) {
+		try {
+			Thread.sleep( millis );
+		} catch ( InterruptedException e ) {
+			throw new BoxRuntimeException( "interrupted", e );
+		}
+	}
+
+}
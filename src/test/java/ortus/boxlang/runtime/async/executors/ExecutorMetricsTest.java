@@ -0,0 +1,138 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ortus.boxlang.runtime.async.executors;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.types.IStruct;
+
+class ExecutorMetricsTest {
+
+	List<IStruct>				events;
+	ExecutorMetrics				metrics;
+	InstrumentedExecutorService	executor;
+
+	@BeforeEach
+	public void setupBeforeEach() {
+		events		= new ArrayList<>();
+		metrics		= new ExecutorMetrics( "test", events::add );
+		// One thread and a queue of one, so we can saturate it
+		executor	= new InstrumentedExecutorService(
+		    new ThreadPoolExecutor( 1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>( 1 ) ),
+		    metrics
+		);
+	}
+
+	@AfterEach
+	public void teardownAfterEach() {
+		executor.shutdownNow();
+	}
+
+	@DisplayName( "It records the queue wait and run time of tasks" )
+	@Test
+	void testItRecordsTasks() throws Exception {
+		executor.submit( () -> sleep( 20 ) ).get();
+		// The metrics are recorded once the task returns, after its future completes
+		executor.shutdown();
+		executor.awaitTermination( 1, TimeUnit.SECONDS );
+
+		assertThat( metrics.getSubmittedCount() ).isEqualTo( 1 );
+		assertThat( metrics.getCompletedCount() ).isEqualTo( 1 );
+		assertThat( metrics.getQueueDepth() ).isEqualTo( 0 );
+		assertThat( metrics.queueWait().count() ).isEqualTo( 1 );
+		assertThat( metrics.runTime().max() ).isAtLeast( TimeUnit.MILLISECONDS.toNanos( 20 ) );
+	}
+
+	@DisplayName( "It counts rejections and announces the saturation once" )
+	@Test
+	void testItAnnouncesSaturation() throws Exception {
+		CountDownLatch release = new CountDownLatch( 1 );
+		// One running, one queued
+		executor.execute( () -> await( release ) );
+		executor.execute( () -> await( release ) );
+
+		assertThrows( RejectedExecutionException.class, () -> executor.execute( () -> {
+		} ) );
+		assertThrows( RejectedExecutionException.class, () -> executor.execute( () -> {
+		} ) );
+
+		assertThat( metrics.getRejectedCount() ).isEqualTo( 2 );
+		assertThat( metrics.isSaturated() ).isTrue();
+		assertThat( events ).hasSize( 1 );
+		assertThat( events.get( 0 ).get( "reason" ) ).isEqualTo( "rejected" );
+
+		release.countDown();
+	}
+
+	@DisplayName( "It announces the saturation when tasks wait too long" )
+	@Test
+	void testItAnnouncesQueueWait() throws Exception {
+		metrics.setThresholds( 0, 10 );
+		executor.execute( () -> sleep( 50 ) );
+		executor.submit( () -> "late" ).get();
+
+		assertThat( metrics.getSaturationCount() ).isEqualTo( 1 );
+		assertThat( events.get( 0 ).get( "reason" ) ).isEqualTo( "queueWait" );
+	}
+
+	@DisplayName( "It tracks how late scheduled tasks start" )
+	@Test
+	void testItTracksScheduledTasks() throws Exception {
+		InstrumentedExecutorService scheduled = new InstrumentedExecutorService( new BoxScheduledExecutor( 1 ), metrics );
+		scheduled.schedule( () -> "done", 10, TimeUnit.MILLISECONDS ).get();
+		scheduled.shutdown();
+		scheduled.awaitTermination( 1, TimeUnit.SECONDS );
+
+		assertThat( metrics.getCompletedCount() ).isEqualTo( 1 );
+		assertThat( metrics.queueWait().count() ).isEqualTo( 1 );
+		assertThat( metrics.getQueueWaitMax() ).isLessThan( 1000d );
+	}
+
+	private static Object sleep( long millis ) {
+		try {
+			Thread.sleep( millis );
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+		}
+		return null;
+	}
+
+	private static void await( CountDownLatch latch ) {
+		try {
+			latch.await();
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
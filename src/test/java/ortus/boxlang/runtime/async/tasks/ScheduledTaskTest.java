@@ -19,6 +19,7 @@ package ortus.boxlang.runtime.async.tasks;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 
 import java.time.LocalDateTime;
@@ -41,6 +42,8 @@ import ortus.boxlang.runtime.async.executors.BoxScheduledExecutor;
 import ortus.boxlang.runtime.async.executors.ExecutorRecord;
 import ortus.boxlang.runtime.interop.DynamicObject;
 import ortus.boxlang.runtime.services.AsyncService;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 import ortus.boxlang.runtime.types.util.DateTimeHelper;
 
 class ScheduledTaskTest {
@@ -442,4 +445,83 @@ class ScheduledTaskTest {
 			assertThat( task.isConstrained() ).isTrue();
 		}
 	}
+
+	@Nested
+	class OverlapPolicies {
+
+		@DisplayName( "can parse overlap policies from strings" )
+		@Test
+		void testItCanParseOverlapPolicies() {
+			assertThat( ScheduledTask.OverlapPolicy.fromString( "allow" ) ).isEqualTo( ScheduledTask.OverlapPolicy.ALLOW );
+			assertThat( ScheduledTask.OverlapPolicy.fromString( "SKIP" ) ).isEqualTo( ScheduledTask.OverlapPolicy.SKIP );
+			assertThat( ScheduledTask.OverlapPolicy.fromString( "queueOne" ) ).isEqualTo( ScheduledTask.OverlapPolicy.QUEUE_ONE );
+			assertThat( ScheduledTask.OverlapPolicy.fromString( "queue-one" ) ).isEqualTo( ScheduledTask.OverlapPolicy.QUEUE_ONE );
+			assertThrows( BoxRuntimeException.class, () -> ScheduledTask.OverlapPolicy.fromString( "bogus" ) );
+		}
+
+		@DisplayName( "can register an overlap policy, jitter and virtual threads" )
+		@Test
+		void testItCanRegisterPolicyJitterAndVirtualThreads() {
+			assertThat( task.getOverlapPolicy() ).isNull();
+			assertThat( task.isVirtualThreads() ).isFalse();
+
+			task.withOverlapPolicy( "skip" ).withJitter( 5.0, "seconds" ).onVirtualThreads();
+
+			assertThat( task.getOverlapPolicy() ).isEqualTo( ScheduledTask.OverlapPolicy.SKIP );
+			assertThat( task.getJitter() ).isEqualTo( 5 );
+			assertThat( task.getJitterTimeUnit() ).isEqualTo( TimeUnit.SECONDS );
+			assertThat( task.isVirtualThreads() ).isTrue();
+		}
+
+		@DisplayName( "skips overlapping runs with the skip policy" )
+		@Test
+		void testItSkipsOverlappingRuns() throws InterruptedException {
+			var future = task
+			    .call( () -> sleep( 200 ) )
+			    .every( 20, TimeUnit.MILLISECONDS )
+			    .withOverlapPolicy( ScheduledTask.OverlapPolicy.SKIP )
+			    .start();
+			Thread.sleep( 500 );
+			future.cancel( false );
+
+			TaskStats stats = task.getTaskStats();
+			assertThat( stats.getTotalSkipped() ).isGreaterThan( 0 );
+			assertThat( stats.getTotalQueued() ).isEqualTo( 0 );
+		}
+
+		@DisplayName( "queues at most one overlapping run with the queueOne policy" )
+		@Test
+		void testItQueuesOneOverlappingRun() throws InterruptedException {
+			var future = task
+			    .call( () -> sleep( 200 ) )
+			    .every( 20, TimeUnit.MILLISECONDS )
+			    .withOverlapPolicy( ScheduledTask.OverlapPolicy.QUEUE_ONE )
+			    .start();
+			Thread.sleep( 500 );
+			future.cancel( false );
+
+			TaskStats stats = task.getTaskStats();
+			assertThat( stats.getTotalQueued() ).isGreaterThan( 0 );
+			assertThat( stats.getTotalSkipped() ).isGreaterThan( 0 );
+		}
+
+		@DisplayName( "records run times in the stats struct" )
+		@Test
+		void testItRecordsRunTimes() {
+			task.call( () -> sleep( 10 ) ).run();
+
+			IStruct stats = task.getStats();
+			assertThat( stats.get( "totalRuns" ) ).isEqualTo( 1L );
+			assertThat( stats.get( "totalSkipped" ) ).isEqualTo( 0L );
+			assertThat( stats.get( "runTime" ) ).isInstanceOf( IStruct.class );
+		}
+
+		private static void sleep( long millis ) {
+			try {
+				Thread.sleep( millis );
+			} catch ( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
 }
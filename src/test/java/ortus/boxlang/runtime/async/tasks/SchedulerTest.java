@@ -21,7 +21,6 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertThrows;
 
 import java.time.LocalDateTime;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -199,12 +198,8 @@ class SchedulerTest {
 			assertThat( ( Boolean ) ( ( IStruct ) stats.get( "test1" ) ).get( "neverRun" ) ).isFalse();
 			assertThat( ( Boolean ) ( ( IStruct ) stats.get( "test3" ) ).get( "neverRun" ) ).isTrue();
 
-			assertThat(
-			    ( ( AtomicInteger ) ( ( IStruct ) stats.get( "test1" ) ).get( "totalRuns" ) ).get()
-			).isEqualTo( 1 );
-			assertThat(
-			    ( ( AtomicInteger ) ( ( IStruct ) stats.get( "test3" ) ).get( "totalRuns" ) ).get()
-			).isEqualTo( 0 );
+			assertThat( ( ( IStruct ) stats.get( "test1" ) ).get( "totalRuns" ) ).isEqualTo( 1L );
+			assertThat( ( ( IStruct ) stats.get( "test3" ) ).get( "totalRuns" ) ).isEqualTo( 0L );
 		} finally {
 			// Sleep for 1000 ms to allow the scheduler to run
 			Thread.sleep( 1000 );
@@ -0,0 +1,119 @@
+package ortus.boxlang.runtime.bifs.global.async;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compiler.parser.BoxSourceType;
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+public class AsyncAllTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It returns the results in the order of the tasks" )
+	@Test
+	public void testResultsInOrder() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				result = asyncAll( [
+					() => { sleep( 200 ); return "a"; },
+					() => "b",
+					() => { sleep( 50 ); return "c"; }
+				] );
+		    """,
+		    context,
+		    BoxSourceType.BOXSCRIPT
+		);
+		// @formatter:on
+
+		Array results = variables.getAsArray( result );
+		assertThat( results.size() ).isEqualTo( 3 );
+		assertThat( results.get( 0 ) ).isEqualTo( "a" );
+		assertThat( results.get( 1 ) ).isEqualTo( "b" );
+		assertThat( results.get( 2 ) ).isEqualTo( "c" );
+	}
+
+	@DisplayName( "It returns a struct of results for a struct of tasks" )
+	@Test
+	public void testStructOfTasks() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				result = asyncAll( { user : () => "luis", orders : () => 3 } );
+		    """,
+		    context,
+		    BoxSourceType.BOXSCRIPT
+		);
+		// @formatter:on
+
+		IStruct results = variables.getAsStruct( result );
+		assertThat( results.get( Key.of( "user" ) ) ).isEqualTo( "luis" );
+		assertThat( results.get( Key.of( "orders" ) ) ).isEqualTo( 3 );
+	}
+
+	@DisplayName( "It cancels the running tasks on the first failure" )
+	@Test
+	public void testShutdownOnFailure() {
+		long start = System.currentTimeMillis();
+		// @formatter:off
+		BoxRuntimeException e = assertThrows( BoxRuntimeException.class, () -> instance.executeSource(
+		    """
+				asyncAll( [
+					() => { sleep( 10000 ); return "slow"; },
+					() => { throw( "boom" ); }
+				] );
+		    """,
+		    context,
+		    BoxSourceType.BOXSCRIPT
+		) );
+		// @formatter:on
+
+		assertThat( e.getMessage() ).contains( "boom" );
+		assertThat( System.currentTimeMillis() - start ).isLessThan( 5000L );
+	}
+
+	@DisplayName( "It cancels the running tasks when the timeout expires" )
+	@Test
+	public void testTimeout() {
+		// @formatter:off
+		BoxRuntimeException e = assertThrows( BoxRuntimeException.class, () -> instance.executeSource(
+		    """
+				asyncAll( [ () => { sleep( 10000 ); return "slow"; } ], 100 );
+		    """,
+		    context,
+		    BoxSourceType.BOXSCRIPT
+		) );
+		// @formatter:on
+
+		assertThat( e.getMessage() ).contains( "did not complete within 100 milliseconds" );
+	}
+
+}
@@ -0,0 +1,76 @@
+package ortus.boxlang.runtime.bifs.global.async;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compiler.parser.BoxSourceType;
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+public class AsyncAnyTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It returns the first successful result and cancels the rest" )
+	@Test
+	public void testFirstSuccess() {
+		long start = System.currentTimeMillis();
+		// @formatter:off
+		instance.executeSource(
+		    """
+				result = asyncAny( [
+					() => { sleep( 10000 ); return "slow"; },
+					() => { throw( "boom" ); },
+					() => { sleep( 100 ); return "fast"; }
+				] );
+		    """,
+		    context,
+		    BoxSourceType.BOXSCRIPT
+		);
+		// @formatter:on
+
+		assertThat( variables.get( result ) ).isEqualTo( "fast" );
+		assertThat( System.currentTimeMillis() - start ).isLessThan( 5000L );
+	}
+
+	@DisplayName( "It throws if all the tasks fail" )
+	@Test
+	public void testAllFail() {
+		// @formatter:off
+		BoxRuntimeException e = assertThrows( BoxRuntimeException.class, () -> instance.executeSource(
+		    """
+				asyncAny( [ () => { throw( "boom" ); }, () => { throw( "bang" ); } ] );
+		    """,
+		    context,
+		    BoxSourceType.BOXSCRIPT
+		) );
+		// @formatter:on
+
+		assertThat( e.getMessage() ).contains( "completed successfully" );
+	}
+
+}
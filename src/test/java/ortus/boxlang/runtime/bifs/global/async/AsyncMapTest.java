@@ -0,0 +1,99 @@
+package ortus.boxlang.runtime.bifs.global.async;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compiler.parser.BoxSourceType;
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+
+public class AsyncMapTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It can map an array in parallel keeping the order" )
+	@Test
+	public void testMapArray() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				result = asyncMap( [ 1, 2, 3, 4, 5 ], ( item ) => item * 10, maxConcurrency = 2 );
+		    """,
+		    context,
+		    BoxSourceType.BOXSCRIPT
+		);
+		// @formatter:on
+
+		Array results = variables.getAsArray( result );
+		assertThat( results.size() ).isEqualTo( 5 );
+		assertThat( results.get( 0 ) ).isEqualTo( 10 );
+		assertThat( results.get( 4 ) ).isEqualTo( 50 );
+	}
+
+	@DisplayName( "It can map the rows of a query" )
+	@Test
+	public void testMapQuery() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				q = queryNew( "name", "varchar", [ [ "luis" ], [ "brad" ] ] );
+				result = asyncMap( q, ( row ) => row.name.ucase() );
+		    """,
+		    context,
+		    BoxSourceType.BOXSCRIPT
+		);
+		// @formatter:on
+
+		Array results = variables.getAsArray( result );
+		assertThat( results.get( 0 ) ).isEqualTo( "LUIS" );
+		assertThat( results.get( 1 ) ).isEqualTo( "BRAD" );
+	}
+
+	@DisplayName( "It can collect the errors" )
+	@Test
+	public void testCollectErrors() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				result = asyncMap( [ 1, 2, 3 ], ( item ) => {
+					if ( item == 2 ) {
+						throw( "bad item" );
+					}
+					return item;
+				}, errorPolicy = "collect" );
+		    """,
+		    context,
+		    BoxSourceType.BOXSCRIPT
+		);
+		// @formatter:on
+
+		IStruct results = variables.getAsStruct( result );
+		assertThat( results.getAsArray( Key.results ).size() ).isEqualTo( 3 );
+		assertThat( results.getAsArray( Key.errors ).size() ).isEqualTo( 1 );
+	}
+
+}
@@ -63,4 +63,25 @@ public class ThreadNewTest {
 		assertThat( variables.get( result ) ).isEqualTo( "done" );
 	}
 
+	@DisplayName( "It can start a virtual thread using the threadNew() bif" )
+	@Test
+	public void testCanStartVirtualThread() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				myThread = threadNew( () => {
+					result = "done";
+				}, {}, "virtualThread", "normal", true );
+				threadJoin( "virtualThread" );
+				isVirtual = bxthread.virtualThread.virtual;
+		    """,
+		    context,
+		    BoxSourceType.CFSCRIPT
+		);
+		// @formatter:on
+
+		assertThat( variables.get( result ) ).isEqualTo( "done" );
+		assertThat( variables.get( Key.of( "isVirtual" ) ) ).isEqualTo( true );
+	}
+
 }
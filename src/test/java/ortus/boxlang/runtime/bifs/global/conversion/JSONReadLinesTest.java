@@ -0,0 +1,104 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.conversion;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+
+public class JSONReadLinesTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@TempDir
+	Path				tempDir;
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@AfterAll
+	public static void teardown() {
+
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It hands each JSON Lines record to the callback" )
+	@Test
+	public void testCanReadLines() throws IOException {
+		Path file = tempDir.resolve( "events.jsonl" );
+		Files.writeString( file, """
+		    { "id" : 1, "event" : "created" }
+		    { "id" : 2, "event" : "updated" }
+		    { "id" : 3, "event" : "deleted" }
+		    """ );
+		variables.put( Key.of( "file" ), file.toString() );
+
+		instance.executeSource( """
+		    events = [];
+		    result = jsonReadLines( file, ( record, number ) => events.append( record.event & number ) );
+		    """, context );
+
+		assertThat( variables.get( result ) ).isEqualTo( 3L );
+		assertThat( variables.getAsArray( Key.of( "events" ) ) ).containsExactly( "created1", "updated2", "deleted3" ).inOrder();
+	}
+
+	@DisplayName( "It stops reading when the callback returns false" )
+	@Test
+	public void testCanStopReading() throws IOException {
+		Path file = tempDir.resolve( "events.jsonl" );
+		Files.writeString( file, """
+		    { "id" : 1 }
+		    { "id" : 2 }
+		    { "id" : 3 }
+		    """ );
+		variables.put( Key.of( "file" ), file.toString() );
+
+		instance.executeSource( """
+		    result = jsonReadLines( file, ( record ) => record.id < 2 );
+		    """, context );
+
+		assertThat( variables.get( result ) ).isEqualTo( 2L );
+	}
+
+}
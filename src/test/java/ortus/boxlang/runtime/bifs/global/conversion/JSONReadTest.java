@@ -0,0 +1,115 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.conversion;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Query;
+
+public class JSONReadTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@TempDir
+	Path				tempDir;
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@AfterAll
+	public static void teardown() {
+
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It can read a JSON file into BoxLang types" )
+	@Test
+	public void testCanReadFile() throws IOException {
+		Path file = tempDir.resolve( "data.json" );
+		Files.writeString( file, """
+		    {
+		    	// comments are allowed
+		    	"name" : "boxlang",
+		    	"version" : 1,
+		    	"ratio" : 0.5,
+		    	"tags" : [ "jvm", "dynamic" ],
+		    	"nested" : { "enabled" : true, "nothing" : null }
+		    }
+		    """ );
+		variables.put( Key.of( "file" ), file.toString() );
+
+		instance.executeSource( "result = jsonRead( file )", context );
+
+		IStruct data = variables.getAsStruct( result );
+		assertThat( data.get( "name" ) ).isEqualTo( "boxlang" );
+		assertThat( data.get( "version" ) ).isEqualTo( 1 );
+		assertThat( data.get( "ratio" ).toString() ).isEqualTo( "0.5" );
+		assertThat( data.get( "tags" ) ).isInstanceOf( Array.class );
+		assertThat( data.getAsStruct( Key.of( "nested" ) ).get( "enabled" ) ).isEqualTo( true );
+		assertThat( data.getAsStruct( Key.of( "nested" ) ).containsKey( Key.of( "nothing" ) ) ).isTrue();
+	}
+
+	@DisplayName( "It can read a serialized query when not strict" )
+	@Test
+	public void testCanReadQuery() throws IOException {
+		Path file = tempDir.resolve( "query.json" );
+		Files.writeString( file, """
+		    { "columns" : [ "id", "name" ], "data" : [ [ 1, "brad" ], [ 2, "luis" ] ] }
+		    """ );
+		variables.put( Key.of( "file" ), file.toString() );
+
+		instance.executeSource( """
+		    strict = jsonRead( file );
+		    result = jsonRead( file, false );
+		    """, context );
+
+		assertThat( variables.get( Key.of( "strict" ) ) ).isInstanceOf( IStruct.class );
+		assertThat( variables.get( result ) ).isInstanceOf( Query.class );
+		assertThat( variables.getAsQuery( result ).size() ).isEqualTo( 2 );
+	}
+
+}
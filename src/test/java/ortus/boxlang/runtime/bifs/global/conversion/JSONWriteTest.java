@@ -0,0 +1,97 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.conversion;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+
+public class JSONWriteTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@TempDir
+	Path				tempDir;
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@AfterAll
+	public static void teardown() {
+
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It can write a query to a file like jsonSerialize" )
+	@Test
+	public void testCanWriteQueryToFile() throws IOException {
+		Path target = tempDir.resolve( "nested/query.json" );
+		variables.put( Key.of( "target" ), target.toString() );
+		// @formatter:off
+		instance.executeSource(
+		    """
+		        qry = queryNew( "col1,col2", "numeric,varchar", [ [ 1, "brad" ], [ 2, "wood" ] ] );
+		        jsonWrite( qry, target, "column", "utf-8", true );
+		        result = jsonSerialize( qry, "column" );
+		    """,
+		    context );
+		// @formatter:on
+		assertThat( Files.readString( target, StandardCharsets.UTF_8 ) ).isEqualTo( variables.getAsString( result ) );
+	}
+
+	@DisplayName( "It can write a struct to the output buffer" )
+	@Test
+	public void testCanWriteToBuffer() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+		        jsonWrite( [ "name" : "brad", "rows" : queryNew( "id", "numeric", [ [ 1 ], [ 2 ] ] ) ] );
+		    """,
+		    context );
+		// @formatter:on
+		assertThat( context.getBuffer().toString().replaceAll( "\\s", "" ) ).isEqualTo( "{\"name\":\"brad\",\"rows\":[{\"id\":1},{\"id\":2}]}" );
+	}
+
+}
@@ -0,0 +1,169 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ortus.boxlang.runtime.bifs.global.io;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compiler.parser.BoxSourceType;
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.util.FileSystemUtil;
+
+public class FileReadChunksTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result			= new Key( "result" );
+	static String		testTextFile	= "src/test/resources/tmp/fileReadChunksTest/text.txt";
+	static String		testLoopFile	= "src/test/resources/tmp/fileReadChunksTest/lines.txt";
+	static String		tmpDirectory	= "src/test/resources/tmp/fileReadChunksTest";
+
+	@BeforeAll
+	public static void setUp() throws IOException {
+		instance = BoxRuntime.getInstance( true );
+		// The euro sign is three bytes, so it straddles the first two chunks of four bytes
+		FileSystemUtil.write( testTextFile, "abc€defghij".getBytes( StandardCharsets.UTF_8 ), true );
+		FileSystemUtil.write( testLoopFile, "one\r\ntwo\nthree".getBytes( StandardCharsets.UTF_8 ), true );
+	}
+
+	@AfterAll
+	public static void teardown() throws IOException {
+		if ( FileSystemUtil.exists( tmpDirectory ) ) {
+			FileSystemUtil.deleteDirectory( tmpDirectory, true );
+		}
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It reads a text file in chunks" )
+	@Test
+	public void testReadChunks() {
+		variables.put( Key.of( "testFile" ), Path.of( testTextFile ).toAbsolutePath().toString() );
+		instance.executeSource(
+		    """
+		    chunks = [];
+		    result = fileReadChunks( testFile, 4, ( chunk, chunkNumber ) => chunks.append( chunk ) );
+		    """,
+		    context );
+		Array chunks = variables.getAsArray( Key.of( "chunks" ) );
+		assertThat( variables.getAsLong( result ) ).isEqualTo( 4 );
+		assertThat( chunks.size() ).isEqualTo( 4 );
+		assertThat( chunks.get( 0 ) ).isEqualTo( "abc" );
+		assertThat( chunks.get( 1 ) ).isEqualTo( "€d" );
+		assertThat( String.join( "", chunks.stream().map( String.class::cast ).toList() ) ).isEqualTo( "abc€defghij" );
+	}
+
+	@DisplayName( "It reads a file in chunks of the default size" )
+	@Test
+	public void testDefaultChunkSize() {
+		variables.put( Key.of( "testFile" ), Path.of( testTextFile ).toAbsolutePath().toString() );
+		instance.executeSource(
+		    """
+		    chunks = [];
+		    result = fileReadChunks( filepath = testFile, callback = ( chunk, chunkNumber ) => chunks.append( chunk ) );
+		    """,
+		    context );
+		assertThat( variables.getAsLong( result ) ).isEqualTo( 1 );
+		assertThat( variables.getAsArray( Key.of( "chunks" ) ).get( 0 ) ).isEqualTo( "abc€defghij" );
+	}
+
+	@DisplayName( "It reads memory mapped files in the same chunks" )
+	@Test
+	public void testMappedChunks() {
+		Path			path	= Path.of( testTextFile );
+		List<Object>	read	= new ArrayList<>();
+		List<Object>	mapped	= new ArrayList<>();
+		List<Object>	binary	= new ArrayList<>();
+		FileSystemUtil.readChunks( path, 4, StandardCharsets.UTF_8, read::add );
+		// A threshold of zero maps every file
+		assertThat( FileSystemUtil.readChunks( path, 4, StandardCharsets.UTF_8, mapped::add, 0 ) ).isEqualTo( 4 );
+		assertThat( mapped ).containsExactlyElementsIn( read ).inOrder();
+
+		FileSystemUtil.readChunks( path, 4, null, binary::add, 0 );
+		assertThat( binary ).hasSize( 4 );
+		assertThat( ( byte[] ) binary.get( 3 ) ).isEqualTo( "j".getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	@DisplayName( "It decodes characters split across several chunks" )
+	@Test
+	public void testCharacterSplitAcrossChunks() {
+		Path			path	= Path.of( testTextFile );
+		List<Object>	read	= new ArrayList<>();
+		List<Object>	mapped	= new ArrayList<>();
+		// The euro sign is three bytes, with one byte chunks it spans three of them
+		FileSystemUtil.readChunks( path, 1, StandardCharsets.UTF_8, read::add );
+		FileSystemUtil.readChunks( path, 1, StandardCharsets.UTF_8, mapped::add, 0 );
+
+		assertThat( String.join( "", read.stream().map( String.class::cast ).toList() ) ).isEqualTo( "abc€defghij" );
+		assertThat( read.get( 5 ) ).isEqualTo( "€" );
+		assertThat( mapped ).containsExactlyElementsIn( read ).inOrder();
+	}
+
+	@DisplayName( "It stops reading when the callback returns false" )
+	@Test
+	public void testStopReading() {
+		variables.put( Key.of( "testFile" ), Path.of( testTextFile ).toAbsolutePath().toString() );
+		instance.executeSource(
+		    """
+		    numbers = [];
+		    result = fileReadChunks( testFile, 4, ( chunk, chunkNumber ) => {
+		        numbers.append( chunkNumber );
+		        return chunkNumber < 2;
+		    } );
+		    """,
+		    context );
+		assertThat( variables.getAsLong( result ) ).isEqualTo( 2 );
+		assertThat( variables.getAsArray( Key.of( "numbers" ) ).size() ).isEqualTo( 2 );
+	}
+
+	@DisplayName( "It loops over the lines of a file" )
+	@Test
+	public void testLoopFile() {
+		variables.put( Key.of( "testFile" ), Path.of( testLoopFile ).toAbsolutePath().toString() );
+		instance.executeSource(
+		    """
+		    <bx:set lines = []><bx:loop file="#testFile#" index="line"><bx:set lines.append( line )></bx:loop>
+		    """,
+		    context, BoxSourceType.BOXTEMPLATE );
+		assertThat( variables.getAsArray( Key.of( "lines" ) ).toArray() ).asList().containsExactly( "one", "two", "three" ).inOrder();
+	}
+
+}
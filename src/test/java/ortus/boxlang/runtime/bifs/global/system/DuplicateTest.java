@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -51,6 +52,7 @@ import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Query;
 import ortus.boxlang.runtime.types.QueryColumn;
 import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.util.DuplicationUtil;
 
 public class DuplicateTest {
 
@@ -162,6 +164,132 @@ public class DuplicateTest {
 		assertEquals( StructCaster.cast( result.getAsArray( Key.of( "c" ) ).get( 0 ) ).containsKey( "e" ), false );
 	}
 
+	@DisplayName( "It keeps a deep duplicate apart from values reached through references taken earlier" )
+	@Test
+	public void testDuplicateStructCopyOnWrite() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				ref = { settings : { level : 1, tags : [ "a" ] }, name : "app" };
+				settings = ref.settings;
+				result = duplicate( ref );
+				copy = duplicate( result );
+				// mutate the original through a reference taken before the duplicate
+				settings.level = 2;
+				settings.tags.append( "b" );
+				// mutate the duplicate
+				result.settings.tags.append( "c" );
+				result.name = "copy";
+			""",
+		    context
+		);
+		// @formatter:on
+		IStruct	ref		= StructCaster.cast( variables.get( refKey ) );
+		IStruct	result	= StructCaster.cast( variables.get( resultKey ) );
+		IStruct	copy	= StructCaster.cast( variables.get( Key.of( "copy" ) ) );
+		assertEquals( 2, ref.getAsStruct( Key.of( "settings" ) ).getAsInteger( Key.of( "level" ) ) );
+		assertEquals( Array.of( "a", "b" ), ref.getAsStruct( Key.of( "settings" ) ).getAsArray( Key.of( "tags" ) ) );
+		assertEquals( "app", ref.get( Key.of( "name" ) ) );
+		assertEquals( 1, result.getAsStruct( Key.of( "settings" ) ).getAsInteger( Key.of( "level" ) ) );
+		assertEquals( Array.of( "a", "c" ), result.getAsStruct( Key.of( "settings" ) ).getAsArray( Key.of( "tags" ) ) );
+		assertEquals( "copy", result.get( Key.of( "name" ) ) );
+		assertEquals( Array.of( "a" ), copy.getAsStruct( Key.of( "settings" ) ).getAsArray( Key.of( "tags" ) ) );
+		assertEquals( "app", copy.get( Key.of( "name" ) ) );
+	}
+
+	@DisplayName( "It deep duplicates shared and circular references" )
+	@Test
+	public void testDuplicateStructReferences() {
+		IStruct	ref		= new Struct();
+		Array	shared	= Array.of( 1, 2 );
+		ref.put( "self", ref );
+		ref.put( "first", shared );
+		ref.put( "second", shared );
+
+		IStruct result = DuplicationUtil.duplicateStruct( ref, true );
+		assertTrue( result.get( Key.of( "self" ) ) == result );
+		assertTrue( result.get( Key.of( "first" ) ) == result.get( Key.of( "second" ) ) );
+		assertTrue( result.get( Key.of( "first" ) ) != shared );
+
+		result.getAsArray( Key.of( "first" ) ).add( 3 );
+		assertEquals( 2, shared.size() );
+		assertEquals( 3, result.getAsArray( Key.of( "second" ) ).size() );
+	}
+
+	@DisplayName( "It shares nested values in a shallow duplicate" )
+	@Test
+	public void testDuplicateStructShallow() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+				ref = { nested : { a : 1 }, b : 2 };
+				result = structCopy( ref );
+				result.nested.a = 10;
+				result.b = 20;
+				ref.c = 30;
+			""",
+		    context
+		);
+		// @formatter:on
+		IStruct	ref		= StructCaster.cast( variables.get( refKey ) );
+		IStruct	result	= StructCaster.cast( variables.get( resultKey ) );
+		assertEquals( 10, ref.getAsStruct( Key.of( "nested" ) ).getAsInteger( Key.of( "a" ) ) );
+		assertEquals( 2, ref.getAsInteger( Key.of( "b" ) ) );
+		assertEquals( 20, result.getAsInteger( Key.of( "b" ) ) );
+		assertTrue( !result.containsKey( Key.of( "c" ) ) );
+	}
+
+	@DisplayName( "It writes through the views of a duplicate without touching its source" )
+	@Test
+	public void testDuplicateViews() {
+		Struct	ref		= new Struct();
+		Array	refList	= Array.of( 1, 2, 3 );
+		ref.put( "a", 1 );
+		ref.put( "b", 2 );
+
+		Struct result = ref.duplicate( false );
+		result.keySet().remove( Key.of( "a" ) );
+		result.getWrapped().remove( Key.of( "b" ) );
+		assertEquals( 2, ref.size() );
+		assertTrue( ref.containsKey( Key.of( "a" ) ) && ref.containsKey( Key.of( "b" ) ) );
+		assertTrue( result.isEmpty() );
+
+		Array				copy		= refList.duplicate( false );
+		Iterator<Object>	iterator	= copy.iterator();
+		iterator.next();
+		iterator.remove();
+		copy.toList().set( 0, 20 );
+		copy.subList( 1, 2 ).clear();
+		assertEquals( Array.of( 1, 2, 3 ), refList );
+		assertEquals( Array.of( 20 ), copy );
+	}
+
+	@DisplayName( "It keeps writes made while duplicating out of the duplicate" )
+	@Test
+	public void testDuplicateConcurrentWrites() throws InterruptedException {
+		Struct	ref		= new Struct();
+		Array	refList	= new Array();
+		Thread	writer	= new Thread( () -> {
+							for ( int i = 0; i < 20000; i++ ) {
+								ref.put( Key.of( "key" + i ), i );
+								refList.add( i );
+							}
+						} );
+		writer.start();
+		while ( writer.isAlive() ) {
+			Struct	result	= ref.duplicate( false );
+			Array	copy	= refList.duplicate( false );
+			int		size	= result.size();
+			int		length	= copy.size();
+			Thread.onSpinWait();
+			assertEquals( size, result.size() );
+			assertEquals( length, copy.size() );
+		}
+		writer.join();
+		assertEquals( 20000, ref.size() );
+		assertEquals( 20000, refList.size() );
+	}
+
 	@DisplayName( "It tests the BIF Duplicate can duplicate a struct containing a closure" )
 	@Test
 	public void testDuplicateStructWithClosure() {
@@ -0,0 +1,157 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.bifs.global.system;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getAllServeEvents;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.IScope;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
+
+@WireMockTest
+public class HttpMultiTest {
+
+	static BoxRuntime	instance;
+	IBoxContext			context;
+	IScope				variables;
+	static Key			result	= new Key( "result" );
+
+	@BeforeAll
+	public static void setUp() {
+		instance = BoxRuntime.getInstance( true );
+	}
+
+	@BeforeEach
+	public void setupEach() {
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+		variables	= context.getScopeNearby( VariablesScope.name );
+	}
+
+	@DisplayName( "It returns the results in the input order" )
+	@Test
+	public void testResultsInInputOrder( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/slow" ).willReturn( ok( "slow" ).withFixedDelay( 300 ) ) );
+		stubFor( get( "/fast" ).willReturn( ok( "fast" ) ) );
+
+		instance.executeSource( String.format( """
+		    result = httpMulti( [
+		        { url : "%1$s/slow" },
+		        { url : "%1$s/fast" },
+		        { url : "%1$s/fast", headers : { "X-Test" : "yes" } }
+		    ] );
+		    """, wmRuntimeInfo.getHttpBaseUrl() ), context );
+
+		Array results = variables.getAsArray( result );
+		assertThat( results.size() ).isEqualTo( 3 );
+		assertThat( ( ( IStruct ) results.get( 0 ) ).get( Key.fileContent ) ).isEqualTo( "slow" );
+		assertThat( ( ( IStruct ) results.get( 1 ) ).get( Key.fileContent ) ).isEqualTo( "fast" );
+		assertThat( ( ( IStruct ) results.get( 2 ) ).get( Key.statusCode ) ).isEqualTo( 200 );
+	}
+
+	@DisplayName( "It enforces the global deadline" )
+	@Test
+	public void testGlobalDeadline( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/hang" ).willReturn( ok( "late" ).withFixedDelay( 5000 ) ) );
+		stubFor( get( "/fast" ).willReturn( ok( "fast" ) ) );
+
+		long start = System.currentTimeMillis();
+		instance.executeSource( String.format( """
+		    result = httpAll( [ { url : "%1$s/hang" }, { url : "%1$s/fast" } ], timeout = 500 );
+		    """, wmRuntimeInfo.getHttpBaseUrl() ), context );
+
+		assertThat( System.currentTimeMillis() - start ).isLessThan( 4000L );
+		Array results = variables.getAsArray( result );
+		assertThat( ( ( IStruct ) results.get( 0 ) ).get( Key.statusCode ) ).isEqualTo( 408 );
+		assertThat( ( ( IStruct ) results.get( 1 ) ).get( Key.fileContent ) ).isEqualTo( "fast" );
+	}
+
+	@DisplayName( "It honors the max concurrency" )
+	@Test
+	public void testMaxConcurrency( WireMockRuntimeInfo wmRuntimeInfo ) {
+		int delay = 300;
+		stubFor( get( "/item" ).willReturn( ok( "item" ).withFixedDelay( delay ) ) );
+
+		long start = System.currentTimeMillis();
+		instance.executeSource( String.format( """
+		    requests = [];
+		    for ( i = 1; i <= 6; i++ ) {
+		        requests.append( { url : "%s/item" } );
+		    }
+		    result = httpMulti( requests, maxConcurrency = 2 );
+		    """, wmRuntimeInfo.getHttpBaseUrl() ), context );
+		long elapsed = System.currentTimeMillis() - start;
+
+		Array results = variables.getAsArray( result );
+		assertThat( results.size() ).isEqualTo( 6 );
+		results.forEach( item -> assertThat( ( ( IStruct ) item ).get( Key.fileContent ) ).isEqualTo( "item" ) );
+
+		// Six requests two at a time take at least three rounds
+		assertThat( elapsed ).isAtLeast( 3L * delay );
+
+		// No request was received while two others were still being served. The margin absorbs the clock resolution.
+		List<Long> received = getAllServeEvents().stream()
+		    .map( event -> event.getRequest().getLoggedDate().getTime() )
+		    .sorted()
+		    .toList();
+		assertThat( received ).hasSize( 6 );
+		for ( int i = 2; i < received.size(); i++ ) {
+			assertThat( received.get( i ) - received.get( i - 2 ) ).isAtLeast( delay - 50L );
+		}
+	}
+
+	@DisplayName( "It can fail fast on the first failed request" )
+	@Test
+	public void testFailFast( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/broken" ).willReturn( aResponse().withStatus( 500 ) ) );
+		stubFor( get( "/fast" ).willReturn( ok( "fast" ) ) );
+
+		BoxRuntimeException e = assertThrows( BoxRuntimeException.class, () -> instance.executeSource( String.format( """
+		    result = httpMulti( [ { url : "%1$s/fast" }, { url : "%1$s/broken" } ], failFast = true );
+		    """, wmRuntimeInfo.getHttpBaseUrl() ), context ) );
+		assertThat( e.getMessage() ).contains( "500" );
+
+		instance.executeSource( String.format( """
+		    result = httpMulti( [ { url : "%1$s/fast" }, { url : "%1$s/broken" } ] );
+		    """, wmRuntimeInfo.getHttpBaseUrl() ), context );
+		Array results = variables.getAsArray( result );
+		assertThat( ( ( IStruct ) results.get( 1 ) ).get( Key.statusCode ) ).isEqualTo( 500 );
+	}
+
+}
@@ -35,6 +35,7 @@ import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
 import ortus.boxlang.runtime.scopes.IScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.exceptions.LockException;
 
 public class LockTest {
@@ -266,4 +267,37 @@ public class LockTest {
 		assertThat( variables.get( result ) ).isEqualTo( "inthreadafterlock" );
 	}
 
+	@DisplayName( "It can use a fractional timeout" )
+	@Test
+	public void testFractionalTimeout() {
+		instance.executeSource(
+		    """
+		    lock name="myFractionalLock" timeout=0.5 {
+		    	result = "bar";
+		    }
+		    """,
+		    context );
+		assertThat( variables.get( result ) ).isEqualTo( "bar" );
+	}
+
+	@DisplayName( "It can get lock stats" )
+	@Test
+	public void testLockStats() {
+		instance.executeSource(
+		    """
+		    lock name="myStatsLock" timeout=1 {
+		    	result = "bar";
+		    }
+		    stats = lockStats( "MYSTATSLOCK" );
+		    all = lockStats();
+		    missing = lockStats( "notALock" );
+		    """,
+		    context );
+		IStruct stats = variables.getAsStruct( Key.of( "stats" ) );
+		assertThat( stats.get( "acquisitions" ) ).isEqualTo( 1L );
+		assertThat( stats.get( "timeouts" ) ).isEqualTo( 0L );
+		assertThat( variables.getAsStruct( Key.of( "all" ) ).containsKey( Key.of( "myStatsLock" ) ) ).isTrue();
+		assertThat( variables.getAsStruct( Key.of( "missing" ) ) ).isEmpty();
+	}
+
 }
@@ -48,4 +48,14 @@ public class RegexFilterTest {
 		assertThat( regexFilter.test( key4 ) ).isFalse();
 		assertThat( regexFilter.test( key5 ) ).isFalse();
 	}
+
+	@Test
+	@DisplayName( "Regex Filter: Literal prefix" )
+	void testRegexFilterPrefix() {
+		assertThat( new RegexFilter( "^hello.*" ).getPrefix() ).isEqualTo( "hello" );
+		assertThat( new RegexFilter( "hello[0-9]+" ).getPrefix() ).isEqualTo( "hello" );
+		assertThat( new RegexFilter( "hellos?" ).getPrefix() ).isEqualTo( "hello" );
+		assertThat( new RegexFilter( "^h(ello|at).*" ).getPrefix() ).isNull();
+		assertThat( new RegexFilter( ".*hello" ).getPrefix() ).isNull();
+	}
 }
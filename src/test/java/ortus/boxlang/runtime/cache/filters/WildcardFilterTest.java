@@ -48,4 +48,14 @@ public class WildcardFilterTest {
 		assertThat( filter.test( key3 ) ).isFalse();
 	}
 
+	@Test
+	@DisplayName( "Test the literal prefix of the wildcard" )
+	public void testPrefix() {
+		assertThat( new WildcardFilter( "hello*world" ).getPrefix() ).isEqualTo( "hello" );
+		assertThat( new WildcardFilter( "lui?" ).getPrefix() ).isEqualTo( "lui" );
+		assertThat( new WildcardFilter( "box.cache[abc]" ).getPrefix() ).isEqualTo( "box.cache" );
+		assertThat( new WildcardFilter( "exact" ).getPrefix() ).isEqualTo( "exact" );
+		assertThat( new WildcardFilter( "*world" ).getPrefix() ).isNull();
+	}
+
 }
@@ -18,6 +18,12 @@
 package ortus.boxlang.runtime.cache.providers;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -34,6 +40,8 @@ import ortus.boxlang.runtime.services.AsyncService;
 import ortus.boxlang.runtime.services.AsyncService.ExecutorType;
 import ortus.boxlang.runtime.services.CacheService;
 import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 
 public class BoxCacheProviderTest {
 
@@ -81,7 +89,7 @@ public class BoxCacheProviderTest {
 	@DisplayName( "Get the cache store metdata key map" )
 	void testGetCacheStoreMetadataKeyMap() {
 		assertThat( boxCache.getStoreMetadataKeyMap() ).isNotNull();
-		assertThat( boxCache.getStoreMetadataKeyMap().size() ).isEqualTo( 9 );
+		assertThat( boxCache.getStoreMetadataKeyMap().size() ).isEqualTo( 10 );
 	}
 
 	@Test
@@ -270,4 +278,126 @@ public class BoxCacheProviderTest {
 		assertThat( boxCache.getOrSet( "testKey", () -> "test" ) ).isEqualTo( "test" );
 	}
 
+	@Test
+	@DisplayName( "It only calls the getOrSet() provider once for concurrent misses" )
+	void testGetOrSetSingleFlight() {
+		AtomicInteger					calls	= new AtomicInteger( 0 );
+		List<CompletableFuture<Object>>	futures	= new ArrayList<>();
+
+		for ( int i = 0; i < 20; i++ ) {
+			futures.add( CompletableFuture.supplyAsync( () -> boxCache.getOrSet( "singleFlightKey", () -> {
+				calls.incrementAndGet();
+				try {
+					Thread.sleep( 200 );
+				} catch ( InterruptedException e ) {
+					Thread.currentThread().interrupt();
+				}
+				return "produced";
+			} ) ) );
+		}
+
+		futures.forEach( future -> assertThat( future.join() ).isEqualTo( "produced" ) );
+		assertThat( calls.get() ).isEqualTo( 1 );
+	}
+
+	@Test
+	@DisplayName( "It throws instead of deadlocking when a getOrSet() provider requests its own key" )
+	void testGetOrSetReentrant() {
+		assertThrows( BoxRuntimeException.class,
+		    () -> boxCache.getOrSet( "reentrantKey", () -> boxCache.getOrSet( "reentrantKey", () -> "inner" ) ) );
+		// The failed computation is not left behind
+		assertThat( boxCache.getOrSet( "reentrantKey", () -> "outer" ) ).isEqualTo( "outer" );
+	}
+
+	@Test
+	@DisplayName( "It can refresh ahead getOrSet() entries that are close to their timeout" )
+	void testGetOrSetRefreshAhead() throws InterruptedException {
+		BoxCacheProvider refreshCache = new BoxCacheProvider();
+		refreshCache.configure(
+		    cacheService,
+		    new CacheConfig( Key.of( "refreshAhead" ), Struct.of( "refreshAheadFactor", 0.5 ) )
+		);
+		AtomicInteger calls = new AtomicInteger( 0 );
+
+		try {
+			assertThat( refreshCache.getOrSet( "refreshKey", () -> "value" + calls.incrementAndGet(), 2 ) ).isEqualTo( "value1" );
+			// Wait past half the timeout, we should still get the stale value while it refreshes
+			Thread.sleep( 1200 );
+			assertThat( refreshCache.getOrSet( "refreshKey", () -> "value" + calls.incrementAndGet(), 2 ) ).isEqualTo( "value1" );
+			// Give the refresh a chance to land
+			Thread.sleep( 300 );
+			assertThat( calls.get() ).isEqualTo( 2 );
+			assertThat( refreshCache.get( "refreshKey" ).get() ).isEqualTo( "value2" );
+		} finally {
+			refreshCache.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName( "It can evict entries by weight when maxWeightBytes is set" )
+	void testWeightBasedEviction() throws InterruptedException {
+		BoxCacheProvider weightCache = new BoxCacheProvider();
+		weightCache.configure(
+		    cacheService,
+		    new CacheConfig( Key.of( "weighted" ), Struct.of( "maxWeightBytes", 1024 * 1024, "evictCount", 1 ) )
+		);
+
+		try {
+			weightCache.set( "small", "small value" );
+			assertThat( weightCache.getWeight() ).isGreaterThan( 0L );
+			assertThat( weightCache.getStoreMetadataReport().getAsStruct( Key.of( "small" ) ).get( "weight" ) ).isNotEqualTo( 0L );
+
+			// These two go over the max weight
+			weightCache.set( "big1", new byte[ 600 * 1024 ] );
+			weightCache.set( "big2", new byte[ 600 * 1024 ] );
+
+			// Eviction checks are async, a get() triggers them again after the sets landed
+			weightCache.get( "small" );
+			Thread.sleep( 500 );
+			assertThat( weightCache.getWeight() ).isAtMost( 1024L * 1024L );
+			assertThat( weightCache.getSize() ).isLessThan( 3 );
+
+			weightCache.clearAll();
+			assertThat( weightCache.getWeight() ).isEqualTo( 0L );
+		} finally {
+			weightCache.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName( "It does not count the weight of concurrent sets of a key twice" )
+	void testConcurrentSetWeight() throws InterruptedException {
+		BoxCacheProvider weightCache = new BoxCacheProvider();
+		weightCache.configure(
+		    cacheService,
+		    new CacheConfig( Key.of( "weightedConcurrent" ), Struct.of( "maxWeightBytes", 1024 * 1024 ) )
+		);
+
+		try {
+			weightCache.set( "single", new byte[ 1024 ] );
+			long singleWeight = weightCache.getWeight();
+			weightCache.clear( "single" );
+			assertThat( weightCache.getWeight() ).isEqualTo( 0L );
+
+			Thread[] threads = new Thread[ 8 ];
+			for ( int i = 0; i < threads.length; i++ ) {
+				threads[ i ] = new Thread( () -> {
+					for ( int j = 0; j < 100; j++ ) {
+						weightCache.set( "shared", new byte[ 1024 ] );
+					}
+				} );
+				threads[ i ].start();
+			}
+			for ( Thread thread : threads ) {
+				thread.join();
+			}
+
+			assertThat( weightCache.getWeight() ).isEqualTo( singleWeight );
+			weightCache.clear( "shared" );
+			assertThat( weightCache.getWeight() ).isEqualTo( 0L );
+		} finally {
+			weightCache.shutdown();
+		}
+	}
+
 }
@@ -121,7 +121,7 @@ public abstract class BaseStoreTest {
 	public void testShutdown() {
 		store.set( Key.of( "test" ), newTestEntry( "test" ) );
 		store.shutdown();
-		if ( ! ( store instanceof FileSystemStore ) ) {
+		if ( ! ( store instanceof FileSystemStore || store instanceof TieredStore ) ) {
 			assertThat( store.getSize() ).isEqualTo( 0 );
 		}
 	}
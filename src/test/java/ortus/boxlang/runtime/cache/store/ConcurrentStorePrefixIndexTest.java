@@ -0,0 +1,80 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.store;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.cache.filters.RegexFilter;
+import ortus.boxlang.runtime.cache.filters.SessionPrefixFilter;
+import ortus.boxlang.runtime.cache.filters.WildcardFilter;
+import ortus.boxlang.runtime.scopes.Key;
+
+class ConcurrentStorePrefixIndexTest extends BaseStoreTest {
+
+	@BeforeAll
+	static void setUp() {
+		// Prep the fields to use in the base test
+		mockProvider = getMockProvider( "test" );
+		mockConfig.properties.put( Key.prefixIndex, true );
+		store = new ConcurrentStore().init( mockProvider, mockConfig.properties );
+	}
+
+	@AfterAll
+	static void teardown() {
+		mockConfig.properties.remove( Key.prefixIndex );
+	}
+
+	@Test
+	@DisplayName( "PrefixIndex: Resolves prefixed filters from the index" )
+	public void testPrefixFilters() {
+		ConcurrentStore concurrentStore = ( ConcurrentStore ) store;
+		assertThat( concurrentStore.getPrefixIndex() ).isNotNull();
+
+		store.set( Key.of( "app1:session1" ), newTestEntry( "app1:session1" ) );
+		store.set( Key.of( "app1:session2" ), newTestEntry( "app1:session2" ) );
+		store.set( Key.of( "APP2:session1" ), newTestEntry( "APP2:session1" ) );
+		store.set( Key.of( "other" ), newTestEntry( "other" ) );
+		assertThat( concurrentStore.getPrefixIndex().size() ).isEqualTo( 4 );
+
+		assertThat( List.of( store.getKeys( new WildcardFilter( "app1:*" ) ) ) ).containsExactly(
+		    Key.of( "app1:session1" ),
+		    Key.of( "app1:session2" )
+		);
+		assertThat( store.getKeysStream( new WildcardFilter( "app2:*" ) ).count() ).isEqualTo( 1 );
+		assertThat( store.getKeysStream( new WildcardFilter( "app2:*", false ) ).count() ).isEqualTo( 0 );
+		assertThat( store.getKeysStream( new RegexFilter( "app1:session[0-9]" ) ).count() ).isEqualTo( 2 );
+		assertThat( store.getKeysStream( new SessionPrefixFilter( "app1" ) ).count() ).isEqualTo( 2 );
+
+		// Clearing keeps the index in sync
+		store.clearAll( new WildcardFilter( "app1:*" ) );
+		assertThat( store.lookup( Key.of( "app1:session1" ) ) ).isFalse();
+		assertThat( store.lookup( Key.of( "other" ) ) ).isTrue();
+		assertThat( concurrentStore.getPrefixIndex().size() ).isEqualTo( 2 );
+
+		store.clear( Key.of( "other" ) );
+		assertThat( concurrentStore.getPrefixIndex().size() ).isEqualTo( 1 );
+	}
+
+}
@@ -0,0 +1,121 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.store;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.cache.util.BoxCacheStats;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.util.FileSystemUtil;
+
+class TieredStoreTest extends BaseStoreTest {
+
+	static String tmpDirectory = "src/test/resources/tmp/TieredStoreTest";
+
+	@AfterAll
+	public static void teardown() {
+		if ( FileSystemUtil.exists( tmpDirectory ) ) {
+			FileSystemUtil.deleteDirectory( tmpDirectory, true );
+		}
+	}
+
+	@BeforeAll
+	static void setUp() {
+		if ( !FileSystemUtil.exists( tmpDirectory ) ) {
+			FileSystemUtil.createDirectory( tmpDirectory );
+		}
+		// Prep the fields to use in the base test
+		mockProvider = getMockProvider( "test" );
+		mockConfig.properties.put( Key.directory, tmpDirectory );
+		mockConfig.properties.put( Key.l1MaxObjects, 2 );
+		store = new TieredStore().init( mockProvider, mockConfig.properties );
+	}
+
+	@Test
+	@DisplayName( "TieredStore: Demotes L1 overflow to the L2 and promotes L2 hits" )
+	public void testPromoteAndDemote() {
+		TieredStore tieredStore = ( TieredStore ) store;
+
+		tieredStore.set( Key.of( "one" ), newTestEntry( "one" ) );
+		tieredStore.set( Key.of( "two" ), newTestEntry( "two" ) );
+		tieredStore.set( Key.of( "three" ), newTestEntry( "three" ) );
+
+		// L1 stays bounded, but nothing is lost
+		assertThat( tieredStore.getL1().getSize() ).isEqualTo( 2 );
+		assertThat( tieredStore.getL2().getSize() ).isEqualTo( 3 );
+		assertThat( tieredStore.getSize() ).isEqualTo( 3 );
+
+		// Find the demoted one and read it, it should get promoted
+		Key demoted = Key.of( "one" );
+		for ( Key key : tieredStore.getKeys() ) {
+			if ( !tieredStore.getL1().lookup( key ) ) {
+				demoted = key;
+			}
+		}
+		mockStats.reset();
+		assertThat( tieredStore.get( demoted ) ).isNotNull();
+		assertThat( tieredStore.getL1().lookup( demoted ) ).isTrue();
+		assertThat( tieredStore.getL1().getSize() ).isEqualTo( 2 );
+
+		IStruct tiers = ( ( BoxCacheStats ) mockStats ).tierStats();
+		assertThat( tiers.getAsStruct( TieredStore.L1 ).get( "misses" ) ).isEqualTo( 1L );
+		assertThat( tiers.getAsStruct( TieredStore.L2 ).get( "hits" ) ).isEqualTo( 1L );
+	}
+
+	@Test
+	@DisplayName( "TieredStore: Evicts the demoted entries first and keeps its size without walking the L2" )
+	public void testEvictDemotedFirst() {
+		TieredStore tieredStore = ( TieredStore ) store;
+
+		tieredStore.set( Key.of( "one" ), newTestEntry( "one" ) );
+		tieredStore.set( Key.of( "two" ), newTestEntry( "two" ) );
+		tieredStore.set( Key.of( "one" ), newTestEntry( "one" ) );
+		tieredStore.set( Key.of( "three" ), newTestEntry( "three" ) );
+		assertThat( tieredStore.getSize() ).isEqualTo( 3 );
+
+		Key demoted = null;
+		for ( Key key : tieredStore.getKeys() ) {
+			if ( !tieredStore.getL1().lookup( key ) ) {
+				demoted = key;
+			}
+		}
+		assertThat( demoted ).isNotNull();
+
+		// The evict count is 1, the L2 only entry is the victim and the L1 is untouched
+		tieredStore.evict();
+		assertThat( tieredStore.lookup( demoted ) ).isFalse();
+		assertThat( tieredStore.getL2().lookup( demoted ) ).isFalse();
+		assertThat( tieredStore.getL1().getSize() ).isEqualTo( 2 );
+		assertThat( tieredStore.getSize() ).isEqualTo( 2 );
+
+		// With no L2 only entries left, the lowest ranked L1 entry goes next
+		tieredStore.evict();
+		assertThat( tieredStore.getL1().getSize() ).isEqualTo( 1 );
+		assertThat( tieredStore.getSize() ).isEqualTo( 1 );
+
+		tieredStore.clear( tieredStore.getKeys()[ 0 ] );
+		assertThat( tieredStore.getSize() ).isEqualTo( 0 );
+	}
+
+}
@@ -18,11 +18,18 @@
 package ortus.boxlang.runtime.cache.util;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import ortus.boxlang.runtime.cache.ICacheEntry;
+import ortus.boxlang.runtime.types.IStruct;
+
 public class BoxCacheStatsTest {
 
 	BoxCacheStats cacheStats;
@@ -95,4 +102,43 @@ public class BoxCacheStatsTest {
 		// Then
 		assertThat( cacheStats.garbageCollections() ).isEqualTo( 1L );
 	}
+
+	@Test
+	@DisplayName( "The hit rate should be a percentage of hits over hits and misses" )
+	void testHitRate() {
+		cacheStats.recordHit();
+		cacheStats.recordHit();
+		cacheStats.recordHit();
+		cacheStats.recordMiss();
+		assertThat( cacheStats.hitRate() ).isEqualTo( 75 );
+	}
+
+	@Test
+	@DisplayName( "When recording an eviction of an entry, its age should be tracked" )
+	void testRecordEvictionAge() {
+		ICacheEntry entry = mock( ICacheEntry.class );
+		when( entry.created() ).thenReturn( Instant.now().minusSeconds( 5 ) );
+
+		cacheStats.recordEviction( entry );
+
+		assertThat( cacheStats.evictionCount() ).isEqualTo( 1L );
+		assertThat( cacheStats.evictionAge().count() ).isEqualTo( 1L );
+		assertThat( cacheStats.evictionAge().max() ).isAtLeast( 5000L );
+	}
+
+	@Test
+	@DisplayName( "Latencies should be recorded and exposed in the stats struct" )
+	void testLatencies() {
+		cacheStats.recordGetLatency( 1_000 );
+		cacheStats.recordSetLatency( 2_000 );
+		cacheStats.recordProviderLatency( 3_000_000 );
+
+		IStruct latency = ( IStruct ) cacheStats.toStruct().get( "latency" );
+		assertThat( ( ( IStruct ) latency.get( "get" ) ).get( "count" ) ).isEqualTo( 1L );
+		assertThat( ( ( IStruct ) latency.get( "set" ) ).get( "count" ) ).isEqualTo( 1L );
+		assertThat( ( ( IStruct ) latency.get( "provider" ) ).get( "max" ) ).isEqualTo( 3d );
+
+		cacheStats.reset();
+		assertThat( cacheStats.getLatency().count() ).isEqualTo( 0L );
+	}
 }
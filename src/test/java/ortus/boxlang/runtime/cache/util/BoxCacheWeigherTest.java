@@ -0,0 +1,80 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.cache.util;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.QueryColumnType;
+import ortus.boxlang.runtime.types.Struct;
+
+public class BoxCacheWeigherTest {
+
+	BoxCacheWeigher weigher;
+
+	@BeforeEach
+	void setUp() {
+		weigher = new BoxCacheWeigher();
+	}
+
+	@Test
+	@DisplayName( "It can weigh simple values" )
+	void testSimpleValues() {
+		assertThat( weigher.weigh( null ) ).isEqualTo( 0L );
+		assertThat( weigher.weigh( true ) ).isGreaterThan( 0L );
+		assertThat( weigher.weigh( "a".repeat( 1000 ) ) ).isGreaterThan( weigher.weigh( "a" ) );
+		assertThat( weigher.weigh( new byte[ 1024 * 1024 ] ) ).isAtLeast( 1024L * 1024L );
+	}
+
+	@Test
+	@DisplayName( "It can weigh structs and arrays by sampling" )
+	void testContainers() {
+		Array	small	= Array.of( "a", "b" );
+		Array	large	= new Array();
+		for ( int i = 0; i < 1000; i++ ) {
+			large.add( "value" + i );
+		}
+		assertThat( weigher.weigh( large ) ).isGreaterThan( weigher.weigh( small ) );
+
+		Struct nested = new Struct();
+		nested.put( "data", large );
+		assertThat( weigher.weigh( nested ) ).isGreaterThan( weigher.weigh( large ) );
+	}
+
+	@Test
+	@DisplayName( "It can weigh queries by rows and columns" )
+	void testQueries() {
+		Query query = new Query();
+		query.addColumn( Key.of( "id" ), QueryColumnType.INTEGER );
+		query.addColumn( Key.of( "name" ), QueryColumnType.VARCHAR );
+		long emptyWeight = weigher.weigh( query );
+
+		for ( int i = 0; i < 500; i++ ) {
+			query.addRow( new Object[] { i, "name" + i } );
+		}
+
+		assertThat( weigher.weigh( query ) ).isGreaterThan( emptyWeight + 500 * 2 );
+	}
+
+}
@@ -173,6 +173,26 @@ public class ThreadTest {
 		assertThat( result3.get( Key.of( "insideThread3" ) ) ).isEqualTo( "yep" );
 	}
 
+	@DisplayName( "It can run a thread as a virtual thread" )
+	@Test
+	public void testCanRunVirtualThread() {
+		// @formatter:off
+		instance.executeSource(
+		    """
+		    thread name="myThread" virtual=true {
+		    	thread.ran = true;
+		    }
+		    thread name="myThread" action="join";
+		    result = myThread;
+		    """,
+		    context, BoxSourceType.CFSCRIPT );
+		// @formatter:on
+		IStruct meta = variables.getAsStruct( result );
+		assertThat( meta.get( Key.status ) ).isEqualTo( "COMPLETED" );
+		assertThat( meta.get( Key.virtual ) ).isEqualTo( true );
+		assertThat( meta.get( Key.of( "ran" ) ) ).isEqualTo( true );
+	}
+
 	@DisplayName( "It can join thread no timeout" )
 	@Test
 	public void testCanJoinThreadNoTimeout() {
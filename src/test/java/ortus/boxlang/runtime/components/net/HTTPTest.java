@@ -25,11 +25,22 @@ import static com.github.tomakehurst.wiremock.client.WireMock.created;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.havingExactly;
 import static com.github.tomakehurst.wiremock.client.WireMock.ok;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
@@ -37,6 +48,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
@@ -50,6 +62,7 @@ import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.scopes.VariablesScope;
 import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.exceptions.BoxRuntimeException;
 
 @WireMockTest
 public class HTTPTest {
@@ -497,6 +510,229 @@ public class HTTPTest {
 		assertThat( bxhttp.get( Key.errorDetail ) ).isEqualTo( "Request timed out after 1 second." );
 	}
 
+	@DisplayName( "It returns fast responses without waiting for the timeout" )
+	@Test
+	public void testTimeoutDoesNotDelayFastResponses( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/fast" ).willReturn( ok( "fast" ) ) );
+
+		String	baseURL	= wmRuntimeInfo.getHttpBaseUrl();
+		long	start	= System.currentTimeMillis();
+		// @formatter:off
+		instance.executeSource( String.format( """
+			http timeout="5" method="GET" url="%s";
+			result = bxhttp;
+		""", baseURL + "/fast" ), context );
+		// @formatter:on
+
+		assertThat( System.currentTimeMillis() - start ).isLessThan( 5000L );
+		IStruct bxhttp = variables.getAsStruct( result );
+		assertThat( bxhttp.get( Key.statusCode ) ).isEqualTo( 200 );
+		assertThat( bxhttp.get( Key.fileContent ) ).isEqualTo( "fast" );
+		assertThat( bxhttp.get( Key.errorDetail ) ).isEqualTo( "" );
+	}
+
+	@DisplayName( "It returns binary responses as byte arrays" )
+	@Test
+	public void testBinaryResponse( WireMockRuntimeInfo wmRuntimeInfo ) {
+		byte[] payload = new byte[] { 0, 1, 2, ( byte ) 0xFF };
+		stubFor( get( "/binary" ).willReturn( ok().withHeader( "Content-Type", "application/octet-stream" ).withBody( payload ) ) );
+
+		instance.executeSource( String.format( """
+		    http url="%s";
+		    result = bxhttp;
+		    """, wmRuntimeInfo.getHttpBaseUrl() + "/binary" ), context );
+
+		IStruct bxhttp = variables.getAsStruct( result );
+		assertThat( bxhttp.get( Key.fileContent ) ).isEqualTo( payload );
+	}
+
+	@DisplayName( "It decodes gzip encoded responses" )
+	@Test
+	public void testGzipResponse( WireMockRuntimeInfo wmRuntimeInfo ) throws IOException {
+		ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+		try ( GZIPOutputStream out = new GZIPOutputStream( gzipped ) ) {
+			out.write( "Hello compressed world".getBytes( StandardCharsets.UTF_8 ) );
+		}
+		stubFor( get( "/gzip" ).willReturn(
+		    ok().withHeader( "Content-Type", "text/plain; charset=utf-8" ).withHeader( "Content-Encoding", "gzip" ).withBody( gzipped.toByteArray() ) ) );
+
+		instance.executeSource( String.format( """
+		    http url="%s";
+		    result = bxhttp;
+		    """, wmRuntimeInfo.getHttpBaseUrl() + "/gzip" ), context );
+
+		IStruct bxhttp = variables.getAsStruct( result );
+		assertThat( bxhttp.get( Key.fileContent ) ).isEqualTo( "Hello compressed world" );
+	}
+
+	@DisplayName( "It can stream the response to a file" )
+	@Test
+	public void testResponseToFile( WireMockRuntimeInfo wmRuntimeInfo, @TempDir Path tempDir ) throws IOException {
+		stubFor( get( "/download" ).willReturn( ok().withHeader( "Content-Type", "text/csv" ).withBody( "a,b\n1,2" ) ) );
+
+		instance.executeSource( String.format( """
+		    http url="%s" path="%s" file="export.csv";
+		    result = bxhttp;
+		    """, wmRuntimeInfo.getHttpBaseUrl() + "/download", tempDir.toString().replace( "\\", "/" ) ), context );
+
+		IStruct bxhttp = variables.getAsStruct( result );
+		assertThat( bxhttp.get( Key.statusCode ) ).isEqualTo( 200 );
+		assertThat( bxhttp.get( Key.fileContent ) ).isEqualTo( "" );
+		assertThat( Files.readString( tempDir.resolve( "export.csv" ) ) ).isEqualTo( "a,b\n1,2" );
+	}
+
+	@DisplayName( "It can stream the response to a chunk callback" )
+	@Test
+	public void testResponseToCallback( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/stream" ).willReturn( ok().withHeader( "Content-Type", "text/plain" ).withBody( "streamed body" ) ) );
+
+		instance.executeSource( String.format( """
+		    chunks = [];
+		    http url="%s" onChunk=( chunk, chunkNumber ) => chunks.append( chunk );
+		    result = chunks.toList( "" );
+		    """, wmRuntimeInfo.getHttpBaseUrl() + "/stream" ), context );
+
+		assertThat( variables.get( result ) ).isEqualTo( "streamed body" );
+		assertThat( variables.getAsStruct( bxhttp ).get( Key.fileContent ) ).isEqualTo( "" );
+	}
+
+	@DisplayName( "It records metrics per HTTP client profile" )
+	@Test
+	public void testClientProfileMetrics( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/metrics" ).willReturn( ok( "metered" ) ) );
+
+		instance.executeSource( String.format( """
+		    http url="%s" httpClient="default";
+		    result = httpClientStats( "default" );
+		    """, wmRuntimeInfo.getHttpBaseUrl() + "/metrics" ), context );
+
+		IStruct stats = variables.getAsStruct( result );
+		assertThat( ( Long ) stats.get( "requests" ) ).isAtLeast( 1L );
+		assertThat( ( Long ) stats.get( "bytesReceived" ) ).isAtLeast( 7L );
+		assertThat( stats.get( "latency" ) ).isInstanceOf( IStruct.class );
+	}
+
+	@DisplayName( "It rejects unknown HTTP client profiles" )
+	@Test
+	public void testUnknownClientProfile( WireMockRuntimeInfo wmRuntimeInfo ) {
+		assertThrows( BoxRuntimeException.class, () -> instance.executeSource( String.format( """
+		    http url="%s" httpClient="doesNotExist";
+		    """, wmRuntimeInfo.getHttpBaseUrl() + "/metrics" ), context ) );
+	}
+
+	@DisplayName( "It does not follow redirects when redirect is false" )
+	@Test
+	public void testRedirectFalse( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/moved" ).willReturn( aResponse().withStatus( 302 ).withHeader( "Location", "/target" ) ) );
+		stubFor( get( "/target" ).willReturn( ok( "target" ) ) );
+
+		instance.executeSource( String.format( """
+		    http url="%1$s" redirect=false result="noFollow";
+		    http url="%1$s" result="follow";
+		    """, wmRuntimeInfo.getHttpBaseUrl() + "/moved" ), context );
+
+		assertThat( variables.getAsStruct( Key.of( "noFollow" ) ).get( Key.statusCode ) ).isEqualTo( 302 );
+		assertThat( variables.getAsStruct( Key.of( "follow" ) ).get( Key.statusCode ) ).isEqualTo( 200 );
+		assertThat( variables.getAsStruct( Key.of( "follow" ) ).get( Key.fileContent ) ).isEqualTo( "target" );
+	}
+
+	@DisplayName( "It serves fresh responses from the cache" )
+	@Test
+	public void testResponseCacheMaxAge( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/cached/max-age" ).willReturn( ok( "fresh" ).withHeader( "Cache-Control", "max-age=60" ) ) );
+
+		instance.executeSource( String.format( """
+		    http url="%1$s" cache=true result="first";
+		    http url="%1$s" cache=true result="second";
+		    result = httpCacheStats( "default" );
+		    """, wmRuntimeInfo.getHttpBaseUrl() + "/cached/max-age" ), context );
+
+		verify( 1, getRequestedFor( urlEqualTo( "/cached/max-age" ) ) );
+		assertThat( variables.getAsStruct( Key.of( "second" ) ).get( Key.statusCode ) ).isEqualTo( 200 );
+		assertThat( variables.getAsStruct( Key.of( "second" ) ).get( Key.fileContent ) ).isEqualTo( "fresh" );
+		assertThat( ( Long ) variables.getAsStruct( result ).get( "hits" ) ).isAtLeast( 1L );
+	}
+
+	@DisplayName( "It revalidates stale responses with their ETag" )
+	@Test
+	public void testResponseCacheETag( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/cached/etag" ).willReturn( ok( "tagged" ).withHeader( "Cache-Control", "no-cache" ).withHeader( "ETag", "\"v1\"" ) ) );
+		stubFor( get( "/cached/etag" ).withHeader( "If-None-Match", equalTo( "\"v1\"" ) ).willReturn( aResponse().withStatus( 304 ) ) );
+
+		instance.executeSource( String.format( """
+		    http url="%1$s" cache=true result="first";
+		    http url="%1$s" cache=true result="second";
+		    result = httpCacheStats( "default" );
+		    """, wmRuntimeInfo.getHttpBaseUrl() + "/cached/etag" ), context );
+
+		verify( 2, getRequestedFor( urlEqualTo( "/cached/etag" ) ) );
+		assertThat( variables.getAsStruct( Key.of( "second" ) ).get( Key.statusCode ) ).isEqualTo( 200 );
+		assertThat( variables.getAsStruct( Key.of( "second" ) ).get( Key.fileContent ) ).isEqualTo( "tagged" );
+		assertThat( ( Long ) variables.getAsStruct( result ).get( "notModified" ) ).isAtLeast( 1L );
+	}
+
+	@DisplayName( "It keeps the stored freshness of responses revalidated by a bare 304" )
+	@Test
+	public void testResponseCacheRefreshFreshness( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/cached/refresh" ).willReturn( ok( "tagged" ).withHeader( "Cache-Control", "max-age=1" ).withHeader( "ETag", "\"v1\"" ) ) );
+		stubFor( get( "/cached/refresh" ).withHeader( "If-None-Match", equalTo( "\"v1\"" ) ).willReturn( aResponse().withStatus( 304 ) ) );
+
+		instance.executeSource( String.format( """
+		    http url="%1$s" cache=true result="first";
+		    sleep( 1100 );
+		    http url="%1$s" cache=true result="second";
+		    http url="%1$s" cache=true result="third";
+		    """, wmRuntimeInfo.getHttpBaseUrl() + "/cached/refresh" ), context );
+
+		// The 304 has no Cache-Control, the stored max-age still applies so the third request is a hit
+		verify( 2, getRequestedFor( urlEqualTo( "/cached/refresh" ) ) );
+		assertThat( variables.getAsStruct( Key.of( "third" ) ).get( Key.fileContent ) ).isEqualTo( "tagged" );
+	}
+
+	@DisplayName( "It caches each variant of a response that varies on a request header" )
+	@Test
+	public void testResponseCacheVary( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/cached/vary" ).withHeader( "Accept-Language", equalTo( "en" ) )
+		    .willReturn( ok( "hello" ).withHeader( "Cache-Control", "max-age=60" ).withHeader( "Vary", "Accept-Language" ) ) );
+		stubFor( get( "/cached/vary" ).withHeader( "Accept-Language", equalTo( "fr" ) )
+		    .willReturn( ok( "bonjour" ).withHeader( "Cache-Control", "max-age=60" ).withHeader( "Vary", "Accept-Language" ) ) );
+
+		instance.executeSource( String.format( """
+		    http url="%1$s" cache=true result="en1" {
+		        httpparam type="header" name="Accept-Language" value="en";
+		    }
+		    http url="%1$s" cache=true result="fr1" {
+		        httpparam type="header" name="Accept-Language" value="fr";
+		    }
+		    http url="%1$s" cache=true result="en2" {
+		        httpparam type="header" name="Accept-Language" value="en";
+		    }
+		    http url="%1$s" cache=true result="fr2" {
+		        httpparam type="header" name="Accept-Language" value="fr";
+		    }
+		    """, wmRuntimeInfo.getHttpBaseUrl() + "/cached/vary" ), context );
+
+		// One network request per variant, the second request of each variant is a hit
+		verify( 2, getRequestedFor( urlEqualTo( "/cached/vary" ) ) );
+		assertThat( variables.getAsStruct( Key.of( "en1" ) ).get( Key.fileContent ) ).isEqualTo( "hello" );
+		assertThat( variables.getAsStruct( Key.of( "fr1" ) ).get( Key.fileContent ) ).isEqualTo( "bonjour" );
+		assertThat( variables.getAsStruct( Key.of( "en2" ) ).get( Key.fileContent ) ).isEqualTo( "hello" );
+		assertThat( variables.getAsStruct( Key.of( "fr2" ) ).get( Key.fileContent ) ).isEqualTo( "bonjour" );
+	}
+
+	@DisplayName( "It does not cache responses unless asked to" )
+	@Test
+	public void testResponseCacheOptIn( WireMockRuntimeInfo wmRuntimeInfo ) {
+		stubFor( get( "/cached/opt-in" ).willReturn( ok( "uncached" ).withHeader( "Cache-Control", "max-age=60" ) ) );
+
+		instance.executeSource( String.format( """
+		    http url="%1$s";
+		    http url="%1$s";
+		    """, wmRuntimeInfo.getHttpBaseUrl() + "/cached/opt-in" ), context );
+
+		verify( 2, getRequestedFor( urlEqualTo( "/cached/opt-in" ) ) );
+	}
+
 	@DisplayName( "It can handle files" )
 	@Test
 	public void testFiles( WireMockRuntimeInfo wmRuntimeInfo ) {
@@ -19,10 +19,12 @@
 package ortus.boxlang.runtime.components.system;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import ortus.boxlang.compiler.parser.BoxSourceType;
@@ -32,6 +34,7 @@ import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
 import ortus.boxlang.runtime.scopes.IScope;
 import ortus.boxlang.runtime.scopes.Key;
 import ortus.boxlang.runtime.scopes.VariablesScope;
+import ortus.boxlang.runtime.types.exceptions.RequestTimeoutException;
 
 public class SettingTest {
 
@@ -100,4 +103,62 @@ public class SettingTest {
 
 	}
 
+	@DisplayName( "It times out a runaway loop" )
+	@Test
+	public void testRequestTimeoutInLoop() {
+		RequestTimeoutException e = assertThrows( RequestTimeoutException.class, () -> instance.executeSource(
+		    """
+		    setting requestTimeout=1;
+		    i = 0;
+		    while( true ) {
+		    	i++;
+		    }
+		    """, context ) );
+		assertThat( e.getType() ).isEqualTo( "RequestTimeout" );
+	}
+
+	@DisplayName( "It keeps timing out a loop that swallows the timeout" )
+	@Test
+	public void testRequestTimeoutSwallowed() {
+		assertThrows( RequestTimeoutException.class, () -> instance.executeSource(
+		    """
+		    setting requestTimeout=1;
+		    i = 0;
+		    while( true ) {
+		    	try {
+		    		for( j = 0; j < 1000; j++ ) {
+		    			i++;
+		    		}
+		    	} catch( any e ) {
+		    	}
+		    }
+		    """, context ) );
+	}
+
+	@DisplayName( "It times out runaway function calls" )
+	@Test
+	public void testRequestTimeoutInFunctions() {
+		assertThrows( RequestTimeoutException.class, () -> instance.executeSource(
+		    """
+		    setting requestTimeout=1;
+		    function spin( n ) {
+		    	return n + 1;
+		    }
+		    for( i = 0; i >= 0; i = spin( i ) ) {
+		    }
+		    """, context ) );
+	}
+
+	@DisplayName( "It does not sleep past the request timeout" )
+	@Test
+	public void testRequestTimeoutInSleep() {
+		long start = System.currentTimeMillis();
+		assertThrows( RequestTimeoutException.class, () -> instance.executeSource(
+		    """
+		    setting requestTimeout=1;
+		    sleep( 10000 );
+		    """, context ) );
+		assertThat( System.currentTimeMillis() - start ).isLessThan( 5000L );
+	}
+
 }
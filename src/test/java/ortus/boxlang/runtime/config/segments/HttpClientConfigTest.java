@@ -0,0 +1,71 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.config.segments;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Struct;
+
+public class HttpClientConfigTest {
+
+	@DisplayName( "It has sensible defaults" )
+	@Test
+	public void testDefaults() {
+		HttpClientConfig config = new HttpClientConfig();
+		assertThat( config.name ).isEqualTo( "default" );
+		assertThat( config.httpVersion ).isEqualTo( "HTTP_2" );
+		assertThat( config.connectTimeout ).isEqualTo( 30 );
+		assertThat( config.redirect ).isEqualTo( "NORMAL" );
+		assertThat( config.virtualThreads ).isFalse();
+		assertThat( config.proxyServer ).isEmpty();
+	}
+
+	@DisplayName( "It can process a profile configuration" )
+	@Test
+	public void testProcess() {
+		HttpClientConfig config = new HttpClientConfig( "upstream" ).process( Struct.of(
+		    "httpVersion", "HTTP/1.1",
+		    "connectTimeout", 5,
+		    "redirect", "never",
+		    "virtualThreads", true,
+		    "proxyServer", "proxy.local",
+		    "proxyPort", 3128
+		) );
+
+		assertThat( config.name ).isEqualTo( "upstream" );
+		assertThat( config.httpVersion ).isEqualTo( "HTTP_1_1" );
+		assertThat( config.connectTimeout ).isEqualTo( 5 );
+		assertThat( config.redirect ).isEqualTo( "NEVER" );
+		assertThat( config.virtualThreads ).isTrue();
+		assertThat( config.proxyServer ).isEqualTo( "proxy.local" );
+		assertThat( config.proxyPort ).isEqualTo( 3128 );
+	}
+
+	@DisplayName( "It does not expose the proxy password in its struct" )
+	@Test
+	public void testToStruct() {
+		IStruct struct = new HttpClientConfig().process( Struct.of( "proxyUser", "me", "proxyPassword", "secret" ) ).toStruct();
+		assertThat( struct.get( "proxyUser" ) ).isEqualTo( "me" );
+		assertThat( struct.containsKey( "proxyPassword" ) ).isFalse();
+	}
+
+}
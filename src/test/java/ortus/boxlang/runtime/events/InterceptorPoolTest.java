@@ -4,6 +4,7 @@ import static com.google.common.truth.Truth.assertThat;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -256,4 +257,53 @@ public class InterceptorPoolTest {
 		assertThat( ( ( IStruct ) future.get() ).get( "counter" ) ).isEqualTo( 1 );
 	}
 
+	@Test
+	@DisplayName( "It can cache which states have listeners and invalidate on registrations" )
+	void testHasListeners() {
+		Key					testKey		= Key.of( "onUnitTest" );
+		IInterceptorLambda	listener	= data -> false;
+
+		assertThat( pool.hasListeners( testKey ) ).isFalse();
+
+		// An empty state has no listeners
+		pool.registerState( testKey );
+		assertThat( pool.hasListeners( testKey ) ).isFalse();
+
+		pool.register( listener, testKey );
+		assertThat( pool.hasListeners( testKey ) ).isTrue();
+
+		pool.unregister( DynamicObject.of( listener ), testKey );
+		assertThat( pool.hasListeners( testKey ) ).isFalse();
+
+		pool.register( listener, testKey );
+		pool.removeState( testKey );
+		assertThat( pool.hasListeners( testKey ) ).isFalse();
+	}
+
+	@Test
+	@DisplayName( "It only builds lazy announcement data when there are listeners" )
+	void testLazyAnnouncementData() {
+		Key				testKey	= Key.of( "onUnitTest" );
+		AtomicInteger	built	= new AtomicInteger();
+
+		pool.announce( testKey, () -> {
+			built.incrementAndGet();
+			return new Struct();
+		} );
+		assertThat( built.get() ).isEqualTo( 0 );
+
+		AtomicInteger received = new AtomicInteger();
+		pool.register( data -> {
+			received.incrementAndGet();
+			return false;
+		}, testKey );
+
+		pool.announce( testKey, () -> {
+			built.incrementAndGet();
+			return new Struct();
+		} );
+		assertThat( built.get() ).isEqualTo( 1 );
+		assertThat( received.get() ).isEqualTo( 1 );
+	}
+
 }
@@ -35,6 +35,7 @@ public class InterceptorStateTest {
 	private InterceptorState	interceptorState;
 	private DynamicObject		observer1;
 	private DynamicObject		observer2;
+	private int					noArgsCalls	= 0;
 
 	@BeforeEach
 	void setUp() {
@@ -68,6 +69,51 @@ public class InterceptorStateTest {
 		assertThat( data.get( counterKey ) ).isEqualTo( 2 );
 	}
 
+	@DisplayName( "It can register and unregister observers while announcing" )
+	@Test
+	void testItCanMutateObserversWhileAnnouncing() {
+		Key						counterKey	= Key.of( "counter" );
+		IInterceptorLambda[]	self		= new IInterceptorLambda[ 1 ];
+		IInterceptorLambda		late		= data -> {
+			data.put( counterKey, ( int ) data.get( counterKey ) + 100 );
+			return false;
+		};
+		self[ 0 ] = data -> {
+			data.put( counterKey, ( int ) data.get( counterKey ) + 1 );
+			// Unregister ourselves and register a new observer mid-announcement
+			interceptorState.unregister( DynamicObject.of( self[ 0 ] ) );
+			interceptorState.register( DynamicObject.of( late ) );
+			return false;
+		};
+		interceptorState.register( DynamicObject.of( self[ 0 ] ) );
+		interceptorState.register( observer1 );
+
+		IStruct data = new Struct();
+		data.put( counterKey, 0 );
+		interceptorState.announce( data, new ScriptingRequestBoxContext() );
+
+		// The announcement ran on the chain as it was when it started
+		assertThat( data.get( counterKey ) ).isEqualTo( 2 );
+		assertThat( interceptorState.size() ).isEqualTo( 2 );
+
+		data.put( counterKey, 0 );
+		interceptorState.announce( data, new ScriptingRequestBoxContext() );
+		assertThat( data.get( counterKey ) ).isEqualTo( 101 );
+	}
+
+	@DisplayName( "It can announce to Java observers with no arguments" )
+	@Test
+	void testItCanAnnounceToNoArgumentObservers() {
+		InterceptorState	state	= new InterceptorState( Key.of( "onNoArgs" ) );
+		state.register( DynamicObject.of( this ) );
+		state.announce( new Struct(), new ScriptingRequestBoxContext() );
+		assertThat( this.noArgsCalls ).isEqualTo( 1 );
+	}
+
+	public void onNoArgs() {
+		this.noArgsCalls++;
+	}
+
 	public void onTests( IStruct data ) {
 		Key	counterKey	= Key.of( "counter" );
 		int	counter		= ( int ) data.get( counterKey );
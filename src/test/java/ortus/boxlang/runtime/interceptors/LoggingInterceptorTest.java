@@ -17,6 +17,7 @@
  */
 package ortus.boxlang.runtime.interceptors;
 
+import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
@@ -31,6 +32,7 @@ import ortus.boxlang.runtime.context.IBoxContext;
 import ortus.boxlang.runtime.dynamic.casters.StringCaster;
 import ortus.boxlang.runtime.scopes.IScope;
 import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
 import ortus.boxlang.runtime.types.Struct;
 import ortus.boxlang.runtime.util.FileSystemUtil;
 
@@ -76,6 +78,8 @@ public class LoggingInterceptorTest {
 		    Key.file, testLogFile,
 		    Key.log, "Test"
 		) );
+		// Log files are written asynchronously
+		assertTrue( loggingInterceptor.flush() );
 		assertTrue( StringCaster.cast( FileSystemUtil.read( logFilePath ) ).indexOf( "Hello" ) > -1 );
 	}
 
@@ -88,7 +92,29 @@ public class LoggingInterceptorTest {
 		    Key.file, absoluteLogeFilePath,
 		    Key.log, "Test"
 		) );
+		// Log files are written asynchronously
+		assertTrue( loggingInterceptor.flush() );
 		assertTrue( StringCaster.cast( FileSystemUtil.read( absoluteLogeFilePath ) ).indexOf( "Hello" ) > -1 );
 	}
 
+	@DisplayName( "It can buffer messages and expose the writer stats" )
+	@Test
+	void testWriterStats() {
+		for ( int i = 0; i < 100; i++ ) {
+			loggingInterceptor.logMessage( Struct.of(
+			    Key.text, "Message " + i,
+			    Key.level, "INFO",
+			    Key.file, testLogFile,
+			    Key.log, "Test"
+			) );
+		}
+		assertTrue( loggingInterceptor.flush() );
+
+		IStruct stats = loggingInterceptor.getStats();
+		assertThat( stats.getAsLong( Key.of( "written" ) ) ).isAtLeast( 100L );
+		assertThat( stats.getAsLong( Key.of( "dropped" ) ) ).isEqualTo( 0L );
+		assertThat( stats.getAsInteger( Key.of( "queueDepth" ) ) ).isEqualTo( 0 );
+		assertThat( StringCaster.cast( FileSystemUtil.read( logFilePath ) ) ).contains( "Message 99" );
+	}
+
 }
@@ -0,0 +1,91 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.logging;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class BoundedRingBufferTest {
+
+	@Test
+	@DisplayName( "It rounds the capacity to a power of two and rejects offers when full" )
+	void testCapacity() {
+		BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>( 3 );
+		assertThat( buffer.capacity() ).isEqualTo( 4 );
+
+		for ( int i = 0; i < 4; i++ ) {
+			assertThat( buffer.offer( i ) ).isTrue();
+		}
+		assertThat( buffer.offer( 4 ) ).isFalse();
+		assertThat( buffer.size() ).isEqualTo( 4 );
+	}
+
+	@Test
+	@DisplayName( "It polls in FIFO order and wraps around" )
+	void testFifo() {
+		BoundedRingBuffer<Integer> buffer = new BoundedRingBuffer<>( 4 );
+		for ( int round = 0; round < 3; round++ ) {
+			buffer.offer( 1 );
+			buffer.offer( 2 );
+			assertThat( buffer.poll() ).isEqualTo( 1 );
+			assertThat( buffer.poll() ).isEqualTo( 2 );
+		}
+		assertThat( buffer.poll() ).isNull();
+		assertThat( buffer.isEmpty() ).isTrue();
+	}
+
+	@Test
+	@DisplayName( "It does not lose elements with concurrent producers" )
+	void testConcurrentProducers() throws InterruptedException {
+		BoundedRingBuffer<Integer>	buffer		= new BoundedRingBuffer<>( 1024 );
+		Set<Integer>				received	= ConcurrentHashMap.newKeySet();
+		int							producers	= 4;
+		int							perProducer	= 5000;
+		CountDownLatch				done		= new CountDownLatch( producers );
+
+		for ( int p = 0; p < producers; p++ ) {
+			int offset = p * perProducer;
+			new Thread( () -> {
+				for ( int i = 0; i < perProducer; i++ ) {
+					while ( !buffer.offer( offset + i ) ) {
+						Thread.onSpinWait();
+					}
+				}
+				done.countDown();
+			} ).start();
+		}
+
+		while ( received.size() < producers * perProducer ) {
+			Integer value = buffer.poll();
+			if ( value != null ) {
+				received.add( value );
+			}
+		}
+		done.await();
+
+		assertThat( received ).hasSize( producers * perProducer );
+		assertThat( buffer.isEmpty() ).isTrue();
+	}
+
+}
@@ -31,7 +31,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Spy;
 
 import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.async.executors.ExecutorMetrics;
 import ortus.boxlang.runtime.async.executors.ExecutorRecord;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.IStruct;
 
 class AsyncServiceTest {
 
@@ -89,6 +92,23 @@ class AsyncServiceTest {
 		assertThat( asyncService.hasExecutor( name ) ).isFalse();
 	}
 
+	@DisplayName( "It instruments the executors it builds" )
+	@Test
+	void testItInstrumentsExecutors() throws Exception {
+		ExecutorRecord record = asyncService.newExecutor( "tdd-metrics", AsyncService.ExecutorType.FIXED, 2 );
+		record.submit( () -> "done" ).get();
+
+		ExecutorMetrics metrics = record.metrics();
+		assertThat( metrics ).isNotNull();
+		assertThat( metrics.getSubmittedCount() ).isEqualTo( 1 );
+		assertThat( metrics.getQueueDepth() ).isEqualTo( 0 );
+		assertThat( metrics.queueWait().count() ).isEqualTo( 1 );
+
+		IStruct stats = record.getStats();
+		assertThat( stats.getAsStruct( Key.of( "metrics" ) ).get( Key.of( "submitted" ) ) ).isEqualTo( 1L );
+		asyncService.deleteExecutor( "tdd-metrics" );
+	}
+
 	@DisplayName( "It can shutdown all executors" )
 	@Test
 	void testItCanShutdownAllExecutors() {
@@ -0,0 +1,142 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.services;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.services.LockService.HeldLock;
+import ortus.boxlang.runtime.types.IStruct;
+
+public class LockServiceTest {
+
+	static LockService	lockService;
+	static BoxRuntime	runtime;
+
+	@BeforeAll
+	public static void setUp() {
+		runtime		= BoxRuntime.getInstance( true );
+		lockService	= runtime.getLockService();
+	}
+
+	@DisplayName( "Test it can get an instance of the service" )
+	@Test
+	void testItCanGetInstance() {
+		assertThat( lockService ).isNotNull();
+	}
+
+	@DisplayName( "It can acquire and release a named lock" )
+	@Test
+	void testItCanAcquireAndRelease() throws InterruptedException {
+		Key			name	= Key.of( "lockServiceAcquire" );
+		HeldLock	lock	= lockService.acquire( name, true, 1000 );
+		assertThat( lock ).isNotNull();
+		lock.release();
+
+		IStruct stats = lockService.getStats( name );
+		assertThat( stats.get( "acquisitions" ) ).isEqualTo( 1L );
+		assertThat( stats.get( "contended" ) ).isEqualTo( 0L );
+		assertThat( stats.get( "writeLocked" ) ).isEqualTo( false );
+		assertThat( stats.getAsStruct( Key.of( "holdTime" ) ).get( "count" ) ).isEqualTo( 1L );
+	}
+
+	@DisplayName( "Lock names are case insensitive" )
+	@Test
+	void testNamesAreCaseInsensitive() throws InterruptedException {
+		lockService.acquire( Key.of( "lockServiceCase" ), true, 1000 ).release();
+		lockService.acquire( Key.of( "LOCKSERVICECASE" ), false, 1000 ).release();
+
+		assertThat( lockService.getStats( Key.of( "LockServiceCase" ) ).get( "acquisitions" ) ).isEqualTo( 2L );
+	}
+
+	@DisplayName( "It times out and counts contention" )
+	@Test
+	void testItTimesOut() throws Exception {
+		Key			name	= Key.of( "lockServiceTimeout" );
+		HeldLock	lock	= lockService.acquire( name, true, 1000 );
+		try {
+			// Acquire from another thread as the lock is reentrant
+			HeldLock other = CompletableFuture.supplyAsync( () -> {
+				try {
+					return lockService.acquire( name, true, 50 );
+				} catch ( InterruptedException e ) {
+					throw new RuntimeException( e );
+				}
+			} ).get( 5, TimeUnit.SECONDS );
+			assertThat( other ).isNull();
+		} finally {
+			lock.release();
+		}
+
+		IStruct stats = lockService.getStats( name );
+		assertThat( stats.get( "timeouts" ) ).isEqualTo( 1L );
+		assertThat( stats.get( "contended" ) ).isEqualTo( 1L );
+	}
+
+	@DisplayName( "Readers share a lock" )
+	@Test
+	void testReadersShare() throws Exception {
+		Key				name	= Key.of( "lockServiceReaders" );
+		HeldLock		lock	= lockService.acquire( name, false, 1000 );
+		// Read holds are per thread, so the other reader must release on the thread that acquired
+		ExecutorService	worker	= Executors.newSingleThreadExecutor();
+		try {
+			HeldLock other = worker.submit( () -> lockService.acquire( name, false, 50 ) ).get( 5, TimeUnit.SECONDS );
+			assertThat( other ).isNotNull();
+			assertThat( lockService.getStats( name ).get( "readers" ) ).isEqualTo( 2 );
+			worker.submit( other::release ).get( 5, TimeUnit.SECONDS );
+			assertThat( lockService.getStats( name ).get( "readers" ) ).isEqualTo( 1 );
+		} finally {
+			worker.shutdown();
+			lock.release();
+		}
+	}
+
+	@DisplayName( "It purges idle locks but never the ones in use" )
+	@Test
+	void testItPurgesIdleLocks() throws InterruptedException {
+		Key			idle	= Key.of( "lockServiceIdle" );
+		Key			busy	= Key.of( "lockServiceBusy" );
+		HeldLock	lock	= lockService.acquire( idle, true, 1000 );
+		lock.release();
+		lock = lockService.acquire( busy, true, 1000 );
+		try {
+			lockService.purgeIdle( 0, TimeUnit.MILLISECONDS );
+			assertThat( lockService.hasLock( idle ) ).isFalse();
+			assertThat( lockService.hasLock( busy ) ).isTrue();
+		} finally {
+			lock.release();
+		}
+
+		// A purged lock is recreated on demand
+		lock = lockService.acquire( idle, true, 1000 );
+		assertThat( lock ).isNotNull();
+		lock.release();
+	}
+
+}
@@ -22,10 +22,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.reflect.Field;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -297,4 +301,56 @@ class StructTest {
 		assertThat( variables.getAsArray( Key.of( "values" ) ) ).containsExactly( "test", "test2" );
 	}
 
+
+	@DisplayName( "Reads a deep copy and writes an unshared struct without taking a lock" )
+	@Test
+	void testCopyOnWriteLockFreePaths() throws Exception {
+		Struct source = new Struct();
+		source.put( "a", 1 );
+		source.put( "nested", new Struct() );
+		Struct	copy		= source.duplicate( true );
+		Struct	unshared	= new Struct();
+		Field	field		= Struct.class.getDeclaredField( "copyOnWrite" );
+		field.setAccessible( true );
+		Object marker = field.get( copy );
+		assertThat( marker ).isNotNull();
+
+		// Only shared structs hand out views
+		assertThat( unshared.getWrapped() ).isSameInstanceAs( unshared.wrapped );
+		assertThat( copy.getWrapped() ).isNotSameInstanceAs( copy.wrapped );
+
+		// Hold every monitor the copy-on-write paths use while reading and writing
+		CountDownLatch	locked		= new CountDownLatch( 1 );
+		CountDownLatch	release		= new CountDownLatch( 1 );
+		Thread			holder		= new Thread( () -> {
+										synchronized ( copy ) {
+											synchronized ( marker ) {
+												synchronized ( unshared ) {
+													locked.countDown();
+													try {
+														release.await();
+													} catch ( InterruptedException e ) {
+														Thread.currentThread().interrupt();
+													}
+												}
+											}
+										}
+									} );
+		holder.start();
+		locked.await();
+		try {
+			CompletableFuture.runAsync( () -> {
+				for ( int i = 0; i < 100000; i++ ) {
+					copy.get( Key.of( "a" ) );
+					unshared.put( Key.of( "b" ), i );
+				}
+			} ).get( 10, TimeUnit.SECONDS );
+		} finally {
+			release.countDown();
+			holder.join();
+		}
+		assertThat( copy.get( Key.of( "a" ) ) ).isEqualTo( 1 );
+		assertThat( unshared.get( Key.of( "b" ) ) ).isEqualTo( 99999 );
+	}
+
 }
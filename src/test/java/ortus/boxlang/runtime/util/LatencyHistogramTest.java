@@ -0,0 +1,85 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ortus.boxlang.runtime.util;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.types.IStruct;
+
+public class LatencyHistogramTest {
+
+	@Test
+	@DisplayName( "An empty histogram reports zeros" )
+	void testEmpty() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertThat( histogram.count() ).isEqualTo( 0L );
+		assertThat( histogram.percentile( 99 ) ).isEqualTo( 0L );
+		assertThat( histogram.mean() ).isEqualTo( 0d );
+	}
+
+	@Test
+	@DisplayName( "It can calculate percentiles within the bucket precision" )
+	void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram( TimeUnit.MILLISECONDS );
+		for ( long i = 1; i <= 1000; i++ ) {
+			histogram.record( i );
+		}
+
+		assertThat( histogram.count() ).isEqualTo( 1000L );
+		assertThat( histogram.max() ).isEqualTo( 1000L );
+		assertThat( histogram.mean() ).isEqualTo( 500.5d );
+		assertThat( ( double ) histogram.percentile( 50 ) ).isWithin( 500 * 0.07 ).of( 500 );
+		assertThat( ( double ) histogram.percentile( 99 ) ).isWithin( 990 * 0.07 ).of( 990 );
+		assertThat( histogram.percentile( 100 ) ).isEqualTo( 1000L );
+	}
+
+	@Test
+	@DisplayName( "Small values are recorded exactly and huge values are clamped to the last bucket" )
+	void testBounds() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record( 3 );
+		assertThat( histogram.percentile( 50 ) ).isEqualTo( 3L );
+
+		histogram.record( Long.MAX_VALUE );
+		histogram.record( -10 );
+		assertThat( histogram.count() ).isEqualTo( 3L );
+		assertThat( histogram.max() ).isEqualTo( Long.MAX_VALUE );
+	}
+
+	@Test
+	@DisplayName( "It can produce a snapshot in milliseconds and be reset" )
+	void testSnapshotAndReset() {
+		LatencyHistogram histogram = new LatencyHistogram( TimeUnit.NANOSECONDS );
+		histogram.record( TimeUnit.MILLISECONDS.toNanos( 2 ) );
+
+		IStruct snapshot = histogram.toStruct();
+		assertThat( snapshot.get( "count" ) ).isEqualTo( 1L );
+		assertThat( snapshot.get( "max" ) ).isEqualTo( 2d );
+		assertThat( snapshot.containsKey( "p999" ) ).isTrue();
+
+		histogram.reset();
+		assertThat( histogram.count() ).isEqualTo( 0L );
+		assertThat( histogram.max() ).isEqualTo( 0L );
+	}
+
+}
@@ -0,0 +1,178 @@
+/**
+ * [BoxLang]
+ *
+ * Copyright [2023] [Ortus Solutions, Corp]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ortus.boxlang.runtime.util.conversion;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.runtime.BoxRuntime;
+import ortus.boxlang.runtime.application.Session;
+import ortus.boxlang.runtime.context.IBoxContext;
+import ortus.boxlang.runtime.context.ScriptingRequestBoxContext;
+import ortus.boxlang.runtime.scopes.Key;
+import ortus.boxlang.runtime.types.Array;
+import ortus.boxlang.runtime.types.DateTime;
+import ortus.boxlang.runtime.types.IStruct;
+import ortus.boxlang.runtime.types.Query;
+import ortus.boxlang.runtime.types.QueryColumnType;
+import ortus.boxlang.runtime.types.Struct;
+
+public class BoxBinaryCodecTest {
+
+	static BoxRuntime	instance;
+	static IBoxContext	context;
+
+	@BeforeAll
+	public static void setUp() {
+		instance	= BoxRuntime.getInstance( true );
+		context		= new ScriptingRequestBoxContext( instance.getRuntimeContext() );
+	}
+
+	private static Object roundTrip( Object value ) {
+		byte[] bytes = BoxBinaryCodec.encode( value );
+		assertThat( BoxBinaryCodec.isEncoded( bytes ) ).isTrue();
+		return BoxBinaryCodec.decode( context, bytes );
+	}
+
+	@DisplayName( "It round trips simple values" )
+	@Test
+	public void testSimpleValues() {
+		assertThat( roundTrip( null ) ).isNull();
+		assertThat( roundTrip( true ) ).isEqualTo( true );
+		assertThat( roundTrip( -42 ) ).isEqualTo( -42 );
+		assertThat( roundTrip( Long.MIN_VALUE ) ).isEqualTo( Long.MIN_VALUE );
+		assertThat( roundTrip( 3.5d ) ).isEqualTo( 3.5d );
+		assertThat( roundTrip( new BigDecimal( "-1234567890.0987654321" ) ) ).isEqualTo( new BigDecimal( "-1234567890.0987654321" ) );
+		assertThat( roundTrip( "héllo wörld" ) ).isEqualTo( "héllo wörld" );
+		assertThat( roundTrip( Key.of( "myKey" ) ) ).isEqualTo( Key.of( "myKey" ) );
+		assertThat( ( byte[] ) roundTrip( new byte[] { 1, 2, 3 } ) ).isEqualTo( new byte[] { 1, 2, 3 } );
+	}
+
+	@DisplayName( "It round trips date times with their zone" )
+	@Test
+	public void testDateTime() {
+		ZonedDateTime	now		= ZonedDateTime.of( 2024, 2, 29, 13, 45, 10, 123456789, ZoneId.of( "America/Chicago" ) );
+		DateTime		result	= ( DateTime ) roundTrip( new DateTime( now ) );
+		assertThat( result.getWrapped() ).isEqualTo( now );
+	}
+
+	@DisplayName( "It round trips nested structs and arrays, keeping the struct type" )
+	@Test
+	public void testNestedStructures() {
+		IStruct linked = new Struct( IStruct.TYPES.LINKED );
+		linked.put( "z", 1 );
+		linked.put( "a", Array.of( "x", "y", null ) );
+		linked.put( "m", Struct.of( "inner", "value" ) );
+
+		IStruct result = ( IStruct ) roundTrip( linked );
+		assertThat( result.getType() ).isEqualTo( IStruct.TYPES.LINKED );
+		assertThat( result.keySet() ).containsExactly( Key.of( "z" ), Key.of( "a" ), Key.of( "m" ) ).inOrder();
+		assertThat( result.getAsArray( Key.of( "a" ) ) ).containsExactly( "x", "y", null ).inOrder();
+		assertThat( result.getAsStruct( Key.of( "m" ) ).get( "inner" ) ).isEqualTo( "value" );
+	}
+
+	@DisplayName( "It keeps shared and circular references" )
+	@Test
+	public void testReferences() {
+		IStruct	parent	= new Struct();
+		Array	shared	= Array.of( 1, 2 );
+		parent.put( "self", parent );
+		parent.put( "first", shared );
+		parent.put( "second", shared );
+
+		IStruct result = ( IStruct ) roundTrip( parent );
+		assertThat( result.get( "self" ) ).isSameInstanceAs( result );
+		assertThat( result.get( "first" ) ).isSameInstanceAs( result.get( "second" ) );
+	}
+
+	@DisplayName( "It round trips queries with their column types" )
+	@Test
+	public void testQuery() {
+		Query query = new Query();
+		query.addColumn( Key.of( "id" ), QueryColumnType.INTEGER );
+		query.addColumn( Key.of( "name" ), QueryColumnType.VARCHAR );
+		for ( int i = 0; i < 100; i++ ) {
+			query.addRow( new Object[] { i, i % 2 == 0 ? "even" : "odd" } );
+		}
+
+		Query result = ( Query ) roundTrip( query );
+		assertThat( result.size() ).isEqualTo( 100 );
+		assertThat( result.getColumns().keySet() ).containsExactly( Key.of( "id" ), Key.of( "name" ) ).inOrder();
+		assertThat( result.getColumns().get( Key.of( "id" ) ).getType() ).isEqualTo( QueryColumnType.INTEGER );
+		assertThat( result.getRowAsStruct( 99 ).get( "id" ) ).isEqualTo( 99 );
+		assertThat( result.getRowAsStruct( 99 ).get( "name" ) ).isEqualTo( "odd" );
+	}
+
+	@DisplayName( "It round trips sessions natively with their scope" )
+	@Test
+	public void testSession() {
+		Session session = Session.restore( Key.of( "abc123" ), Key.of( "myApp" ), false );
+		session.getSessionScope().put( "user", Struct.of( "name", "Luis" ) );
+		session.getSessionScope().put( "session", session );
+
+		byte[]	bytes	= BoxBinaryCodec.encode( session );
+		Session	result	= ( Session ) BoxBinaryCodec.decode( context, bytes );
+		assertThat( new String( bytes, StandardCharsets.ISO_8859_1 ) ).doesNotContain( Session.class.getName() );
+		assertThat( result.getID() ).isEqualTo( Key.of( "abc123" ) );
+		assertThat( result.getApplicationName() ).isEqualTo( Key.of( "myApp" ) );
+		assertThat( result.isNew() ).isFalse();
+		assertThat( result.getSessionScope().getAsStruct( Key.of( "user" ) ).get( "name" ) ).isEqualTo( "Luis" );
+		assertThat( result.getSessionScope().get( "session" ) ).isSameInstanceAs( result );
+	}
+
+	@DisplayName( "It is smaller than Java serialization for repetitive data" )
+	@Test
+	public void testSize() throws IOException {
+		Array rows = new Array();
+		for ( int i = 0; i < 1000; i++ ) {
+			rows.add( Struct.of( "id", i, "status", "active", "tags", Array.of( "a", "b" ) ) );
+		}
+
+		ByteArrayOutputStream java = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( java ) ) {
+			out.writeObject( rows );
+		}
+		assertThat( BoxBinaryCodec.encode( rows ).length ).isLessThan( java.size() );
+	}
+
+	@DisplayName( "The marshaller still reads Java serialized data" )
+	@Test
+	public void testLegacyData() throws IOException {
+		ByteArrayOutputStream java = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( java ) ) {
+			out.writeObject( Struct.of( "legacy", true ) );
+		}
+		assertThat( BoxBinaryCodec.isEncoded( java.toByteArray() ) ).isFalse();
+
+		IStruct result = ( IStruct ) ObjectMarshaller.deserialize( context, java.toByteArray() );
+		assertThat( result.get( "legacy" ) ).isEqualTo( true );
+	}
+
+}